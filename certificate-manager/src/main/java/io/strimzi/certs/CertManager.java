@@ -9,10 +9,33 @@ import java.io.IOException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.List;
 
 public interface CertManager {
+    /**
+     * Name of the environment variable used to select the certificate manager implementation
+     */
+    String CERT_MANAGER_ENV = "STRIMZI_CERT_MANAGER";
+
+    /**
+     * Creates the certificate manager implementation with the given name
+     *
+     * @param name "openssl" for the {@link OpenSslCertManager} running the OpenSSL binary or "java" for the
+     *             {@link JavaCertManager} running inside the JVM. Defaults to "openssl" when null or empty.
+     * @return the certificate manager
+     */
+    static CertManager create(String name) {
+        if (name == null || name.isEmpty() || "openssl".equalsIgnoreCase(name)) {
+            return new OpenSslCertManager();
+        } else if ("java".equalsIgnoreCase(name)) {
+            return new JavaCertManager(Clock.systemUTC(), JavaCertManager.DEFAULT_KEY_POOL_SIZE);
+        } else {
+            throw new IllegalArgumentException("Unknown certificate manager " + name + ", expected openssl or java");
+        }
+    }
+
     /**
      * Generate a self-signed certificate
      *
@@ -0,0 +1,290 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal encoder and decoder of the ASN.1 Distinguished Encoding Rules (DER). It supports only the subset of DER
+ * needed by the {@link JavaCertManager} to build and read certificates and certificate sign requests.
+ */
+final class Der {
+    static final int BOOLEAN = 0x01;
+    static final int INTEGER = 0x02;
+    static final int BIT_STRING = 0x03;
+    static final int OCTET_STRING = 0x04;
+    static final int NULL = 0x05;
+    static final int OBJECT_IDENTIFIER = 0x06;
+    static final int UTF8_STRING = 0x0c;
+    static final int UTC_TIME = 0x17;
+    static final int GENERALIZED_TIME = 0x18;
+    static final int SEQUENCE = 0x30;
+    static final int SET = 0x31;
+
+    private Der() { }
+
+    /**
+     * Encodes a single DER element
+     *
+     * @param tag       Tag of the element
+     * @param content   Encoded content of the element
+     *
+     * @return  The encoded element
+     */
+    static byte[] element(int tag, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length + 6);
+        out.write(tag);
+
+        if (content.length < 0x80) {
+            out.write(content.length);
+        } else {
+            byte[] length = BigInteger.valueOf(content.length).toByteArray();
+            int offset = length[0] == 0 ? 1 : 0;
+            out.write(0x80 | (length.length - offset));
+            out.write(length, offset, length.length - offset);
+        }
+
+        out.write(content, 0, content.length);
+        return out.toByteArray();
+    }
+
+    static byte[] sequence(byte[]... elements) {
+        return element(SEQUENCE, concat(elements));
+    }
+
+    static byte[] set(byte[]... elements) {
+        return element(SET, concat(elements));
+    }
+
+    static byte[] integer(BigInteger value) {
+        return element(INTEGER, value.toByteArray());
+    }
+
+    static byte[] integer(long value) {
+        return integer(BigInteger.valueOf(value));
+    }
+
+    static byte[] bool(boolean value) {
+        return element(BOOLEAN, new byte[] {value ? (byte) 0xff : 0});
+    }
+
+    static byte[] nul() {
+        return new byte[] {NULL, 0};
+    }
+
+    static byte[] octetString(byte[] value) {
+        return element(OCTET_STRING, value);
+    }
+
+    static byte[] bitString(byte[] value) {
+        byte[] content = new byte[value.length + 1];
+        System.arraycopy(value, 0, content, 1, value.length);
+        return element(BIT_STRING, content);
+    }
+
+    static byte[] utf8String(String value) {
+        return element(UTF8_STRING, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encodes an object identifier
+     *
+     * @param oid   The object identifier in the dotted notation (e.g. 2.5.4.3)
+     *
+     * @return  The encoded object identifier
+     */
+    static byte[] oid(String oid) {
+        String[] arcs = oid.split("\\.");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeBase128(out, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+
+        for (int i = 2; i < arcs.length; i++) {
+            writeBase128(out, Long.parseLong(arcs[i]));
+        }
+
+        return element(OBJECT_IDENTIFIER, out.toByteArray());
+    }
+
+    private static void writeBase128(ByteArrayOutputStream out, long value) {
+        int groups = 1;
+        for (long v = value >>> 7; v != 0; v >>>= 7) {
+            groups++;
+        }
+
+        for (int i = groups - 1; i >= 0; i--) {
+            int group = (int) (value >>> (7 * i)) & 0x7f;
+            out.write(i == 0 ? group : group | 0x80);
+        }
+    }
+
+    static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a single DER element which has to span the whole input
+     *
+     * @param encoded   The encoded element
+     *
+     * @return  The decoded element
+     *
+     * @throws IOException  If the input is not a valid DER element
+     */
+    static Element parse(byte[] encoded) throws IOException {
+        Element element = parse(encoded, 0);
+
+        if (element.end != encoded.length) {
+            throw new IOException("Unexpected data after the end of the DER element");
+        }
+
+        return element;
+    }
+
+    private static Element parse(byte[] data, int offset) throws IOException {
+        if (offset + 2 > data.length) {
+            throw new IOException("Truncated DER element");
+        }
+
+        int tag = data[offset] & 0xff;
+        if ((tag & 0x1f) == 0x1f) {
+            throw new IOException("Multi-byte DER tags are not supported");
+        }
+
+        int length = data[offset + 1] & 0xff;
+        int contentOffset = offset + 2;
+
+        if (length >= 0x80) {
+            int lengthBytes = length & 0x7f;
+            if (lengthBytes == 0 || lengthBytes > 3 || contentOffset + lengthBytes > data.length) {
+                throw new IOException("Unsupported DER length");
+            }
+
+            length = 0;
+            for (int i = 0; i < lengthBytes; i++) {
+                length = (length << 8) | (data[contentOffset++] & 0xff);
+            }
+        }
+
+        if (contentOffset + length > data.length) {
+            throw new IOException("Truncated DER element");
+        }
+
+        return new Element(data, tag, offset, contentOffset, contentOffset + length);
+    }
+
+    /**
+     * Decoded DER element
+     */
+    static final class Element {
+        private final byte[] data;
+        private final int tag;
+        private final int offset;
+        private final int contentOffset;
+        private final int end;
+
+        private Element(byte[] data, int tag, int offset, int contentOffset, int end) {
+            this.data = data;
+            this.tag = tag;
+            this.offset = offset;
+            this.contentOffset = contentOffset;
+            this.end = end;
+        }
+
+        int tag() {
+            return tag;
+        }
+
+        /**
+         * @return  The whole element including its tag and length
+         */
+        byte[] encoded() {
+            return Arrays.copyOfRange(data, offset, end);
+        }
+
+        /**
+         * @return  The content of the element without its tag and length
+         */
+        byte[] content() {
+            return Arrays.copyOfRange(data, contentOffset, end);
+        }
+
+        /**
+         * @return  The elements nested in this constructed element
+         *
+         * @throws IOException  If the content is not a valid sequence of DER elements
+         */
+        List<Element> children() throws IOException {
+            List<Element> children = new ArrayList<>();
+
+            for (int position = contentOffset; position < end; ) {
+                Element child = parse(data, position);
+                if (child.end > end) {
+                    throw new IOException("DER element exceeds its parent");
+                }
+                children.add(child);
+                position = child.end;
+            }
+
+            return children;
+        }
+
+        Element expect(int expectedTag) throws IOException {
+            if (tag != expectedTag) {
+                throw new IOException("Expected DER tag " + expectedTag + " but got " + tag);
+            }
+            return this;
+        }
+
+        /**
+         * @return  The content of a bit string without the unused bits byte
+         *
+         * @throws IOException  If this is not a bit string
+         */
+        byte[] bitStringValue() throws IOException {
+            expect(BIT_STRING);
+            if (end == contentOffset) {
+                throw new IOException("Empty DER bit string");
+            }
+            return Arrays.copyOfRange(data, contentOffset + 1, end);
+        }
+
+        /**
+         * @return  The object identifier in the dotted notation
+         *
+         * @throws IOException  If this is not an object identifier
+         */
+        String oidValue() throws IOException {
+            expect(OBJECT_IDENTIFIER);
+            StringBuilder oid = new StringBuilder();
+            long value = 0;
+
+            for (int i = contentOffset; i < end; i++) {
+                value = (value << 7) | (data[i] & 0x7f);
+
+                if ((data[i] & 0x80) == 0) {
+                    if (oid.length() == 0) {
+                        int first = (int) Math.min(value / 40, 2);
+                        oid.append(first).append('.').append(value - first * 40L);
+                    } else {
+                        oid.append('.').append(value);
+                    }
+                    value = 0;
+                }
+            }
+
+            return oid.toString();
+        }
+    }
+}
@@ -0,0 +1,709 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.crypto.spec.PBEParameterSpec;
+
+/**
+ * A certificate manager which generates the keys, certificate sign requests and certificates inside the JVM, without
+ * running any OpenSSL processes and without using any temporary files. The issued certificates have the same
+ * structure and extensions as the certificates issued by the {@link OpenSslCertManager} and the keys, certificates
+ * and keystores are written in the same PEM and PKCS12 formats.
+ */
+public class JavaCertManager implements CertManager {
+    private static final Logger LOGGER = LogManager.getLogger(JavaCertManager.class);
+
+    // Key sizes used by `openssl genrsa 4096` for the CA keys and by `openssl req` for the other keys
+    static final int CA_KEY_SIZE = 4096;
+    static final int KEY_SIZE = 2048;
+
+    private static final String OID_RSA_ENCRYPTION = "1.2.840.113549.1.1.1";
+    private static final String OID_EC_PUBLIC_KEY = "1.2.840.10045.2.1";
+    private static final String OID_SHA256_WITH_RSA = "1.2.840.113549.1.1.11";
+    private static final String OID_SHA384_WITH_RSA = "1.2.840.113549.1.1.12";
+    private static final String OID_SHA512_WITH_RSA = "1.2.840.113549.1.1.13";
+    private static final String OID_SHA256_WITH_ECDSA = "1.2.840.10045.4.3.2";
+    private static final String OID_SHA384_WITH_ECDSA = "1.2.840.10045.4.3.3";
+    private static final String OID_SHA512_WITH_ECDSA = "1.2.840.10045.4.3.4";
+    private static final String OID_EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+    private static final String OID_ORGANIZATION_NAME = "2.5.4.10";
+    private static final String OID_COMMON_NAME = "2.5.4.3";
+    private static final String OID_SUBJECT_KEY_IDENTIFIER = "2.5.29.14";
+    private static final String OID_KEY_USAGE = "2.5.29.15";
+    private static final String OID_SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String OID_BASIC_CONSTRAINTS = "2.5.29.19";
+    private static final String OID_AUTHORITY_KEY_IDENTIFIER = "2.5.29.35";
+
+    // keyCertSign and cRLSign
+    private static final byte[] CA_KEY_USAGE = {Der.BIT_STRING, 2, 1, 0x06};
+    // digitalSignature and keyEncipherment
+    private static final byte[] KEY_USAGE = {Der.BIT_STRING, 2, 5, (byte) 0xa0};
+
+    private static final Pattern PEM = Pattern.compile("-----BEGIN ([A-Z0-9 ]+)-----([A-Za-z0-9+/=\\s]+)-----END \\1-----");
+    private static final DateTimeFormatter UTC_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'");
+    private static final DateTimeFormatter GENERALIZED_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'");
+
+    // Keystore protection used by `openssl pkcs12 -export` in OpenSSL 3
+    private static final String KEY_PROTECTION_ALGORITHM = "PBEWithHmacSHA256AndAES_256";
+    private static final int KEY_PROTECTION_ITERATIONS = 2048;
+
+    // Number of key pairs kept ready by the certificate manager created through CertManager.create()
+    static final int DEFAULT_KEY_POOL_SIZE = 4;
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    // Pre-generated key pairs for the CSRs, null when the pool is disabled
+    private final KeyPairPool keyPool;
+
+    public JavaCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    public JavaCertManager(Clock clock) {
+        this(clock, 0);
+    }
+
+    /**
+     * Creates the certificate manager with a pool of pre-generated key pairs for the certificate sign requests.
+     *
+     * @param clock         Clock used for the validity of the certificates
+     * @param keyPoolSize   Number of key pairs kept ready or 0 to generate the keys only when they are needed
+     */
+    public JavaCertManager(Clock clock, int keyPoolSize) {
+        this.clock = clock;
+        this.keyPool = keyPoolSize > 0 ? new KeyPairPool(keyPoolSize, () -> generateKeyPair(KEY_SIZE)) : null;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(OpenSslCertManager.UTC);
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC);
+        generateRootCaCert(sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject subject, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(OpenSslCertManager.UTC);
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC);
+        generateCaCert(null, null, subject, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generate a root or intermediate CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerCaKeyFile The issuing CA key (or null for a root CA).
+     * @param issuerCaCertFile The issuing CA cert (or null for a root CA).
+     * @param subject The required subject.
+     * @param subjectKeyFile The subject key file.
+     *                       If this file is empty then a new CA key will be generated and populated by this call.
+     *                       Otherwise it is assumed to contain the existing CA key in PKCS#8 format.
+     * @param subjectCertFile The subject certificate file, populated by this call.
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @param pathLength The number of CA certificates below this certificate in a certificate chain.
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        PrivateKey subjectKey;
+        PublicKey subjectPublicKey;
+        boolean newKey = subjectKeyFile.length() == 0;
+        if (newKey) {
+            KeyPair keyPair = generateKeyPair(CA_KEY_SIZE);
+            subjectKey = keyPair.getPrivate();
+            subjectPublicKey = keyPair.getPublic();
+        } else {
+            subjectKey = readPrivateKey(Files.readAllBytes(subjectKeyFile.toPath()));
+            subjectPublicKey = publicKey(subjectKey);
+        }
+
+        byte[] subjectName = name(subject);
+        byte[] subjectKeyId = keyIdentifier(subjectPublicKey.getEncoded());
+
+        List<byte[]> extensions = new ArrayList<>(4);
+        extensions.add(extension(OID_SUBJECT_KEY_IDENTIFIER, false, Der.octetString(subjectKeyId)));
+        extensions.add(extension(OID_BASIC_CONSTRAINTS, true, Der.sequence(Der.bool(true), Der.integer(pathLength))));
+        extensions.add(extension(OID_KEY_USAGE, true, CA_KEY_USAGE));
+
+        byte[] certificate;
+        if (issuerCaCertFile == null) {
+            certificate = sign(subjectKey, subjectName, notBefore, notAfter, subjectName, subjectPublicKey.getEncoded(), extensions);
+        } else {
+            X509Certificate issuerCert = readCertificate(Files.readAllBytes(issuerCaCertFile.toPath()));
+            PrivateKey issuerKey = readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+            extensions.add(authorityKeyIdentifier(issuerCert));
+            certificate = sign(issuerKey, issuerCert.getSubjectX500Principal().getEncoded(), notBefore, notAfter, subjectName, subjectPublicKey.getEncoded(), extensions);
+        }
+
+        Files.write(subjectCertFile.toPath(), pem("CERTIFICATE", certificate));
+        if (newKey) {
+            Files.write(subjectKeyFile.toPath(), pem("PRIVATE KEY", subjectKey.getEncoded()));
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        // the KeyStore class is able to create an empty store if the input stream is null
+        if (trustStoreFile.length() > 0) {
+            try (InputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+
+        try (InputStream isCertificate = new FileInputStream(certFile)) {
+            Certificate certificate = CertificateFactory.getInstance("X.509").generateCertificate(isCertificate);
+            trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        }
+
+        try (OutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        try {
+            PrivateKey key = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            Collection<? extends Certificate> chain;
+            try (InputStream isCertificate = new FileInputStream(certFile)) {
+                chain = CertificateFactory.getInstance("X.509").generateCertificates(isCertificate);
+            }
+
+            byte[] salt = new byte[8];
+            random.nextBytes(salt);
+            KeyStore.ProtectionParameter protection = new KeyStore.PasswordProtection(keyStorePassword.toCharArray(),
+                    KEY_PROTECTION_ALGORITHM, new PBEParameterSpec(salt, KEY_PROTECTION_ITERATIONS));
+
+            // Like `openssl pkcs12 -export`, the keystore is always created from scratch
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setEntry(alias, new KeyStore.PrivateKeyEntry(key, chain.toArray(new Certificate[0])), protection);
+
+            try (OutputStream osKeyStore = new FileOutputStream(keyStoreFile)) {
+                keyStore.store(osKeyStore, keyStorePassword.toCharArray());
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the keystore " + keyStoreFile, e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (InputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+        }
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        try (OutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        KeyPair keyPair = takeKeyPair();
+
+        byte[] attributes;
+        if (subject.hasSubjectAltNames()) {
+            attributes = Der.sequence(Der.oid(OID_EXTENSION_REQUEST),
+                    Der.set(Der.sequence(extension(OID_SUBJECT_ALT_NAME, false, subjectAltNames(subject)))));
+        } else {
+            attributes = new byte[0];
+        }
+
+        byte[] requestInfo = Der.sequence(
+                Der.integer(0),
+                name(subject),
+                keyPair.getPublic().getEncoded(),
+                Der.element(0xa0, attributes));
+
+        byte[] request;
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(keyPair.getPrivate(), random);
+            signature.update(requestInfo);
+
+            request = Der.sequence(requestInfo, Der.sequence(Der.oid(OID_SHA256_WITH_RSA), Der.nul()), Der.bitString(signature.sign()));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to sign the certificate sign request", e);
+        }
+
+        Files.write(keyFile.toPath(), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        Files.write(csrFile.toPath(), pem("CERTIFICATE REQUEST", request));
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(OpenSslCertManager.UTC);
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC);
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, notBefore, notAfter);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(OpenSslCertManager.UTC);
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC);
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    private void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        X509Certificate issuerCert = readCertificate(caCert);
+        PrivateKey issuerKey = readPrivateKey(caKey);
+
+        // The subject and the public key are taken from the CSR, its extensions are ignored
+        List<Der.Element> request = Der.parse(pemContent(Files.readAllBytes(csrFile.toPath()), "CERTIFICATE REQUEST"))
+                .expect(Der.SEQUENCE).children();
+        if (request.size() != 3) {
+            throw new IOException("Invalid certificate sign request " + csrFile);
+        }
+        List<Der.Element> requestInfo = request.get(0).expect(Der.SEQUENCE).children();
+        if (requestInfo.size() < 3) {
+            throw new IOException("Invalid certificate sign request " + csrFile);
+        }
+        byte[] subjectName = requestInfo.get(1).expect(Der.SEQUENCE).encoded();
+        byte[] subjectPublicKeyInfo = requestInfo.get(2).expect(Der.SEQUENCE).encoded();
+        verifyRequestSignature(request, subjectPublicKeyInfo, csrFile);
+
+        List<byte[]> extensions = new ArrayList<>(4);
+        if (sbj.hasSubjectAltNames()) {
+            extensions.add(extension(OID_SUBJECT_ALT_NAME, false, subjectAltNames(sbj)));
+            extensions.add(extension(OID_SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier(subjectPublicKeyInfo))));
+        } else {
+            extensions.add(extension(OID_SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier(subjectPublicKeyInfo))));
+            extensions.add(extension(OID_BASIC_CONSTRAINTS, true, Der.sequence()));
+            extensions.add(extension(OID_KEY_USAGE, true, KEY_USAGE));
+        }
+        extensions.add(authorityKeyIdentifier(issuerCert));
+
+        byte[] certificate = sign(issuerKey, issuerCert.getSubjectX500Principal().getEncoded(), notBefore, notAfter, subjectName, subjectPublicKeyInfo, extensions);
+        Files.write(crtFile.toPath(), pem("CERTIFICATE", certificate));
+    }
+
+    void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private KeyPair takeKeyPair() throws IOException {
+        return keyPool != null ? keyPool.take() : generateKeyPair(KEY_SIZE);
+    }
+
+    /**
+     * @return  Number of the key pairs which are ready in the pool
+     */
+    /*test*/ int keyPoolSize() {
+        return keyPool != null ? keyPool.size() : 0;
+    }
+
+    private KeyPair generateKeyPair(int keySize) throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(keySize, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to generate the key", e);
+        }
+    }
+
+    /**
+     * Builds and signs a version 3 certificate
+     *
+     * @param issuerKey             Key of the issuer used to sign the certificate
+     * @param issuerName            DER encoded name of the issuer
+     * @param notBefore             NotBefore date of the certificate
+     * @param notAfter              NotAfter date of the certificate
+     * @param subjectName           DER encoded name of the subject
+     * @param subjectPublicKeyInfo  DER encoded public key of the subject
+     * @param extensions            DER encoded extensions of the certificate
+     *
+     * @return  DER encoded certificate
+     *
+     * @throws IOException  If the certificate cannot be signed
+     */
+    private byte[] sign(PrivateKey issuerKey, byte[] issuerName, ZonedDateTime notBefore, ZonedDateTime notAfter,
+                        byte[] subjectName, byte[] subjectPublicKeyInfo, List<byte[]> extensions) throws IOException {
+        boolean ec = "EC".equals(issuerKey.getAlgorithm());
+        byte[] signatureAlgorithm = ec
+                ? Der.sequence(Der.oid(OID_SHA512_WITH_ECDSA))
+                : Der.sequence(Der.oid(OID_SHA512_WITH_RSA), Der.nul());
+
+        // A random positive 159 bit serial number, the same as OpenSSL uses with the rand_serial option
+        BigInteger serial = new BigInteger(159, random);
+
+        byte[] tbsCertificate = Der.sequence(
+                Der.element(0xa0, Der.integer(2)),
+                Der.integer(serial),
+                signatureAlgorithm,
+                issuerName,
+                Der.sequence(time(notBefore), time(notAfter)),
+                subjectName,
+                subjectPublicKeyInfo,
+                Der.element(0xa3, Der.sequence(extensions.toArray(new byte[0][]))));
+
+        try {
+            Signature signature = Signature.getInstance(ec ? "SHA512withECDSA" : "SHA512withRSA");
+            signature.initSign(issuerKey, random);
+            signature.update(tbsCertificate);
+
+            return Der.sequence(tbsCertificate, signatureAlgorithm, Der.bitString(signature.sign()));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to sign the certificate", e);
+        }
+    }
+
+    private static void verifyRequestSignature(List<Der.Element> request, byte[] subjectPublicKeyInfo, File csrFile) throws IOException {
+        String algorithm;
+        String signatureOid = request.get(1).expect(Der.SEQUENCE).children().get(0).oidValue();
+        switch (signatureOid) {
+            case OID_SHA256_WITH_RSA:
+                algorithm = "SHA256withRSA";
+                break;
+            case OID_SHA384_WITH_RSA:
+                algorithm = "SHA384withRSA";
+                break;
+            case OID_SHA512_WITH_RSA:
+                algorithm = "SHA512withRSA";
+                break;
+            case OID_SHA256_WITH_ECDSA:
+                algorithm = "SHA256withECDSA";
+                break;
+            case OID_SHA384_WITH_ECDSA:
+                algorithm = "SHA384withECDSA";
+                break;
+            case OID_SHA512_WITH_ECDSA:
+                algorithm = "SHA512withECDSA";
+                break;
+            default:
+                throw new IOException("Unsupported signature algorithm " + signatureOid + " of certificate sign request " + csrFile);
+        }
+
+        try {
+            Signature signature = Signature.getInstance(algorithm);
+            signature.initVerify(readPublicKey(subjectPublicKeyInfo));
+            signature.update(request.get(0).encoded());
+
+            if (!signature.verify(request.get(2).bitStringValue())) {
+                throw new IOException("Invalid signature of certificate sign request " + csrFile);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to verify the signature of certificate sign request " + csrFile, e);
+        }
+    }
+
+    /**
+     * Encodes the subject as a distinguished name with the organization name followed by the common name, in the same
+     * way as OpenSSL does for {@link Subject#opensslDn()}.
+     *
+     * @param subject   The subject
+     *
+     * @return  DER encoded name
+     */
+    private static byte[] name(Subject subject) {
+        List<byte[]> rdns = new ArrayList<>(2);
+
+        if (subject.organizationName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(OID_ORGANIZATION_NAME), Der.utf8String(subject.organizationName()))));
+        }
+
+        if (subject.commonName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(OID_COMMON_NAME), Der.utf8String(subject.commonName()))));
+        }
+
+        return Der.sequence(rdns.toArray(new byte[0][]));
+    }
+
+    private static byte[] subjectAltNames(Subject subject) throws IOException {
+        List<byte[]> names = new ArrayList<>();
+
+        for (String dnsName : subject.dnsNames()) {
+            names.add(Der.element(0x82, dnsName.getBytes(StandardCharsets.US_ASCII)));
+        }
+
+        for (String ipAddress : subject.ipAddresses()) {
+            names.add(Der.element(0x87, InetAddress.getByName(ipAddress).getAddress()));
+        }
+
+        return Der.sequence(names.toArray(new byte[0][]));
+    }
+
+    private static byte[] extension(String oid, boolean critical, byte[] value) {
+        if (critical) {
+            return Der.sequence(Der.oid(oid), Der.bool(true), Der.octetString(value));
+        } else {
+            return Der.sequence(Der.oid(oid), Der.octetString(value));
+        }
+    }
+
+    /**
+     * The authority key identifier is the subject key identifier of the issuer, or the hash of its public key when the
+     * issuer does not have any.
+     */
+    private static byte[] authorityKeyIdentifier(X509Certificate issuerCert) throws IOException {
+        byte[] keyId;
+        byte[] subjectKeyIdentifier = issuerCert.getExtensionValue(OID_SUBJECT_KEY_IDENTIFIER);
+
+        if (subjectKeyIdentifier != null) {
+            keyId = Der.parse(Der.parse(subjectKeyIdentifier).expect(Der.OCTET_STRING).content()).expect(Der.OCTET_STRING).content();
+        } else {
+            keyId = keyIdentifier(issuerCert.getPublicKey().getEncoded());
+        }
+
+        return extension(OID_AUTHORITY_KEY_IDENTIFIER, false, Der.sequence(Der.element(0x80, keyId)));
+    }
+
+    /**
+     * @return  The SHA-1 hash of the public key, as used by OpenSSL for the key identifiers
+     */
+    private static byte[] keyIdentifier(byte[] subjectPublicKeyInfo) throws IOException {
+        List<Der.Element> publicKeyInfo = Der.parse(subjectPublicKeyInfo).expect(Der.SEQUENCE).children();
+
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(publicKeyInfo.get(1).bitStringValue());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Failed to compute the key identifier", e);
+        }
+    }
+
+    private static byte[] time(ZonedDateTime dateTime) {
+        ZonedDateTime utc = dateTime.withZoneSameInstant(OpenSslCertManager.UTC).truncatedTo(ChronoUnit.SECONDS);
+
+        // RFC 5280 requires UTCTime for the dates before 2050 and GeneralizedTime for the later dates
+        if (utc.getYear() < 2050) {
+            return Der.element(Der.UTC_TIME, UTC_TIME_FORMATTER.format(utc).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            return Der.element(Der.GENERALIZED_TIME, GENERALIZED_TIME_FORMATTER.format(utc).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static X509Certificate readCertificate(byte[] pem) throws IOException {
+        try {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(pem));
+        } catch (CertificateException e) {
+            throw new IOException("Failed to read the certificate", e);
+        }
+    }
+
+    /**
+     * Reads a private key in the PKCS#8 format or an RSA private key in the PKCS#1 format
+     *
+     * @param pem   PEM encoded key
+     *
+     * @return  The private key
+     *
+     * @throws IOException  If the key cannot be read
+     */
+    static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        Matcher matcher = PEM.matcher(new String(pem, StandardCharsets.US_ASCII));
+        if (!matcher.find()) {
+            throw new IOException("No PEM encoded private key found");
+        }
+
+        byte[] der = Base64.getMimeDecoder().decode(matcher.group(2));
+        byte[] privateKeyInfo;
+
+        switch (matcher.group(1)) {
+            case "PRIVATE KEY":
+                privateKeyInfo = der;
+                break;
+            case "RSA PRIVATE KEY":
+                privateKeyInfo = Der.sequence(Der.integer(0), Der.sequence(Der.oid(OID_RSA_ENCRYPTION), Der.nul()), Der.octetString(der));
+                break;
+            default:
+                throw new IOException("Unsupported private key type " + matcher.group(1));
+        }
+
+        List<Der.Element> fields = Der.parse(privateKeyInfo).expect(Der.SEQUENCE).children();
+        if (fields.size() < 3) {
+            throw new IOException("Invalid private key");
+        }
+
+        try {
+            return KeyFactory.getInstance(keyAlgorithm(fields.get(1)))
+                    .generatePrivate(new PKCS8EncodedKeySpec(privateKeyInfo));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to read the private key", e);
+        }
+    }
+
+    private static PublicKey readPublicKey(byte[] subjectPublicKeyInfo) throws IOException, GeneralSecurityException {
+        Der.Element algorithm = Der.parse(subjectPublicKeyInfo).expect(Der.SEQUENCE).children().get(0);
+        return KeyFactory.getInstance(keyAlgorithm(algorithm)).generatePublic(new X509EncodedKeySpec(subjectPublicKeyInfo));
+    }
+
+    private static String keyAlgorithm(Der.Element algorithmIdentifier) throws IOException {
+        String oid = algorithmIdentifier.expect(Der.SEQUENCE).children().get(0).oidValue();
+
+        switch (oid) {
+            case OID_RSA_ENCRYPTION:
+                return "RSA";
+            case OID_EC_PUBLIC_KEY:
+                return "EC";
+            default:
+                throw new IOException("Unsupported key algorithm " + oid);
+        }
+    }
+
+    /**
+     * Derives the public key from an existing private key, which is needed when a CA certificate is renewed
+     */
+    private static PublicKey publicKey(PrivateKey privateKey) throws IOException {
+        if (!(privateKey instanceof RSAPrivateCrtKey)) {
+            throw new IOException("Unsupported CA key type " + privateKey.getAlgorithm());
+        }
+
+        RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to derive the public key", e);
+        }
+    }
+
+    private static byte[] pemContent(byte[] pem, String type) throws IOException {
+        Matcher matcher = PEM.matcher(new String(pem, StandardCharsets.US_ASCII));
+        while (matcher.find()) {
+            // OpenSSL also accepts the legacy NEW CERTIFICATE REQUEST type
+            if (type.equals(matcher.group(1)) || ("NEW " + type).equals(matcher.group(1))) {
+                return Base64.getMimeDecoder().decode(matcher.group(2));
+            }
+        }
+
+        LOGGER.debug("No PEM encoded {} found in\n{}", type, new String(pem, StandardCharsets.US_ASCII));
+        throw new IOException("No PEM encoded " + type + " found");
+    }
+
+    /**
+     * Encodes the data in the PEM format with the same line length as OpenSSL uses
+     */
+    private static byte[] pem(String type, byte[] der) {
+        String encoded = Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der);
+        return ("-----BEGIN " + type + "-----\n" + encoded + "\n-----END " + type + "-----\n").getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Small pool of pre-generated key pairs. The generation of the RSA key is the most expensive part of issuing a
+ * certificate. The pool generates the replacements of the taken key pairs in the background, so that a burst of new
+ * certificates (for example for all brokers after the CA renewal) does not have to wait for the key generation.
+ */
+class KeyPairPool {
+    private static final Logger LOGGER = LogManager.getLogger(KeyPairPool.class);
+
+    /**
+     * Generates a new key pair
+     */
+    interface Generator {
+        KeyPair generate() throws IOException;
+    }
+
+    private final Generator generator;
+    private final BlockingQueue<KeyPair> pool;
+    private final ThreadPoolExecutor executor;
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+
+    /**
+     * Constructor
+     *
+     * @param size          Number of key pairs kept ready
+     * @param generator     Generator of the key pairs
+     */
+    KeyPairPool(int size, Generator generator) {
+        this.generator = generator;
+        this.pool = new ArrayBlockingQueue<>(size);
+        this.executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "key-pair-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Takes a key pair from the pool and starts generating its replacement in the background. When the pool is empty,
+     * the key pair is generated right away. The pool is filled only once it is used for the first time.
+     *
+     * @return  New key pair
+     *
+     * @throws IOException  If the key pair cannot be generated
+     */
+    KeyPair take() throws IOException {
+        KeyPair keyPair = pool.poll();
+        if (keyPair == null) {
+            keyPair = generator.generate();
+        }
+
+        if (refilling.compareAndSet(false, true)) {
+            executor.execute(this::refill);
+        }
+
+        return keyPair;
+    }
+
+    private void refill() {
+        try {
+            while (pool.remainingCapacity() > 0) {
+                pool.offer(generator.generate());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to pre-generate a key pair", e);
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    /**
+     * @return  Number of the key pairs which are ready in the pool
+     */
+    int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the OpenSSL based and the Java based certificate managers. Each invocation issues a certificate with
+ * Subject Alternative Names signed by an existing CA and stores it in a PKCS12 keystore, which is what the operators
+ * do for every Kafka broker and every user. The CA certificate generation is benchmarked separately because it is
+ * dominated by the generation of the 4096 bit key.
+ *
+ * The benchmark is not run as part of the tests. Run it using the {@link #main(String[])} method from the test
+ * classpath (for example from the IDE) after compiling the test classes. The OpenSSL implementation needs the
+ * openssl binary on the path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CertManagerBenchmark {
+    @Param({"openssl", "java"})
+    public String certManager;
+
+    private CertManager manager;
+    private File dir;
+    private File caKey;
+    private File caCert;
+    private byte[] caKeyBytes;
+    private byte[] caCertBytes;
+    private Subject subject;
+
+    @Setup
+    public void setup() throws IOException {
+        manager = CertManager.create(certManager);
+        dir = Files.createTempDirectory(CertManagerBenchmark.class.getSimpleName()).toFile();
+        caKey = new File(dir, "ca.key");
+        caCert = new File(dir, "ca.crt");
+        Files.createFile(caKey.toPath());
+        manager.generateSelfSignedCert(caKey, caCert, new Subject.Builder().withOrganizationName("io.strimzi").withCommonName("cluster-ca v0").build(), 365);
+        caKeyBytes = Files.readAllBytes(caKey.toPath());
+        caCertBytes = Files.readAllBytes(caCert.toPath());
+
+        subject = new Subject.Builder()
+                .withOrganizationName("io.strimzi")
+                .withCommonName("my-cluster-kafka")
+                .addDnsName("my-cluster-kafka-0.my-cluster-kafka-brokers.my-namespace.svc")
+                .addDnsName("my-cluster-kafka-bootstrap.my-namespace.svc")
+                .addIpAddress("10.0.0.1")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Benchmark
+    public File issueCertificate() throws IOException {
+        File key = new File(dir, "broker.key");
+        File csr = new File(dir, "broker.csr");
+        File cert = new File(dir, "broker.crt");
+        File keyStore = new File(dir, "broker.p12");
+
+        manager.generateCsr(key, csr, subject);
+        manager.generateCert(csr, caKeyBytes, caCertBytes, cert, subject, 365);
+        manager.addKeyAndCertToKeyStore(key, cert, "my-cluster-kafka-0", keyStore, "password");
+
+        return keyStore;
+    }
+
+    @Benchmark
+    public File generateCaCertificate() throws IOException {
+        File key = new File(dir, "new-ca.key");
+        File cert = new File(dir, "new-ca.crt");
+        Files.write(key.toPath(), new byte[0]);
+
+        manager.generateSelfSignedCert(key, cert, new Subject.Builder().withOrganizationName("io.strimzi").withCommonName("cluster-ca v1").build(), 365);
+
+        return cert;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CertManagerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -49,6 +49,9 @@ public class ClusterOperator extends AbstractVerticle {
 
     private static final int HEALTH_SERVER_PORT = 8080;
 
+    // Interval in which the Admin clients which are not used anymore are closed
+    private static final long ADMIN_CLIENT_EVICTION_INTERVAL_MS = 60_000L;
+
     private final KubernetesClient client;
     private final String namespace;
     private final ClusterOperatorConfig config;
@@ -56,6 +59,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final Map<String, Watch> watchByKind = new ConcurrentHashMap<>();
 
     private long reconcileTimer;
+    private long adminClientEvictionTimer;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
     private final KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator;
     private final KafkaMirrorMakerAssemblyOperator kafkaMirrorMakerAssemblyOperator;
@@ -96,9 +100,20 @@ public class ClusterOperator extends AbstractVerticle {
         // Configure the executor here, but it is used only in other places
         getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
 
-        strimziPodSetController = new StrimziPodSetController(namespace, config.getCustomResourceSelector(), resourceOperatorSupplier.kafkaOperator, resourceOperatorSupplier.strimziPodSetOperator, resourceOperatorSupplier.podOperations);
+        if (config.featureGates().useInformerCacheEnabled()) {
+            resourceOperatorSupplier.enableInformerCaches(namespace, config.featureGates());
+        }
+
+        strimziPodSetController = new StrimziPodSetController(namespace, config.getCustomResourceSelector(), resourceOperatorSupplier.kafkaOperator,
+                resourceOperatorSupplier.strimziPodSetOperator, resourceOperatorSupplier.podOperations, resourceOperatorSupplier.metricsProvider,
+                config.getPodSetControllerWorkers());
         strimziPodSetController.start();
 
+        adminClientEvictionTimer = vertx.setPeriodic(ADMIN_CLIENT_EVICTION_INTERVAL_MS, id -> vertx.<Void>executeBlocking(promise -> {
+            resourceOperatorSupplier.evictIdleAdminClients();
+            promise.complete();
+        }, false, res -> { }));
+
         List<Future> watchFutures = new ArrayList<>(8);
         List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
                 kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
@@ -131,6 +146,7 @@ public class ClusterOperator extends AbstractVerticle {
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
         vertx.cancelTimer(reconcileTimer);
+        vertx.cancelTimer(adminClientEvictionTimer);
         for (Watch watch : watchByKind.values()) {
             if (watch != null) {
                 watch.close();
@@ -138,8 +154,17 @@ public class ClusterOperator extends AbstractVerticle {
             // TODO remove the watch from the watchByKind
         }
         strimziPodSetController.stop();
+
+        if (config.featureGates().useInformerCacheEnabled()) {
+            resourceOperatorSupplier.disableInformerCaches(namespace, config.featureGates());
+        }
+
         client.close();
-        stop.complete();
+
+        vertx.<Void>executeBlocking(promise -> {
+            resourceOperatorSupplier.closeAdminClients();
+            promise.complete();
+        }, res -> stop.complete());
     }
 
     /**
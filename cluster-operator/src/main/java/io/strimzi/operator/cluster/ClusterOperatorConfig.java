@@ -48,6 +48,9 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CUSTOM_RESOURCE_SELECTOR = "STRIMZI_CUSTOM_RESOURCE_SELECTOR";
     public static final String STRIMZI_FEATURE_GATES = "STRIMZI_FEATURE_GATES";
     public static final String STRIMZI_OPERATIONS_THREAD_POOL_SIZE = "STRIMZI_OPERATIONS_THREAD_POOL_SIZE";
+    public static final String STRIMZI_RECONCILIATION_STEP_CONCURRENCY = "STRIMZI_RECONCILIATION_STEP_CONCURRENCY";
+    public static final String STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS = "STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS";
+    public static final String STRIMZI_POD_SET_CONTROLLER_WORKERS = "STRIMZI_POD_SET_CONTROLLER_WORKERS";
 
     // Feature Flags
     public static final String STRIMZI_RBAC_SCOPE = "STRIMZI_RBAC_SCOPE";
@@ -79,6 +82,9 @@ public class ClusterOperatorConfig {
     public static final int DEFAULT_ZOOKEEPER_ADMIN_SESSION_TIMEOUT_MS = 10_000;
     public static final long DEFAULT_CONNECT_BUILD_TIMEOUT_MS = 300_000;
     public static final int DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_RECONCILIATION_STEP_CONCURRENCY = 1;
+    public static final int DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS = 1;
+    public static final int DEFAULT_POD_SET_CONTROLLER_WORKERS = 1;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -96,6 +102,9 @@ public class ClusterOperatorConfig {
     private final Labels customResourceSelector;
     private final FeatureGates featureGates;
     private final int operationsThreadPoolSize;
+    private final int reconciliationStepConcurrency;
+    private final int maxConcurrentBrokerRestarts;
+    private final int podSetControllerWorkers;
 
     /**
      * Constructor
@@ -116,6 +125,9 @@ public class ClusterOperatorConfig {
      * @param featureGates Configuration string with feature gates settings
      * @param operationsThreadPoolSize The size of the thread pool used for various operations
      * @param zkAdminSessionTimeoutMs Session timeout for the Zookeeper Admin client used in ZK scaling operations
+     * @param reconciliationStepConcurrency Maximal number of independent reconciliation steps executed in parallel
+     * @param maxConcurrentBrokerRestarts Maximal number of Kafka brokers restarted in parallel during a rolling update
+     * @param podSetControllerWorkers Number of worker threads of the StrimziPodSet controller
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -134,7 +146,10 @@ public class ClusterOperatorConfig {
             Labels customResourceSelector,
             String featureGates,
             int operationsThreadPoolSize,
-            int zkAdminSessionTimeoutMs) {
+            int zkAdminSessionTimeoutMs,
+            int reconciliationStepConcurrency,
+            int maxConcurrentBrokerRestarts,
+            int podSetControllerWorkers) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -151,6 +166,9 @@ public class ClusterOperatorConfig {
         this.featureGates = new FeatureGates(featureGates);
         this.operationsThreadPoolSize = operationsThreadPoolSize;
         this.zkAdminSessionTimeoutMs = zkAdminSessionTimeoutMs;
+        this.reconciliationStepConcurrency = reconciliationStepConcurrency;
+        this.maxConcurrentBrokerRestarts = maxConcurrentBrokerRestarts;
+        this.podSetControllerWorkers = podSetControllerWorkers;
     }
 
     /**
@@ -201,6 +219,9 @@ public class ClusterOperatorConfig {
         String featureGates = map.getOrDefault(STRIMZI_FEATURE_GATES, "");
         int operationsThreadPoolSize = parseInt(map.get(STRIMZI_OPERATIONS_THREAD_POOL_SIZE), DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE);
         int zkAdminSessionTimeout = parseInt(map.get(STRIMZI_ZOOKEEPER_ADMIN_SESSION_TIMEOUT_MS), DEFAULT_ZOOKEEPER_ADMIN_SESSION_TIMEOUT_MS);
+        int reconciliationStepConcurrency = parseReconciliationStepConcurrency(map.get(STRIMZI_RECONCILIATION_STEP_CONCURRENCY));
+        int maxConcurrentBrokerRestarts = parseMaxConcurrentBrokerRestarts(map.get(STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS));
+        int podSetControllerWorkers = parsePodSetControllerWorkers(map.get(STRIMZI_POD_SET_CONTROLLER_WORKERS));
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -218,7 +239,40 @@ public class ClusterOperatorConfig {
                 customResourceSelector,
                 featureGates,
                 operationsThreadPoolSize,
-                zkAdminSessionTimeout);
+                zkAdminSessionTimeout,
+                reconciliationStepConcurrency,
+                maxConcurrentBrokerRestarts,
+                podSetControllerWorkers);
+    }
+
+    private static int parseReconciliationStepConcurrency(String concurrencyEnvVar) {
+        int concurrency = parseInt(concurrencyEnvVar, DEFAULT_RECONCILIATION_STEP_CONCURRENCY);
+
+        if (concurrency < 1) {
+            throw new InvalidConfigurationException(STRIMZI_RECONCILIATION_STEP_CONCURRENCY + " has to be at least 1");
+        }
+
+        return concurrency;
+    }
+
+    private static int parseMaxConcurrentBrokerRestarts(String restartsEnvVar) {
+        int restarts = parseInt(restartsEnvVar, DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS);
+
+        if (restarts < 1) {
+            throw new InvalidConfigurationException(STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS + " has to be at least 1");
+        }
+
+        return restarts;
+    }
+
+    private static int parsePodSetControllerWorkers(String workersEnvVar) {
+        int workers = parseInt(workersEnvVar, DEFAULT_POD_SET_CONTROLLER_WORKERS);
+
+        if (workers < 1) {
+            throw new InvalidConfigurationException(STRIMZI_POD_SET_CONTROLLER_WORKERS + " has to be at least 1");
+        }
+
+        return workers;
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -520,6 +574,27 @@ public class ClusterOperatorConfig {
         return operationsThreadPoolSize;
     }
 
+    /**
+     * @return Maximal number of independent reconciliation steps executed in parallel
+     */
+    public int getReconciliationStepConcurrency() {
+        return reconciliationStepConcurrency;
+    }
+
+    /**
+     * @return Maximal number of Kafka brokers restarted in parallel during a rolling update
+     */
+    public int getMaxConcurrentBrokerRestarts() {
+        return maxConcurrentBrokerRestarts;
+    }
+
+    /**
+     * @return Number of worker threads of the StrimziPodSet controller
+     */
+    public int getPodSetControllerWorkers() {
+        return podSetControllerWorkers;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -538,6 +613,9 @@ public class ClusterOperatorConfig {
                 ",customResourceSelector=" + customResourceSelector +
                 ",featureGates=" + featureGates +
                 ",zkAdminSessionTimeoutMS=" + zkAdminSessionTimeoutMs +
+                ",reconciliationStepConcurrency=" + reconciliationStepConcurrency +
+                ",maxConcurrentBrokerRestarts=" + maxConcurrentBrokerRestarts +
+                ",podSetControllerWorkers=" + podSetControllerWorkers +
                 ")";
     }
 }
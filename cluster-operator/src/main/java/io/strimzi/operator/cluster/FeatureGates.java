@@ -19,11 +19,15 @@ public class FeatureGates {
     private static final String CONTROL_PLANE_LISTENER = "ControlPlaneListener";
     private static final String SERVICE_ACCOUNT_PATCHING = "ServiceAccountPatching";
     private static final String USE_STRIMZI_POD_SETS = "UseStrimziPodSets";
+    private static final String USE_INFORMER_CACHE = "UseInformerCache";
+    private static final String USE_SERVER_SIDE_APPLY = "UseServerSideApply";
 
     // When adding new feature gates, do not forget to add them to allFeatureGates() and toString() methods
     private final FeatureGate controlPlaneListener = new FeatureGate(CONTROL_PLANE_LISTENER, true);
     private final FeatureGate serviceAccountPatching = new FeatureGate(SERVICE_ACCOUNT_PATCHING, true);
     private final FeatureGate useStrimziPodSets = new FeatureGate(USE_STRIMZI_POD_SETS, false);
+    private final FeatureGate useInformerCache = new FeatureGate(USE_INFORMER_CACHE, false);
+    private final FeatureGate useServerSideApply = new FeatureGate(USE_SERVER_SIDE_APPLY, false);
 
     /**
      * Constructs the feature gates configuration.
@@ -54,6 +58,12 @@ public class FeatureGates {
                     case USE_STRIMZI_POD_SETS:
                         setValueOnlyOnce(useStrimziPodSets, value);
                         break;
+                    case USE_INFORMER_CACHE:
+                        setValueOnlyOnce(useInformerCache, value);
+                        break;
+                    case USE_SERVER_SIDE_APPLY:
+                        setValueOnlyOnce(useServerSideApply, value);
+                        break;
                     default:
                         throw new InvalidConfigurationException("Unknown feature gate " + featureGate + " found in the configuration");
                 }
@@ -97,6 +107,20 @@ public class FeatureGates {
         return useStrimziPodSets.isEnabled();
     }
 
+    /**
+     * @return  Returns true when the UseInformerCache feature gate is enabled
+     */
+    public boolean useInformerCacheEnabled() {
+        return useInformerCache.isEnabled();
+    }
+
+    /**
+     * @return  Returns true when the UseServerSideApply feature gate is enabled
+     */
+    public boolean useServerSideApplyEnabled() {
+        return useServerSideApply.isEnabled();
+    }
+
     /**
      * Returns a list of all Feature gates. Used for testing.
      *
@@ -106,7 +130,9 @@ public class FeatureGates {
         return List.of(
                 controlPlaneListener,
                 serviceAccountPatching,
-                useStrimziPodSets
+                useStrimziPodSets,
+                useInformerCache,
+                useServerSideApply
         );
     }
 
@@ -115,7 +141,9 @@ public class FeatureGates {
         return "FeatureGates(" +
                 "controlPlaneListener=" + controlPlaneListener.isEnabled() + "," +
                 "ServiceAccountPatching=" + serviceAccountPatching.isEnabled() + "," +
-                "UseStrimziPodSets=" + useStrimziPodSets.isEnabled() +
+                "UseStrimziPodSets=" + useStrimziPodSets.isEnabled() + "," +
+                "UseInformerCache=" + useInformerCache.isEnabled() + "," +
+                "UseServerSideApply=" + useServerSideApply.isEnabled() +
                 ")";
     }
 
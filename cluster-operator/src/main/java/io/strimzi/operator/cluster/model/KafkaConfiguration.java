@@ -20,7 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -37,6 +37,12 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    /**
+     * Config models which were already read, indexed by the Kafka version. The models are shared and must not be
+     * modified.
+     */
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -104,11 +110,16 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The config model is read from the classpath
+     * only the first time it is requested for given version and the same unmodifiable instance is returned afterwards.
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> loadConfigModel(kafkaVersion));
+    }
+
+    private static Map<String, ConfigModel> loadConfigModel(KafkaVersion kafkaVersion) {
         String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
@@ -116,7 +127,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
                 if (!kafkaVersion.version().equals(configModels.getVersion())) {
                     throw new RuntimeException("Incorrect version");
                 }
-                return configModels.getConfigs();
+                return Collections.unmodifiableMap(configModels.getConfigs());
             }
         } catch (IOException e) {
             throw new RuntimeException("Error reading from classpath resource " + name, e);
@@ -162,12 +173,13 @@ public class KafkaConfiguration extends AbstractConfiguration {
 
     private Set<String> withScope(KafkaVersion kafkaVersion, Scope scope) {
         Map<String, ConfigModel> c = readConfigModel(kafkaVersion);
-        List<String> configsOfScope = c.entrySet().stream()
-                .filter(config -> scope.equals(config.getValue().getScope()))
-                .map(config -> config.getKey())
-                .collect(Collectors.toList());
-        Set<String> result = new HashSet<>(asOrderedProperties().asMap().keySet());
-        result.retainAll(configsOfScope);
+        Set<String> result = new HashSet<>();
+        for (String key : asOrderedProperties().asMap().keySet()) {
+            ConfigModel config = c.get(key);
+            if (config != null && scope.equals(config.getScope())) {
+                result.add(key);
+            }
+        }
         return Collections.unmodifiableSet(result);
     }
 
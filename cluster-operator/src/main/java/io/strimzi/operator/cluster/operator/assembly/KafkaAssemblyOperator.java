@@ -24,6 +24,8 @@ import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.StrimziPodSetList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
@@ -86,6 +88,7 @@ import io.strimzi.operator.cluster.operator.resource.ZooKeeperRoller;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperScaler;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperScalerProvider;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
@@ -139,6 +142,7 @@ import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -165,6 +169,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
     private final long operationTimeoutMs;
     private final int zkAdminSessionTimeoutMs;
+    private final int maxConcurrentBrokerRestarts;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
     private final FeatureGates featureGates;
@@ -186,6 +191,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
     private final ZookeeperLeaderFinder zookeeperLeaderFinder;
+    private final ReconciliationStepGraph<ReconciliationState> reconciliationSteps;
 
     /**
      * @param vertx The Vertx instance
@@ -202,6 +208,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 supplier.kafkaOperator, supplier, config);
         this.operationTimeoutMs = config.getOperationTimeoutMs();
         this.zkAdminSessionTimeoutMs = config.getZkAdminSessionTimeoutMs();
+        this.maxConcurrentBrokerRestarts = config.getMaxConcurrentBrokerRestarts();
         this.operatorNamespace = config.getOperatorNamespace();
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.isNetworkPolicyGeneration = config.isNetworkPolicyGeneration();
@@ -222,6 +229,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.zkScalerProvider = supplier.zkScalerProvider;
         this.adminClientProvider = supplier.adminClientProvider;
         this.zookeeperLeaderFinder = supplier.zookeeperLeaderFinder;
+        this.reconciliationSteps = reconciliationSteps(config.getReconciliationStepConcurrency());
     }
 
     @Override
@@ -264,119 +272,138 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     }
 
     Future<Void> reconcile(ReconciliationState reconcileState)  {
-        Promise<Void> chainPromise = Promise.promise();
-
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.getZookeeperDescription()) // HAs to be before the rollingUpdateForNewCaKey
-                .compose(state -> state.prepareVersionChange())
+        return reconciliationSteps.execute(reconcileState.reconciliation, reconcileState)
+                .map((Void) null);
+    }
+
+    /**
+     * Declares the steps of the Kafka cluster reconciliation and the dependencies between them. The steps are declared
+     * in the order in which they were originally executed one after another. Only the steps which are independent of
+     * each other - for example the resources which have to exist before the StatefulSet or the different operands
+     * deployed after the Kafka cluster - are allowed to run in parallel. Steps which might restart pods always wait for
+     * all steps declared before them.
+     *
+     * The steps which can run in parallel declare the fields of the ReconciliationState they write. The graph is
+     * validated when it is created, so a new step which can run in parallel with another step writing the same fields
+     * (or without declaring what it writes) fails the creation of the operator instead of racing at runtime.
+     *
+     * @param maxConcurrency    Maximal number of steps executed in parallel
+     *
+     * @return  Graph with the reconciliation steps
+     */
+    private ReconciliationStepGraph<ReconciliationState> reconciliationSteps(int maxConcurrency)   {
+        return new ReconciliationStepGraph<ReconciliationState>(maxConcurrency, metrics)
+                .then("initialStatus", ReconciliationState::initialStatus)
+                .then("reconcileCas", state -> state.reconcileCas(this::dateSupplier))
+                .then("clusterOperatorSecret", state -> state.clusterOperatorSecret(this::dateSupplier))
+                .then("getKafkaClusterDescription", ReconciliationState::getKafkaClusterDescription)
+                .then("getZookeeperDescription", ReconciliationState::getZookeeperDescription) // HAs to be before the rollingUpdateForNewCaKey
+                .then("prepareVersionChange", ReconciliationState::prepareVersionChange)
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkJmxSecret())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkPodSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaIngressesV1Beta1())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaIngressesV1Beta1Ready())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollToAddOrRemoveVolumes())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaGetClusterId())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .then("rollingUpdateForNewCaKey", ReconciliationState::rollingUpdateForNewCaKey)
+
+                .then("zkModelWarnings", ReconciliationState::zkModelWarnings)
+                .step("zkJmxSecret", ReconciliationState::zkJmxSecret, "zkModelWarnings").writes()
+                .then("zkManualPodCleaning", ReconciliationState::zkManualPodCleaning).writes()
+                .step("zkNetPolicy", ReconciliationState::zkNetPolicy, "zkModelWarnings").writes()
+                .step("zkManualRollingUpdate", ReconciliationState::zkManualRollingUpdate, "zkManualPodCleaning", "zkNetPolicy")
+                .then("zkVersionChange", ReconciliationState::zkVersionChange)
+                // Resources needed by the ZooKeeper pods are independent of each other
+                .step("zookeeperServiceAccount", ReconciliationState::zookeeperServiceAccount, "zkVersionChange").writes()
+                .step("zkPvcs", ReconciliationState::zkPvcs, "zkVersionChange").writes("fsResizingRestartRequest")
+                .step("zkService", ReconciliationState::zkService, "zkVersionChange").writes()
+                .step("zkHeadlessService", ReconciliationState::zkHeadlessService, "zkVersionChange").writes()
+                .step("zkGenerateCertificates", state -> state.zkGenerateCertificates(this::dateSupplier), "zkVersionChange").writes("zkCluster.nodeCerts")
+                .step("zkAncillaryCm", ReconciliationState::zkAncillaryCm, "zkVersionChange").writes()
+                .step("zkNodesSecret", ReconciliationState::zkNodesSecret, "zkGenerateCertificates").writes("existingZookeeperCertsChanged")
+                .step("zkPodDisruptionBudget", ReconciliationState::zkPodDisruptionBudget, "zkVersionChange").writes()
+                .step("zkStatefulSet", ReconciliationState::zkStatefulSet, "zookeeperServiceAccount", "zkPvcs", "zkService",
+                        "zkHeadlessService", "zkAncillaryCm", "zkNodesSecret", "zkPodDisruptionBudget")
+                .then("zkPodSet", ReconciliationState::zkPodSet)
+                .then("zkScalingDown", ReconciliationState::zkScalingDown)
+                .then("zkRollingUpdate", ReconciliationState::zkRollingUpdate)
+                .then("zkPodsReady", ReconciliationState::zkPodsReady)
+                .then("zkScalingUp", ReconciliationState::zkScalingUp)
+                .then("zkScalingCheck", ReconciliationState::zkScalingCheck)
+                .then("zkServiceEndpointReadiness", ReconciliationState::zkServiceEndpointReadiness)
+                .then("zkHeadlessServiceEndpointReadiness", ReconciliationState::zkHeadlessServiceEndpointReadiness)
+                .then("zkPersistentClaimDeletion", ReconciliationState::zkPersistentClaimDeletion)
+
+                .then("checkKafkaSpec", ReconciliationState::checkKafkaSpec)
+                .then("kafkaModelWarnings", ReconciliationState::kafkaModelWarnings)
+                .then("kafkaManualPodCleaning", ReconciliationState::kafkaManualPodCleaning).writes()
+                .step("kafkaNetPolicy", ReconciliationState::kafkaNetPolicy, "kafkaModelWarnings").writes()
+                .step("kafkaManualRollingUpdate", ReconciliationState::kafkaManualRollingUpdate, "kafkaManualPodCleaning", "kafkaNetPolicy")
+                .then("kafkaPvcs", ReconciliationState::kafkaPvcs).writes("fsResizingRestartRequest")
+                .step("kafkaInitServiceAccount", ReconciliationState::kafkaInitServiceAccount, "kafkaManualRollingUpdate").writes()
+                .step("kafkaInitClusterRoleBinding", ReconciliationState::kafkaInitClusterRoleBinding, "kafkaManualRollingUpdate").writes()
+                .step("kafkaScaleDown", ReconciliationState::kafkaScaleDown, "kafkaPvcs", "kafkaInitServiceAccount", "kafkaInitClusterRoleBinding")
+                .then("kafkaServices", ReconciliationState::kafkaServices)
+                .then("kafkaRoutes", ReconciliationState::kafkaRoutes)
+                .then("kafkaIngresses", ReconciliationState::kafkaIngresses)
+                .then("kafkaIngressesV1Beta1", ReconciliationState::kafkaIngressesV1Beta1)
+                .then("kafkaInternalServicesReady", ReconciliationState::kafkaInternalServicesReady)
+                .then("kafkaLoadBalancerServicesReady", ReconciliationState::kafkaLoadBalancerServicesReady)
+                .then("kafkaNodePortServicesReady", ReconciliationState::kafkaNodePortServicesReady)
+                .then("kafkaRoutesReady", ReconciliationState::kafkaRoutesReady)
+                .then("kafkaIngressesReady", ReconciliationState::kafkaIngressesReady)
+                .then("kafkaIngressesV1Beta1Ready", ReconciliationState::kafkaIngressesV1Beta1Ready)
+                .then("kafkaGenerateCertificates", state -> state.kafkaGenerateCertificates(this::dateSupplier))
+                .then("customListenerCertificates", ReconciliationState::customListenerCertificates)
+                // Resources needed by the Kafka pods are independent of each other
+                .step("kafkaAncillaryCm", ReconciliationState::kafkaAncillaryCm, "customListenerCertificates").writes("kafkaLogging", "kafkaLoggingAppendersHash", "kafkaBrokerConfigurationHash")
+                .step("kafkaBrokersSecret", ReconciliationState::kafkaBrokersSecret, "customListenerCertificates").writes("existingKafkaCertsChanged")
+                .step("kafkaJmxSecret", ReconciliationState::kafkaJmxSecret, "customListenerCertificates").writes()
+                .step("kafkaPodDisruptionBudget", ReconciliationState::kafkaPodDisruptionBudget, "customListenerCertificates").writes()
+                .step("kafkaStatefulSet", ReconciliationState::kafkaStatefulSet, "kafkaAncillaryCm", "kafkaBrokersSecret", "kafkaJmxSecret", "kafkaPodDisruptionBudget")
+                .then("kafkaRollToAddOrRemoveVolumes", ReconciliationState::kafkaRollToAddOrRemoveVolumes)
+                .then("kafkaRollingUpdate", ReconciliationState::kafkaRollingUpdate)
+                .then("kafkaScaleUp", ReconciliationState::kafkaScaleUp)
+                .then("kafkaPodsReady", ReconciliationState::kafkaPodsReady)
+                .then("kafkaServiceEndpointReady", ReconciliationState::kafkaServiceEndpointReady)
+                .then("kafkaHeadlessServiceEndpointReady", ReconciliationState::kafkaHeadlessServiceEndpointReady)
+                .then("kafkaGetClusterId", ReconciliationState::kafkaGetClusterId)
+                .then("kafkaPersistentClaimDeletion", ReconciliationState::kafkaPersistentClaimDeletion)
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorRole())
-                .compose(state -> state.entityTopicOperatorRole())
-                .compose(state -> state.entityUserOperatorRole())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorUserOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlApiSecret())
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
-                .map((Void) null)
-                .onComplete(chainPromise);
-
-        return chainPromise.future();
+                .then("kafkaNodePortExternalListenerStatus", ReconciliationState::kafkaNodePortExternalListenerStatus)
+                .then("kafkaCustomCertificatesToStatus", ReconciliationState::kafkaCustomCertificatesToStatus)
+
+                // The Entity Operator, Cruise Control, Kafka Exporter and JMX Trans are independent of each other
+                .step("getEntityOperatorDescription", ReconciliationState::getEntityOperatorDescription, "kafkaCustomCertificatesToStatus").writes("entityOperator", "eoDeployment", "topicOperatorMetricsAndLogsConfigMap", "userOperatorMetricsAndLogsConfigMap")
+                .then("entityOperatorRole", ReconciliationState::entityOperatorRole).writes()
+                .then("entityTopicOperatorRole", ReconciliationState::entityTopicOperatorRole).writes()
+                .then("entityUserOperatorRole", ReconciliationState::entityUserOperatorRole).writes()
+                .then("entityOperatorServiceAccount", ReconciliationState::entityOperatorServiceAccount).writes()
+                .then("entityOperatorTopicOpRoleBindingForRole", ReconciliationState::entityOperatorTopicOpRoleBindingForRole).writes()
+                .then("entityOperatorUserOpRoleBindingForRole", ReconciliationState::entityOperatorUserOpRoleBindingForRole).writes()
+                .then("entityOperatorTopicOpAncillaryCm", ReconciliationState::entityOperatorTopicOpAncillaryCm).writes()
+                .then("entityOperatorUserOpAncillaryCm", ReconciliationState::entityOperatorUserOpAncillaryCm).writes()
+                .then("entityOperatorSecret", state -> state.entityOperatorSecret(this::dateSupplier)).writes("existingEntityOperatorCertsChanged")
+                .then("entityOperatorDeployment", ReconciliationState::entityOperatorDeployment).writes("eoDeployment")
+                .then("entityOperatorReady", ReconciliationState::entityOperatorReady).writes()
+
+                .step("getCruiseControlDescription", ReconciliationState::getCruiseControlDescription, "kafkaCustomCertificatesToStatus").writes("cruiseControl", "ccDeployment", "cruiseControlMetricsAndLogsConfigMap")
+                .then("cruiseControlNetPolicy", ReconciliationState::cruiseControlNetPolicy).writes()
+                .then("cruiseControlServiceAccount", ReconciliationState::cruiseControlServiceAccount).writes()
+                .then("cruiseControlAncillaryCm", ReconciliationState::cruiseControlAncillaryCm).writes()
+                .then("cruiseControlSecret", state -> state.cruiseControlSecret(this::dateSupplier)).writes("existingCruiseControlCertsChanged")
+                .then("cruiseControlApiSecret", ReconciliationState::cruiseControlApiSecret).writes()
+                .then("cruiseControlDeployment", ReconciliationState::cruiseControlDeployment).writes("ccDeployment")
+                .then("cruiseControlService", ReconciliationState::cruiseControlService).writes()
+                .then("cruiseControlReady", ReconciliationState::cruiseControlReady).writes()
+
+                .step("getKafkaExporterDescription", ReconciliationState::getKafkaExporterDescription, "kafkaCustomCertificatesToStatus").writes("kafkaExporter", "exporterDeployment")
+                .then("kafkaExporterServiceAccount", ReconciliationState::kafkaExporterServiceAccount).writes()
+                .then("kafkaExporterSecret", state -> state.kafkaExporterSecret(this::dateSupplier)).writes("existingKafkaExporterCertsChanged")
+                .then("kafkaExporterDeployment", ReconciliationState::kafkaExporterDeployment).writes("exporterDeployment")
+                .then("kafkaExporterReady", ReconciliationState::kafkaExporterReady).writes()
+
+                .step("getJmxTransDescription", ReconciliationState::getJmxTransDescription, "kafkaCustomCertificatesToStatus").writes("jmxTrans", "jmxTransConfigMap", "jmxTransDeployment")
+                .then("jmxTransServiceAccount", ReconciliationState::jmxTransServiceAccount).writes()
+                .then("jmxTransConfigMap", ReconciliationState::jmxTransConfigMap).writes()
+                .then("jmxTransDeployment", ReconciliationState::jmxTransDeployment).writes("jmxTransDeployment")
+                .then("jmxTransDeploymentReady", ReconciliationState::jmxTransDeploymentReady).writes()
+                .validate();
     }
 
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -749,10 +776,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
                 return zkRollFuture
                         .compose(i -> stsOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
-                        .compose(sts -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
-                            () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
-                            .rollingRestart(rollPodAndLogReason))
+                        .compose(sts -> rollKafkaPods(sts, clusterCa.caCertSecret(), oldCoSecret, rollPodAndLogReason, true))
                         .compose(i -> {
                             if (this.clusterCa.keyReplaced()) {
                                 // EO, KE and CC need to be rolled only for new Cluster CA key.
@@ -1167,10 +1191,37 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          */
         Future<Void> maybeRollKafka(StatefulSet sts, Function<Pod, List<String>> podNeedsRestart, boolean allowReconfiguration) {
             return adminClientSecrets()
-                .compose(compositeFuture -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
-                    () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration)
-                    .rollingRestart(podNeedsRestart));
+                .compose(compositeFuture -> rollKafkaPods(sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), podNeedsRestart, allowReconfiguration));
+        }
+
+        /**
+         * Rolls Kafka pods using the KafkaRoller and records the duration of the rolling restart if any pods were
+         * restarted.
+         *
+         * @param sts Kafka statefulset
+         * @param clusterCaCertSecret Secret with the Cluster CA certificate used by the admin client
+         * @param coKeySecret Secret with the Cluster Operator key used by the admin client
+         * @param podNeedsRestart this function serves as a predicate whether to roll pod or not
+         * @param allowReconfiguration defines whether the rolling update should also attempt to do dynamic reconfiguration or not
+         *
+         * @return succeeded future if kafka pods were rolled and are ready
+         */
+        private Future<Void> rollKafkaPods(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret, Function<Pod, List<String>> podNeedsRestart, boolean allowReconfiguration) {
+            KafkaRoller roller = new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
+                    () -> new BackOff(250, 2, 10), sts, clusterCaCertSecret, coKeySecret, adminClientProvider,
+                    kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration,
+                    maxConcurrentBrokerRestarts);
+            long start = System.nanoTime();
+
+            return roller.rollingRestart(podNeedsRestart)
+                    .onComplete(i -> {
+                        if (roller.restartedPods() > 0) {
+                            metrics.timer(AbstractOperator.METRICS_PREFIX + "kafka.rolling.restart.duration",
+                                    "The time the rolling restart of the Kafka brokers takes to complete",
+                                    Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace())))
+                                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        }
+                    });
         }
 
         /**
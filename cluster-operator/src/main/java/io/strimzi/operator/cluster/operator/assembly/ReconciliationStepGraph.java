@@ -0,0 +1,346 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Reconciliation pipeline declared as a dependency graph of steps. Each step is an asynchronous operation on the
+ * reconciliation state and can depend on any steps declared before it. Declaring the dependencies only on earlier
+ * steps guarantees that the graph has no cycles.
+ *
+ * When the graph is executed, every step is started as soon as all its dependencies completed, with at most
+ * {@code maxConcurrency} steps running at the same time. When more steps are ready than can be started, they are
+ * started in the order in which they were declared. With {@code maxConcurrency} set to 1, the steps are therefore
+ * executed one by one in the declaration order.
+ *
+ * When any step fails, no new steps are started and the execution fails with the cause of the first failed step once
+ * the already running steps complete. The duration of each step is recorded in a timer metric.
+ *
+ * The steps share the reconciliation state without any synchronization. This is safe because of two rules:
+ *
+ *   - All steps are started and all their results are handled on the Vert.x context on which the graph was executed.
+ *     When a step future completes on another thread, the completion is moved to this context. So the code of the
+ *     steps which runs outside of executeBlocking is never executed by two threads at the same time. Blocking code
+ *     running in executeBlocking may write only the state declared by its step.
+ *   - Steps which can run in parallel (because neither of them depends on the other) must write disjoint parts of the
+ *     state and must not read what the other step writes. The parts of the state written by such steps are declared
+ *     using {@link #writes(String...)} and checked by {@link #validate()}.
+ *
+ * @param <S>   Type of the reconciliation state passed to the steps
+ */
+public class ReconciliationStepGraph<S> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationStepGraph.class);
+
+    private final Map<String, Step<S>> steps = new LinkedHashMap<>();
+    private final MetricsProvider metrics;
+    private final Map<String, Timer> stepTimers = new ConcurrentHashMap<>();
+    private final int maxConcurrency;
+
+    private String lastStep = null;
+
+    /**
+     * Creates the step graph
+     *
+     * @param maxConcurrency    Maximal number of steps executed in parallel
+     * @param metrics           Metrics provider used for the step duration metrics
+     */
+    public ReconciliationStepGraph(int maxConcurrency, MetricsProvider metrics) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximal number of concurrent steps has to be at least 1");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a new step to the graph
+     *
+     * @param name          Name of the step. It has to be unique within the graph.
+     * @param action        The asynchronous operation executed by this step
+     * @param dependsOn     Names of the steps which have to complete before this step is started. They have to be
+     *                      already declared in the graph.
+     *
+     * @return  This step graph
+     */
+    public ReconciliationStepGraph<S> step(String name, Function<S, Future<S>> action, String... dependsOn) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " is already declared");
+        }
+
+        for (String dependency : dependsOn) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on step " + dependency + " which is not declared before it");
+            }
+        }
+
+        Step<S> step = new Step<>(steps.size(), name, action, Arrays.asList(dependsOn));
+        for (String dependency : dependsOn) {
+            steps.get(dependency).dependents.add(step);
+        }
+
+        steps.put(name, step);
+        lastStep = name;
+
+        return this;
+    }
+
+    /**
+     * Declares the parts of the reconciliation state written by the last declared step. The names are only labels
+     * (typically the names of the fields of the state) used by {@link #validate()} to check that steps which can run in
+     * parallel do not write the same state. Steps which do not write any state shared with other steps declare it by
+     * calling this method without any arguments.
+     *
+     * @param state     Names of the parts of the state written by the step
+     *
+     * @return  This step graph
+     */
+    public ReconciliationStepGraph<S> writes(String... state) {
+        if (lastStep == null) {
+            throw new IllegalStateException("No step was declared yet");
+        }
+
+        steps.get(lastStep).writes = Set.of(state);
+
+        return this;
+    }
+
+    /**
+     * Checks that the steps which can run in parallel write disjoint parts of the reconciliation state. Two steps can
+     * run in parallel when neither of them depends (directly or through other steps) on the other. Such steps have to
+     * declare the state they write using {@link #writes(String...)}. Steps which run only one after another do not need
+     * to declare anything.
+     *
+     * @return  This step graph
+     *
+     * @throws IllegalStateException    If any steps which can run in parallel do not declare the state they write or
+     *                                  write the same state
+     */
+    public ReconciliationStepGraph<S> validate() {
+        List<Step<S>> declared = new ArrayList<>(steps.values());
+        List<BitSet> ancestors = new ArrayList<>(declared.size());
+
+        for (Step<S> step : declared) {
+            BitSet stepAncestors = new BitSet(declared.size());
+
+            for (String dependency : step.dependencies) {
+                Step<S> dependencyStep = steps.get(dependency);
+                stepAncestors.set(dependencyStep.index);
+                stepAncestors.or(ancestors.get(dependencyStep.index));
+            }
+
+            ancestors.add(stepAncestors);
+
+            // The steps are declared only after their dependencies, so the steps which can run in parallel with this
+            // step are all earlier steps which are not its ancestors
+            for (Step<S> earlier : declared.subList(0, step.index)) {
+                if (!stepAncestors.get(earlier.index)) {
+                    checkDisjointWrites(earlier, step);
+                }
+            }
+        }
+
+        return this;
+    }
+
+    private static <S> void checkDisjointWrites(Step<S> first, Step<S> second) {
+        if (first.writes == null || second.writes == null) {
+            throw new IllegalStateException("Steps " + first.name + " and " + second.name + " can run in parallel, but "
+                    + (first.writes == null ? first.name : second.name) + " does not declare which state it writes");
+        }
+
+        Set<String> common = new HashSet<>(first.writes);
+        common.retainAll(second.writes);
+
+        if (!common.isEmpty()) {
+            throw new IllegalStateException("Steps " + first.name + " and " + second.name + " can run in parallel, but both write " + common);
+        }
+    }
+
+    /**
+     * Adds a new step to the graph which depends on the last declared step
+     *
+     * @param name      Name of the step. It has to be unique within the graph.
+     * @param action    The asynchronous operation executed by this step
+     *
+     * @return  This step graph
+     */
+    public ReconciliationStepGraph<S> then(String name, Function<S, Future<S>> action) {
+        return lastStep == null ? step(name, action) : step(name, action, lastStep);
+    }
+
+    /**
+     * @return  Name of the last declared step
+     */
+    public String lastStep() {
+        return lastStep;
+    }
+
+    /**
+     * Executes the step graph
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param state             The reconciliation state passed to the steps
+     *
+     * @return  Future which completes when all steps completed or fails when any of the steps failed
+     */
+    public Future<S> execute(Reconciliation reconciliation, S state) {
+        return new Execution(reconciliation, state).start();
+    }
+
+    private Timer stepTimer(Reconciliation reconciliation, String step) {
+        return stepTimers.computeIfAbsent(reconciliation.namespace() + "/" + step,
+            key -> metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.step.duration",
+                    "The time the reconciliation step takes to complete",
+                    Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace()), Tag.of("step", step))));
+    }
+
+    /**
+     * Single step of the graph
+     */
+    private static class Step<S> {
+        private final int index;
+        private final String name;
+        private final Function<S, Future<S>> action;
+        private final List<String> dependencies;
+        private final List<Step<S>> dependents = new ArrayList<>();
+        private Set<String> writes = null;
+
+        Step(int index, String name, Function<S, Future<S>> action, List<String> dependencies) {
+            this.index = index;
+            this.name = name;
+            this.action = action;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * Single execution of the graph. It keeps track of the completed dependencies and of the running steps.
+     */
+    private class Execution {
+        private final Reconciliation reconciliation;
+        private final S state;
+        private final Context context = Vertx.currentContext();
+        private final Promise<S> result = Promise.promise();
+        private final Map<String, Integer> pendingDependencies = new LinkedHashMap<>();
+        private final TreeSet<Step<S>> ready = new TreeSet<>((a, b) -> Integer.compare(a.index, b.index));
+
+        private int running = 0;
+        private int completed = 0;
+        private Throwable failure = null;
+
+        Execution(Reconciliation reconciliation, S state) {
+            this.reconciliation = reconciliation;
+            this.state = state;
+
+            for (Step<S> step : steps.values()) {
+                if (step.dependencies.isEmpty()) {
+                    ready.add(step);
+                } else {
+                    pendingDependencies.put(step.name, step.dependencies.size());
+                }
+            }
+        }
+
+        synchronized Future<S> start() {
+            if (steps.isEmpty()) {
+                result.complete(state);
+            } else {
+                scheduleReadySteps();
+            }
+
+            return result.future();
+        }
+
+        private void scheduleReadySteps() {
+            while (failure == null && running < maxConcurrency && !ready.isEmpty()) {
+                Step<S> step = ready.pollFirst();
+                running++;
+                run(step);
+            }
+        }
+
+        private void run(Step<S> step) {
+            LOGGER.debugCr(reconciliation, "Starting reconciliation step {}", step.name);
+            long start = System.nanoTime();
+            Future<S> stepFuture;
+
+            try {
+                stepFuture = step.action.apply(state);
+            } catch (Throwable t) {
+                stepFuture = Future.failedFuture(t);
+            }
+
+            stepFuture.onComplete(res -> {
+                long duration = System.nanoTime() - start;
+
+                if (context == null || context == Vertx.currentContext()) {
+                    onStepComplete(step, duration, res.cause());
+                } else {
+                    // The step completed on another thread => continue on the context of the reconciliation
+                    context.runOnContext(v -> onStepComplete(step, duration, res.cause()));
+                }
+            });
+        }
+
+        private synchronized void onStepComplete(Step<S> step, long durationNanos, Throwable cause) {
+            stepTimer(reconciliation, step.name).record(durationNanos, TimeUnit.NANOSECONDS);
+            running--;
+
+            if (cause != null) {
+                LOGGER.debugCr(reconciliation, "Reconciliation step {} failed", step.name, cause);
+
+                if (failure == null) {
+                    failure = cause;
+                }
+            } else {
+                LOGGER.debugCr(reconciliation, "Reconciliation step {} completed", step.name);
+                completed++;
+
+                for (Step<S> dependent : step.dependents) {
+                    int pending = pendingDependencies.merge(dependent.name, -1, Integer::sum);
+
+                    if (pending == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+
+            if (failure != null) {
+                if (running == 0) {
+                    result.tryFail(failure);
+                }
+            } else if (completed == steps.size()) {
+                result.tryComplete(state);
+            } else {
+                scheduleReadySteps();
+            }
+        }
+    }
+}
@@ -25,9 +25,12 @@ import io.strimzi.api.kafka.model.status.StrimziPodSetStatus;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.operator.resource.PodRevision;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.controller.Controller;
+import io.strimzi.operator.common.controller.WorkQueue;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.PodOperator;
@@ -39,28 +42,31 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.stream.Collectors;
 
 /**
- * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them
+ * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them. The
+ * reconciliations are queued in a deduplicating work queue and executed by a pool of workers. Different
+ * StrimziPodSets can be reconciled in parallel, but one StrimziPodSet is never reconciled by two workers at the same
+ * time. Failed reconciliations are retried with an exponential back-off.
  */
-public class StrimziPodSetController implements Runnable {
+public class StrimziPodSetController {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
 
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
-    private Thread controllerThread;
-
-    private volatile boolean stop = false;
+    /**
+     * Default number of the worker threads reconciling the StrimziPodSets
+     */
+    public static final int DEFAULT_WORKERS = 1;
 
     private final PodOperator podOperator;
     private final CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> strimziPodSetOperator;
     private final Optional<LabelSelector> crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue = new ArrayBlockingQueue<>(1024);
+    private final WorkQueue<SimplifiedReconciliation> workQueue;
+    private final Controller<SimplifiedReconciliation> controller;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -81,6 +87,24 @@ public class StrimziPodSetController implements Runnable {
      * @param podOperator           Pod operator for managing pods
      */
     public StrimziPodSetController(String watchedNamespace, Labels crSelectorLabels, CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator, CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> strimziPodSetOperator, PodOperator podOperator) {
+        this(watchedNamespace, crSelectorLabels, kafkaOperator, strimziPodSetOperator, podOperator, null, DEFAULT_WORKERS);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller. The controller should normally exist once per operator for cluster-wide mode
+     * or once per namespace for namespaced mode.
+     *
+     * @param watchedNamespace      Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels      Selector labels for custom resource managed by this operator instance. This is used
+     *                              to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator         Kafka Operator for getting the Kafka custom resources
+     * @param strimziPodSetOperator StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                              their status etc.
+     * @param podOperator           Pod operator for managing pods
+     * @param metricsProvider       Metrics provider used for the work queue metrics or null to not use metrics
+     * @param workers               Number of worker threads reconciling the StrimziPodSets
+     */
+    public StrimziPodSetController(String watchedNamespace, Labels crSelectorLabels, CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator, CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> strimziPodSetOperator, PodOperator podOperator, MetricsProvider metricsProvider, int workers) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, crSelectorLabels.toMap()));
@@ -131,7 +155,11 @@ public class StrimziPodSetController implements Runnable {
             }
         }, 10 * 60 * 1000);
 
-        controllerThread = new Thread(this, "StrimziPodSetController");
+        this.workQueue = new WorkQueue<>("StrimziPodSetController", WorkQueue.DEFAULT_BASE_DELAY_MS, WorkQueue.DEFAULT_MAX_DELAY_MS, metricsProvider);
+        this.controller = new Controller<>("StrimziPodSetController", workQueue,
+            podSetReconciliation -> reconcile(podSetReconciliation.toReconciliation()),
+            () -> podInformer.hasSynced() && strimziPodSetInformer.hasSynced() && kafkaInformer.hasSynced(),
+            workers);
     }
 
     /**
@@ -213,7 +241,8 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * The main reconciliation logic which handles the reconciliations.
+     * The main reconciliation logic which handles the reconciliations. When the reconciliation fails, the error is set
+     * in the status of the StrimziPodSet and the exception is rethrown so that the reconciliation is retried.
      *
      * @param reconciliation    Reconciliation identifier used for logging
      */
@@ -259,6 +288,7 @@ public class StrimziPodSetController implements Runnable {
             } catch (Exception e) {
                 LOGGER.errorCr(reconciliation, "StrimziPodSet {} in namespace {} reconciliation failed", reconciliation.name(), reconciliation.namespace(), e);
                 status.addCondition(StatusUtils.buildConditionFromException("Error", "true", e));
+                throw e;
             } finally {
                 maybeUpdateStatus(reconciliation, podSet, status);
                 LOGGER.infoCr(reconciliation, "reconciled");
@@ -365,68 +395,38 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * Enqueues the next reconciliation. The work queue ignores the reconciliation when the same resource is already
+     * waiting in the queue.
      *
      * @param reconciliation    Reconciliation identifier
      */
     private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
+        if (workQueue.add(reconciliation)) {
+            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.namespace);
         } else {
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
-        }
-    }
-
-    /**
-     * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
-     */
-    @Override
-    public void run() {
-        LOGGER.infoOp("Starting StrimziPodSet controller for namespace {}", watchedNamespace);
-
-        LOGGER.infoOp("Waiting for informers to sync");
-        while (!stop
-                && (!podInformer.hasSynced() || !strimziPodSetInformer.hasSynced() || !kafkaInformer.hasSynced()))   {
-            // Nothing to do => just loop
-        }
-        LOGGER.infoOp("Informers are in-sync");
-
-        while (!stop) {
-            try {
-                LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
-            } catch (InterruptedException e)    {
-                LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
-            } catch (Exception e)   {
-                LOGGER.warnOp("StrimziPodSet reconciliation failed", e);
-            }
+            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.namespace);
         }
-
-        LOGGER.infoOp("Stopping StrimziPodSet controller");
-
-        podInformer.stop();
-        strimziPodSetInformer.stop();
-        kafkaInformer.stop();
     }
 
     /**
-     * Starts the controller: this method creates a new thread in which the controller will run
+     * Starts the controller: this method starts the worker threads which wait for the informers to sync and then
+     * reconcile the StrimziPodSets from the work queue
      */
     public void start()  {
-        LOGGER.infoOp("Starting the StrimziPodSet controller");
-        controllerThread.start();
+        LOGGER.infoOp("Starting the StrimziPodSet controller for namespace {}", watchedNamespace);
+        controller.start();
     }
 
     /**
-     * Stops the controller: this method sets the stop flag and interrupt the run loop
+     * Stops the controller: this method stops the workers and the informers
      */
     public void stop()  {
         LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
-        this.stop = true;
-        controllerThread.interrupt();
+        controller.stop();
+
+        podInformer.stop();
+        strimziPodSetInformer.stop();
+        kafkaInformer.stop();
     }
 
     /**
@@ -464,6 +464,11 @@ public class StrimziPodSetController implements Runnable {
             return new Reconciliation("watch", "StrimziPodSet", namespace, name);
         }
 
+        @Override
+        public String toString() {
+            return "StrimziPodSet " + namespace + "/" + name;
+        }
+
         /**
          * Compares two SimplifiedReconciliation objects. This is used to avoid having the same resource queued multiple
          * times.
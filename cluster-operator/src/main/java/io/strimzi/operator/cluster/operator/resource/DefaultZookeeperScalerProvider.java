@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.operator.common.CertificateStoreCache;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
 
@@ -16,6 +17,24 @@ import java.util.function.Function;
 public class DefaultZookeeperScalerProvider implements ZookeeperScalerProvider {
     private static ZooKeeperAdminProvider zooAdminProvider = new DefaultZooKeeperAdminProvider();
 
+    private final CertificateStoreCache certificateStores;
+
+    /**
+     * Creates the provider with its own certificate store cache
+     */
+    public DefaultZookeeperScalerProvider() {
+        this(new CertificateStoreCache());
+    }
+
+    /**
+     * Creates the provider
+     *
+     * @param certificateStores     Cache of the truststores and keystores shared by the created ZookeeperScalers
+     */
+    public DefaultZookeeperScalerProvider(CertificateStoreCache certificateStores) {
+        this.certificateStores = certificateStores;
+    }
+
     /**
      * Creates an instance of ZookeeperScaler
      *
@@ -33,6 +52,6 @@ public class DefaultZookeeperScalerProvider implements ZookeeperScalerProvider {
                                                  Function<Integer, String> zkNodeAddress, Secret clusterCaCertSecret,
                                                  Secret coKeySecret, long operationTimeoutMs, int zkAdminSessionTimeoutMs) {
         return new ZookeeperScaler(reconciliation, vertx, zooAdminProvider, zookeeperConnectionString, zkNodeAddress,
-                clusterCaCertSecret, coKeySecret, operationTimeoutMs, zkAdminSessionTimeoutMs);
+                clusterCaCertSecret, coKeySecret, operationTimeoutMs, zkAdminSessionTimeoutMs, certificateStores);
     }
 }
@@ -19,6 +19,7 @@ import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,28 +31,34 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * One instance is meant to be used for the whole rolling restart. The first check describes all topics and builds an
+ * index of the topics hosted by each broker. Every following check describes again only the topics hosted by the
+ * brokers it asks about and the topics created in the meantime. The {@code min.in.sync.replicas} of each topic is
+ * fetched when a broker hosting the topic is checked for the first time and cached for the whole rolling restart.
  */
 class KafkaAvailability {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAvailability.class.getName());
 
+    /**
+     * Value used in the min.insync.replicas cache for topics which do not have it set
+     */
+    private static final int NO_MIN_ISR = -1;
+
     private final Admin ac;
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    // The index and the cache are updated from the Admin client threads. All access is synchronized on this instance.
+    private final Map<String, TopicDescription> topics = new HashMap<>();
+    private final Map<Integer, Set<String>> topicsByBroker = new HashMap<>();
+    private final Map<String, Integer> minIsrs = new HashMap<>();
+    private boolean indexed = false;
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
     }
 
     /**
@@ -60,93 +67,238 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return rollableBrokers(Set.of(podId), Set.of())
+                .map(rollable -> rollable.contains(podId));
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
-                    LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
+    /**
+     * Determine whether the given broker can be rolled while the other given brokers are being rolled as well without
+     * affecting producers with acks=all publishing to topics with a {@code min.in.sync.replicas}. The brokers which are
+     * being rolled are treated as out of the ISR regardless of what the topic descriptions say.
+     *
+     * @param podId             The broker which should be rolled
+     * @param restartingPods    The brokers which are already being rolled
+     *
+     * @return  Future which completes with true if the broker can be rolled together with the other brokers
+     */
+    Future<Boolean> canRollTogether(int podId, Set<Integer> restartingPods) {
+        if (restartingPods.isEmpty()) {
+            return canRoll(podId);
+        }
+
+        LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled together with brokers {}", podId, restartingPods);
+        return rollableBrokers(Set.of(podId), restartingPods)
+                .map(rollable -> rollable.contains(podId));
+    }
+
+    /**
+     * Determine which of the given brokers can be rolled right now without affecting producers with acks=all publishing
+     * to topics with a {@code min.in.sync.replicas}. Each broker is judged on its own together with the brokers which
+     * are already being rolled. The answer for all the brokers is computed in a single pass over their partitions.
+     *
+     * @param brokers           The brokers which should be checked
+     * @param restartingPods    The brokers which are already being rolled and which are treated as out of the ISR
+     *
+     * @return  Future which completes with the brokers which can be rolled
+     */
+    Future<Set<Integer>> rollableBrokers(Set<Integer> brokers, Set<Integer> restartingPods) {
+        Set<Integer> refreshedBrokers = new HashSet<>(brokers);
+        refreshedBrokers.addAll(restartingPods);
+
+        return refresh(refreshedBrokers)
+                .map(ignore -> rollable(brokers, restartingPods))
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pods {}", brokers, error);
                     return Future.failedFuture(error);
                 });
+    }
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
-
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
-                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
-            }
-            return canRoll;
-        }).recover(error -> {
-            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
-            return Future.failedFuture(error);
-        });
+    /**
+     * Refreshes the index. The first call describes all topics. The following calls describe only the topics hosted by
+     * the given brokers and the topics which are not in the index yet. Topics which do not exist anymore are removed
+     * from the index. The min.insync.replicas is fetched only for the topics hosted by the given brokers for which it
+     * is not cached yet.
+     *
+     * @param brokers   Brokers whose topics should be refreshed
+     *
+     * @return  Future which completes when the index is refreshed
+     */
+    private Future<Void> refresh(Set<Integer> brokers) {
+        return topicNames()
+                .compose(names -> {
+                    LOGGER.traceCr(reconciliation, "Topic names {}", names);
+                    Set<String> toDescribe = topicsToDescribe(names, brokers);
+                    return toDescribe.isEmpty() ? Future.succeededFuture(List.<TopicDescription>of()) : describeTopics(toDescribe);
+                })
+                .compose(descriptions -> {
+                    Set<String> withoutMinIsr = index(descriptions, brokers);
+                    return withoutMinIsr.isEmpty() ? Future.succeededFuture(Map.<String, Config>of()) : topicConfigs(withoutMinIsr);
+                })
+                .map(topicNameToConfig -> {
+                    cacheMinIsrs(topicNameToConfig);
+                    return null;
+                });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
-        } else {
-            minIsr = -1;
-            LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+    private synchronized Set<String> topicsToDescribe(Set<String> names, Set<Integer> brokers) {
+        List<String> deletedTopics = topics.keySet().stream()
+                .filter(topic -> !names.contains(topic))
+                .collect(Collectors.toList());
+
+        for (String deleted : deletedTopics) {
+            unindex(topics.remove(deleted));
+            minIsrs.remove(deleted);
         }
 
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
-            if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
-                    }
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    if (LOGGER.isInfoEnabled()) {
-                        String msg;
-                        if (contains(isr, broker)) {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
-                                                          "so should not be restarted right now (it would impact consumers).";
-                        } else {
-                            msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} has a replica, " +
-                                                          "so should not be restarted right now (it might be first to catch up).";
-                        }
-                        LOGGER.infoCr(reconciliation, msg,
-                                td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+        if (!indexed) {
+            return names;
+        }
+
+        Set<String> toDescribe = names.stream()
+                .filter(topic -> !topics.containsKey(topic))
+                .collect(Collectors.toCollection(HashSet::new));
+
+        for (Integer broker : brokers) {
+            toDescribe.addAll(topicsByBroker.getOrDefault(broker, Set.of()));
+        }
+
+        LOGGER.debugCr(reconciliation, "Refreshing {} of {} topic descriptions", toDescribe.size(), names.size());
+        return toDescribe;
+    }
+
+    /**
+     * Adds the topic descriptions to the index
+     *
+     * @param descriptions  Topic descriptions
+     * @param brokers       Brokers which are being checked
+     *
+     * @return  Names of the topics hosted by the checked brokers which do not have their min.insync.replicas cached yet
+     */
+    private synchronized Set<String> index(Collection<TopicDescription> descriptions, Set<Integer> brokers) {
+        for (TopicDescription td : descriptions) {
+            LOGGER.traceCr(reconciliation, td);
+            unindex(topics.put(td.name(), td));
+
+            for (TopicPartitionInfo pi : td.partitions()) {
+                for (Node replica : pi.replicas()) {
+                    topicsByBroker.computeIfAbsent(replica.id(), id -> new HashSet<>()).add(td.name());
+                }
+            }
+        }
+
+        indexed = true;
+
+        return brokers.stream()
+                .flatMap(broker -> topicsByBroker.getOrDefault(broker, Set.of()).stream())
+                .filter(topic -> !minIsrs.containsKey(topic))
+                .collect(Collectors.toSet());
+    }
+
+    private void unindex(TopicDescription td) {
+        if (td != null) {
+            for (TopicPartitionInfo pi : td.partitions()) {
+                for (Node replica : pi.replicas()) {
+                    Set<String> brokerTopics = topicsByBroker.get(replica.id());
+
+                    if (brokerTopics != null) {
+                        brokerTopics.remove(td.name());
                     }
-                    return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        if (LOGGER.isInfoEnabled()) {
-                            LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                        }
-                        return true;
-                    } else {
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                    td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                    pi.replicas().size());
+                }
+            }
+        }
+    }
+
+    private synchronized void cacheMinIsrs(Map<String, Config> topicNameToConfig) {
+        for (Map.Entry<String, Config> entry : topicNameToConfig.entrySet()) {
+            ConfigEntry minIsrConfig = entry.getValue().get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+
+            if (minIsrConfig != null && minIsrConfig.value() != null) {
+                LOGGER.debugCr(reconciliation, "{} has {}={}.", entry.getKey(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsrConfig.value());
+                minIsrs.put(entry.getKey(), parseInt(minIsrConfig.value()));
+            } else {
+                LOGGER.debugCr(reconciliation, "{} lacks {}.", entry.getKey(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+                minIsrs.put(entry.getKey(), NO_MIN_ISR);
+            }
+        }
+    }
+
+    private synchronized Set<Integer> rollable(Set<Integer> brokers, Set<Integer> restartingPods) {
+        Set<Integer> rollable = new HashSet<>(brokers);
+        Set<String> brokerTopics = new HashSet<>();
+
+        for (Integer broker : brokers) {
+            brokerTopics.addAll(topicsByBroker.getOrDefault(broker, Set.of()));
+        }
+
+        for (String topic : brokerTopics) {
+            int minIsr = minIsrs.getOrDefault(topic, NO_MIN_ISR);
+
+            if (minIsr != NO_MIN_ISR) {
+                for (TopicPartitionInfo pi : topics.get(topic).partitions()) {
+                    for (Node replica : pi.replicas()) {
+                        if (rollable.contains(replica.id()) && wouldAffectAvailability(replica.id(), restartingPods, topic, minIsr, pi)) {
+                            rollable.remove(replica.id());
                         }
                     }
                 }
             }
         }
-        return false;
+
+        for (Integer broker : brokers) {
+            if (!rollable.contains(broker)) {
+                if (restartingPods.isEmpty()) {
+                    LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", broker);
+                } else {
+                    LOGGER.debugCr(reconciliation, "Restart pod {} together with pods {} would stall producers with acks=all", broker, restartingPods);
+                }
+            }
+        }
+
+        return rollable;
+    }
+
+    private boolean wouldAffectAvailability(int broker, Set<Integer> restartingPods, String topic, int minIsr, TopicPartitionInfo pi) {
+        List<Node> isr = pi.isr();
+
+        if (pi.replicas().size() <= minIsr) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debugCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted, but there are only {} replicas.",
+                        topic, pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                        pi.replicas().size());
+            }
+            return false;
+        }
+
+        long isrAfterRestart = isr.stream()
+                .filter(node -> node.id() != broker && !restartingPods.contains(node.id()))
+                .count();
+
+        if (isrAfterRestart >= minIsr) {
+            return false;
+        }
+
+        if (LOGGER.isInfoEnabled()) {
+            if (isr.size() < minIsr) {
+                String msg;
+                if (contains(isr, broker)) {
+                    msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} is in the ISR, " +
+                                                  "so should not be restarted right now (it would impact consumers).";
+                } else {
+                    msg = "{}/{} is already under-replicated (ISR={{}}, replicas=[{}], {}={}); broker {} has a replica, " +
+                                                  "so should not be restarted right now (it might be first to catch up).";
+                }
+                LOGGER.infoCr(reconciliation, msg,
+                        topic, pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+            } else if (restartingPods.isEmpty()) {
+                LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted.",
+                        topic, pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+            } else {
+                LOGGER.infoCr(reconciliation, "{}/{} will be under-replicated (ISR={{}}, replicas=[{}], {}={}) if broker {} is restarted together with brokers {}.",
+                        topic, pi.partition(), nodeList(isr), nodeList(pi.replicas()), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker, restartingPods);
+            }
+        }
+
+        return true;
     }
 
     private String nodeList(List<Node> isr) {
@@ -177,21 +329,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).all()
@@ -8,10 +8,9 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -43,6 +42,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaBrokerConfigurationDiff.class);
     private static final String PLACE_HOLDER = Pattern.quote("STRIMZI_BROKER_ID");
+    private static final Pattern PLACE_HOLDER_PATTERN = Pattern.compile("\\$\\{" + PLACE_HOLDER + "}");
 
     private final Reconciliation reconciliation;
     private final Collection<AlterConfigOp> diff;
@@ -77,8 +77,9 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
 
     private static void fillPlaceholderValue(Map<String, String> orderedProperties, String value) {
         orderedProperties.entrySet().forEach(entry -> {
-            String v = entry.getValue().replaceAll("\\$\\{" + PLACE_HOLDER + "}", value);
-            entry.setValue(v);
+            if (entry.getValue().contains("${")) {
+                entry.setValue(PLACE_HOLDER_PATTERN.matcher(entry.getValue()).replaceAll(value));
+            }
         });
     }
 
@@ -135,14 +136,15 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
+        Map<String, String> currentMap = new HashMap<>();
+        Map<String, ConfigEntry> currentEntries = new HashMap<>();
 
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
+        for (ConfigEntry configEntry : brokerConfigs.entries()) {
+            currentEntries.put(configEntry.name(), configEntry);
+            currentMap.put(configEntry.name(), configEntry.value() == null ? "null" : configEntry.value());
+        }
 
         OrderedProperties orderedProperties = new OrderedProperties();
         orderedProperties.addStringPairs(desired);
@@ -158,13 +160,10 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
             String pathValue = d.get("path").asText();
             String pathValueWithoutSlash = pathValue.substring(1);
 
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
+            ConfigEntry entry = currentEntries.get(pathValueWithoutSlash);
 
             String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
+            if (entry != null) {
                 if ("remove".equals(op)) {
                     removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry);
                 } else if ("replace".equals(op)) {
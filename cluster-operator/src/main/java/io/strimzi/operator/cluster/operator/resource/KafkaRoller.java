@@ -10,6 +10,7 @@ import java.net.Socket;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,6 +25,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -38,6 +40,7 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.AdminClientPool;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
@@ -101,6 +104,16 @@ import static java.util.Collections.singletonList;
  *     <li>even pods which aren't candidates for rolling are checked for readiness which partly avoids
  *     successive reconciliations each restarting a pod which never becomes ready</li>
  * </ul>
+ *
+ * <p>When more than one concurrent restart is allowed, several pods are considered at the same time. The ready pods
+ * are ordered by the rack of their brokers, so that brokers from the same rack (which with rack-aware replica
+ * assignment do not share any partitions) are considered together. A pod is restarted while other pods are being
+ * restarted only when {@link KafkaAvailability#canRollTogether(int, Set)} confirms that restarting all of them would
+ * not impact any topic's min.isr. The controller is never restarted together with other pods.</p>
+ *
+ * <p>Before any pod is considered, the configuration and logging configuration of all ready brokers is described in
+ * a single Admin API call and the restart plan of each of these pods is computed and logged. The first attempt to roll
+ * a pod uses this plan. Any following attempts compute the plan again from freshly described configuration.</p>
  */
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ParameterNumber"})
 public class KafkaRoller {
@@ -118,12 +131,24 @@ public class KafkaRoller {
     private final Supplier<BackOff> backoffSupplier;
     protected String namespace;
     private final AdminClientProvider adminClientProvider;
+    private final AdminClientProvider probeAdminClientProvider;
     private final String kafkaConfig;
     private final String kafkaLogging;
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final int maxConcurrentRestarts;
+    private final ScheduledExecutorService executor;
+    private final Set<Integer> restartingPods = new HashSet<>();
+    private volatile int knownController = -1;
+    private final AtomicInteger restartedPods = new AtomicInteger(0);
     private Admin allClient;
+    // Guarded by availabilityLock
+    private KafkaAvailability kafkaAvailability;
+    private final Object availabilityLock = new Object();
+    private final Map<ConfigResource, KafkaFuture<Config>> prefetchedConfigs = new ConcurrentHashMap<>();
+    private final Map<Integer, RestartPlan> initialPlans = new ConcurrentHashMap<>();
+    private volatile Map<Integer, RestartPlan> restartPlans = Map.of();
 
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -138,6 +163,16 @@ public class KafkaRoller {
                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, allowReconfiguration, 1);
+    }
+
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                       StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                       int maxConcurrentRestarts) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -149,11 +184,16 @@ public class KafkaRoller {
         this.podOperations = podOperations;
         this.pollingIntervalMs = pollingIntervalMs;
         this.adminClientProvider = adminClientProvider;
+        // The Admin clients connecting to a single broker are used only briefly, so they are not kept in the pool
+        this.probeAdminClientProvider = adminClientProvider instanceof AdminClientPool ? ((AdminClientPool) adminClientProvider).unpooled() : adminClientProvider;
         this.kafkaConfig = kafkaConfig;
         this.kafkaLogging = kafkaLogging;
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxConcurrentRestarts = maxConcurrentRestarts;
+        this.executor = Executors.newScheduledThreadPool(maxConcurrentRestarts,
+            runnable -> new Thread(runnable, "kafka-roller"));
     }
 
     /**
@@ -164,9 +204,6 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaCluster.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
-
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, List<String>> podNeedsRestart;
 
@@ -174,7 +211,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(IntStream.range(0, numPods).boxed().collect(Collectors.toList()), false);
@@ -196,21 +233,35 @@ public class KafkaRoller {
         this.podNeedsRestart = podNeedsRestart;
 
         Promise<Void> result = Promise.promise();
-        singleExecutor.submit(() -> {
+        executor.submit(() -> {
             List<Integer> podIds = new ArrayList<>(numPods);
+            Set<Integer> unreadyPodIds = new HashSet<>();
 
             for (int podId = 0; podId < numPods; podId++) {
                 // Order the podIds unready first otherwise repeated reconciliations might each restart a pod
                 // only for it not to become ready and thus drive the cluster to a worse state.
-                podIds.add(podOperations.isReady(namespace, podName(podId)) ? podIds.size() : 0, podId);
+                if (podOperations.isReady(namespace, podName(podId))) {
+                    podIds.add(podId);
+                } else {
+                    podIds.add(0, podId);
+                    unreadyPodIds.add(podId);
+                }
+            }
+
+            if (maxConcurrentRestarts > 1) {
+                // Group the ready pods by rack so that the pods considered at the same time are likely to share no partitions
+                Map<Integer, String> racks = brokerRacks();
+                podIds.sort(Comparator.comparing((Integer podId) -> !unreadyPodIds.contains(podId))
+                        .thenComparing(podId -> racks.getOrDefault(podId, "")));
             }
             LOGGER.debugCr(reconciliation, "Initial order for rolling restart {}", podIds);
+            planRollingRestart(podIds, unreadyPodIds);
             List<Future> futures = new ArrayList<>(numPods);
             for (Integer podId: podIds) {
                 futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
             }
             CompositeFuture.join(futures).onComplete(ar -> {
-                singleExecutor.shutdown();
+                executor.shutdown();
                 try {
                     if (allClient != null) {
                         allClient.close(Duration.ofSeconds(30));
@@ -224,6 +275,81 @@ public class KafkaRoller {
         return result.future();
     }
 
+    /**
+     * Computes the restart plans of the ready pods before any of them is rolled. The configuration and logging
+     * configuration of all these brokers are described with a single Admin API call. Pods for which the plan cannot be
+     * computed are skipped and their plan is computed when they are considered for the first time.
+     *
+     * @param podIds        The ids of all pods
+     * @param unreadyPodIds The ids of the pods which are not ready
+     */
+    private void planRollingRestart(List<Integer> podIds, Set<Integer> unreadyPodIds) {
+        if (!initAdminClient()) {
+            return;
+        }
+
+        // Created before the pods are dispatched to the parallel threads which check whether they can be rolled
+        kafkaAvailability();
+
+        List<Integer> readyPodIds = podIds.stream()
+                .filter(podId -> !unreadyPodIds.contains(podId))
+                .collect(Collectors.toList());
+        prefetchBrokerConfigs(readyPodIds);
+
+        try {
+            for (Integer podId : readyPodIds) {
+                RestartContext ctx = podToContext.computeIfAbsent(podId, k -> new RestartContext(backoffSupplier));
+
+                try {
+                    Pod pod = podOperations.get(namespace, KafkaCluster.kafkaPodName(cluster, podId));
+                    initialPlans.put(podId, restartPlan(podId, pod, ctx));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    LOGGER.debugCr(reconciliation, "Could not plan the restart of pod {} in advance", podId, e);
+                }
+            }
+        } finally {
+            // The configurations which were not used are dropped, so that later attempts describe the current ones
+            prefetchedConfigs.clear();
+        }
+
+        restartPlans = Map.copyOf(initialPlans);
+        LOGGER.infoCr(reconciliation, "Rolling restart plan {}", restartPlans);
+    }
+
+    /**
+     * Describes the configuration of the given brokers with a single Admin API call. The results are used by the
+     * following calls to {@link #brokerConfig(int)} and {@link #brokerLogging(int)}.
+     *
+     * @param podIds    The ids of the brokers
+     */
+    private void prefetchBrokerConfigs(List<Integer> podIds) {
+        List<ConfigResource> resources = new ArrayList<>(2 * podIds.size());
+        for (Integer podId : podIds) {
+            resources.add(Util.getBrokersConfig(podId));
+            if (allowReconfiguration) {
+                resources.add(Util.getBrokersLogging(podId));
+            }
+        }
+
+        if (!resources.isEmpty()) {
+            try {
+                prefetchedConfigs.putAll(allClient.describeConfigs(resources).values());
+            } catch (RuntimeException e) {
+                LOGGER.debugCr(reconciliation, "Failed to describe the configuration of brokers {}, they will be described one by one", podIds, e);
+            }
+        }
+    }
+
+    /**
+     * @return  The restart plans computed for the pods before the rolling restart started
+     */
+    /*test*/ Map<Integer, RestartPlan> restartPlans() {
+        return restartPlans;
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -262,7 +388,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * At most {@code maxConcurrentRestarts} pods will be rolled at a time so the delay may be overrun.
      * @param podId The pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -271,7 +397,7 @@ public class KafkaRoller {
     private Future<Void> schedule(int podId, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podId,
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             LOGGER.debugCr(reconciliation, "Considering restart of pod {} after delay of {} {}", podId, delay, unit);
             try {
                 restartIfNecessary(podId, ctx);
@@ -283,7 +409,7 @@ public class KafkaRoller {
                 LOGGER.infoCr(reconciliation, "Could not restart pod {}, giving up after {} attempts. Total delay between attempts {}ms",
                         podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -328,6 +454,23 @@ public class KafkaRoller {
             this.diff = null;
             this.logDiff = null;
         }
+
+        boolean needsRestart() {
+            return needsRestart;
+        }
+
+        @Override
+        public String toString() {
+            if (forceRestart) {
+                return "force-restart";
+            } else if (needsRestart) {
+                return "restart";
+            } else if (needsReconfig) {
+                return "reconfigure";
+            } else {
+                return "none";
+            }
+        }
     }
 
     /**
@@ -351,19 +494,27 @@ public class KafkaRoller {
         }
 
         try {
-            RestartPlan restartPlan = restartPlan(podId, pod, restartContext);
+            // The plan computed before the rolling restart started is used only for the first attempt
+            RestartPlan restartPlan = initialPlans.remove(podId);
+            if (restartPlan == null) {
+                restartPlan = restartPlan(podId, pod, restartContext);
+            }
             if (restartPlan.forceRestart || restartPlan.needsRestart || restartPlan.needsReconfig) {
                 if (!restartPlan.forceRestart && deferController(podId, restartContext)) {
                     LOGGER.debugCr(reconciliation, "Pod {} is controller and there are other pods to roll", podId);
                     throw new ForceableProblem("Pod " + podName(podId) + " is currently the controller and there are other pods still to roll");
                 } else {
-                    if (restartPlan.forceRestart || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
-                        // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
-                        if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
-                            LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", podId);
-                            restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
-                        } else {
-                            awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    if (acquireRestartSlot(podId, restartPlan.forceRestart, false)) {
+                        try {
+                            // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
+                            if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
+                                LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", podId);
+                                restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            } else {
+                                awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                            }
+                        } finally {
+                            releaseRestartSlot(podId);
                         }
                     } else {
                         LOGGER.debugCr(reconciliation, "Pod {} cannot be rolled right now", podId);
@@ -381,9 +532,13 @@ public class KafkaRoller {
             }
         } catch (ForceableProblem e) {
             if (isPodStuck(pod) || restartContext.backOff.done() || e.forceNow) {
-                if (canRoll(podId, 60_000, TimeUnit.MILLISECONDS, true)) {
-                    LOGGER.warnCr(reconciliation, "Pod {} will be force-rolled, due to error: {}", podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
-                    restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                if (acquireRestartSlot(podId, false, true)) {
+                    try {
+                        LOGGER.warnCr(reconciliation, "Pod {} will be force-rolled, due to error: {}", podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                        restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                    } finally {
+                        releaseRestartSlot(podId);
+                    }
                 } else {
                     LOGGER.warnCr(reconciliation, "Pod {} can't be safely force-rolled; original error: ", podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
                     throw e;
@@ -516,7 +671,7 @@ public class KafkaRoller {
      */
     protected Config brokerConfig(int brokerId) throws ForceableProblem, InterruptedException {
         ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
-        return await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeConfigs(singletonList(resource)).values().get(resource)),
+        return await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, describeConfig(resource)),
             30, TimeUnit.SECONDS,
             error -> new ForceableProblem("Error getting broker config", error)
         );
@@ -529,12 +684,24 @@ public class KafkaRoller {
      */
     protected Config brokerLogging(int brokerId) throws ForceableProblem, InterruptedException {
         ConfigResource resource = Util.getBrokersLogging(brokerId);
-        return await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeConfigs(singletonList(resource)).values().get(resource)),
+        return await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, describeConfig(resource)),
                 30, TimeUnit.SECONDS,
             error -> new ForceableProblem("Error getting broker logging", error)
         );
     }
 
+    /**
+     * Returns the prefetched configuration of the given resource if there is one. Otherwise describes it.
+     *
+     * @param resource  The config resource
+     *
+     * @return  KafkaFuture which completes with the configuration
+     */
+    private KafkaFuture<Config> describeConfig(ConfigResource resource) {
+        KafkaFuture<Config> prefetched = prefetchedConfigs.remove(resource);
+        return prefetched != null ? prefetched : allClient.describeConfigs(singletonList(resource)).values().get(resource);
+    }
+
     protected void dynamicUpdateBrokerConfig(int podId, Admin ac, KafkaBrokerConfigurationDiff configurationDiff, KafkaBrokerLoggingConfigurationDiff logDiff)
             throws ForceableProblem, InterruptedException {
         Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(2);
@@ -610,10 +777,118 @@ public class KafkaRoller {
         }
     }
 
-    private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
+    /**
+     * Waits until the given pod can be restarted and marks it as being restarted. While no other pod is being
+     * restarted, this only checks that the pod itself can be rolled. While other pods are being restarted, the pod has
+     * to wait until there is a free slot, until neither the pod nor any of the restarting pods is the controller and
+     * until the pod can be rolled together with the restarting pods. The slot has to be released using
+     * {@link #releaseRestartSlot(int)} once the pod is restarted.
+     *
+     * @param podId             The pod which should be restarted
+     * @param force             If true, the pod is restarted without checking whether it can be rolled. It still
+     *                          waits for all other restarts to finish.
+     * @param ignoreSslError    If true, SSL errors while checking whether the pod can be rolled are ignored
+     *
+     * @return  True if the pod can be restarted now. False if it cannot be rolled even on its own or if it did not
+     *          get a slot within the operation timeout.
+     */
+    private boolean acquireRestartSlot(int podId, boolean force, boolean ignoreSslError)
+            throws ForceableProblem, InterruptedException {
+        long deadline = System.currentTimeMillis() + operationTimeoutMs;
+
+        while (true) {
+            Set<Integer> restarting;
+
+            synchronized (restartingPods) {
+                restarting = Set.copyOf(restartingPods);
+            }
+
+            // The check can take long, so it is done without holding the lock to not block the other pods from
+            // releasing their slots. The slot is claimed only if the restarting pods did not change meanwhile.
+            if (restarting.isEmpty()) {
+                if (!force && !canRoll(podId, Set.of(), 60_000, TimeUnit.MILLISECONDS, ignoreSslError)) {
+                    return false;
+                } else if (claimRestartSlot(podId, restarting)) {
+                    return true;
+                }
+            } else if (!force
+                    && restarting.size() < maxConcurrentRestarts
+                    && podId != knownController
+                    && !restarting.contains(knownController)
+                    && canRoll(podId, restarting, 60_000, TimeUnit.MILLISECONDS, ignoreSslError)) {
+                if (claimRestartSlot(podId, restarting)) {
+                    LOGGER.debugCr(reconciliation, "Pod {} will be rolled together with pods {}", podId, restarting);
+                    return true;
+                }
+            } else {
+                synchronized (restartingPods) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        LOGGER.debugCr(reconciliation, "Pod {} did not get a chance to be rolled while pods {} were being rolled", podId, restartingPods);
+                        return false;
+                    }
+
+                    if (restartingPods.equals(restarting)) {
+                        LOGGER.debugCr(reconciliation, "Pod {} is waiting for the restart of pods {}", podId, restartingPods);
+                        restartingPods.wait(remaining);
+                    }
+                }
+
+                continue;
+            }
+
+            LOGGER.debugCr(reconciliation, "Pods being restarted changed while checking whether pod {} can be rolled, checking again", podId);
+
+            if (System.currentTimeMillis() >= deadline) {
+                LOGGER.debugCr(reconciliation, "Pod {} did not get a chance to be rolled while pods {} were being rolled", podId, restarting);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Marks the pod as being restarted if the restarting pods did not change since they were checked
+     *
+     * @param podId         The pod which should be restarted
+     * @param restarting    The restarting pods for which the pod was checked
+     *
+     * @return  True if the pod was marked as being restarted. False if the restarting pods changed.
+     */
+    private boolean claimRestartSlot(int podId, Set<Integer> restarting) {
+        synchronized (restartingPods) {
+            if (restartingPods.equals(restarting)) {
+                restartingPods.add(podId);
+                return true;
+            } else {
+                return false;
+            }
+        }
+    }
+
+    private void releaseRestartSlot(int podId) {
+        synchronized (restartingPods) {
+            restartingPods.remove(podId);
+            restartingPods.notifyAll();
+        }
+    }
+
+    /**
+     * @return  The KafkaAvailability used for the whole rolling restart, so that it can cache the topic metadata
+     */
+    private KafkaAvailability kafkaAvailability() {
+        synchronized (availabilityLock) {
+            if (kafkaAvailability == null) {
+                kafkaAvailability = availability(allClient);
+            }
+
+            return kafkaAvailability;
+        }
+    }
+
+    private boolean canRoll(int podId, Set<Integer> rollingTogether, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            return await(kafkaAvailability().canRollTogether(podId, rollingTogether), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -637,6 +912,7 @@ public class KafkaRoller {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Rolling pod {}", podName);
         await(restart(pod), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
+        restartedPods.incrementAndGet();
         awaitReadiness(pod, timeout, unit);
     }
 
@@ -698,7 +974,8 @@ public class KafkaRoller {
         try {
             String bootstrapHostnames = podNames.stream().map(podName -> KafkaCluster.podDnsName(this.namespace, this.cluster, podName) + ":" + KafkaCluster.REPLICATION_PORT).collect(Collectors.joining(","));
             LOGGER.debugCr(reconciliation, "Creating AdminClient for {}", bootstrapHostnames);
-            return adminClientProvider.createAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator");
+            AdminClientProvider provider = bootstrapPods.size() < numPods ? probeAdminClientProvider : adminClientProvider;
+            return provider.createAdminClient(bootstrapHostnames, this.clusterCaCertSecret, this.coKeySecret, "cluster-operator");
         } catch (KafkaException e) {
             if (ceShouldBeFatal && (e instanceof ConfigException
                     || e.getCause() instanceof ConfigException)) {
@@ -711,10 +988,45 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Returns the racks of the brokers as reported by the cluster. Brokers without a rack are not included. This is
+     * used only to order the pods and any errors are ignored.
+     *
+     * @return  Map with broker IDs as keys and their racks as values
+     */
+    protected Map<Integer, String> brokerRacks() {
+        if (!initAdminClient()) {
+            return Map.of();
+        }
+
+        try {
+            Collection<Node> nodes = await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeCluster().nodes()),
+                30, TimeUnit.SECONDS,
+                error -> new ForceableProblem("Error getting broker racks", error));
+
+            return nodes.stream()
+                    .filter(node -> node.rack() != null)
+                    .collect(Collectors.toMap(Node::id, Node::rack));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Map.of();
+        } catch (Exception e) {
+            LOGGER.debugCr(reconciliation, "Failed to get broker racks, pods will not be ordered by rack", e);
+            return Map.of();
+        }
+    }
+
     protected KafkaAvailability availability(Admin ac) {
         return new KafkaAvailability(reconciliation, ac);
     }
 
+    /**
+     * @return  Number of pods restarted so far by this roller
+     */
+    public int restartedPods() {
+        return restartedPods.get();
+    }
+
     String podName(int podId) {
         return KafkaCluster.kafkaPodName(this.cluster, podId);
     }
@@ -725,6 +1037,7 @@ public class KafkaRoller {
      */
     private boolean deferController(int podId, RestartContext restartContext) throws Exception {
         Integer controller = controller(podId, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
+        knownController = controller;
         int stillRunning = podToContext.reduceValuesToInt(100, v -> v.promise.future().isComplete() ? 0 : 1,
                 0, Integer::sum);
         return controller == podId && stillRunning > 1;
@@ -23,11 +23,15 @@ import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.api.kafka.model.KafkaRebalance;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.FeatureGates;
+import io.strimzi.operator.common.AdminClientPool;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.CertificateStoreCache;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -52,6 +56,12 @@ import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 // Deprecation is suppressed because of KafkaMirrorMaker
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
 public class ResourceOperatorSupplier {
@@ -89,13 +99,23 @@ public class ResourceOperatorSupplier {
     public final ZookeeperLeaderFinder zookeeperLeaderFinder;
 
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
+        this(vertx, client, new MicrometerMetricsProvider(), pfa, gates, operationTimeoutMs);
+    }
+
+    private ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
+        // The truststores and keystores built from the certificate Secrets are shared by the ZooKeeper clients
+        this(vertx, client, metricsProvider, new CertificateStoreCache(), pfa, gates, operationTimeoutMs);
+    }
+
+    private ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, CertificateStoreCache certificateStores, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
         this(vertx, client,
             new ZookeeperLeaderFinder(vertx,
             // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
-                () -> new BackOff(5_000, 2, 4)),
-                    new DefaultAdminClientProvider(),
-                    new DefaultZookeeperScalerProvider(),
-                    new MicrometerMetricsProvider(),
+                () -> new BackOff(5_000, 2, 4), certificateStores),
+                    // Admin clients are kept open and reused by the following reconciliations of the same cluster
+                    new AdminClientPool(new DefaultAdminClientProvider(), metricsProvider, AdminClientPool.DEFAULT_IDLE_TIMEOUT_MS),
+                    new DefaultZookeeperScalerProvider(certificateStores),
+                    metricsProvider,
                     pfa, gates, operationTimeoutMs);
     }
 
@@ -134,6 +154,21 @@ public class ResourceOperatorSupplier {
                 metricsProvider,
                 adminClientProvider,
                 zlf);
+
+        if (gates.useServerSideApplyEnabled()) {
+            for (AbstractResourceOperator<?, ?, ?, ?> operator : serverSideApplyOperators()) {
+                operator.setServerSideApply(true);
+            }
+        }
+
+        if (metricsProvider != null) {
+            for (AbstractResourceOperator<?, ?, ?, ?> operator : Arrays.asList(podOperations, stsOperations, deploymentOperations,
+                    routeOperations, ingressOperations, ingressV1Beta1Operations, buildOperations)) {
+                if (operator != null) {
+                    operator.enableWaitMetrics(metricsProvider);
+                }
+            }
+        }
     }
 
     public ResourceOperatorSupplier(ServiceOperator serviceOperations,
@@ -201,4 +236,87 @@ public class ResourceOperatorSupplier {
         this.adminClientProvider = adminClientProvider;
         this.zookeeperLeaderFinder = zookeeperLeaderFinder;
     }
+
+    /**
+     * Enables the informer based read caches of the resource operators for given namespace. Only resources belonging to
+     * a Strimzi cluster (with the strimzi.io/cluster label) are cached. This is the label on which the assembly operators
+     * select when listing the resources, so these lists are served from the cache. Reads of other resources (such as user
+     * provided Secrets or ConfigMaps) are still sent to the Kubernetes API server.
+     *
+     * @param namespace     Namespace for which the caches should be enabled
+     * @param gates         Feature gates configuration
+     */
+    public void enableInformerCaches(String namespace, FeatureGates gates) {
+        for (AbstractResourceOperator<?, ?, ?, ?> operator : cachedOperators(gates)) {
+            operator.enableCache(namespace, Map.of(), Set.of(Labels.STRIMZI_CLUSTER_LABEL), metricsProvider);
+        }
+    }
+
+    /**
+     * Disables the informer based read caches of the resource operators for given namespace.
+     *
+     * @param namespace     Namespace for which the caches should be disabled
+     * @param gates         Feature gates configuration
+     */
+    public void disableInformerCaches(String namespace, FeatureGates gates) {
+        for (AbstractResourceOperator<?, ?, ?, ?> operator : cachedOperators(gates)) {
+            operator.disableCache(namespace);
+        }
+    }
+
+    /**
+     * Closes the pooled Admin clients which were not used for longer than the idle timeout. It does nothing when the
+     * Admin clients are not pooled. Closing the Admin clients blocks, so this should not be called on the event loop.
+     */
+    public void evictIdleAdminClients() {
+        if (adminClientProvider instanceof AdminClientPool) {
+            ((AdminClientPool) adminClientProvider).evictIdle();
+        }
+    }
+
+    /**
+     * Closes all pooled Admin clients. The Admin clients which are in use are closed when they are returned to the pool.
+     * It does nothing when the Admin clients are not pooled. Closing the Admin clients blocks, so this should not be
+     * called on the event loop.
+     */
+    public void closeAdminClients() {
+        if (adminClientProvider instanceof AdminClientPool) {
+            ((AdminClientPool) adminClientProvider).closeAll();
+        }
+    }
+
+    /**
+     * @return  List of resource operators which use server-side apply when the UseServerSideApply feature gate is
+     *          enabled. These are the operators for the resources which are large or updated often.
+     */
+    /* test */ List<AbstractResourceOperator<?, ?, ?, ?>> serverSideApplyOperators() {
+        return List.of(
+                configMapOperations,
+                secretOperations,
+                stsOperations,
+                deploymentOperations,
+                strimziPodSetOperator);
+    }
+
+    private List<AbstractResourceOperator<?, ?, ?, ?>> cachedOperators(FeatureGates gates) {
+        List<AbstractResourceOperator<?, ?, ?, ?>> operators = new ArrayList<>(List.of(
+                secretOperations,
+                configMapOperations,
+                serviceOperations,
+                serviceAccountOperations,
+                podOperations,
+                pvcOperations,
+                stsOperations,
+                deploymentOperations,
+                networkPolicyOperator,
+                podDisruptionBudgetOperator,
+                roleBindingOperations,
+                roleOperations));
+
+        if (gates.useStrimziPodSetsEnabled()) {
+            operators.add(strimziPodSetOperator);
+        }
+
+        return operators;
+    }
 }
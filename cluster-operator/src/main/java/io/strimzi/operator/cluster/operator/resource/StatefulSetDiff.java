@@ -5,14 +5,16 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.AbstractJsonDiff;
+import io.strimzi.operator.common.operator.resource.IgnorablePaths;
+import io.strimzi.operator.common.operator.resource.StructuralDiff;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -25,7 +27,7 @@ public class StatefulSetDiff extends AbstractJsonDiff {
 
     private static final String SHORTENED_STRIMZI_DOMAIN = Annotations.STRIMZI_DOMAIN.substring(0, Annotations.STRIMZI_DOMAIN.length() - 1);
 
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
+    /* test */ static final Pattern IGNORABLE_PATHS = Pattern.compile(
         "^(/metadata/managedFields"
         + "|/spec/revisionHistoryLimit"
         + "|/spec/template/metadata/annotations/" + SHORTENED_STRIMZI_DOMAIN + "~1generation"
@@ -53,6 +55,7 @@ public class StatefulSetDiff extends AbstractJsonDiff {
         + "|/spec/volumeClaimTemplates/[0-9]+/spec/dataSource"
         + "|/spec/template/spec/serviceAccount"
         + "|/status)$");
+    private static final IgnorablePaths IGNORABLE_PATH_TRIE = IgnorablePaths.compile(IGNORABLE_PATHS);
 
     private static final Pattern RESOURCE_PATH = Pattern.compile("^/spec/template/spec/(?:initContainers|containers)/[0-9]+/resources/(?:limits|requests)/(memory|cpu)$");
     private static final Pattern VOLUME_SIZE = Pattern.compile("^/spec/volumeClaimTemplates/[0-9]+/spec/resources/.*$");
@@ -62,50 +65,87 @@ public class StatefulSetDiff extends AbstractJsonDiff {
                 || pathValue.startsWith(path + "/");
     }
 
-    private final boolean changesVolumeClaimTemplate;
-    private final boolean changesVolumeSize;
-    private final boolean isEmpty;
-    private final boolean changesSpecTemplate;
-    private final boolean changesLabels;
-    private final boolean changesSpecReplicas;
+    private boolean isEmpty = true;
+    private boolean changesVolumeClaimTemplate = false;
+    private boolean changesVolumeSize = false;
+    private boolean changesSpecTemplate = false;
+    private boolean changesLabels = false;
+    private boolean changesSpecReplicas = false;
 
     public StatefulSetDiff(Reconciliation reconciliation, StatefulSet current, StatefulSet desired) {
-        JsonNode source = patchMapper().valueToTree(current);
-        JsonNode target = patchMapper().valueToTree(desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-        int num = 0;
-        boolean changesVolumeClaimTemplate = false;
-        boolean changesVolumeSize = false;
-        boolean changesSpecTemplate = false;
-        boolean changesLabels = false;
-        boolean changesSpecReplicas = false;
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
+        // All differences are needed to find out what has changed, so the diff never stops early
+        this(reconciliation, current, patchMapper().valueToTree(current), patchMapper().valueToTree(desired), false);
+    }
+
+    /**
+     * Diffs only the parts of the StatefulSets which decide whether the pods need a rolling update and whether the
+     * StatefulSet needs to be re-created: the labels, the pod template and the volume claim templates. The diff stops
+     * as soon as both are known. This is used with server-side apply, where the API server finds out what else changed.
+     * So {@link #isEmpty()} and {@link #changesSpecReplicas()} consider only these parts as well.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param current           Current StatefulSet
+     * @param desired           Desired StatefulSet
+     *
+     * @return  The diff of the labels, pod templates and volume claim templates
+     */
+    public static StatefulSetDiff rollingUpdateDiff(Reconciliation reconciliation, StatefulSet current, StatefulSet desired) {
+        return new StatefulSetDiff(reconciliation, current, rollingUpdateParts(current), rollingUpdateParts(desired), true);
+    }
+
+    /**
+     * @return  Tree with only the labels, the pod template and the volume claim templates at the same paths as in the
+     *          full StatefulSet
+     */
+    private static JsonNode rollingUpdateParts(StatefulSet sts) {
+        ObjectNode parts = patchMapper().createObjectNode();
+
+        if (sts.getMetadata() != null && sts.getMetadata().getLabels() != null && !sts.getMetadata().getLabels().isEmpty()) {
+            parts.putObject("metadata").set("labels", patchMapper().valueToTree(sts.getMetadata().getLabels()));
+        }
+
+        if (sts.getSpec() != null) {
+            ObjectNode spec = parts.putObject("spec");
+
+            if (sts.getSpec().getTemplate() != null) {
+                spec.set("template", patchMapper().valueToTree(sts.getSpec().getTemplate()));
+            }
+
+            if (sts.getSpec().getVolumeClaimTemplates() != null && !sts.getSpec().getVolumeClaimTemplates().isEmpty()) {
+                spec.set("volumeClaimTemplates", patchMapper().valueToTree(sts.getSpec().getVolumeClaimTemplates()));
+            }
+        }
+
+        return parts;
+    }
+
+    private StatefulSetDiff(Reconciliation reconciliation, StatefulSet current, JsonNode source, JsonNode target, boolean stopWhenDecided) {
+        StructuralDiff.diff(source, target, IGNORABLE_PATH_TRIE, (operation, pathValue, sourceValue, targetValue, ignorable) -> {
+            if (ignorable) {
                 ObjectMeta md = current.getMetadata();
-                LOGGER.debugCr(reconciliation, "StatefulSet {}/{} ignoring diff {}", md.getNamespace(), md.getName(), d);
-                continue;
+                LOGGER.debugCr(reconciliation, "StatefulSet {}/{} ignoring diff {} {}", md.getNamespace(), md.getName(), operation, pathValue);
+                return true;
             }
             Matcher resourceMatchers = RESOURCE_PATH.matcher(pathValue);
             if (resourceMatchers.matches()) {
-                if ("replace".equals(d.path("op").asText())) {
+                if (operation == StructuralDiff.Operation.REPLACE) {
                     boolean same = compareMemoryAndCpuResources(source, target, pathValue, resourceMatchers);
                     if (same) {
                         ObjectMeta md = current.getMetadata();
-                        LOGGER.debugCr(reconciliation, "StatefulSet {}/{} ignoring diff {}", md.getNamespace(), md.getName(), d);
-                        continue;
+                        LOGGER.debugCr(reconciliation, "StatefulSet {}/{} ignoring diff {} {}", md.getNamespace(), md.getName(), operation, pathValue);
+                        return true;
                     }
                 }
             }
 
             if (LOGGER.isDebugEnabled()) {
                 ObjectMeta md = current.getMetadata();
-                LOGGER.debugCr(reconciliation, "StatefulSet {}/{} differs: {}", md.getNamespace(), md.getName(), d);
+                LOGGER.debugCr(reconciliation, "StatefulSet {}/{} differs: {} {}", md.getNamespace(), md.getName(), operation, pathValue);
                 LOGGER.debugCr(reconciliation, "Current StatefulSet path {} has value {}", pathValue, lookupPath(source, pathValue));
                 LOGGER.debugCr(reconciliation, "Desired StatefulSet path {} has value {}", pathValue, lookupPath(target, pathValue));
             }
 
-            num++;
+            isEmpty = false;
             // Any volume claim template changes apart from size change should trigger rolling update
             // Size changes should not trigger rolling update. Therefore we need to separate these two in the diff.
             changesVolumeClaimTemplate |= equalsOrPrefix("/spec/volumeClaimTemplates", pathValue) && !VOLUME_SIZE.matcher(pathValue).matches();
@@ -115,13 +155,12 @@ public class StatefulSetDiff extends AbstractJsonDiff {
             changesSpecTemplate |= equalsOrPrefix("/spec/template", pathValue);
             changesLabels |= equalsOrPrefix("/metadata/labels", pathValue);
             changesSpecReplicas |= equalsOrPrefix("/spec/replicas", pathValue);
-        }
-        this.isEmpty = num == 0;
-        this.changesLabels = changesLabels;
-        this.changesSpecReplicas = changesSpecReplicas;
-        this.changesSpecTemplate = changesSpecTemplate;
-        this.changesVolumeClaimTemplate = changesVolumeClaimTemplate;
-        this.changesVolumeSize = changesVolumeSize;
+
+            // A volume claim template change needs both rolling update and re-creation. A volume size change with any
+            // other rolling update change as well.
+            boolean decided = changesVolumeClaimTemplate || (changesVolumeSize && (changesSpecTemplate || changesLabels));
+            return !stopWhenDecided || !decided;
+        });
     }
 
     private boolean isVolumeSizeChanged(String pathValue, JsonNode source, JsonNode target) {
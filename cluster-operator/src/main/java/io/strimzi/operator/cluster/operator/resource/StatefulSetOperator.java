@@ -199,7 +199,11 @@ public class StatefulSetOperator extends AbstractScalableResourceOperator<Kubern
      */
     @Override
     protected Future<ReconcileResult<StatefulSet>> internalPatch(Reconciliation reconciliation, String namespace, String name, StatefulSet current, StatefulSet desired) {
-        StatefulSetDiff diff = new StatefulSetDiff(reconciliation, current, desired);
+        // With server-side apply, the API server finds out what changed. Only the changes deciding about the rolling
+        // update and about re-creating the StatefulSet are needed here.
+        StatefulSetDiff diff = isServerSideApply()
+                ? StatefulSetDiff.rollingUpdateDiff(reconciliation, current, desired)
+                : new StatefulSetDiff(reconciliation, current, desired);
 
         if (shouldIncrementGeneration(reconciliation, diff)) {
             incrementGeneration(current, desired);
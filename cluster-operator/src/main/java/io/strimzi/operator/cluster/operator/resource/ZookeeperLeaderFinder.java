@@ -5,28 +5,22 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.Secret;
-import io.strimzi.certs.CertAndKey;
-import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.CertificateStoreCache;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
-import io.strimzi.operator.common.Util;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.KeyCertOptions;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
-import io.vertx.core.net.PemKeyCertOptions;
-import io.vertx.core.net.PemTrustOptions;
+import io.vertx.core.net.TrustOptions;
 
-import java.io.ByteArrayInputStream;
-import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
-import java.util.Base64;
-import java.util.Map;
+import javax.net.ssl.X509KeyManager;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -44,10 +38,16 @@ public class ZookeeperLeaderFinder {
 
     private final Vertx vertx;
     private final Supplier<BackOff> backOffSupplier;
+    private final CertificateStoreCache certificateStores;
 
     public ZookeeperLeaderFinder(Vertx vertx, Supplier<BackOff> backOffSupplier) {
+        this(vertx, backOffSupplier, new CertificateStoreCache());
+    }
+
+    public ZookeeperLeaderFinder(Vertx vertx, Supplier<BackOff> backOffSupplier, CertificateStoreCache certificateStores) {
         this.vertx = vertx;
         this.backOffSupplier = backOffSupplier;
+        this.certificateStores = certificateStores;
     }
 
     /*test*/ NetClientOptions clientOptions(Reconciliation reconciliation, Secret coCertKeySecret, Secret clusterCaCertificateSecret) {
@@ -55,71 +55,35 @@ public class ZookeeperLeaderFinder {
                 .setConnectTimeout(10_000)
                 .setSsl(true)
                 .setHostnameVerificationAlgorithm("HTTPS")
-                .setPemKeyCertOptions(keyCertOptions(coCertKeySecret))
-                .setPemTrustOptions(trustOptions(reconciliation, clusterCaCertificateSecret));
-    }
-
-    private CertificateFactory x509Factory() {
-        CertificateFactory x509;
-        try {
-            x509 = CertificateFactory.getInstance("X.509");
-        } catch (CertificateException e) {
-            throw new RuntimeException("No security provider supports X.509");
-        }
-        return x509;
+                .setKeyCertOptions(keyCertOptions(coCertKeySecret))
+                .setTrustOptions(trustOptions(reconciliation, clusterCaCertificateSecret));
     }
 
     /**
      * Validate the cluster CA certificate(s) passed in the given Secret
-     * and return the PemTrustOptions for trusting them.
+     * and return the TrustOptions for trusting them. The truststore is built only
+     * once for every version of the Secret.
      */
-    protected PemTrustOptions trustOptions(Reconciliation reconciliation, Secret clusterCaCertificateSecret) {
-        Base64.Decoder decoder = Base64.getDecoder();
-        CertificateFactory x509 = x509Factory();
-        PemTrustOptions pto = new PemTrustOptions();
-        for (Map.Entry<String, String> entry : clusterCaCertificateSecret.getData().entrySet()) {
-            String entryName = entry.getKey();
-            if (entryName.endsWith(".crt")) {
-                LOGGER.debugCr(reconciliation, "Trusting certificate {} from Secret {}", entryName, clusterCaCertificateSecret.getMetadata().getName());
-                byte[] certBytes = decoder.decode(entry.getValue());
-                try {
-                    x509.generateCertificate(new ByteArrayInputStream(certBytes));
-                } catch (CertificateException e) {
-                    throw corruptCertificate(clusterCaCertificateSecret, entryName, e);
-                }
-                pto.addCertValue(Buffer.buffer(certBytes));
-            } else {
-                LOGGER.debugCr(reconciliation, "Ignoring non-certificate {} in Secret {}", entryName, clusterCaCertificateSecret.getMetadata().getName());
-            }
-        }
-        return pto;
-    }
-
-    private RuntimeException corruptCertificate(Secret secret, String certKey, CertificateException e) {
-        return new RuntimeException("Bad/corrupt certificate found in data." + certKey.replace(".", "\\.") + " of Secret "
-                + secret.getMetadata().getName() + " in namespace " + secret.getMetadata().getNamespace(), e);
+    protected TrustOptions trustOptions(Reconciliation reconciliation, Secret clusterCaCertificateSecret) {
+        LOGGER.debugCr(reconciliation, "Trusting certificates from Secret {}", clusterCaCertificateSecret.getMetadata().getName());
+        return TrustOptions.wrap(certificateStores.trustStore(clusterCaCertificateSecret).trustManagers()[0]);
     }
 
     /**
      * Validate the CO certificate and key passed in the given Secret
-     * and return the PemKeyCertOptions for using it for TLS authentication.
+     * and return the KeyCertOptions for using it for TLS authentication. The
+     * keystore is loaded only once for every version of the Secret.
      */
-    protected PemKeyCertOptions keyCertOptions(Secret coCertKeySecret) {
-        CertAndKey coCertKey = Ca.asCertAndKey(coCertKeySecret,
-                                            "cluster-operator.key", "cluster-operator.crt",
-                                        "cluster-operator.p12", "cluster-operator.password");
-        if (coCertKey == null) {
-            throw Util.missingSecretException(coCertKeySecret.getMetadata().getNamespace(), coCertKeySecret.getMetadata().getName());
-        }
-        CertificateFactory x509 = x509Factory();
-        try {
-            x509.generateCertificate(new ByteArrayInputStream(coCertKey.cert()));
-        } catch (CertificateException e) {
-            throw corruptCertificate(coCertKeySecret, "cluster-operator.crt", e);
+    protected KeyCertOptions keyCertOptions(Secret coCertKeySecret) {
+        if (coCertKeySecret.getData() != null) {
+            for (String key : List.of("cluster-operator.key", "cluster-operator.crt")) {
+                if (!coCertKeySecret.getData().containsKey(key)) {
+                    throw new RuntimeException("The Secret " + coCertKeySecret.getMetadata().getNamespace() + "/" + coCertKeySecret.getMetadata().getName() + " is missing the key " + key);
+                }
+            }
         }
-        return new PemKeyCertOptions()
-                .setCertValue(Buffer.buffer(coCertKey.cert()))
-                .setKeyValue(Buffer.buffer(coCertKey.key()));
+
+        return KeyCertOptions.wrap((X509KeyManager) certificateStores.keyStore(coCertKeySecret, "cluster-operator").keyManagers()[0]);
     }
 
     /**
@@ -5,9 +5,8 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.Secret;
-import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
-import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.CertificateStoreCache;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -43,13 +42,10 @@ public class ZookeeperScaler implements AutoCloseable {
     private final long operationTimeoutMs;
     private final int zkAdminSessionTimeoutMs;
 
-    private final Secret clusterCaCertSecret;
-    private final Secret coKeySecret;
-
-    private final String trustStorePassword;
+    private final CertificateStoreCache.Store trustStore;
+    private final CertificateStoreCache.Store keyStore;
+    // Files of the stores acquired by this scaler. Guarded by this.
     private File trustStoreFile;
-
-    private final String keyStorePassword;
     private File keyStoreFile;
 
     private final Reconciliation reconciliation;
@@ -71,6 +67,28 @@ public class ZookeeperScaler implements AutoCloseable {
                               String zookeeperConnectionString, Function<Integer, String> zkNodeAddress,
                               Secret clusterCaCertSecret, Secret coKeySecret, long operationTimeoutMs,
                               int zkAdminSessionTimeoutMs) {
+        this(reconciliation, vertx, zooAdminProvider, zookeeperConnectionString, zkNodeAddress, clusterCaCertSecret,
+                coKeySecret, operationTimeoutMs, zkAdminSessionTimeoutMs, new CertificateStoreCache());
+    }
+
+    /**
+     * ZookeeperScaler constructor
+     *
+     * @param reconciliation                The reconciliation
+     * @param vertx                         Vertx instance
+     * @param zookeeperConnectionString     Connection string to connect to the right Zookeeper
+     * @param zkNodeAddress                 Function for generating the Zookeeper node addresses
+     * @param clusterCaCertSecret           Secret with Kafka cluster CA public key
+     * @param coKeySecret                   Secret with Cluster Operator public and private key
+     * @param operationTimeoutMs            Operation timeout
+     * @param zkAdminSessionTimeoutMs       Zookeeper Admin session timeout
+     * @param certificateStores             Cache of the truststores and keystores built from the Secrets
+     *
+     */
+    protected ZookeeperScaler(Reconciliation reconciliation, Vertx vertx, ZooKeeperAdminProvider zooAdminProvider,
+                              String zookeeperConnectionString, Function<Integer, String> zkNodeAddress,
+                              Secret clusterCaCertSecret, Secret coKeySecret, long operationTimeoutMs,
+                              int zkAdminSessionTimeoutMs, CertificateStoreCache certificateStores) {
         this.reconciliation = reconciliation;
 
         LOGGER.debugCr(reconciliation, "Creating Zookeeper Scaler for cluster {}", zookeeperConnectionString);
@@ -81,18 +99,13 @@ public class ZookeeperScaler implements AutoCloseable {
         this.zkNodeAddress = zkNodeAddress;
         this.operationTimeoutMs = operationTimeoutMs;
         this.zkAdminSessionTimeoutMs = zkAdminSessionTimeoutMs;
-        this.clusterCaCertSecret = clusterCaCertSecret;
-        this.coKeySecret = coKeySecret;
 
         // Setup truststore from PEM file in cluster CA secret
         // We cannot use P12 because of custom CAs which for simplicity provide only PEM
-        PasswordGenerator pg = new PasswordGenerator(12);
-        trustStorePassword = pg.generate();
-        trustStoreFile = Util.createFileTrustStore(getClass().getName(), "p12", Ca.certs(clusterCaCertSecret), trustStorePassword.toCharArray());
+        this.trustStore = certificateStores.trustStore(clusterCaCertSecret);
 
         // Setup keystore from PKCS12 in cluster-operator secret
-        keyStorePassword = new String(Util.decodeFromSecret(coKeySecret, "cluster-operator.password"), StandardCharsets.US_ASCII);
-        keyStoreFile = Util.createFileStore(getClass().getName(), "p12", Util.decodeFromSecret(coKeySecret, "cluster-operator.p12"));
+        this.keyStore = certificateStores.keyStore(coKeySecret, "cluster-operator");
     }
 
     /**
@@ -127,20 +140,33 @@ public class ZookeeperScaler implements AutoCloseable {
     }
 
     /**
-     * Close the ZookeeperScaler instance. This deletes the certificate files.
+     * Close the ZookeeperScaler instance. The certificate files are owned by the certificate store cache and are
+     * reused by the next ZookeeperScaler instances, so they are only released here. The cache deletes them once they
+     * are not used anymore.
      */
     @Override
-    public void close() {
+    public synchronized void close() {
         if (trustStoreFile != null) {
-            if (!trustStoreFile.delete())   {
-                LOGGER.warnCr(reconciliation, "Failed to delete file {}", trustStoreFile);
-            }
+            trustStore.releaseFile();
+            trustStoreFile = null;
         }
 
-        if (keyStoreFile != null)   {
-            if (!keyStoreFile.delete())   {
-                LOGGER.warnCr(reconciliation, "Failed to delete file {}", keyStoreFile);
-            }
+        if (keyStoreFile != null) {
+            keyStore.releaseFile();
+            keyStoreFile = null;
+        }
+    }
+
+    /**
+     * Acquires the files with the truststore and keystore for the lifetime of this scaler
+     */
+    private synchronized void acquireStoreFiles() {
+        if (trustStoreFile == null) {
+            trustStoreFile = trustStore.acquireFile();
+        }
+
+        if (keyStoreFile == null) {
+            keyStoreFile = keyStore.acquireFile();
         }
     }
 
@@ -284,16 +310,17 @@ public class ZookeeperScaler implements AutoCloseable {
 
         vertx.executeBlocking(promise -> {
             try {
+                acquireStoreFiles();
                 ZKClientConfig clientConfig = new ZKClientConfig();
 
                 clientConfig.setProperty("zookeeper.clientCnxnSocket", "org.apache.zookeeper.ClientCnxnSocketNetty");
                 clientConfig.setProperty("zookeeper.client.secure", "true");
                 clientConfig.setProperty("zookeeper.sasl.client", "false");
                 clientConfig.setProperty("zookeeper.ssl.trustStore.location", trustStoreFile.getAbsolutePath());
-                clientConfig.setProperty("zookeeper.ssl.trustStore.password", trustStorePassword);
+                clientConfig.setProperty("zookeeper.ssl.trustStore.password", trustStore.password());
                 clientConfig.setProperty("zookeeper.ssl.trustStore.type", "PKCS12");
                 clientConfig.setProperty("zookeeper.ssl.keyStore.location", keyStoreFile.getAbsolutePath());
-                clientConfig.setProperty("zookeeper.ssl.keyStore.password", keyStorePassword);
+                clientConfig.setProperty("zookeeper.ssl.keyStore.password", keyStore.password());
                 clientConfig.setProperty("zookeeper.ssl.keyStore.type", "PKCS12");
                 clientConfig.setProperty("zookeeper.request.timeout", String.valueOf(operationTimeoutMs));
 
@@ -83,13 +83,19 @@ public class ClusterOperatorConfigTest {
                 null,
                 "",
                 10,
-                20_000);
+                20_000,
+                4,
+                3,
+                2);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
         assertThat(config.getOperationTimeoutMs(), is(30_000L));
         assertThat(config.getZkAdminSessionTimeoutMs(), is(20_000));
         assertThat(config.getConnectBuildTimeoutMs(), is(120_000L));
+        assertThat(config.getReconciliationStepConcurrency(), is(4));
+        assertThat(config.getMaxConcurrentBrokerRestarts(), is(3));
+        assertThat(config.getPodSetControllerWorkers(), is(2));
     }
 
     @Test
@@ -116,6 +122,45 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperationTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS));
         assertThat(config.getOperatorNamespace(), is(nullValue()));
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
+        assertThat(config.getReconciliationStepConcurrency(), is(ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEP_CONCURRENCY));
+        assertThat(config.getMaxConcurrentBrokerRestarts(), is(ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS));
+        assertThat(config.getPodSetControllerWorkers(), is(ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS));
+    }
+
+    @Test
+    public void testReconciliationStepConcurrency() {
+        Map<String, String> envVars = envWithImages();
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_STEP_CONCURRENCY, "3");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationStepConcurrency(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_STEP_CONCURRENCY, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testMaxConcurrentBrokerRestarts() {
+        Map<String, String> envVars = envWithImages();
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS, "3");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConcurrentBrokerRestarts(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testPodSetControllerWorkers() {
+        Map<String, String> envVars = envWithImages();
+        envVars.put(ClusterOperatorConfig.STRIMZI_POD_SET_CONTROLLER_WORKERS, "4");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getPodSetControllerWorkers(), is(4));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_POD_SET_CONTROLLER_WORKERS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
     }
 
     private Map<String, String> envWithImages() {
@@ -760,7 +760,10 @@ public class ResourceUtils {
                 null,
                 featureGates,
                 10,
-                10_000);
+                10_000,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEP_CONCURRENCY,
+                ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS,
+                ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfigRolesOnly(KafkaVersion.Lookup versions, long operationTimeoutMs) {
@@ -780,7 +783,10 @@ public class ResourceUtils {
                 null,
                 "",
                 10,
-                10_000);
+                10_000,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEP_CONCURRENCY,
+                ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS,
+                ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions, long operationTimeoutMs) {
@@ -19,11 +19,16 @@ import java.io.IOException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ParallelSuite
 @ExtendWith(VertxExtension.class)
@@ -33,6 +38,12 @@ public class CaRenewalTest {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
             private AtomicInteger invocationCount = new AtomicInteger(0);
 
+            @Override
+            protected Executor certificateExecutor() {
+                // The certificates are numbered in the order in which they are generated
+                return Runnable::run;
+            }
+
             @Override
             public boolean certRenewed() {
                 return false;
@@ -90,6 +101,12 @@ public class CaRenewalTest {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
             private AtomicInteger invocationCount = new AtomicInteger(0);
 
+            @Override
+            protected Executor certificateExecutor() {
+                // The certificates are numbered in the order in which they are generated
+                return Runnable::run;
+            }
+
             @Override
             public boolean certRenewed() {
                 return true;
@@ -166,6 +183,12 @@ public class CaRenewalTest {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
             private AtomicInteger invocationCount = new AtomicInteger(0);
 
+            @Override
+            protected Executor certificateExecutor() {
+                // The certificates are numbered in the order in which they are generated
+                return Runnable::run;
+            }
+
             @Override
             public boolean certRenewed() {
                 return false;
@@ -252,6 +275,12 @@ public class CaRenewalTest {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
             private AtomicInteger invocationCount = new AtomicInteger(0);
 
+            @Override
+            protected Executor certificateExecutor() {
+                // The certificates are numbered in the order in which they are generated
+                return Runnable::run;
+            }
+
             @Override
             public boolean certRenewed() {
                 return false;
@@ -332,4 +361,72 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @ParallelTest
+    public void renewalOfStatefulSetCertificatesInParallel() throws IOException {
+        int replicas = 3;
+        CountDownLatch allGenerating = new CountDownLatch(2);
+
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return true;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject,
+                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+                // Blocks until at least two certificates are generated at the same time
+                allGenerating.countDown();
+                try {
+                    assertThat(allGenerating.await(30, TimeUnit.SECONDS), is(true));
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+
+                return new CertAndKey(
+                        ("new-key-" + subject.commonName()).getBytes(),
+                        ("new-cert-" + subject.commonName()).getBytes(),
+                        null,
+                        ("new-keystore-" + subject.commonName()).getBytes(),
+                        "new-password-" + subject.commonName()
+                );
+            }
+        };
+
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName("pod" + i).build();
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                replicas,
+                subjectFn,
+                null,
+                podNameFn,
+                true);
+
+        assertThat(newCerts.size(), is(replicas));
+        for (int i = 0; i < replicas; i++) {
+            assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert-pod" + i));
+            assertThat(new String(newCerts.get("pod" + i).key()), is("new-key-pod" + i));
+        }
+    }
+
+    @ParallelTest
+    public void failedCertificateGenerationFailsTheRenewal() {
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject,
+                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+                throw new IOException("Failed to generate " + subject.commonName());
+            }
+        };
+
+        IOException e = assertThrows(IOException.class, () -> mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                3,
+                i -> new Subject.Builder().withCommonName("pod" + i).build(),
+                null,
+                i -> "pod" + i,
+                true));
+        assertThat(e.getMessage(), startsWith("Failed to generate pod"));
+    }
+}
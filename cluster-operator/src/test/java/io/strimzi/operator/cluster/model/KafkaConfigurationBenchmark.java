@@ -0,0 +1,163 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.operator.resource.KafkaBrokerConfigurationDiff;
+import io.strimzi.operator.common.Reconciliation;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the work done with the Kafka config model for a broker configuration with 300 options. It compares
+ * reading the config model from the classpath, as it was done on every use before, with getting the cached config
+ * model. It also measures the validation of the configuration and the diff of the configuration of a single broker,
+ * which are done for every reconciliation and for every broker during a rolling update.
+ *
+ * The benchmark is not run as part of the tests. Run it using the {@link #main(String[])} method from the test
+ * classpath (for example from the IDE) after compiling the test classes. Use the {@code -prof gc} option to see the
+ * allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaConfigurationBenchmark {
+    private static final int OPTIONS = 300;
+
+    private KafkaVersion kafkaVersion;
+    private KafkaConfiguration configuration;
+    private String desired;
+    private Config current;
+
+    @Setup
+    public void setup() {
+        kafkaVersion = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion();
+
+        // Uses the first options of the model with a value matching their type
+        Map<String, String> options = new TreeMap<>();
+        for (Map.Entry<String, ConfigModel> model : new TreeMap<>(KafkaConfiguration.readConfigModel(kafkaVersion)).entrySet()) {
+            if (options.size() == OPTIONS) {
+                break;
+            }
+
+            options.put(model.getKey(), value(model.getValue()));
+        }
+
+        configuration = KafkaConfiguration.unvalidated(Reconciliation.DUMMY_RECONCILIATION, options);
+
+        StringBuilder desiredConfig = new StringBuilder();
+        List<ConfigEntry> currentEntries = new ArrayList<>();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            desiredConfig.append(option.getKey()).append('=').append(option.getValue()).append('\n');
+            currentEntries.add(new ConfigEntry(option.getKey(), option.getValue()));
+        }
+
+        // One option differs between the current and the desired configuration
+        currentEntries.set(0, new ConfigEntry(currentEntries.get(0).name(), "changed"));
+
+        desired = desiredConfig.toString();
+        current = new Config(currentEntries);
+    }
+
+    private static String value(ConfigModel model) {
+        switch (model.getType()) {
+            case BOOLEAN:
+                return "true";
+            case SHORT:
+            case INT:
+            case LONG:
+            case DOUBLE:
+                return model.getMinimum() != null ? String.valueOf(model.getMinimum()) : "1";
+            case LIST:
+                return model.getItems() != null && !model.getItems().isEmpty() ? model.getItems().get(0) : "a,b";
+            case STRING:
+                return model.getValues() != null && !model.getValues().isEmpty() ? model.getValues().get(0) : "value";
+            default:
+                return "value";
+        }
+    }
+
+    /**
+     * Reads and parses the config model from the classpath resource as it was done every time the config model was
+     * needed before it was cached
+     *
+     * @return  The config model
+     *
+     * @throws IOException  When reading the config model fails
+     */
+    @Benchmark
+    public Map<String, ConfigModel> parseConfigModel() throws IOException {
+        try (InputStream in = KafkaConfiguration.class.getResourceAsStream("/kafka-" + kafkaVersion.version() + "-config-model.json")) {
+            return new ObjectMapper().readValue(in, ConfigModels.class).getConfigs();
+        }
+    }
+
+    /**
+     * Gets the cached config model
+     *
+     * @return  The config model
+     */
+    @Benchmark
+    public Map<String, ConfigModel> cachedConfigModel() {
+        return KafkaConfiguration.readConfigModel(kafkaVersion);
+    }
+
+    /**
+     * Validates the configuration and sorts its options by their scope
+     *
+     * @return  The validation errors
+     */
+    @Benchmark
+    public List<String> validate() {
+        List<String> errors = configuration.validate(kafkaVersion);
+        configuration.readOnlyConfigs(kafkaVersion);
+        configuration.clusterWideConfigs(kafkaVersion);
+        configuration.perBrokerConfigs(kafkaVersion);
+        configuration.unknownConfigs(kafkaVersion);
+
+        return errors;
+    }
+
+    /**
+     * Diffs the current and the desired configuration of a single broker
+     *
+     * @return  The number of options which differ
+     */
+    @Benchmark
+    public int brokerConfigurationDiff() {
+        return new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, current, desired, kafkaVersion, 0).getDiffSize();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(KafkaConfigurationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -4,15 +4,20 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.util.Map;
+
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ParallelSuite
 public class KafkaConfigurationTests {
@@ -94,4 +99,11 @@ public class KafkaConfigurationTests {
     public void validVersion() {
         assertNoError("inter.broker.protocol.version", "2.5-IV0");
     }
+
+    @ParallelTest
+    public void configModelIsCached() {
+        Map<String, ConfigModel> configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(configModel)));
+        assertThrows(UnsupportedOperationException.class, () -> configModel.remove("auto.create.topics.enable"));
+    }
 }
@@ -449,7 +449,10 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
                 10,
-                10_000);
+                10_000,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEP_CONCURRENCY,
+                ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS,
+                ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS);
 
         KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_19), certManager, passwordGenerator,
                 supplier, config);
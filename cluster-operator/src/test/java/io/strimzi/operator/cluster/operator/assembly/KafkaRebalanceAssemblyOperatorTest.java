@@ -940,7 +940,10 @@ public class KafkaRebalanceAssemblyOperatorTest {
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
                 10,
-                10_000);
+                10_000,
+                ClusterOperatorConfig.DEFAULT_RECONCILIATION_STEP_CONCURRENCY,
+                ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS,
+                ClusterOperatorConfig.DEFAULT_POD_SET_CONTROLLER_WORKERS);
 
         kcrao = new KafkaRebalanceAssemblyOperator(Vertx.vertx(), pfa, supplier, config);
 
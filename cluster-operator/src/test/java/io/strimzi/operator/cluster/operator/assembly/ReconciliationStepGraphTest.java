@@ -0,0 +1,223 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationStepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    /**
+     * Records the started steps and allows the test to complete them one by one
+     */
+    static class Steps {
+        private final List<String> started = new ArrayList<>();
+        private final Map<String, Promise<List<String>>> running = new HashMap<>();
+
+        Function<List<String>, Future<List<String>>> step(String name) {
+            return state -> {
+                started.add(name);
+                Promise<List<String>> promise = Promise.promise();
+                running.put(name, promise);
+                return promise.future();
+            };
+        }
+
+        void complete(String name) {
+            running.remove(name).complete();
+        }
+
+        void fail(String name) {
+            running.remove(name).fail(new RuntimeException(name + " failed"));
+        }
+    }
+
+    @Test
+    public void testSequentialExecutionFollowsDeclarationOrder() {
+        Steps steps = new Steps();
+        ReconciliationStepGraph<List<String>> graph = new ReconciliationStepGraph<List<String>>(1, ResourceUtils.metricsProvider())
+                .then("a", steps.step("a"))
+                .step("b", steps.step("b"), "a")
+                .step("c", steps.step("c"), "a")
+                .step("d", steps.step("d"), "b", "c")
+                .step("e", steps.step("e"));
+
+        Future<List<String>> result = graph.execute(RECONCILIATION, new ArrayList<>());
+
+        for (String step : List.of("a", "b", "c", "d", "e")) {
+            assertThat(steps.running.keySet(), contains(step));
+            steps.complete(step);
+        }
+
+        assertThat(steps.started, contains("a", "b", "c", "d", "e"));
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testParallelExecution() {
+        Steps steps = new Steps();
+        ReconciliationStepGraph<List<String>> graph = new ReconciliationStepGraph<List<String>>(2, ResourceUtils.metricsProvider())
+                .then("a", steps.step("a"))
+                .step("b", steps.step("b"), "a")
+                .step("c", steps.step("c"), "a")
+                .step("d", steps.step("d"), "a")
+                .step("e", steps.step("e"), "b", "c", "d");
+
+        Future<List<String>> result = graph.execute(RECONCILIATION, new ArrayList<>());
+
+        assertThat(steps.running.keySet(), contains("a"));
+        steps.complete("a");
+
+        // Only two steps run at the same time
+        assertThat(steps.running.keySet(), containsInAnyOrder("b", "c"));
+        steps.complete("c");
+        assertThat(steps.running.keySet(), containsInAnyOrder("b", "d"));
+        steps.complete("d");
+
+        // e waits for all its dependencies
+        assertThat(steps.running.keySet(), contains("b"));
+        steps.complete("b");
+        assertThat(steps.running.keySet(), contains("e"));
+        assertThat(result.isComplete(), is(false));
+        steps.complete("e");
+
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFailureStopsTheExecution() {
+        Steps steps = new Steps();
+        ReconciliationStepGraph<List<String>> graph = new ReconciliationStepGraph<List<String>>(3, ResourceUtils.metricsProvider())
+                .then("a", steps.step("a"))
+                .step("b", steps.step("b"), "a")
+                .step("c", steps.step("c"), "a")
+                .step("d", steps.step("d"), "b");
+
+        Future<List<String>> result = graph.execute(RECONCILIATION, new ArrayList<>());
+
+        steps.complete("a");
+        steps.fail("c");
+
+        // The execution fails only once the running steps complete
+        assertThat(result.isComplete(), is(false));
+        steps.complete("b");
+
+        assertThat(steps.started, contains("a", "b", "c"));
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("c failed"));
+    }
+
+    @Test
+    public void testExceptionInStep() {
+        ReconciliationStepGraph<List<String>> graph = new ReconciliationStepGraph<List<String>>(1, ResourceUtils.metricsProvider())
+                .then("a", state -> {
+                    throw new RuntimeException("a failed");
+                });
+
+        Future<List<String>> result = graph.execute(RECONCILIATION, new ArrayList<>());
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("a failed"));
+    }
+
+    @Test
+    public void testInvalidGraph() {
+        ReconciliationStepGraph<List<String>> graph = new ReconciliationStepGraph<List<String>>(1, ResourceUtils.metricsProvider())
+                .then("a", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", Future::succeededFuture));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("b", Future::succeededFuture, "c"));
+        assertThrows(IllegalArgumentException.class, () -> new ReconciliationStepGraph<List<String>>(0, ResourceUtils.metricsProvider()));
+    }
+
+    @Test
+    public void testValidation() {
+        Steps steps = new Steps();
+
+        // Steps which run one after another do not need to declare anything
+        new ReconciliationStepGraph<List<String>>(2, ResourceUtils.metricsProvider())
+                .then("a", steps.step("a"))
+                .then("b", steps.step("b"))
+                .validate();
+
+        // Parallel steps writing disjoint state
+        new ReconciliationStepGraph<List<String>>(2, ResourceUtils.metricsProvider())
+                .then("a", steps.step("a"))
+                .step("b", steps.step("b"), "a").writes("x")
+                .step("c", steps.step("c"), "a").writes("y")
+                .then("d", steps.step("d")).writes()
+                .step("e", steps.step("e"), "b", "d")
+                .validate();
+
+        // Parallel step without declaration
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new ReconciliationStepGraph<List<String>>(2, ResourceUtils.metricsProvider())
+                .then("a", steps.step("a"))
+                .step("b", steps.step("b"), "a").writes("x")
+                .step("c", steps.step("c"), "a")
+                .validate());
+        assertThat(e.getMessage(), is("Steps b and c can run in parallel, but c does not declare which state it writes"));
+
+        // Parallel steps writing the same state
+        e = assertThrows(IllegalStateException.class, () -> new ReconciliationStepGraph<List<String>>(2, ResourceUtils.metricsProvider())
+                .then("a", steps.step("a"))
+                .step("b", steps.step("b"), "a").writes("x", "y")
+                .step("c", steps.step("c"), "a").writes()
+                .then("d", steps.step("d")).writes("y")
+                .validate());
+        assertThat(e.getMessage(), is("Steps b and d can run in parallel, but both write [y]"));
+    }
+
+    @Test
+    public void testStepsCompleteOnTheContextOfTheExecution(VertxTestContext context) {
+        Vertx vertx = Vertx.vertx();
+        Checkpoint async = context.checkpoint();
+        Context executionContext = vertx.getOrCreateContext();
+        List<Context> contexts = new ArrayList<>();
+
+        ReconciliationStepGraph<List<String>> graph = new ReconciliationStepGraph<List<String>>(2, ResourceUtils.metricsProvider())
+                .then("a", state -> {
+                    contexts.add(Vertx.currentContext());
+                    // Completes the step on a thread which is not the context of the execution
+                    Promise<List<String>> promise = Promise.promise();
+                    new Thread(() -> promise.complete(state)).start();
+                    return promise.future();
+                })
+                .then("b", state -> {
+                    contexts.add(Vertx.currentContext());
+                    return Future.succeededFuture(state);
+                });
+
+        executionContext.runOnContext(v -> graph.execute(RECONCILIATION, new ArrayList<>())
+                .onComplete(context.succeeding(state -> context.verify(() -> {
+                    assertThat(Vertx.currentContext(), is(executionContext));
+                    assertThat(contexts, contains(executionContext, executionContext));
+                    vertx.close();
+                    async.flag();
+                }))));
+    }
+}
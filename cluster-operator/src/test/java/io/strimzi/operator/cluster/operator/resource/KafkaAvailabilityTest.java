@@ -26,6 +26,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,15 +35,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -534,6 +539,102 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testCanRollTogether(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("C", false)
+                    .addNewPartition(0)
+                        .replicaOn(0, 3)
+                        .leader(0)
+                        .isr(0, 3)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(4);
+        kafkaAvailability.canRollTogether(0, Set.of()).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "broker 0 should be rollable on its own");
+            a.flag();
+        })));
+        kafkaAvailability.canRollTogether(0, Set.of(1)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll, "broker 0 should not be rollable together with broker 1, because only broker 2 would stay in the ISR of A/0 with minisr = 2");
+            a.flag();
+        })));
+        kafkaAvailability.canRollTogether(0, Set.of(3, 4)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "broker 0 should be rollable together with brokers 3 and 4, because they share only C/0 without minisr");
+            a.flag();
+        })));
+        kafkaAvailability.canRollTogether(5, Set.of(0, 3)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll, "broker 5 should not be rollable together with broker 3, because only broker 4 would stay in the ISR of B/0 with minisr = 2");
+            a.flag();
+        })));
+    }
+
+    @Test
+    public void testTopicMetadataIsCachedBetweenChecks(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        kafkaAvailability.canRoll(0)
+                .compose(ignore -> kafkaAvailability.canRoll(1))
+                .compose(ignore -> kafkaAvailability.canRoll(3))
+                .compose(ignore -> kafkaAvailability.rollableBrokers(Set.of(0, 1, 2, 3, 4, 5), Set.of()))
+                .onComplete(context.succeeding(rollable -> context.verify(() -> {
+                    assertThat(rollable, is(Set.of(0, 1, 2, 3, 4, 5)));
+
+                    @SuppressWarnings({"unchecked", "rawtypes"})
+                    ArgumentCaptor<Collection<String>> describedTopics = ArgumentCaptor.forClass((Class) Collection.class);
+                    verify(ac, times(4)).describeTopics(describedTopics.capture());
+                    assertThat(describedTopics.getAllValues().get(0), is(Set.of("A", "B")));
+                    assertThat(describedTopics.getAllValues().get(1), is(Set.of("A")));
+                    assertThat(describedTopics.getAllValues().get(2), is(Set.of("B")));
+                    assertThat(describedTopics.getAllValues().get(3), is(Set.of("A", "B")));
+
+                    @SuppressWarnings({"unchecked", "rawtypes"})
+                    ArgumentCaptor<Collection<ConfigResource>> describedConfigs = ArgumentCaptor.forClass((Class) Collection.class);
+                    verify(ac, times(2)).describeConfigs(describedConfigs.capture());
+                    assertThat(describedConfigs.getAllValues().get(0), is(List.of(new ConfigResource(ConfigResource.Type.TOPIC, "A"))));
+                    assertThat(describedConfigs.getAllValues().get(1), is(List.of(new ConfigResource(ConfigResource.Type.TOPIC, "B"))));
+
+                    context.completeNow();
+                })));
+    }
+
     // TODO when AC throws various exceptions (e.g. UnknownTopicOrPartitionException)
     @Test
     public void testCanRollThrowsTimeoutExceptionWhenTopicsListThrowsException(VertxTestContext context) {
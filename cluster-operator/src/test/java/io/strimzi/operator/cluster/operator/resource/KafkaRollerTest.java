@@ -7,13 +7,18 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -24,11 +29,13 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -36,7 +43,10 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -49,10 +59,15 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -206,6 +221,81 @@ public class KafkaRollerTest {
                 singletonList(2));
     }
 
+    @Test
+    public void testParallelRollWithPod2AsController(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, 3,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                2);
+        kafkaRoller.restartDelayMs = 200;
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(new TreeSet<>(restarted()), is(new TreeSet<>(asList(0, 1, 2, 3, 4))));
+                    assertThat(kafkaRoller.restartedPods(), is(5));
+                    assertThat(kafkaRoller.maxRestarting, greaterThan(1));
+                    assertThat(kafkaRoller.maxRestarting, lessThanOrEqualTo(3));
+                    assertThat("The controller should be restarted on its own", kafkaRoller.restartedTogetherWith.get(2), is(emptySet()));
+                    kafkaRoller.restartedTogetherWith.forEach((podId, others) -> assertThat(others, not(hasItem(2))));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBrokerConfigsAreDescribedInOneCallBeforeRolling(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, -1);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> podName2Number(pod.getMetadata().getName()) == 3 ? singletonList("roll") : emptyList())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(restarted(), is(singletonList(3)));
+
+                    assertThat(kafkaRoller.describedConfigs.size(), is(1));
+                    Set<ConfigResource> expectedResources = new HashSet<>();
+                    for (int podId = 0; podId < 5; podId++) {
+                        expectedResources.add(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(podId)));
+                        expectedResources.add(new ConfigResource(ConfigResource.Type.BROKER_LOGGER, String.valueOf(podId)));
+                    }
+                    assertThat(new HashSet<>(kafkaRoller.describedConfigs.get(0)), is(expectedResources));
+
+                    assertThat(kafkaRoller.restartPlans().keySet(), is(Set.of(0, 1, 2, 3, 4)));
+                    assertThat(kafkaRoller.restartPlans().get(3).needsRestart(), is(true));
+                    for (int podId : List.of(0, 1, 2, 4)) {
+                        assertThat(kafkaRoller.restartPlans().get(podId).needsRestart(), is(false));
+                    }
+
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testParallelRollWhenPodsCannotBeRolledTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, 3,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                -1);
+        kafkaRoller.restartDelayMs = 50;
+        kafkaRoller.canRollTogetherFn = (podId, restartingPods) -> restartingPods.isEmpty();
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(new TreeSet<>(restarted()), is(new TreeSet<>(asList(0, 1, 2, 3, 4))));
+                    assertThat(kafkaRoller.maxRestarting, is(1));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testRollHandlesErrorWhenOpeningAdminClient(VertxTestContext testContext) {
         PodOperator podOps = mockPodOps(podId -> succeededFuture());
@@ -516,7 +606,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -574,6 +664,13 @@ public class KafkaRollerTest {
         private final Function<Integer, ForceableProblem> getConfigsException;
         private final int[] controllers;
 
+        private long restartDelayMs = 0;
+        private BiFunction<Integer, Set<Integer>, Boolean> canRollTogetherFn = null;
+        private final Set<Integer> restarting = new HashSet<>();
+        private final Map<Integer, Set<Integer>> restartedTogetherWith = new ConcurrentHashMap<>();
+        private int maxRestarting = 0;
+        private final List<Collection<ConfigResource>> describedConfigs = Collections.synchronizedList(new ArrayList<>());
+
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                                    PodOperator podOps,
                                    Function<List<Integer>, RuntimeException> acOpenException,
@@ -583,9 +680,24 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, 1, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   int maxConcurrentRestarts,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int... controllers) {
             super(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), KafkaRollerTest.vertx, podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion(), true);
+                sts, clusterCaCertSecret, coKeySecret, new DefaultAdminClientProvider(), "", "", KafkaVersionTestUtils.getLatestVersion(), true,
+                maxConcurrentRestarts);
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -605,6 +717,14 @@ public class KafkaRollerTest {
                 throw new ForceableProblem("An error while try to create the admin client", exception);
             }
             Admin ac = mock(AdminClient.class, invocation -> {
+                if ("describeConfigs".equals(invocation.getMethod().getName())) {
+                    Collection<ConfigResource> resources = invocation.getArgument(0);
+                    describedConfigs.add(resources);
+                    DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+                    when(result.values()).thenReturn(resources.stream()
+                            .collect(Collectors.toMap(resource -> resource, resource -> KafkaFuture.completedFuture(new Config(emptyList())))));
+                    return result;
+                }
                 if ("close".equals(invocation.getMethod().getName())) {
                     Admin mock = (Admin) invocation.getMock();
                     unclosedAdminClients.remove(mock);
@@ -621,7 +741,7 @@ public class KafkaRollerTest {
 
         @Override
         protected KafkaAvailability availability(Admin ac) {
-            return new KafkaAvailability(null, null) {
+            return new KafkaAvailability(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), null) {
                 @Override
                 protected Future<Set<String>> topicNames() {
                     return succeededFuture(Collections.emptySet());
@@ -636,6 +756,15 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRollTogether(int podId, Set<Integer> restartingPods) {
+                    if (canRollTogetherFn != null) {
+                        return succeededFuture(canRollTogetherFn.apply(podId, restartingPods));
+                    } else {
+                        return super.canRollTogether(podId, restartingPods);
+                    }
+                }
             };
         }
 
@@ -661,12 +790,7 @@ public class KafkaRollerTest {
             ForceableProblem problem = getConfigsException.apply(brokerId);
             if (problem != null) {
                 throw problem;
-            } else return new Config(emptyList());
-        }
-
-        @Override
-        protected Config brokerLogging(int brokerId) throws ForceableProblem, InterruptedException {
-            return new Config(emptyList());
+            } else return super.brokerConfig(brokerId);
         }
 
         @Override
@@ -680,7 +804,27 @@ public class KafkaRollerTest {
         @Override
         protected Future<Void> restart(Pod pod) {
             restarted.add(pod.getMetadata().getName());
-            return succeededFuture();
+
+            if (restartDelayMs > 0) {
+                int podId = podName2Number(pod.getMetadata().getName());
+
+                synchronized (restarting) {
+                    restartedTogetherWith.put(podId, new HashSet<>(restarting));
+                    restarting.add(podId);
+                    maxRestarting = Math.max(maxRestarting, restarting.size());
+                }
+
+                Promise<Void> restart = Promise.promise();
+                vertx.setTimer(restartDelayMs, timerId -> {
+                    synchronized (restarting) {
+                        restarting.remove(podId);
+                    }
+                    restart.complete();
+                });
+                return restart.future();
+            } else {
+                return succeededFuture();
+            }
         }
 
     }
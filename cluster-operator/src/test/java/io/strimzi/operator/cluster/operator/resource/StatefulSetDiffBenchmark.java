@@ -0,0 +1,144 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.PodSecurityContext;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetStatusBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
+/**
+ * Compares the structural diff used by {@link StatefulSetDiff} with the JSON patch based diff it replaced. Both diff a
+ * Kafka StatefulSet generated by the {@link KafkaCluster} model with a copy of it which looks like it was read from
+ * Kubernetes: it has the default values set by Kubernetes, resources in a different but equivalent format, managed fields
+ * and status. In the {@code unchanged}
+ * scenario, all differences are ignorable. In the {@code changed} scenario, the container image differs as well.
+ *
+ * The benchmark is not run as part of the tests. Run it using the {@link #main(String[])} method from the test
+ * classpath (for example from the IDE) after compiling the test classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatefulSetDiffBenchmark {
+    @Param({"unchanged", "changed"})
+    public String scenario;
+
+    private StatefulSet current;
+    private StatefulSet desired;
+
+    @Setup
+    public void setup() {
+        Kafka kafka = new KafkaBuilder(ResourceUtils.createKafka("my-namespace", "my-cluster", 3, "my-image", 120, 30))
+                .editSpec()
+                    .editKafka()
+                        .withStorage(new JbodStorageBuilder()
+                                .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").withDeleteClaim(false).build(),
+                                        new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").withDeleteClaim(false).build())
+                                .build())
+                        .withResources(new ResourceRequirementsBuilder()
+                                .addToRequests("memory", new Quantity("2Gi"))
+                                .addToRequests("cpu", new Quantity("1"))
+                                .build())
+                        .withConfig(Map.of("auto.create.topics.enable", "false", "offsets.topic.replication.factor", 3))
+                    .endKafka()
+                .endSpec()
+                .build();
+
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, KafkaVersionTestUtils.getKafkaVersionLookup());
+        desired = kafkaCluster.generateStatefulSet(false, null, null);
+        current = Serialization.clone(desired);
+
+        // Fields defaulted or added by Kubernetes
+        current.getMetadata().setManagedFields(List.of(new ManagedFieldsEntryBuilder().withManager("strimzi-cluster-operator").withOperation("Update").build()));
+        current.getMetadata().setResourceVersion("12345");
+        current.getMetadata().setUid("9b5b4a4e-2d5c-4c4e-9e1f-0c2a1b3c4d5e");
+        current.getSpec().setRevisionHistoryLimit(10);
+        current.getSpec().getTemplate().getSpec().setDnsPolicy("ClusterFirst");
+        current.getSpec().getTemplate().getSpec().setRestartPolicy("Always");
+        current.getSpec().getTemplate().getSpec().setSecurityContext(new PodSecurityContext());
+        for (Container container : current.getSpec().getTemplate().getSpec().getContainers()) {
+            container.setTerminationMessagePath("/dev/termination-log");
+            container.setTerminationMessagePolicy("File");
+            container.getResources().getRequests().put("memory", new Quantity("2048Mi"));
+            container.getResources().getRequests().put("cpu", new Quantity("1000m"));
+        }
+        current.setStatus(new StatefulSetStatusBuilder().withReplicas(3).withReadyReplicas(3).withCurrentReplicas(3).withObservedGeneration(5L).build());
+
+        if ("changed".equals(scenario)) {
+            current.getSpec().getTemplate().getSpec().getContainers().get(0).setImage("my-old-image");
+        }
+    }
+
+    /**
+     * The diff used before: builds the full JSON patch and matches every path against the regular expression
+     *
+     * @return  True if the StatefulSets are identical apart from the ignorable paths
+     */
+    @Benchmark
+    public boolean jsonPatchDiff() {
+        JsonNode source = patchMapper().valueToTree(current);
+        JsonNode target = patchMapper().valueToTree(desired);
+
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            if (!StatefulSetDiff.IGNORABLE_PATHS.matcher(d.get("path").asText()).matches()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The structural diff
+     *
+     * @return  True if the StatefulSets are identical apart from the ignorable paths
+     */
+    @Benchmark
+    public boolean structuralDiff() {
+        return new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, current, desired).isEmpty();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StatefulSetDiffBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -296,4 +296,56 @@ public class StatefulSetDiffTest {
         assertThat(new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, ss1, ss2).changesVolumeClaimTemplates(), is(true));
         assertThat(new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, ss1, ss2).changesVolumeSize(), is(false));
     }
+
+    @Test
+    public void testRollingUpdateDiff() {
+        StatefulSet ss1 = new StatefulSetBuilder()
+                .withNewMetadata()
+                    .withNamespace("test")
+                    .withName("foo")
+                    .withLabels(singletonMap("label", "value"))
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(3)
+                    .withNewTemplate()
+                        .withNewSpec()
+                            .addNewContainer()
+                                .withImage("image:1")
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+
+        // Changes outside of the labels and templates are left to the API server
+        StatefulSet ss2 = new StatefulSetBuilder(ss1)
+                .editMetadata()
+                    .withAnnotations(singletonMap("annotation", "value"))
+                .endMetadata()
+                .editSpec()
+                    .withReplicas(5)
+                .endSpec()
+                .build();
+        StatefulSetDiff diff = StatefulSetDiff.rollingUpdateDiff(Reconciliation.DUMMY_RECONCILIATION, ss1, ss2);
+        assertThat(diff.isEmpty(), is(true));
+        assertThat(diff.changesSpecReplicas(), is(false));
+        assertThat(new StatefulSetDiff(Reconciliation.DUMMY_RECONCILIATION, ss1, ss2).isEmpty(), is(false));
+
+        StatefulSet ss3 = new StatefulSetBuilder(ss1)
+                .editSpec()
+                    .editTemplate()
+                        .editSpec()
+                            .editFirstContainer()
+                                .withImage("image:2")
+                            .endContainer()
+                        .endSpec()
+                    .endTemplate()
+                .endSpec()
+                .build();
+        diff = StatefulSetDiff.rollingUpdateDiff(Reconciliation.DUMMY_RECONCILIATION, ss1, ss3);
+        assertThat(diff.isEmpty(), is(false));
+        assertThat(diff.changesSpecTemplate(), is(true));
+        assertThat(diff.changesLabels(), is(false));
+        assertThat(diff.changesVolumeClaimTemplates(), is(false));
+    }
 }
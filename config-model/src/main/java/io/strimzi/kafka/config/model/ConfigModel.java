@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -17,9 +19,14 @@ import static java.util.Collections.singletonList;
 
 /**
  * A model of a particular configuration parameter.
+ *
+ * The pattern, the allowed values and the allowed items are compiled when they are set, so that validating a value
+ * does not need to compile the regular expression or to search through a list every time.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ConfigModel {
+    private static final Pattern LIST_SEPARATOR = Pattern.compile(" *, *");
+
     private Scope scope;
     private Type type;
     private Number minimum;
@@ -29,6 +36,11 @@ public class ConfigModel {
     private List<String> values;
     private String pattern;
 
+    // Compiled forms of the fields above, kept in sync by the setters
+    private Set<String> itemSet;
+    private Set<String> valueSet;
+    private Pattern compiledPattern;
+
     /**
      * @return The scope of the parameter.
      */
@@ -79,6 +91,7 @@ public class ConfigModel {
 
     public void setItems(List<String> items) {
         this.items = items;
+        this.itemSet = items != null ? new HashSet<>(items) : null;
     }
 
     /**
@@ -90,6 +103,7 @@ public class ConfigModel {
 
     public void setValues(List<String> values) {
         this.values = values;
+        this.valueSet = values != null ? new HashSet<>(values) : null;
     }
 
     /**
@@ -101,6 +115,7 @@ public class ConfigModel {
 
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        this.compiledPattern = pattern != null ? Pattern.compile(pattern) : null;
     }
 
     public List<String> validate(String configName, String value) {
@@ -130,13 +145,13 @@ public class ConfigModel {
 
     private List<String> validateString(String configName, String value) {
         List<String> errors = emptyList();
-        if (getValues() != null
-                && !getValues().contains(value)) {
+        if (valueSet != null
+                && !valueSet.contains(value)) {
             errors = new ArrayList<>(1);
             errors.add(configName + " has value '" + value + "' which is not one of the allowed values: " + getValues());
         }
-        if (getPattern() != null
-                && !value.matches(getPattern())) {
+        if (compiledPattern != null
+                && !compiledPattern.matcher(value).matches()) {
             if (errors.isEmpty()) {
                 errors = new ArrayList<>(1);
             }
@@ -146,18 +161,18 @@ public class ConfigModel {
     }
 
     private List<String> validateBoolean(String configName, String value) {
-        if (!value.matches("true|false")) {
+        if (!"true".equals(value) && !"false".equals(value)) {
             return singletonList(configName + " has value '" + value + "' which is not a boolean");
         }
         return emptyList();
     }
 
     private List<String> validateList(String configName, String value) {
-        List<String> l = asList(value.trim().split(" *, *", -1));
-        if (getItems() != null) {
-            HashSet<String> items = new HashSet<>(l);
-            items.removeAll(getItems());
-            if (!items.isEmpty()) {
+        if (itemSet != null) {
+            List<String> l = asList(LIST_SEPARATOR.split(value.trim(), -1));
+            if (!itemSet.containsAll(l)) {
+                HashSet<String> items = new HashSet<>(l);
+                items.removeAll(itemSet);
                 return singletonList(configName + " contains values " + items + " which are not in the allowed items " + getItems());
             }
         }
@@ -41,9 +41,18 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -97,6 +106,24 @@ public abstract class Ca {
     public static final String ANNO_STRIMZI_IO_CLIENTS_CA_CERT_GENERATION = Annotations.STRIMZI_DOMAIN + "clients-ca-cert-generation";
     public static final int INIT_GENERATION = 0;
 
+    /**
+     * Bounded pool shared by all CAs in which the certificates are generated. The certificate generation is CPU bound,
+     * so there is no point in having more threads than CPUs.
+     */
+    private static final ThreadPoolExecutor CERTIFICATE_EXECUTOR;
+
+    static {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadCounter = new AtomicInteger(0);
+
+        CERTIFICATE_EXECUTOR = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "certificate-generation-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CERTIFICATE_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
     private final PasswordGenerator passwordGenerator;
     protected final Reconciliation reconciliation;
 
@@ -317,11 +344,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = File.createTempFile("tls", "csr");
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
         Subject.Builder subject = new Subject.Builder();
 
         if (organization != null) {
@@ -330,14 +352,31 @@ public abstract class Ca {
 
         subject.withCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject.build(),
-                csrFile, keyFile, certFile, keyStoreFile);
+        return generateSignedCert(subject.build());
+    }
 
-        delete(reconciliation, csrFile);
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-        return result;
+    /**
+     * Generates a certificate signed by this CA using its own temporary files, so that more certificates can be
+     * generated at the same time.
+     *
+     * @param subject The subject of the certificate to be generated.
+     * @return The CertAndKey
+     * @throws IOException If the cert could not be generated.
+     */
+    private CertAndKey generateSignedCert(Subject subject) throws IOException {
+        File csrFile = File.createTempFile("tls", "csr");
+        File keyFile = File.createTempFile("tls", "key");
+        File certFile = File.createTempFile("tls", "cert");
+        File keyStoreFile = File.createTempFile("tls", "p12");
+
+        try {
+            return generateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+        }
     }
 
     /**
@@ -358,13 +397,10 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
         Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        // Certificates which need to be issued, in the order of the pods
+        Map<String, Subject> toGenerate = new LinkedHashMap<>();
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -405,9 +441,7 @@ public abstract class Ca {
 
             if (!reasons.isEmpty())  {
                 LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
-
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                toGenerate.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -420,18 +454,63 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             LOGGER.debugCr(reconciliation, "Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+            toGenerate.put(podName, subjectFn.apply(i));
+        }
+
+        certs.putAll(generateSignedCerts(toGenerate));
+
+        return certs;
+    }
+
+    /**
+     * Generates the certificates for the different pods in parallel on the {@link #certificateExecutor()}. The key
+     * generation and signing of each certificate is CPU bound and independent of the other certificates, so a CA
+     * renewal of a large cluster does not have to issue the certificates one after another.
+     *
+     * @param subjects  Map with the pod names and the subjects of their certificates
+     * @return  Map with the pod names and their new certificates
+     * @throws IOException  If any of the certificates could not be generated
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Map<String, Subject> subjects) throws IOException {
+        Map<String, Future<CertAndKey>> futures = new LinkedHashMap<>(subjects.size());
+        Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+
+        try {
+            for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+                FutureTask<CertAndKey> task = new FutureTask<>(() -> generateSignedCert(entry.getValue()));
+                certificateExecutor().execute(task);
+                futures.put(entry.getKey(), task);
+            }
+
+            for (Map.Entry<String, Future<CertAndKey>> entry : futures.entrySet()) {
+                certs.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating certificates", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new IOException("Failed to generate certificates", e.getCause());
+            }
+        } finally {
+            // Do not waste the shared threads on the remaining certificates when one of them failed
+            futures.values().forEach(future -> future.cancel(true));
         }
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
 
         return certs;
     }
 
+    /**
+     * @return  The executor used to generate the certificates of the different pods in parallel
+     */
+    protected Executor certificateExecutor() {
+        return CERTIFICATE_EXECUTOR;
+    }
+
     /**
      * Returns whether the certificate is expiring or not
      *
@@ -0,0 +1,362 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Admin client provider which keeps the Admin clients it created open and hands them out again to the following
+ * callers which connect to the same bootstrap servers with the same certificates. This allows repeated reconciliations
+ * and rolling updates to reuse the existing connections instead of doing the TLS handshakes and the metadata bootstrap
+ * again every time.
+ *
+ * The callers use the returned Admin clients in the same way as the ones created by {@link DefaultAdminClientProvider}
+ * and close them when they are done. Closing them only returns them to the pool. The underlying Admin client is closed
+ * when it was not used for longer than the idle timeout or when the certificates used to connect change (for example
+ * when the cluster CA or the cluster operator certificates are renewed).
+ */
+public class AdminClientPool implements AdminClientProvider {
+    private static final Logger LOGGER = LogManager.getLogger(AdminClientPool.class);
+
+    /**
+     * Default time after which unused Admin clients are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 600_000L;
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+    private static final String METRICS_PREFIX = AbstractOperator.METRICS_PREFIX + "admin.client.pool.";
+
+    private final AdminClientProvider provider;
+    private final long idleTimeoutMs;
+    private final LongSupplier clock;
+    private final Map<String, PooledAdminClient> pool = new HashMap<>();
+
+    private final AtomicInteger pooledClients;
+    private final AtomicInteger leasedClients;
+    private final Counter createdClients;
+    private final Counter reusedClients;
+    private final Counter evictedClients;
+    private final Counter invalidatedClients;
+
+    /**
+     * Constructs the Admin client pool
+     *
+     * @param provider          Provider used to create the Admin clients
+     * @param metricsProvider   Metrics provider used to export the metrics of the pool
+     * @param idleTimeoutMs     Time in milliseconds after which unused Admin clients are closed
+     */
+    public AdminClientPool(AdminClientProvider provider, MetricsProvider metricsProvider, long idleTimeoutMs) {
+        this(provider, metricsProvider, idleTimeoutMs, System::currentTimeMillis);
+    }
+
+    /*test*/ AdminClientPool(AdminClientProvider provider, MetricsProvider metricsProvider, long idleTimeoutMs, LongSupplier clock) {
+        this.provider = provider;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.clock = clock;
+
+        this.pooledClients = metricsProvider.gauge(METRICS_PREFIX + "clients", "Number of Admin clients in the pool", Tags.empty());
+        this.leasedClients = metricsProvider.gauge(METRICS_PREFIX + "leased", "Number of Admin clients from the pool which are currently in use", Tags.empty());
+        this.createdClients = metricsProvider.counter(METRICS_PREFIX + "created", "Number of Admin clients created by the pool", Tags.empty());
+        this.reusedClients = metricsProvider.counter(METRICS_PREFIX + "reused", "Number of times an Admin client from the pool was reused", Tags.empty());
+        this.evictedClients = metricsProvider.counter(METRICS_PREFIX + "evicted", "Number of Admin clients closed because they were not used", Tags.empty());
+        this.invalidatedClients = metricsProvider.counter(METRICS_PREFIX + "invalidated", "Number of Admin clients closed because their certificates changed", Tags.empty());
+    }
+
+    /**
+     * Returns an Admin client for the given bootstrap servers and certificates. An open Admin client from the pool is
+     * used when there is one. Otherwise a new one is created and added to the pool. The returned Admin client has to be
+     * closed when it is not needed anymore.
+     *
+     * @param bootstrapHostnames Kafka hostname to connect to for administration operations
+     * @param clusterCaCertSecret Secret containing the cluster CA certificate for TLS encryption
+     * @param keyCertSecret Secret containing keystore for TLS client authentication
+     * @param keyCertName Key inside the keyCertSecret for getting the keystore and the corresponding password
+     * @return Instance of Kafka Admin interface
+     */
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        String key = bootstrapHostnames + "#" + keyCertName;
+        String fingerprint = fingerprint(clusterCaCertSecret, keyCertSecret, keyCertName);
+        List<PooledAdminClient> toClose = new ArrayList<>();
+
+        try {
+            synchronized (this) {
+                toClose.addAll(removeIdle());
+                toClose.addAll(removeInvalidated(key, fingerprint));
+                pooledClients.set(pool.size());
+
+                PooledAdminClient pooled = pool.get(key);
+                if (pooled != null) {
+                    reusedClients.increment();
+                    return pooled.lease();
+                }
+            }
+
+            // Creating the Admin client can take a while, so it is done without blocking the other callers
+            PooledAdminClient created = new PooledAdminClient(key, fingerprint, provider.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName));
+            createdClients.increment();
+
+            synchronized (this) {
+                toClose.addAll(removeInvalidated(key, fingerprint));
+
+                PooledAdminClient pooled = pool.get(key);
+                if (pooled != null) {
+                    // Another caller added the same Admin client in the meantime => use it and close the new one
+                    created.retire();
+                    toClose.add(created);
+                    reusedClients.increment();
+                    pooledClients.set(pool.size());
+                    return pooled.lease();
+                }
+
+                pool.put(key, created);
+                pooledClients.set(pool.size());
+                return created.lease();
+            }
+        } finally {
+            close(toClose);
+        }
+    }
+
+    /**
+     * @return  The provider used by this pool to create the Admin clients. The Admin clients created by it are not
+     *          pooled and are closed by the callers. This is used for short-lived Admin clients which are unlikely to
+     *          be reused.
+     */
+    public AdminClientProvider unpooled() {
+        return provider;
+    }
+
+    /**
+     * Closes the Admin clients which are not used and were not used for longer than the idle timeout. This is done
+     * every time an Admin client is requested. It can be called also periodically to close the Admin clients which
+     * are not needed anymore sooner.
+     */
+    public void evictIdle() {
+        List<PooledAdminClient> toClose;
+
+        synchronized (this) {
+            toClose = removeIdle();
+            pooledClients.set(pool.size());
+        }
+
+        close(toClose);
+    }
+
+    /**
+     * Closes all Admin clients in the pool which are not in use. The Admin clients which are in use are closed when
+     * they are returned to the pool.
+     */
+    public void closeAll() {
+        List<PooledAdminClient> toClose = new ArrayList<>();
+
+        synchronized (this) {
+            for (PooledAdminClient pooled : pool.values()) {
+                if (pooled.retire()) {
+                    toClose.add(pooled);
+                }
+            }
+
+            pool.clear();
+            pooledClients.set(0);
+        }
+
+        close(toClose);
+    }
+
+    /**
+     * @return  Number of Admin clients in the pool
+     */
+    /*test*/ synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Removes the Admin client with the given key from the pool when it was created with different certificates
+     *
+     * @return  List with the removed Admin client if it should be closed now
+     */
+    private List<PooledAdminClient> removeInvalidated(String key, String fingerprint) {
+        PooledAdminClient pooled = pool.get(key);
+
+        if (pooled != null && !pooled.fingerprint.equals(fingerprint)) {
+            LOGGER.debug("Certificates for Admin client {} changed, it will be replaced", key);
+            pool.remove(key);
+            invalidatedClients.increment();
+
+            if (pooled.retire()) {
+                return List.of(pooled);
+            }
+        }
+
+        return List.of();
+    }
+
+    private List<PooledAdminClient> removeIdle() {
+        List<PooledAdminClient> idle = new ArrayList<>();
+        long now = clock.getAsLong();
+
+        Iterator<PooledAdminClient> it = pool.values().iterator();
+        while (it.hasNext()) {
+            PooledAdminClient pooled = it.next();
+
+            if (pooled.leases == 0 && now - pooled.lastUsed >= idleTimeoutMs) {
+                LOGGER.debug("Admin client {} was not used for {}ms and will be closed", pooled.key, now - pooled.lastUsed);
+                it.remove();
+                pooled.retire();
+                idle.add(pooled);
+                evictedClients.increment();
+            }
+        }
+
+        return idle;
+    }
+
+    private void close(List<PooledAdminClient> toClose) {
+        for (PooledAdminClient pooled : toClose) {
+            try {
+                pooled.admin.close(CLOSE_TIMEOUT);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Failed to close Admin client {}", pooled.key, e);
+            }
+        }
+    }
+
+    /**
+     * Computes the fingerprint of the certificates and keys used by the Admin client
+     */
+    private static String fingerprint(Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        StringBuilder certificates = new StringBuilder();
+
+        if (clusterCaCertSecret != null && clusterCaCertSecret.getData() != null) {
+            // Sorted to not depend on the order of the entries in the Secret
+            new TreeMap<>(clusterCaCertSecret.getData()).forEach((name, value) -> certificates.append(name).append('=').append(value).append(';'));
+        }
+
+        if (keyCertSecret != null && keyCertSecret.getData() != null && keyCertName != null) {
+            certificates.append(keyCertSecret.getData().get(keyCertName + ".crt")).append(';')
+                    .append(keyCertSecret.getData().get(keyCertName + ".key"));
+        }
+
+        return Util.stringHash(certificates.toString());
+    }
+
+    /**
+     * Admin client in the pool
+     */
+    private class PooledAdminClient {
+        private final String key;
+        private final String fingerprint;
+        private final Admin admin;
+
+        // Guarded by the pool
+        private int leases = 0;
+        private long lastUsed;
+        private boolean retired = false;
+
+        PooledAdminClient(String key, String fingerprint, Admin admin) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.admin = admin;
+            this.lastUsed = clock.getAsLong();
+        }
+
+        /**
+         * @return  A new lease of this Admin client. Closing the lease returns it to the pool.
+         */
+        Admin lease() {
+            leases++;
+            leasedClients.incrementAndGet();
+            return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, new Lease(this));
+        }
+
+        /**
+         * Marks this Admin client as removed from the pool
+         *
+         * @return  True if the Admin client is not used and should be closed now. False if it will be closed when the
+         *          last lease is returned.
+         */
+        boolean retire() {
+            retired = true;
+            return leases == 0;
+        }
+
+        void release() {
+            boolean close;
+
+            synchronized (AdminClientPool.this) {
+                leases--;
+                leasedClients.decrementAndGet();
+                lastUsed = clock.getAsLong();
+                close = retired && leases == 0;
+            }
+
+            if (close) {
+                close(List.of(this));
+            }
+        }
+    }
+
+    /**
+     * Admin client handed out by the pool. It delegates all calls to the pooled Admin client except for closing it,
+     * which returns it to the pool.
+     */
+    private static class Lease implements InvocationHandler {
+        private final PooledAdminClient pooled;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        Lease(PooledAdminClient pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "PooledAdmin(" + pooled.key + ")";
+                }
+            } else if ("close".equals(method.getName())) {
+                if (closed.compareAndSet(false, true)) {
+                    pooled.release();
+                }
+
+                return null;
+            } else if (closed.get()) {
+                throw new IllegalStateException("The Admin client was already returned to the pool");
+            }
+
+            try {
+                return method.invoke(pooled.admin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -59,6 +59,12 @@ public class Annotations {
         ANNO_STRIMZI_IO_RESTART_CONNECTOR_TASK_PATTERN_TASK +
         ">\\d+)$");
 
+    /**
+     * Content hash of the desired resource stamped by the resource operators when the informer cache is used. It is
+     * used to skip the diff of resources which did not change since they were last applied.
+     */
+    public static final String ANNO_STRIMZI_IO_CONTENT_HASH = STRIMZI_DOMAIN + "content-hash";
+
     public static final String ANNO_DEP_KUBE_IO_REVISION = "deployment.kubernetes.io/revision";
 
     /**
@@ -0,0 +1,363 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Secret;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Keeps the PKCS12 truststores and keystores built from the certificates and keys stored in Kubernetes Secrets. Each
+ * store is built only once for every version of its Secret and is reused by all the clients which connect with it
+ * until the Secret changes. The stores are kept in memory and written into a temporary file only for the clients
+ * which can load them only from a file. When the Secret changes, the store of the previous version is retired and its
+ * file is deleted once the last client using it releases it. Stores which were not used for some time (for example
+ * because their Secret was deleted together with its cluster) are evicted and retired in the same way.
+ *
+ * The version of the Secret is its resource version. Secrets without a resource version (for example Secrets which
+ * were not read from Kubernetes) are compared by their data instead.
+ */
+public class CertificateStoreCache {
+    private static final Logger LOGGER = LogManager.getLogger(CertificateStoreCache.class);
+
+    /**
+     * Default time after which the stores which were not used are evicted from the cache
+     */
+    public static final long DEFAULT_IDLE_EVICTION_MS = 30L * 60L * 1_000L;
+
+    private final Map<String, Store> stores = new ConcurrentHashMap<>();
+    private final PasswordGenerator passwordGenerator = new PasswordGenerator(12);
+    private final long idleEvictionNanos;
+
+    /**
+     * Creates the cache with the default idle eviction time
+     */
+    public CertificateStoreCache() {
+        this(DEFAULT_IDLE_EVICTION_MS);
+    }
+
+    /**
+     * Creates the cache
+     *
+     * @param idleEvictionMs    Time in milliseconds after which the stores which were not used are evicted
+     */
+    public CertificateStoreCache(long idleEvictionMs) {
+        this.idleEvictionNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMs);
+    }
+
+    /**
+     * Returns the truststore with all certificates from the given Secret (all its *.crt entries). The truststore is
+     * protected with a randomly generated password.
+     *
+     * @param secret    Secret with the trusted certificates
+     *
+     * @return  The truststore
+     */
+    public Store trustStore(Secret secret) {
+        return store("truststore", secret, data -> {
+            String password = passwordGenerator.generate();
+
+            try {
+                KeyStore trustStore = KeyStore.getInstance("PKCS12");
+                trustStore.load(null, password.toCharArray());
+
+                CertificateFactory x509 = CertificateFactory.getInstance("X.509");
+                for (Map.Entry<String, String> entry : data.entrySet()) {
+                    if (entry.getKey().endsWith(".crt")) {
+                        trustStore.setCertificateEntry(entry.getKey(), certificate(x509, secret, entry.getKey()));
+                    }
+                }
+
+                return new Store(secret, trustStore, null, password);
+            } catch (GeneralSecurityException | IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns the keystore stored in the given Secret under the {@code <name>.p12} key and protected with the
+     * password stored under the {@code <name>.password} key. When the Secret contains also the {@code <name>.crt}
+     * certificate, it is checked to be a valid certificate.
+     *
+     * @param secret    Secret with the keystore
+     * @param name      Name of the keystore inside the Secret
+     *
+     * @return  The keystore
+     */
+    public Store keyStore(Secret secret, String name) {
+        return store("keystore-" + name, secret, data -> {
+            if (data.containsKey(name + ".crt")) {
+                try {
+                    certificate(CertificateFactory.getInstance("X.509"), secret, name + ".crt");
+                } catch (CertificateException e) {
+                    throw new RuntimeException("No security provider supports X.509", e);
+                }
+            }
+
+            return new Store(secret, null, decode(secret, name + ".p12"),
+                    new String(decode(secret, name + ".password"), StandardCharsets.US_ASCII));
+        });
+    }
+
+    private Store store(String type, Secret secret, Function<Map<String, String>, Store> builder) {
+        ObjectMeta metadata = metadata(secret);
+        if (secret.getData() == null) {
+            throw Util.missingSecretException(metadata.getNamespace(), metadata.getName());
+        }
+
+        String storeKey = type + "/" + metadata.getNamespace() + "/" + metadata.getName();
+        Store store = stores.compute(storeKey, (key, current) -> {
+            if (current != null && current.isFor(secret)) {
+                return current;
+            }
+
+            Store created = builder.apply(secret.getData());
+            if (current != null) {
+                LOGGER.debug("Secret {}/{} changed, rebuilding the {}", metadata.getNamespace(), metadata.getName(), type);
+                current.retire();
+            }
+            return created;
+        });
+
+        long now = System.nanoTime();
+        store.lastUsed = now;
+        evictIdle(storeKey, now);
+
+        return store;
+    }
+
+    /**
+     * Evicts the stores which were not used for longer than the idle eviction time
+     *
+     * @param usedKey   Key of the store which is being used
+     * @param now       Current time in nanoseconds
+     */
+    private void evictIdle(String usedKey, long now) {
+        for (Map.Entry<String, Store> entry : stores.entrySet()) {
+            Store store = entry.getValue();
+
+            if (!entry.getKey().equals(usedKey)
+                    && now - store.lastUsed > idleEvictionNanos
+                    && stores.remove(entry.getKey(), store)) {
+                LOGGER.debug("Evicting the unused {}", entry.getKey());
+                store.retire();
+            }
+        }
+    }
+
+    private static Certificate certificate(CertificateFactory x509, Secret secret, String key) {
+        try {
+            return x509.generateCertificate(new ByteArrayInputStream(decode(secret, key)));
+        } catch (CertificateException e) {
+            throw new RuntimeException("Bad/corrupt certificate found in data." + key.replace(".", "\\.") + " of Secret "
+                    + metadata(secret).getName() + " in namespace " + metadata(secret).getNamespace(), e);
+        }
+    }
+
+    private static byte[] decode(Secret secret, String key) {
+        String value = secret.getData().get(key);
+        if (value == null) {
+            throw new RuntimeException("The Secret " + metadata(secret).getNamespace() + "/" + metadata(secret).getName() + " is missing the key " + key);
+        }
+        return Base64.getDecoder().decode(value);
+    }
+
+    private static ObjectMeta metadata(Secret secret) {
+        return secret.getMetadata() != null ? secret.getMetadata() : new ObjectMeta();
+    }
+
+    /**
+     * PKCS12 store built from one version of a Secret
+     */
+    public static class Store {
+        private final String resourceVersion;
+        private final Map<String, String> data;
+        private final String password;
+
+        private KeyStore keyStore;
+        private byte[] encoded;
+        private File file;
+        private int fileHolders = 0;
+        private boolean retired = false;
+        private TrustManager[] trustManagers;
+        private KeyManager[] keyManagers;
+        private volatile long lastUsed;
+
+        private Store(Secret secret, KeyStore keyStore, byte[] encoded, String password) {
+            this.resourceVersion = metadata(secret).getResourceVersion();
+            this.data = new HashMap<>(secret.getData());
+            this.keyStore = keyStore;
+            this.encoded = encoded;
+            this.password = password;
+            this.lastUsed = System.nanoTime();
+        }
+
+        private boolean isFor(Secret secret) {
+            String version = metadata(secret).getResourceVersion();
+            if (version != null) {
+                return version.equals(resourceVersion);
+            } else {
+                return resourceVersion == null && data.equals(secret.getData());
+            }
+        }
+
+        /**
+         * @return  The password protecting the store
+         */
+        public String password() {
+            return password;
+        }
+
+        /**
+         * @return  The store
+         */
+        public synchronized KeyStore keyStore() {
+            if (keyStore == null) {
+                try {
+                    KeyStore store = KeyStore.getInstance("PKCS12");
+                    store.load(new ByteArrayInputStream(encoded), password.toCharArray());
+                    keyStore = store;
+                } catch (GeneralSecurityException | IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            return keyStore;
+        }
+
+        /**
+         * Returns the temporary file with the PKCS12 encoded store. The file is written when it is acquired for the
+         * first time and stays until it is released by all its holders and the store is retired (because the Secret
+         * changed or the store was evicted) or until the JVM exits. Every call to this method has to be followed by a
+         * call to {@link #releaseFile()} once the file is not needed anymore.
+         *
+         * @return  The file with the store
+         */
+        public synchronized File acquireFile() {
+            if (file == null) {
+                File f = null;
+                try {
+                    f = File.createTempFile("strimzi-", ".p12");
+                    f.deleteOnExit();
+                    Files.write(f.toPath(), encoded());
+                    file = f;
+                } catch (IOException | RuntimeException e) {
+                    if (f != null && !f.delete()) {
+                        LOGGER.warn("Failed to delete temporary file {} in exception handler", f);
+                    }
+                    throw e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+                }
+            }
+
+            fileHolders++;
+            return file;
+        }
+
+        /**
+         * Releases the file acquired using {@link #acquireFile()}. The file is deleted when the store is retired and
+         * this was its last holder.
+         */
+        public synchronized void releaseFile() {
+            if (fileHolders > 0) {
+                fileHolders--;
+            }
+
+            if (retired && fileHolders == 0) {
+                deleteFile();
+            }
+        }
+
+        private byte[] encoded() {
+            if (encoded == null) {
+                try {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    keyStore.store(out, password.toCharArray());
+                    encoded = out.toByteArray();
+                } catch (GeneralSecurityException | IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            return encoded;
+        }
+
+        /**
+         * @return  Trust managers trusting the certificates from the store
+         */
+        public synchronized TrustManager[] trustManagers() {
+            if (trustManagers == null) {
+                try {
+                    TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+                    factory.init(keyStore());
+                    trustManagers = factory.getTrustManagers();
+                } catch (GeneralSecurityException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            return trustManagers;
+        }
+
+        /**
+         * @return  Key managers using the keys and certificates from the store
+         */
+        public synchronized KeyManager[] keyManagers() {
+            if (keyManagers == null) {
+                try {
+                    KeyManagerFactory factory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+                    factory.init(keyStore(), password.toCharArray());
+                    keyManagers = factory.getKeyManagers();
+                } catch (GeneralSecurityException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            return keyManagers;
+        }
+
+        /**
+         * Marks the store as no longer cached. Its file is deleted right away if nobody holds it or otherwise when it
+         * is released by its last holder.
+         */
+        private synchronized void retire() {
+            retired = true;
+
+            if (fileHolders == 0) {
+                deleteFile();
+            }
+        }
+
+        private void deleteFile() {
+            if (file != null && !file.delete()) {
+                LOGGER.warn("Failed to delete file {}", file);
+            }
+            file = null;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -34,21 +35,13 @@ import io.vertx.core.Vertx;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.config.ConfigResource;
 
-import java.io.BufferedOutputStream;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.KeyStore;
-import java.security.KeyStoreException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
@@ -56,7 +49,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.function.BooleanSupplier;
@@ -68,6 +60,11 @@ import java.util.stream.Collectors;
 public class Util {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(Util.class);
 
+    /**
+     * How many times less often the waits which are driven by events poll their condition as a fallback
+     */
+    public static final int EVENT_DRIVEN_POLL_INTERVAL_MULTIPLIER = 10;
+
     public static <T> Future<T> async(Vertx vertx, Supplier<T> supplier) {
         Promise<T> result = Promise.promise();
         vertx.executeBlocking(
@@ -114,57 +111,208 @@ public class Util {
      */
     public static Future<Void> waitFor(Reconciliation reconciliation, Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
                                        Predicate<Throwable> failOnError) {
+        return waitFor(reconciliation, vertx, logContext, logState, pollIntervalMs, timeoutMs, completed, failOnError, null);
+    }
+
+    /**
+     * Invoke the given {@code completed} supplier on a pooled thread whenever one of the given {@code events} arrives
+     * until it returns true or {@code timeoutMs} milliseconds have elapsed. While the events are delivered, the
+     * {@code completed} supplier is additionally polled only every {@link #EVENT_DRIVEN_POLL_INTERVAL_MULTIPLIER}
+     * poll intervals as a fallback. Without events (when {@code events} is null, the subscription fails or the events
+     * are lost), it is polled approximately every {@code pollIntervalMs} milliseconds. The events are handled and the
+     * returned future is completed on the Vert.x context on which the wait was started.
+     *
+     * @param reconciliation The reconciliation
+     * @param vertx The vertx instance.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param failOnError Determine whether a given error thrown by {@code completed},
+     *                    should result in the immediate completion of the returned Future.
+     * @param events Source of the events which should trigger the evaluation of {@code completed} or null to just poll
+     * @return A future that completes when the given {@code completed} indicates readiness.
+     */
+    public static Future<Void> waitFor(Reconciliation reconciliation, Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
+                                       Predicate<Throwable> failOnError, WaitEvents events) {
         Promise<Void> promise = Promise.promise();
         LOGGER.debugCr(reconciliation, "Waiting for {} to get {}", logContext, logState);
         long deadline = System.currentTimeMillis() + timeoutMs;
+        // The events are delivered on the informer or HTTP client threads => they are moved to the context of the wait
+        Context context = vertx.getOrCreateContext();
         Handler<Long> handler = new Handler<Long>() {
+            // The state below is shared between the context of the wait and the worker thread subscribing to the events
+            private boolean subscribed = false;
+            private AutoCloseable subscription;
+            private boolean eventDriven = false;
+            private boolean lost = false;
+            private boolean checking = false;
+            private boolean recheck = false;
+            private boolean done = false;
+            private long timerId = -1;
+
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                synchronized (this) {
+                    if (done) {
+                        return;
+                    } else if (checking) {
+                        // The event arrived while the condition is being evaluated => evaluate it once more afterwards
+                        recheck = true;
+                        return;
+                    }
+
+                    if (this.timerId != -1) {
+                        vertx.cancelTimer(this.timerId);
+                        this.timerId = -1;
+                    }
+                    checking = true;
+                    recheck = false;
+                }
+
+                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<Void>executeBlocking(
                     future -> {
-                        try {
-                            if (completed.getAsBoolean())   {
-                                future.complete();
-                            } else {
-                                LOGGER.traceCr(reconciliation, "{} is not {}", logContext, logState);
-                                future.fail("Not " + logState + " yet");
-                            }
-                        } catch (Throwable e) {
-                            LOGGER.warnCr(reconciliation, "Caught exception while waiting for {} to get {}", logContext, logState, e);
-                            future.fail(e);
-                        }
+                        subscribe();
+                        checkCompleted(reconciliation, logContext, logState, completed, future);
                     },
                     true,
                     res -> {
                         if (res.succeeded()) {
                             LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
+                            finish();
                             promise.complete();
                         } else {
                             if (failOnError.test(res.cause())) {
+                                finish();
                                 promise.fail(res.cause());
                             } else {
                                 long timeLeft = deadline - System.currentTimeMillis();
                                 if (timeLeft <= 0) {
                                     String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
                                     LOGGER.errorCr(reconciliation, exceptionMessage);
+                                    finish();
                                     promise.fail(new TimeoutException(exceptionMessage));
                                 } else {
-                                    // Schedule ourselves to run again
-                                    vertx.setTimer(Math.min(pollIntervalMs, timeLeft), this);
+                                    reschedule(timeLeft);
                                 }
                             }
                         }
                     }
                 );
             }
+
+            // Subscribes before the first evaluation of the condition, so that no event is missed in between
+            private void subscribe() {
+                if (events != null && !subscribed) {
+                    subscribed = true;
+
+                    try {
+                        AutoCloseable created = events.subscribe(() -> context.runOnContext(v -> handle(null)), () -> context.runOnContext(v -> lost()));
+
+                        synchronized (this) {
+                            subscription = created;
+                            eventDriven = created != null && !lost;
+                        }
+                    } catch (Throwable e) {
+                        LOGGER.debugCr(reconciliation, "Failed to subscribe to the events of {}, falling back to polling", logContext, e);
+                    }
+                }
+            }
+
+            private void lost() {
+                synchronized (this) {
+                    lost = true;
+                    if (done || !eventDriven) {
+                        return;
+                    }
+
+                    LOGGER.debugCr(reconciliation, "Lost the events of {}, falling back to polling", logContext);
+                    eventDriven = false;
+                }
+                // Check right away in case an event was missed
+                handle(null);
+            }
+
+            private void reschedule(long timeLeft) {
+                boolean checkAgain;
+
+                synchronized (this) {
+                    checking = false;
+                    checkAgain = recheck;
+
+                    if (!checkAgain) {
+                        // Schedule ourselves to run again
+                        long interval = eventDriven ? pollIntervalMs * EVENT_DRIVEN_POLL_INTERVAL_MULTIPLIER : pollIntervalMs;
+                        timerId = vertx.setTimer(Math.min(interval, timeLeft), this);
+                    }
+                }
+
+                if (checkAgain) {
+                    handle(null);
+                }
+            }
+
+            private void finish() {
+                AutoCloseable toClose;
+
+                synchronized (this) {
+                    done = true;
+                    checking = false;
+                    if (timerId != -1) {
+                        vertx.cancelTimer(timerId);
+                        timerId = -1;
+                    }
+                    toClose = subscription;
+                    subscription = null;
+                }
+
+                closeSubscription(reconciliation, vertx, logContext, toClose);
+            }
         };
 
         // Call the handler ourselves the first time
-        handler.handle(null);
+        if (context == Vertx.currentContext()) {
+            handler.handle(null);
+        } else {
+            context.runOnContext(v -> handler.handle(null));
+        }
 
         return promise.future();
     }
 
+    private static void checkCompleted(Reconciliation reconciliation, String logContext, String logState, BooleanSupplier completed, Promise<Void> future) {
+        try {
+            if (completed.getAsBoolean())   {
+                future.complete();
+            } else {
+                LOGGER.traceCr(reconciliation, "{} is not {}", logContext, logState);
+                future.fail("Not " + logState + " yet");
+            }
+        } catch (Throwable e) {
+            LOGGER.warnCr(reconciliation, "Caught exception while waiting for {} to get {}", logContext, logState, e);
+            future.fail(e);
+        }
+    }
+
+    private static void closeSubscription(Reconciliation reconciliation, Vertx vertx, String logContext, AutoCloseable subscription) {
+        if (subscription == null) {
+            return;
+        }
+
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                try {
+                    subscription.close();
+                } catch (Throwable e) {
+                    LOGGER.debugCr(reconciliation, "Failed to close the events subscription of {}", logContext, e);
+                }
+                future.complete();
+            },
+            false,
+            ignored -> { });
+    }
+
     /**
      * Parse a map from String.
      * For example a map of images {@code 2.0.0=strimzi/kafka:latest-kafka-2.0.0, 2.1.0=strimzi/kafka:latest-kafka-2.1.0}
@@ -207,32 +355,6 @@ public class Util {
         return new RuntimeException("Secret " + namespace + "/" + secretName + " does not exist");
     }
 
-    /**
-     * Create a file with Keystore or Truststore from the given {@code bytes}.
-     * The file will be set to get deleted when the JVM exist.
-     *
-     * @param prefix    Prefix which will be used for the filename
-     * @param suffix    Suffix which will be used for the filename
-     * @param bytes     Byte array with the certificate store
-     * @return          File with the certificate store
-     */
-    public static File createFileStore(String prefix, String suffix, byte[] bytes) {
-        File f = null;
-        try {
-            f = File.createTempFile(prefix, suffix);
-            f.deleteOnExit();
-            try (OutputStream os = new BufferedOutputStream(new FileOutputStream(f))) {
-                os.write(bytes);
-            }
-            return f;
-        } catch (IOException e) {
-            if (f != null && !f.delete()) {
-                LOGGER.warnOp("Failed to delete temporary file in exception handler");
-            }
-            throw new RuntimeException(e);
-        }
-    }
-
     /**
      * Decode binary item from Kubernetes Secret from base64 into byte array
      *
@@ -244,51 +366,6 @@ public class Util {
         return Base64.getDecoder().decode(secret.getData().get(key));
     }
 
-    /**
-     * Create a Truststore file containing the given {@code certificate} and protected with {@code password}.
-     * The file will be set to get deleted when the JVM exist.
-     *
-     * @param prefix Prefix which will be used for the filename
-     * @param suffix Suffix which will be used for the filename
-     * @param certificates X509 certificates to put inside the Truststore
-     * @param password Password protecting the Truststore
-     * @return File with the Truststore
-     */
-    public static File createFileTrustStore(String prefix, String suffix, Set<X509Certificate> certificates, char[] password) {
-        try {
-            KeyStore trustStore = null;
-            trustStore = KeyStore.getInstance("PKCS12");
-            trustStore.load(null, password);
-
-            int aliasIndex = 0;
-            for (X509Certificate certificate : certificates) {
-                trustStore.setEntry(certificate.getSubjectDN().getName() + "-" + aliasIndex, new KeyStore.TrustedCertificateEntry(certificate), null);
-                aliasIndex++;
-            }
-
-            return store(prefix, suffix, trustStore, password);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private static File store(String prefix, String suffix, KeyStore trustStore, char[] password) throws Exception {
-        File f = null;
-        try {
-            f = File.createTempFile(prefix, suffix);
-            f.deleteOnExit();
-            try (OutputStream os = new BufferedOutputStream(new FileOutputStream(f))) {
-                trustStore.store(os, password);
-            }
-            return f;
-        } catch (IOException | KeyStoreException | NoSuchAlgorithmException | CertificateException | RuntimeException e) {
-            if (f != null && !f.delete()) {
-                LOGGER.warnOp("Failed to delete temporary file in exception handler");
-            }
-            throw e;
-        }
-    }
-
     /**
      * Logs environment variables into the regular log file.
      */
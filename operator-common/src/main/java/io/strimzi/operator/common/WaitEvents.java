@@ -0,0 +1,28 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+/**
+ * Source of events which can complete a wait started with
+ * {@link Util#waitFor(Reconciliation, io.vertx.core.Vertx, String, String, long, long, java.util.function.BooleanSupplier, java.util.function.Predicate, WaitEvents)}.
+ * Every event makes the wait re-evaluate its condition right away instead of at the next poll. The events are only
+ * hints: the condition is always evaluated by the wait itself and polling is still used as a fallback.
+ */
+@FunctionalInterface
+public interface WaitEvents {
+    /**
+     * Subscribes to the events. This method is called on a worker thread and can block (for example to open a watch).
+     *
+     * @param onEvent   Should be called (from any thread) when an event which might complete the wait arrives
+     * @param onLost    Should be called (from any thread) when the events will not be delivered anymore (for example
+     *                  because the watch was closed by the server). The wait then goes back to regular polling.
+     *
+     * @return  Subscription which is closed when the wait is finished or null if no events are available and the wait
+     *          should just poll
+     *
+     * @throws Exception    If the subscription fails. The wait then just polls.
+     */
+    AutoCloseable subscribe(Runnable onEvent, Runnable onLost) throws Exception;
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs a pool of worker threads which take the keys from a {@link WorkQueue} and reconcile them. The work queue
+ * guarantees that one key is never reconciled by two workers at the same time, so different keys are reconciled in
+ * parallel while the reconciliations of the same key are serialized. When the reconciliation of a key fails, the key
+ * is re-added to the queue with an exponential back-off. When it succeeds, the back-off of the key is reset.
+ *
+ * The workers start taking the keys only once the controller is ready (for example once its informers are synced).
+ *
+ * @param <K>   Type of the keys
+ */
+public class Controller<K> {
+    private static final Logger LOGGER = LogManager.getLogger(Controller.class);
+
+    /**
+     * Interval in which the workers check whether the controller is ready
+     */
+    private static final long READINESS_CHECK_INTERVAL_MS = 100L;
+
+    private final String name;
+    private final WorkQueue<K> queue;
+    private final Reconciler<K> reconciler;
+    private final BooleanSupplier ready;
+    private final List<Thread> workers;
+
+    private volatile boolean stop = false;
+
+    /**
+     * Reconciles a single key
+     *
+     * @param <K>   Type of the keys
+     */
+    @FunctionalInterface
+    public interface Reconciler<K> {
+        /**
+         * Reconciles the key. Throwing an exception marks the reconciliation as failed and makes the key to be retried
+         * after a back-off.
+         *
+         * @param key   Key which should be reconciled
+         *
+         * @throws Exception    If the reconciliation failed
+         */
+        void reconcile(K key) throws Exception;
+    }
+
+    /**
+     * Creates the controller
+     *
+     * @param name          Name of the controller used for the names of the worker threads
+     * @param queue         Work queue from which the keys are taken
+     * @param reconciler    Reconciler called for every key
+     * @param ready         Indicates whether the controller is ready to start reconciling
+     * @param workers       Number of worker threads
+     */
+    public Controller(String name, WorkQueue<K> queue, Reconciler<K> reconciler, BooleanSupplier ready, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("The controller needs at least one worker");
+        }
+
+        this.name = name;
+        this.queue = queue;
+        this.reconciler = reconciler;
+        this.ready = ready;
+        this.workers = new ArrayList<>(workers);
+
+        for (int i = 0; i < workers; i++) {
+            this.workers.add(new Thread(this::work, name + "-" + i));
+        }
+    }
+
+    /**
+     * Starts the worker threads
+     */
+    public void start() {
+        LOGGER.info("Starting {} with {} worker(s)", name, workers.size());
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Stops the controller: shuts the work queue down and interrupts the workers. The reconciliations which are in
+     * progress are not waited for.
+     */
+    public void stop() {
+        LOGGER.info("Requesting {} to stop", name);
+        stop = true;
+        queue.shutdown();
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * @return  The work queue of this controller
+     */
+    public WorkQueue<K> queue() {
+        return queue;
+    }
+
+    /**
+     * The run loop of the worker threads
+     */
+    private void work() {
+        try {
+            while (!stop && !ready.getAsBoolean()) {
+                Thread.sleep(READINESS_CHECK_INTERVAL_MS);
+            }
+
+            while (!stop) {
+                K key = queue.take();
+
+                if (key == null) {
+                    // The queue was shut down
+                    break;
+                }
+
+                process(key);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.debug("Worker {} was interrupted", Thread.currentThread().getName(), e);
+        }
+
+        LOGGER.debug("Worker {} stopped", Thread.currentThread().getName());
+    }
+
+    private void process(K key) {
+        try {
+            reconciler.reconcile(key);
+            queue.forget(key);
+        } catch (Exception e) {
+            if (stop) {
+                LOGGER.debug("Reconciliation of {} failed while {} is stopping", key, name, e);
+            } else {
+                long delayMs = queue.addRateLimited(key);
+                LOGGER.warn("Reconciliation of {} failed and will be retried in {}ms", key, delayMs, e);
+            }
+        } finally {
+            queue.done(key);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Work queue with the keys of the resources which should be reconciled by a controller. It works in a similar way to
+ * the work queues used by the Kubernetes controllers:
+ *
+ *   - Every key is in the queue at most once. Adding a key which is already waiting in the queue does nothing.
+ *   - A key which is being processed is never handed out to another worker. When it is added again while it is being
+ *     processed, it is handed out again only after the processing is finished (see {@link #done(Object)}).
+ *   - Failed keys can be re-added with a per-key exponential back-off (see {@link #addRateLimited(Object)}).
+ *
+ * The depth of the queue, the time the keys spend waiting in the queue, the duration of the processing and the number
+ * of adds and retries are exported as metrics when a metrics provider is set.
+ *
+ * @param <K>   Type of the keys
+ */
+public class WorkQueue<K> {
+    /**
+     * Default delay of the first retry of a failed key
+     */
+    public static final long DEFAULT_BASE_DELAY_MS = 200L;
+
+    /**
+     * Default maximal delay of the retries of a failed key
+     */
+    public static final long DEFAULT_MAX_DELAY_MS = 5L * 60L * 1_000L;
+
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    // Keys waiting to be handed out in the order in which they were added
+    private final Deque<K> queue = new ArrayDeque<>();
+    // All keys which were added and were not handed out yet with the time when they were added. This includes the
+    // keys added while they are being processed which are not in the queue yet.
+    private final Map<K, Long> dirty = new HashMap<>();
+    // Keys which are being processed with the time when the processing started
+    private final Map<K, Long> processing = new HashMap<>();
+    // Number of failures in a row per key
+    private final Map<K, Integer> failures = new HashMap<>();
+
+    private final ScheduledExecutorService delayedAdds;
+    private boolean shutdown = false;
+
+    private final AtomicInteger depth;
+    private final Counter adds;
+    private final Counter retries;
+    private final Timer latency;
+    private final Timer workDuration;
+
+    /**
+     * Creates the work queue without metrics and with the default back-off
+     *
+     * @param name  Name of the queue. It is used for the name of the thread executing the delayed adds.
+     */
+    public WorkQueue(String name) {
+        this(name, DEFAULT_BASE_DELAY_MS, DEFAULT_MAX_DELAY_MS, null);
+    }
+
+    /**
+     * Creates the work queue
+     *
+     * @param name              Name of the queue. It is used for the metric tags and for the name of the thread
+     *                          executing the delayed adds.
+     * @param baseDelayMs       Delay of the first retry of a failed key. Every further failure doubles the delay.
+     * @param maxDelayMs        Maximal delay of the retries of a failed key
+     * @param metricsProvider   Metrics provider used to create the queue metrics or null to not use metrics
+     */
+    public WorkQueue(String name, long baseDelayMs, long maxDelayMs, MetricsProvider metricsProvider) {
+        if (baseDelayMs <= 0 || maxDelayMs < baseDelayMs) {
+            throw new IllegalArgumentException("The base delay has to be positive and not bigger than the maximal delay");
+        }
+
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.delayedAdds = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-delayed-adds");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (metricsProvider != null) {
+            Tags tags = Tags.of(Tag.of("queue", name));
+            this.depth = metricsProvider.gauge(AbstractOperator.METRICS_PREFIX + "controller.queue.depth", "Number of keys waiting in the work queue", tags);
+            this.adds = metricsProvider.counter(AbstractOperator.METRICS_PREFIX + "controller.queue.adds", "Number of keys added to the work queue", tags);
+            this.retries = metricsProvider.counter(AbstractOperator.METRICS_PREFIX + "controller.queue.retries", "Number of keys re-added to the work queue after a failure", tags);
+            this.latency = metricsProvider.timer(AbstractOperator.METRICS_PREFIX + "controller.queue.latency", "Time the keys spend waiting in the work queue", tags);
+            this.workDuration = metricsProvider.timer(AbstractOperator.METRICS_PREFIX + "controller.work.duration", "Time spent processing the keys from the work queue", tags);
+        } else {
+            this.depth = null;
+            this.adds = null;
+            this.retries = null;
+            this.latency = null;
+            this.workDuration = null;
+        }
+    }
+
+    /**
+     * Adds the key to the queue unless it is already waiting in the queue.
+     *
+     * @param key   Key which should be added
+     *
+     * @return  True if the key was added, false if it was already waiting in the queue or if the queue is shut down
+     */
+    public synchronized boolean add(K key) {
+        if (shutdown || dirty.containsKey(key)) {
+            return false;
+        }
+
+        dirty.put(key, System.nanoTime());
+        if (!processing.containsKey(key)) {
+            // Keys which are being processed are queued only when the processing is done
+            queue.addLast(key);
+            notify();
+        }
+
+        if (adds != null) {
+            adds.increment();
+        }
+        updateDepth();
+
+        return true;
+    }
+
+    /**
+     * Adds the key to the queue after the given delay
+     *
+     * @param key       Key which should be added
+     * @param delayMs   Delay in milliseconds
+     */
+    public void addAfter(K key, long delayMs) {
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+        }
+
+        if (delayMs <= 0) {
+            add(key);
+        } else {
+            delayedAdds.schedule(() -> add(key), delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Adds the key to the queue after a back-off delay. The delay is {@code baseDelayMs * 2^(failures - 1)} capped at
+     * {@code maxDelayMs}, where failures is the number of times this method was called for the key since the last call
+     * to {@link #forget(Object)}.
+     *
+     * @param key   Key which should be retried
+     *
+     * @return  The delay in milliseconds after which the key will be added
+     */
+    public long addRateLimited(K key) {
+        long delayMs = baseDelayMs;
+
+        synchronized (this) {
+            int failed = failures.merge(key, 1, Integer::sum);
+            for (int i = 1; i < failed && delayMs < maxDelayMs; i++) {
+                delayMs *= 2;
+            }
+        }
+        delayMs = Math.min(delayMs, maxDelayMs);
+
+        if (retries != null) {
+            retries.increment();
+        }
+        addAfter(key, delayMs);
+
+        return delayMs;
+    }
+
+    /**
+     * Resets the back-off of the key. This should be called when the key was processed successfully.
+     *
+     * @param key   Key which should be forgotten
+     */
+    public synchronized void forget(K key) {
+        failures.remove(key);
+    }
+
+    /**
+     * @param key   Key
+     *
+     * @return  Number of failures of the key since it was last forgotten
+     */
+    public synchronized int failures(K key) {
+        return failures.getOrDefault(key, 0);
+    }
+
+    /**
+     * Waits for the next key and marks it as being processed. Every key handed out by this method has to be returned
+     * with {@link #done(Object)} when its processing is finished.
+     *
+     * @return  The next key or null if the queue was shut down
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized K take() throws InterruptedException {
+        while (queue.isEmpty() && !shutdown) {
+            wait();
+        }
+
+        if (shutdown) {
+            return null;
+        }
+
+        K key = queue.removeFirst();
+        long now = System.nanoTime();
+        Long addedAt = dirty.remove(key);
+        processing.put(key, now);
+
+        if (latency != null && addedAt != null) {
+            latency.record(now - addedAt, TimeUnit.NANOSECONDS);
+        }
+        updateDepth();
+
+        return key;
+    }
+
+    /**
+     * Marks the processing of the key as finished. If the key was added again while it was being processed, it is
+     * queued again.
+     *
+     * @param key   Key which was processed
+     */
+    public synchronized void done(K key) {
+        Long startedAt = processing.remove(key);
+
+        if (workDuration != null && startedAt != null) {
+            workDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (dirty.containsKey(key) && !shutdown) {
+            queue.addLast(key);
+            notify();
+        }
+    }
+
+    /**
+     * @return  Number of keys waiting in the queue
+     */
+    public synchronized int size() {
+        return dirty.size();
+    }
+
+    /**
+     * Shuts the queue down. The threads waiting for keys are woken up and get null from {@link #take()}. The keys added
+     * afterwards are ignored.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+            queue.clear();
+            dirty.clear();
+            updateDepth();
+            notifyAll();
+        }
+
+        delayedAdds.shutdownNow();
+    }
+
+    private void updateDepth() {
+        if (depth != null) {
+            depth.set(dirty.size());
+        }
+    }
+}
@@ -4,34 +4,65 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.client.HttpClientAware;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WaitEvents;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
  * This class applies the template method pattern, first checking whether the resource exists,
@@ -52,10 +83,23 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
                     "|/status)$");
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractResourceOperator.class);
+    private static final ObjectMapper CANONICAL_MAPPER = patchMapper().copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    private static final MediaType APPLY_PATCH = MediaType.parse("application/apply-patch+yaml");
+    private static final MediaType JSON_PATCH = MediaType.parse("application/json-patch+json");
+
+    /**
+     * Field manager used for the server-side apply requests
+     */
+    public static final String FIELD_MANAGER = "strimzi";
+
     protected final Vertx vertx;
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    private final Map<String, InformerCache<T>> caches = new ConcurrentHashMap<>();
+    private volatile boolean serverSideApply = false;
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private volatile MetricsProvider waitMetricsProvider;
 
     /**
      * Constructor.
@@ -93,7 +137,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @param reconciliation Reconciliation object
      * @param namespace The namespace of the resource to reconcile
      * @param name The name of the resource to reconcile
-     * @param desired The desired state of the resource.
+     * @param desired The desired state of the resource. It is not modified; when the resource is cached, the content
+     *                hash annotation is stamped on a copy which is then created or patched.
      * @return A future which completes when the resource has been updated.
      */
     public Future<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String namespace, String name, T desired) {
@@ -106,26 +151,51 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
-                if (desired != null) {
-                    if (current == null) {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(reconciliation, namespace, name, desired).onComplete(future);
+                InformerCache<T> cache = cache(namespace);
+                // The content hash is stamped on a copy to not modify the resource passed by the caller
+                T resource = desired != null && cache != null ? copyWithContentHash(desired) : desired;
+                String hash = resource != desired ? Annotations.stringAnnotation(resource, Annotations.ANNO_STRIMZI_IO_CONTENT_HASH, null) : null;
+
+                if (hash != null) {
+                    if (cache.isUpToDate(namespace, name, hash)) {
+                        LOGGER.debugCr(reconciliation, "{} {}/{} did not change since it was last applied, skipping it", resourceKind, namespace, name);
+                        cache.recordHashHit();
+                        future.complete(ReconcileResult.noop(cache.get(namespace, name)));
+                        return;
                     } else {
-                        LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
-                        internalPatch(reconciliation, namespace, name, current, desired).onComplete(future);
+                        cache.recordHashMiss();
                     }
+                }
+
+                T current = cachedGet(cache, namespace, name);
+                Future<ReconcileResult<T>> result;
+                if (resource != null) {
+                    result = createOrPatch(reconciliation, cache, namespace, name, current, resource);
                 } else {
                     if (current != null) {
                         // Deletion is desired
                         LOGGER.debugCr(reconciliation, "{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(reconciliation, namespace, name).onComplete(future);
+                        result = internalDelete(reconciliation, namespace, name);
                     } else {
                         LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, noop", resourceKind, namespace, name);
-                        future.complete(ReconcileResult.noop(null));
+                        result = Future.succeededFuture(ReconcileResult.noop(null));
                     }
                 }
 
+                if (cache != null) {
+                    result.onSuccess(r -> {
+                        if (hash != null
+                                && r.resourceOpt().isPresent()
+                                && hash.equals(Annotations.stringAnnotation(r.resource(), Annotations.ANNO_STRIMZI_IO_CONTENT_HASH, null))) {
+                            cache.recordApplied(namespace, name, r.resource());
+                        } else {
+                            cache.forgetApplied(namespace, name);
+                        }
+                    });
+                }
+
+                result.onComplete(future);
+
             },
             false,
             promise
@@ -133,6 +203,96 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return promise.future();
     }
 
+    /**
+     * Creates the resource when it does not exist or patches it otherwise. When the cache is used and turns out to be
+     * stale, the other operation is retried.
+     *
+     * @param reconciliation    The reconciliation
+     * @param cache             The informer cache or null if it is not used
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param current           The current resource or null if it does not exist
+     * @param desired           The desired resource
+     *
+     * @return  A future which completes when the resource has been created or patched
+     */
+    private Future<ReconcileResult<T>> createOrPatch(Reconciliation reconciliation, InformerCache<T> cache, String namespace, String name, T current, T desired) {
+        if (current == null) {
+            LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
+            return internalCreate(reconciliation, namespace, name, desired)
+                    .recover(error -> {
+                        if (cache != null && isConflict(error)) {
+                            // The resource was created since the cache was updated => patch it instead
+                            LOGGER.debugCr(reconciliation, "{} {}/{} was missing in the cache, but already exists, patching it", resourceKind, namespace, name);
+                            cache.recordStale();
+                            return internalPatch(reconciliation, namespace, name, operation().inNamespace(namespace).withName(name).get(), desired);
+                        } else {
+                            return Future.failedFuture(error);
+                        }
+                    });
+        } else {
+            LOGGER.debugCr(reconciliation, "{} {}/{} already exists, patching it", resourceKind, namespace, name);
+            return internalPatch(reconciliation, namespace, name, current, desired)
+                    .recover(error -> {
+                        if (cache != null && isNotFound(error)) {
+                            // The resource was deleted since the cache was updated => create it instead
+                            LOGGER.debugCr(reconciliation, "{} {}/{} was found in the cache, but does not exist anymore, creating it", resourceKind, namespace, name);
+                            cache.recordStale();
+                            return internalCreate(reconciliation, namespace, name, desired);
+                        } else {
+                            return Future.failedFuture(error);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Creates a deep copy of the desired resource with the content hash annotation stamped on it.
+     *
+     * @param desired   The desired resource
+     * @param <T>       The Kubernetes resource type
+     *
+     * @return  The copy of the desired resource with the content hash annotation
+     */
+    @SuppressWarnings("unchecked")
+    /* test */ static <T extends HasMetadata> T copyWithContentHash(T desired) {
+        T copy;
+        try {
+            copy = (T) CANONICAL_MAPPER.readValue(CANONICAL_MAPPER.writeValueAsBytes(desired), desired.getClass());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to copy " + desired.getKind() + " " + desired.getMetadata().getName(), e);
+        }
+
+        stampContentHash(copy);
+        return copy;
+    }
+
+    /**
+     * Computes the content hash of the desired resource and stamps it on the resource as an annotation. The hash is
+     * computed from the canonical JSON representation of the resource (with the map entries sorted by their keys) and
+     * does not include the content hash annotation itself.
+     *
+     * @param desired   The desired resource
+     *
+     * @return  The content hash
+     */
+    /* test */ static String stampContentHash(HasMetadata desired) {
+        // The annotations map passed by the caller might be immutable, so we always set a new one
+        Map<String, String> annotations = desired.getMetadata().getAnnotations() == null ? new LinkedHashMap<>() : new LinkedHashMap<>(desired.getMetadata().getAnnotations());
+        annotations.remove(Annotations.ANNO_STRIMZI_IO_CONTENT_HASH);
+        desired.getMetadata().setAnnotations(annotations);
+
+        String hash;
+        try {
+            hash = Util.stringHash(CANONICAL_MAPPER.writeValueAsString(desired));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to compute the content hash of " + desired.getKind() + " " + desired.getMetadata().getName(), e);
+        }
+
+        annotations.put(Annotations.ANNO_STRIMZI_IO_CONTENT_HASH, hash);
+        return hash;
+    }
+
     /**
      * Deletes the resource with the given namespace and name and completes the given future accordingly.
      * This method will do a cascading delete.
@@ -240,6 +400,10 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     protected Future<ReconcileResult<T>> internalPatch(Reconciliation reconciliation, String namespace, String name, T current, T desired, boolean cascading) {
+        if (serverSideApply) {
+            return internalApply(reconciliation, namespace, name, current, desired);
+        }
+
         if (needsPatching(reconciliation, name, current, desired))  {
             try {
                 T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(desired);
@@ -255,6 +419,223 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         }
     }
 
+    /**
+     * Applies the desired resource using server-side apply and completes the given future accordingly. The client-side
+     * diff is skipped and the Kubernetes API server decides whether the resource changed.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace Namespace of the resource
+     * @param name Name of the resource
+     * @param current Current resource. Used to migrate the field ownership and to find out whether the apply changed
+     *                the resource.
+     * @param desired Desired resource
+     *
+     * @return A future which completes with the outcome
+     */
+    protected Future<ReconcileResult<T>> internalApply(Reconciliation reconciliation, String namespace, String name, T current, T desired) {
+        try {
+            R resourceOp = operation().inNamespace(namespace).withName(name);
+            T migrated = migrateFieldOwnership(resourceOp, namespace, name, current);
+
+            if (migrated != current) {
+                LOGGER.debugCr(reconciliation, "Fields of {} {} in namespace {} have been moved to the {} field manager", resourceKind, name, namespace, FIELD_MANAGER);
+            }
+
+            T result = serverSideApply(resourceOp, namespace, name, desired);
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been applied", resourceKind, name, namespace);
+            return Future.succeededFuture(wasChanged(migrated, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
+        } catch (Exception e) {
+            LOGGER.debugCr(reconciliation, "Caught exception while applying {} {} in namespace {}", resourceKind, name, namespace, e);
+            return Future.failedFuture(e);
+        }
+    }
+
+    /**
+     * Moves the ownership of the fields set by the earlier client-side patches to the server-side apply field manager.
+     * The fields set by the patches are owned by the Update operation of the field manager named after the user agent
+     * of the Kubernetes client. Server-side apply removes only the fields owned by its own field manager, so without
+     * this migration the fields which were removed from the desired resource after switching to server-side apply
+     * would stay in the resource forever. The managed fields are updated using a JSON patch conditional on the resource
+     * version of the current resource, so the reconciliation fails and is retried when the resource changed meanwhile.
+     *
+     * @param resourceOp    Operation for the resource
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param current       Current resource
+     *
+     * @return  The resource with the migrated managed fields or the current resource if there was nothing to migrate
+     *
+     * @throws IOException If the request fails
+     */
+    @SuppressWarnings("unchecked")
+    private T migrateFieldOwnership(R resourceOp, String namespace, String name, T current) throws IOException {
+        String legacyManager = client.getConfiguration().getUserAgent();
+        if (legacyManager == null || current.getMetadata().getManagedFields() == null) {
+            return current;
+        }
+        legacyManager = legacyManager.split("/", 2)[0];
+
+        ArrayNode managedFields = patchMapper().valueToTree(current.getMetadata().getManagedFields());
+        ArrayNode migratedFields = patchMapper().createArrayNode();
+        List<JsonNode> legacyEntries = new ArrayList<>();
+        ObjectNode applyEntry = null;
+
+        for (JsonNode entry : managedFields) {
+            if (legacyManager.equals(entry.path("manager").asText())
+                    && "Update".equals(entry.path("operation").asText())
+                    && entry.path("subresource").asText().isEmpty()) {
+                legacyEntries.add(entry);
+            } else {
+                if (FIELD_MANAGER.equals(entry.path("manager").asText()) && "Apply".equals(entry.path("operation").asText())) {
+                    applyEntry = (ObjectNode) entry;
+                }
+
+                migratedFields.add(entry);
+            }
+        }
+
+        if (legacyEntries.isEmpty()) {
+            return current;
+        }
+
+        if (applyEntry == null) {
+            applyEntry = migratedFields.addObject()
+                    .put("manager", FIELD_MANAGER)
+                    .put("operation", "Apply")
+                    .put("apiVersion", legacyEntries.get(0).path("apiVersion").asText())
+                    .put("fieldsType", "FieldsV1");
+        }
+
+        for (JsonNode legacyEntry : legacyEntries) {
+            if (legacyEntry.get("fieldsV1") instanceof ObjectNode) {
+                applyEntry.set("fieldsV1", mergeFields(applyEntry.get("fieldsV1"), (ObjectNode) legacyEntry.get("fieldsV1")));
+            }
+        }
+
+        ArrayNode patch = patchMapper().createArrayNode();
+        patch.addObject()
+                .put("op", "test")
+                .put("path", "/metadata/resourceVersion")
+                .put("value", current.getMetadata().getResourceVersion());
+        patch.addObject()
+                .put("op", "replace")
+                .put("path", "/metadata/managedFields")
+                .set("value", migratedFields);
+
+        // The patch changes only the managed fields, so the API server does not add any entry of its own to them
+        HttpUrl url = HttpUrl.get(((OperationSupport) resourceOp).getResourceUrl());
+
+        return (T) sendPatch(url, JSON_PATCH, patchMapper().writeValueAsBytes(patch), "migrate the managed fields of", namespace, name, current.getClass());
+    }
+
+    /**
+     * Merges two sets of fields in the FieldsV1 format
+     *
+     * @param fields        Fields to merge into or null
+     * @param otherFields   Fields which should be merged
+     *
+     * @return  The union of both sets of fields
+     */
+    private static ObjectNode mergeFields(JsonNode fields, ObjectNode otherFields) {
+        ObjectNode merged = fields instanceof ObjectNode ? (ObjectNode) fields : patchMapper().createObjectNode();
+
+        otherFields.fields().forEachRemaining(field -> {
+            if (field.getValue() instanceof ObjectNode) {
+                merged.set(field.getKey(), mergeFields(merged.get(field.getKey()), (ObjectNode) field.getValue()));
+            }
+        });
+
+        return merged;
+    }
+
+    /**
+     * Sends the server-side apply request. The Fabric8 client does not support server-side apply, so the request is
+     * sent directly using the HTTP client of the Kubernetes client.
+     *
+     * @param resourceOp    Operation for the resource
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param desired       Desired resource
+     *
+     * @return The resource returned by the Kubernetes API server
+     *
+     * @throws IOException If the request fails
+     */
+    @SuppressWarnings("unchecked")
+    private T serverSideApply(R resourceOp, String namespace, String name, T desired) throws IOException {
+        // The apply request must not contain the managed fields and should not be conditional on the resource version
+        JsonNode body = patchMapper().valueToTree(desired);
+        if (body.get("metadata") instanceof ObjectNode) {
+            ((ObjectNode) body.get("metadata")).remove(List.of("managedFields", "resourceVersion"));
+        }
+
+        HttpUrl url = HttpUrl.get(((OperationSupport) resourceOp).getResourceUrl()).newBuilder()
+                .addQueryParameter("fieldManager", FIELD_MANAGER)
+                .addQueryParameter("force", "true")
+                .build();
+
+        return (T) sendPatch(url, APPLY_PATCH, patchMapper().writeValueAsBytes(body), "apply", namespace, name, desired.getClass());
+    }
+
+    /**
+     * Sends a patch request using the HTTP client of the Kubernetes client
+     *
+     * @param url           URL of the resource including the query parameters
+     * @param patchType     Media type of the patch
+     * @param patch         The patch
+     * @param action        Description of the patch used in the error message
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param type          Class of the resource
+     *
+     * @return The resource returned by the Kubernetes API server
+     *
+     * @throws IOException If the request fails
+     */
+    private Object sendPatch(HttpUrl url, MediaType patchType, byte[] patch, String action, String namespace, String name, Class<?> type) throws IOException {
+        Request request = new Request.Builder()
+                .url(url)
+                .patch(RequestBody.create(patchType, patch))
+                .build();
+
+        try (Response response = ((HttpClientAware) client).getHttpClient().newCall(request).execute()) {
+            ResponseBody responseBody = response.body();
+
+            if (!response.isSuccessful()) {
+                throw new KubernetesClientException("Failed to " + action + " " + resourceKind + " " + namespace + "/" + name + ": "
+                        + (responseBody != null ? responseBody.string() : response.message()), response.code(), null);
+            }
+
+            return patchMapper().readValue(responseBody.byteStream(), type);
+        }
+    }
+
+    /**
+     * Enables or disables server-side apply. When enabled, the resources are updated using server-side apply instead
+     * of a client-side diff followed by a patch. New resources are still created using a create request. Before the
+     * first apply to an existing resource, the ownership of the fields set by the earlier patches is moved to the
+     * server-side apply field manager.
+     *
+     * @param serverSideApply   True to use server-side apply. False to use the client-side diff and patch.
+     *
+     * @throws IllegalStateException    If server-side apply should be enabled but the Kubernetes client cannot send
+     *                                  the apply requests
+     */
+    public void setServerSideApply(boolean serverSideApply) {
+        if (serverSideApply && !(client instanceof HttpClientAware)) {
+            throw new IllegalStateException("Server-side apply cannot be used for " + resourceKind + " because the Kubernetes client does not provide its HTTP client");
+        }
+
+        this.serverSideApply = serverSideApply;
+    }
+
+    /**
+     * @return  True if this operator updates the resources using server-side apply
+     */
+    public boolean isServerSideApply() {
+        return serverSideApply;
+    }
+
     protected boolean wasChanged(T oldVersion, T newVersion) {
         if (oldVersion != null
                 && oldVersion.getMetadata() != null
@@ -291,7 +672,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return operation().inNamespace(namespace).withName(name).get();
+        return cachedGet(cache(namespace), namespace, name);
     }
 
     /**
@@ -304,6 +685,19 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+
+        InformerCache<T> cache = cache(namespace);
+        if (cache != null) {
+            T cached = cache.get(namespace, name);
+
+            if (cached != null || cache.isComplete()) {
+                cache.recordHit();
+                return Future.succeededFuture(cached);
+            } else {
+                cache.recordMiss();
+            }
+        }
+
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -314,6 +708,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
+        Map<String, String> selectorLabels = selector != null ? selector.toMap() : null;
+        InformerCache<T> cache = cache(namespace);
+        if (cache != null && cachedListAllowed(cache, selectorLabels)) {
+            return cache.list(namespace, selectorLabels);
+        }
+
         if (ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
@@ -361,6 +761,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        Map<String, String> selectorLabels = selector != null ? selector.toMap() : null;
+        InformerCache<T> cache = cache(namespace);
+        if (cache != null && cachedListAllowed(cache, selectorLabels)) {
+            return Future.succeededFuture(cache.list(namespace, selectorLabels));
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (ANY_NAMESPACE.equals(namespace))  {
@@ -376,6 +782,18 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+        InformerCache<T> cache = cache(namespace);
+        if (cache != null
+                && (selector.isEmpty() || selector.get().getMatchExpressions() == null || selector.get().getMatchExpressions().isEmpty())) {
+            Map<String, String> selectorLabels = selector.map(LabelSelector::getMatchLabels).orElse(null);
+
+            if (cachedListAllowed(cache, selectorLabels)) {
+                return Future.succeededFuture(cache.list(namespace, selectorLabels));
+            }
+        } else if (cache != null) {
+            cache.recordMiss();
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (ANY_NAMESPACE.equals(namespace))  {
@@ -422,12 +840,64 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * is ready.
      */
     public Future<Void> waitFor(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
+        long startNanos = System.nanoTime();
+
         return Util.waitFor(reconciliation, vertx,
             String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
             logState,
             pollIntervalMs,
             timeoutMs,
-            () -> predicate.test(namespace, name));
+            () -> predicate.test(namespace, name),
+            error -> false,
+            waitEvents(namespace, name))
+                .onComplete(res -> recordWait(logState, res.succeeded(), System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Source of the events which wake up the waits for the resource. When the informer cache for the namespace is
+     * enabled and contains the resource, the informer events are used. Otherwise, a watch is opened for the resource
+     * for the duration of the wait.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  The source of the events
+     */
+    protected WaitEvents waitEvents(String namespace, String name) {
+        return (onEvent, onLost) -> {
+            InformerCache<T> cache = cache(namespace);
+
+            if (cache != null && (cache.isComplete() || cache.contains(namespace, name))) {
+                return cache.addListener(namespace, name, onEvent);
+            } else {
+                return resourceSupport.watchEvents(operation().inNamespace(namespace).withName(name), onEvent, onLost);
+            }
+        };
+    }
+
+    /**
+     * Enables the metrics with the duration of the waits for the resources of this kind
+     *
+     * @param metricsProvider   Metrics provider used for the wait metrics
+     */
+    public void enableWaitMetrics(MetricsProvider metricsProvider) {
+        this.waitMetricsProvider = metricsProvider;
+    }
+
+    private void recordWait(String logState, boolean succeeded, long durationNanos) {
+        MetricsProvider metricsProvider = waitMetricsProvider;
+
+        if (metricsProvider != null) {
+            String result = succeeded ? "success" : "failure";
+            Timer timer = waitTimers.computeIfAbsent(logState + "/" + result, key -> metricsProvider.timer(
+                    AbstractOperator.METRICS_PREFIX + "resource.wait",
+                    "Time spent waiting for the resources to reach the desired state",
+                    Tags.of(Tag.of("kind", resourceKind), Tag.of("state", logState), Tag.of("result", result))));
+
+            if (timer != null) {
+                timer.record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        }
     }
 
     /**
@@ -476,6 +946,173 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         }
     }
 
+    /**
+     * Creates the informer for given resource type to inform on all instances in given namespace (or cluster-wide)
+     * matching the selector. The informer will use the additional indexers passed to this method.
+     *
+     * @param namespace         Namespace on which to inform
+     * @param selectorLabels    Selector which should be matched by the resources
+     * @param indexers          Additional indexers which should be added to the informer
+     *
+     * @return                  Informer instance
+     */
+    public SharedIndexInformer<T> informer(String namespace, Map<String, String> selectorLabels, Map<String, Function<T, List<String>>> indexers)   {
+        if (ANY_NAMESPACE.equals(namespace))    {
+            return operation().inAnyNamespace().withLabels(selectorLabels).withIndexers(indexers).inform();
+        } else {
+            return operation().inNamespace(namespace).withLabels(selectorLabels).withIndexers(indexers).inform();
+        }
+    }
+
+    /**
+     * Creates the informer for given resource type to inform on all instances in given namespace (or cluster-wide)
+     * matching the selector and having all the required labels. The informer will use the additional indexers passed
+     * to this method.
+     *
+     * @param namespace         Namespace on which to inform
+     * @param selectorLabels    Selector which should be matched by the resources
+     * @param requiredLabels    Labels which the resources have to have (with any value)
+     * @param indexers          Additional indexers which should be added to the informer
+     *
+     * @return                  Informer instance
+     */
+    public SharedIndexInformer<T> informer(String namespace, Map<String, String> selectorLabels, Set<String> requiredLabels, Map<String, Function<T, List<String>>> indexers)   {
+        FilterWatchListDeletable<T, L> operation = ANY_NAMESPACE.equals(namespace) ? operation().inAnyNamespace() : operation().inNamespace(namespace);
+
+        if (selectorLabels != null && !selectorLabels.isEmpty()) {
+            operation = operation.withLabels(selectorLabels);
+        }
+
+        for (String label : requiredLabels) {
+            operation = operation.withLabel(label);
+        }
+
+        return operation.withIndexers(indexers).inform();
+    }
+
+    /**
+     * Enables the informer based read cache for given namespace (or cluster-wide). Once the informer is synced, the
+     * get and list calls for this namespace are served from the cache whenever the cache can answer them. Writes are
+     * always sent to the Kubernetes API server.
+     *
+     * @param namespace         Namespace which should be cached
+     * @param selectorLabels    Selector which should be matched by the cached resources. Reads for resources outside
+     *                          of the selector are sent to the Kubernetes API server.
+     * @param metricsProvider   Metrics provider used for the cache metrics
+     */
+    public void enableCache(String namespace, Map<String, String> selectorLabels, MetricsProvider metricsProvider)  {
+        enableCache(namespace, selectorLabels, Set.of(), metricsProvider);
+    }
+
+    /**
+     * Enables the informer based read cache for given namespace (or cluster-wide). Once the informer is synced, the
+     * get and list calls for this namespace are served from the cache whenever the cache can answer them. Writes are
+     * always sent to the Kubernetes API server.
+     *
+     * @param namespace         Namespace which should be cached
+     * @param selectorLabels    Selector which should be matched by the cached resources. Reads for resources outside
+     *                          of the selector are sent to the Kubernetes API server.
+     * @param requiredLabels    Labels which the cached resources have to have (with any value). Only list calls which
+     *                          select on all of these labels are served from the cache.
+     * @param metricsProvider   Metrics provider used for the cache metrics
+     */
+    public void enableCache(String namespace, Map<String, String> selectorLabels, Set<String> requiredLabels, MetricsProvider metricsProvider)  {
+        caches.computeIfAbsent(namespace, ns -> {
+            LOGGER.infoOp("Enabling informer cache for {} in namespace {}", resourceKind, ns);
+            return new InformerCache<>(resourceKind, ns, selectorLabels, requiredLabels, informer(ns, selectorLabels, requiredLabels, InformerCache.indexers()), metricsProvider);
+        });
+    }
+
+    /**
+     * Disables the informer based read cache for given namespace and stops its informer.
+     *
+     * @param namespace     Namespace for which the cache should be disabled
+     */
+    public void disableCache(String namespace)  {
+        InformerCache<T> cache = caches.remove(namespace);
+
+        if (cache != null)  {
+            LOGGER.infoOp("Disabling informer cache for {} in namespace {}", resourceKind, namespace);
+            cache.stop();
+        }
+    }
+
+    /**
+     * Finds the informer cache which can be used for reads from given namespace.
+     *
+     * @param namespace     Namespace of the read
+     *
+     * @return  The informer cache or null if there is no synced cache for this namespace
+     */
+    private InformerCache<T> cache(String namespace)   {
+        if (caches.isEmpty()) {
+            return null;
+        }
+
+        InformerCache<T> cache = caches.get(namespace);
+        if (cache == null && !ANY_NAMESPACE.equals(namespace)) {
+            cache = caches.get(ANY_NAMESPACE);
+        }
+
+        if (cache != null && !cache.isSynced()) {
+            cache.recordMiss();
+            return null;
+        }
+
+        return cache;
+    }
+
+    /**
+     * Gets the resource from the cache when the cache can answer the request. Otherwise, gets it from the Kubernetes
+     * API server.
+     *
+     * @param cache         Informer cache or null if no cache should be used
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  The resource or null if it does not exist
+     */
+    private T cachedGet(InformerCache<T> cache, String namespace, String name) {
+        if (cache != null) {
+            T cached = cache.get(namespace, name);
+
+            if (cached != null || cache.isComplete()) {
+                cache.recordHit();
+                return cached;
+            } else {
+                cache.recordMiss();
+            }
+        }
+
+        return operation().inNamespace(namespace).withName(name).get();
+    }
+
+    /**
+     * Checks whether the cache can answer a list request with given selector and records the hit or miss.
+     *
+     * @param cache             Informer cache
+     * @param selectorLabels    Selector labels of the list request
+     *
+     * @return  True if the list should be served from the cache
+     */
+    private boolean cachedListAllowed(InformerCache<T> cache, Map<String, String> selectorLabels) {
+        if (cache.covers(selectorLabels)) {
+            cache.recordHit();
+            return true;
+        } else {
+            cache.recordMiss();
+            return false;
+        }
+    }
+
+    private static boolean isConflict(Throwable error) {
+        return error instanceof KubernetesClientException && ((KubernetesClientException) error).getCode() == 409;
+    }
+
+    private static boolean isNotFound(Throwable error) {
+        return error instanceof KubernetesClientException && ((KubernetesClientException) error).getCode() == 404;
+    }
+
     /**
      * Returns the Kubernetes client for given resource type
      *
@@ -0,0 +1,236 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Trie of the JSON paths which should be ignored when diffing resources. It is compiled from the same regular
+ * expressions which the operators use to declare the ignorable paths - for example
+ * {@code ^(/metadata/managedFields|/spec/containers/[0-9]+/resources|/status)$} - and matches exactly the same paths.
+ * Instead of building the whole path and matching it against the regular expression for every difference, the diff
+ * walks the trie together with the resources and knows immediately when it leaves all ignorable paths.
+ *
+ * Path segments consisting of {@code [0-9]+} match any array index (or any key consisting only of digits), segments
+ * without any special characters are matched literally and any other segments are matched using their own regular
+ * expression. When the pattern cannot be split into segments (for example because it uses groups inside the
+ * alternatives), the trie falls back to matching the whole path against the original pattern.
+ */
+public class IgnorablePaths {
+    private static final String DIGITS_SEGMENT = "[0-9]+";
+    private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\.\\[\\]{}()*+?^$|]");
+
+    private final Pattern pattern;
+    private final Node root;
+
+    private IgnorablePaths(Pattern pattern, Node root) {
+        this.pattern = pattern;
+        this.root = root;
+    }
+
+    /**
+     * Compiles the pattern with the ignorable paths into a trie
+     *
+     * @param pattern   Regular expression matching the ignorable paths
+     *
+     * @return  The compiled ignorable paths
+     */
+    public static IgnorablePaths compile(Pattern pattern) {
+        String regex = pattern.pattern();
+
+        if (!regex.startsWith("^(") || !regex.endsWith(")$")) {
+            return new IgnorablePaths(pattern, null);
+        }
+
+        String alternatives = regex.substring(2, regex.length() - 2);
+        if (alternatives.contains("(") || alternatives.contains(")")) {
+            return new IgnorablePaths(pattern, null);
+        }
+
+        Node root = new Node();
+
+        for (String alternative : alternatives.split("\\|")) {
+            if (!alternative.startsWith("/")) {
+                return new IgnorablePaths(pattern, null);
+            }
+
+            Node node = root;
+            for (String segment : alternative.substring(1).split("/", -1)) {
+                node = node.child(segment);
+            }
+
+            node.ignorable = true;
+        }
+
+        return new IgnorablePaths(pattern, root);
+    }
+
+    /**
+     * @return  True if the paths were compiled into a trie. False if the trie falls back to the regular expression.
+     */
+    public boolean isCompiled() {
+        return root != null;
+    }
+
+    /**
+     * @return  The state of the trie for the root of the resource
+     */
+    public List<Node> start() {
+        return root == null ? List.of() : List.of(root);
+    }
+
+    /**
+     * Moves the trie to a child of the current path.
+     *
+     * @param state     The current state of the trie
+     * @param segment   The unescaped object key of the child
+     *
+     * @return  The new state of the trie. Empty list if the path is outside of all ignorable paths.
+     */
+    public List<Node> next(List<Node> state, String segment) {
+        if (state.isEmpty()) {
+            return state;
+        }
+
+        List<Node> next = null;
+
+        for (Node node : state) {
+            next = node.matching(segment, next);
+        }
+
+        return next == null ? List.of() : next;
+    }
+
+    /**
+     * Moves the trie to an array element of the current path.
+     *
+     * @param state     The current state of the trie
+     * @param index     The index of the array element
+     *
+     * @return  The new state of the trie. Empty list if the path is outside of all ignorable paths.
+     */
+    public List<Node> next(List<Node> state, int index) {
+        return state.isEmpty() ? state : next(state, Integer.toString(index));
+    }
+
+    /**
+     * Checks whether a difference at given path can be ignored.
+     *
+     * @param state     The state of the trie for the path
+     * @param path      The JSON pointer of the path. Used only when the trie falls back to the regular expression.
+     *
+     * @return  True if the difference can be ignored. False otherwise.
+     */
+    public boolean isIgnorable(List<Node> state, String path) {
+        if (root == null) {
+            return pattern.matcher(path).matches();
+        }
+
+        for (Node node : state) {
+            if (node.ignorable) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Single node of the trie
+     */
+    public static class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Node> patterns = new HashMap<>();
+        private final Map<String, Pattern> compiledPatterns = new HashMap<>();
+        private Node digits;
+        private boolean ignorable = false;
+
+        private Node child(String segment) {
+            if (DIGITS_SEGMENT.equals(segment)) {
+                if (digits == null) {
+                    digits = new Node();
+                }
+
+                return digits;
+            } else if (REGEX_METACHARACTERS.matcher(segment).find()) {
+                compiledPatterns.computeIfAbsent(segment, Pattern::compile);
+                return patterns.computeIfAbsent(segment, s -> new Node());
+            } else {
+                return literals.computeIfAbsent(unescape(segment), s -> new Node());
+            }
+        }
+
+        private List<Node> matching(String segment, List<Node> matches) {
+            Node literal = literals.get(segment);
+            if (literal != null) {
+                matches = add(matches, literal);
+            }
+
+            if (digits != null && isDigits(segment)) {
+                matches = add(matches, digits);
+            }
+
+            if (!patterns.isEmpty()) {
+                String escaped = escape(segment);
+
+                for (Map.Entry<String, Node> entry : patterns.entrySet()) {
+                    if (compiledPatterns.get(entry.getKey()).matcher(escaped).matches()) {
+                        matches = add(matches, entry.getValue());
+                    }
+                }
+            }
+
+            return matches;
+        }
+
+        private static List<Node> add(List<Node> matches, Node node) {
+            if (matches == null) {
+                matches = new ArrayList<>(1);
+            }
+
+            matches.add(node);
+            return matches;
+        }
+
+        private static boolean isDigits(String segment) {
+            if (segment.isEmpty()) {
+                return false;
+            }
+
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Escapes the object key to be used as a segment of a JSON pointer
+     *
+     * @param segment   The object key
+     *
+     * @return  Escaped segment
+     */
+    static String escape(String segment) {
+        if (segment.indexOf('~') < 0 && segment.indexOf('/') < 0) {
+            return segment;
+        }
+
+        return segment.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String segment) {
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read cache for the resource operators backed by a SharedIndexInformer. The cache holds all resources of a given kind
+ * in one namespace (or in all namespaces) which match the selector labels of the informer and which have all the
+ * required labels (with any value). Apart from the default namespace index, the informer maintains a label index and
+ * an owner index which are used to serve list requests without iterating through the whole cache.
+ *
+ * The cache is used only for reads. All writes still go directly to the Kubernetes API server and the cache is updated
+ * through the informer events.
+ *
+ * The cache also remembers the resource version of each resource at the time when it was last applied by the operator.
+ * Together with the content hash annotation stamped on the desired resources, this allows the resource operators to
+ * skip resources which did not change since they were last applied.
+ *
+ * The informer events can be also used to wake up the waits for the cached resources (for example for a Pod to get
+ * ready) instead of polling the Kubernetes API server.
+ *
+ * @param <T>   The Kubernetes resource type
+ */
+public class InformerCache<T extends HasMetadata> {
+    /**
+     * Name of the index with the resource labels. The index keys are in the key=value format.
+     */
+    public static final String LABEL_INDEX = "labels";
+
+    /**
+     * Name of the index with the UIDs of the owners of the resource.
+     */
+    public static final String OWNER_INDEX = "owners";
+
+    private static final ObjectMapper COPY_MAPPER = Serialization.jsonMapper();
+
+    private final String namespace;
+    private final Map<String, String> selectorLabels;
+    private final Set<String> requiredLabels;
+    private final SharedIndexInformer<T> informer;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+    private final Counter hashHits;
+    private final Counter hashMisses;
+
+    private final Map<String, String> appliedVersions = new ConcurrentHashMap<>();
+    private final Map<String, Set<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the informer cache
+     *
+     * @param kind              Kind of the resource (used for metrics)
+     * @param namespace         Namespace of the informer or * for informer across all namespaces
+     * @param selectorLabels    Selector labels used by the informer
+     * @param informer          Informer which should be used to serve the reads. It should be created with the
+     *                          indexers provided by {@link #indexers()}.
+     * @param metrics           Metrics provider used for the cache-hit, cache-miss, staleness and content hash metrics
+     */
+    public InformerCache(String kind, String namespace, Map<String, String> selectorLabels, SharedIndexInformer<T> informer, MetricsProvider metrics) {
+        this(kind, namespace, selectorLabels, Set.of(), informer, metrics);
+    }
+
+    /**
+     * Constructs the informer cache
+     *
+     * @param kind              Kind of the resource (used for metrics)
+     * @param namespace         Namespace of the informer or * for informer across all namespaces
+     * @param selectorLabels    Selector labels used by the informer
+     * @param requiredLabels    Labels which the resources in the informer have to have with any value
+     * @param informer          Informer which should be used to serve the reads. It should be created with the
+     *                          indexers provided by {@link #indexers()}.
+     * @param metrics           Metrics provider used for the cache-hit, cache-miss, staleness and content hash metrics
+     */
+    public InformerCache(String kind, String namespace, Map<String, String> selectorLabels, Set<String> requiredLabels, SharedIndexInformer<T> informer, MetricsProvider metrics) {
+        this.namespace = namespace;
+        this.selectorLabels = selectorLabels == null ? Map.of() : selectorLabels;
+        this.requiredLabels = requiredLabels == null ? Set.of() : requiredLabels;
+        this.informer = informer;
+
+        Tags tags = Tags.of(Tag.of("kind", kind), Tag.of("namespace", AbstractResourceOperator.ANY_NAMESPACE.equals(namespace) ? "" : namespace));
+        this.hits = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.hits", "Number of reads served from the informer cache", tags);
+        this.misses = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.misses", "Number of reads which could not be served from the informer cache and were sent to the Kubernetes API server", tags);
+        this.stale = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.stale", "Number of reads served from the informer cache which turned out to be stale", tags);
+        this.hashHits = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.hash.hits", "Number of reconciliations skipped because the content hash of the desired resource matched the last applied resource", tags);
+        this.hashMisses = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.hash.misses", "Number of reconciliations which had to diff the desired resource because its content hash did not match the last applied resource", tags);
+
+        informer.addEventHandler(new ResourceEventHandler<T>() {
+            @Override
+            public void onAdd(T resource) {
+                notifyListeners(resource);
+            }
+
+            @Override
+            public void onUpdate(T oldResource, T newResource) {
+                notifyListeners(newResource);
+            }
+
+            @Override
+            public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+                notifyListeners(resource);
+            }
+        });
+    }
+
+    /**
+     * Creates the indexers which should be registered with the informer backing this cache.
+     *
+     * @param <T>   The Kubernetes resource type
+     *
+     * @return  Map with the label and owner indexers
+     */
+    public static <T extends HasMetadata> Map<String, Function<T, List<String>>> indexers() {
+        return Map.of(
+                LABEL_INDEX, InformerCache::labelIndexKeys,
+                OWNER_INDEX, InformerCache::ownerIndexKeys
+        );
+    }
+
+    private static List<String> labelIndexKeys(HasMetadata resource) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+
+        if (labels == null) {
+            return List.of();
+        } else {
+            return labels.entrySet().stream().map(InformerCache::labelIndexKey).collect(Collectors.toList());
+        }
+    }
+
+    private static String labelIndexKey(Map.Entry<String, String> label) {
+        return label.getKey() + "=" + label.getValue();
+    }
+
+    private static List<String> ownerIndexKeys(HasMetadata resource) {
+        List<OwnerReference> owners = resource.getMetadata().getOwnerReferences();
+
+        if (owners == null) {
+            return List.of();
+        } else {
+            return owners.stream().map(OwnerReference::getUid).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * @return  True if the informer finished the initial list and the cache can be used. False otherwise.
+     */
+    public boolean isSynced() {
+        return informer.hasSynced();
+    }
+
+    /**
+     * Checks whether this cache holds the resources from given namespace.
+     *
+     * @param namespace     Namespace which should be checked
+     *
+     * @return  True if the cache holds the resources from this namespace. False otherwise.
+     */
+    public boolean coversNamespace(String namespace) {
+        return AbstractResourceOperator.ANY_NAMESPACE.equals(this.namespace) || this.namespace.equals(namespace);
+    }
+
+    /**
+     * Checks whether a missing resource in the cache means that it does not exist. That is true only when the informer
+     * does not use any selector or required labels. Otherwise the resource might exist, but not match the selector.
+     *
+     * @return  True if the cache contains all resources of this kind in its namespace
+     */
+    public boolean isComplete() {
+        return selectorLabels.isEmpty() && requiredLabels.isEmpty();
+    }
+
+    /**
+     * Checks whether all resources matching the selector would be present in the cache.
+     *
+     * @param selector  The selector labels
+     *
+     * @return  True if the selector narrows down the selector of the informer, selects on all the required labels and
+     *          the cache can be used to answer the query
+     */
+    public boolean covers(Map<String, String> selector) {
+        if (selector == null || selector.isEmpty()) {
+            return isComplete();
+        } else {
+            return selector.entrySet().containsAll(selectorLabels.entrySet())
+                    && selector.keySet().containsAll(requiredLabels);
+        }
+    }
+
+    /**
+     * Gets a resource from the cache. The returned resource is a copy of the cached object and can be modified by the
+     * caller.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  The resource or null if it is not in the cache
+     */
+    public T get(String namespace, String name) {
+        return copy(informer.getIndexer().getByKey(Cache.namespaceKeyFunc(namespace, name)));
+    }
+
+    /**
+     * Checks whether a resource is in the cache. Unlike {@link #get(String, String)}, this does not copy the cached
+     * resource.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  True if the resource is in the cache. False otherwise.
+     */
+    public boolean contains(String namespace, String name) {
+        return informer.getIndexer().getByKey(Cache.namespaceKeyFunc(namespace, name)) != null;
+    }
+
+    /**
+     * Registers a listener which is called (on the informer thread) whenever the resource is added, updated or
+     * deleted.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param listener      The listener
+     *
+     * @return  AutoCloseable which unregisters the listener
+     */
+    public AutoCloseable addListener(String namespace, String name, Runnable listener) {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+        listeners.compute(key, (k, keyListeners) -> {
+            Set<Runnable> updated = keyListeners != null ? keyListeners : new CopyOnWriteArraySet<>();
+            updated.add(listener);
+            return updated;
+        });
+
+        return () -> listeners.computeIfPresent(key, (k, keyListeners) -> {
+            keyListeners.remove(listener);
+            return keyListeners.isEmpty() ? null : keyListeners;
+        });
+    }
+
+    private void notifyListeners(T resource) {
+        if (resource != null && resource.getMetadata() != null) {
+            Set<Runnable> keyListeners = listeners.get(Cache.namespaceKeyFunc(resource.getMetadata().getNamespace(), resource.getMetadata().getName()));
+
+            if (keyListeners != null) {
+                keyListeners.forEach(Runnable::run);
+            }
+        }
+    }
+
+    /**
+     * Lists the resources from the cache matching the selector. The returned resources are copies of the cached
+     * objects and can be modified by the caller.
+     *
+     * @param namespace     Namespace of the resources or * for all namespaces
+     * @param selector      Selector labels which the resources should match
+     *
+     * @return  List with the matching resources
+     */
+    public List<T> list(String namespace, Map<String, String> selector) {
+        List<T> candidates;
+
+        if (selector != null && !selector.isEmpty()) {
+            candidates = informer.getIndexer().byIndex(LABEL_INDEX, labelIndexKey(selector.entrySet().iterator().next()));
+        } else if (!AbstractResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            candidates = informer.getIndexer().byIndex(Cache.NAMESPACE_INDEX, namespace);
+        } else {
+            candidates = informer.getIndexer().list();
+        }
+
+        return candidates.stream()
+                .filter(resource -> AbstractResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(resource.getMetadata().getNamespace()))
+                .filter(resource -> selector == null || matchesLabels(resource, selector))
+                .map(this::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lists the resources from the cache which are owned by a resource with given UID.
+     *
+     * @param namespace     Namespace of the resources
+     * @param ownerUid      UID of the owner resource
+     *
+     * @return  List with the owned resources
+     */
+    public List<T> listByOwner(String namespace, String ownerUid) {
+        return informer.getIndexer().byIndex(OWNER_INDEX, ownerUid)
+                .stream()
+                .filter(resource -> namespace.equals(resource.getMetadata().getNamespace()))
+                .map(this::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lists the resources from the cache with given key in an additional index registered with the informer. The
+     * returned resources are copies of the cached objects and can be modified by the caller.
+     *
+     * @param indexName     Name of the index
+     * @param indexKey      Key in the index
+     *
+     * @return  List with the matching resources
+     */
+    public List<T> listByIndex(String indexName, String indexKey) {
+        return informer.getIndexer().byIndex(indexName, indexKey)
+                .stream()
+                .map(this::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks whether the resource in the cache was last applied with given content hash and was not changed since then
+     * by anyone else. This check does not copy the cached resource.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param hash          Content hash of the desired resource
+     *
+     * @return  True if the resource in the cache has the same content hash annotation and the same resource version
+     *          as when it was last applied. False otherwise.
+     */
+    public boolean isUpToDate(String namespace, String name, String hash) {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+        T cached = informer.getIndexer().getByKey(key);
+
+        return cached != null
+                && hash.equals(Annotations.stringAnnotation(cached, Annotations.ANNO_STRIMZI_IO_CONTENT_HASH, null))
+                && cached.getMetadata().getResourceVersion() != null
+                && Objects.equals(cached.getMetadata().getResourceVersion(), appliedVersions.get(key));
+    }
+
+    /**
+     * Records the resource version of a resource which was applied by the operator
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param resource      The resource as returned by the Kubernetes API server after it was applied
+     */
+    public void recordApplied(String namespace, String name, T resource) {
+        if (resource != null && resource.getMetadata() != null && resource.getMetadata().getResourceVersion() != null) {
+            appliedVersions.put(Cache.namespaceKeyFunc(namespace, name), resource.getMetadata().getResourceVersion());
+        } else {
+            forgetApplied(namespace, name);
+        }
+    }
+
+    /**
+     * Forgets the last applied resource version of a resource (for example because it was deleted)
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    public void forgetApplied(String namespace, String name) {
+        appliedVersions.remove(Cache.namespaceKeyFunc(namespace, name));
+    }
+
+    private static boolean matchesLabels(HasMetadata resource, Map<String, String> selector) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+
+        return labels != null && labels.entrySet().containsAll(selector.entrySet());
+    }
+
+    /**
+     * Copies the cached resource. The resource is serialized into a token buffer and deserialized from it again, which
+     * avoids encoding and parsing the JSON text.
+     *
+     * @param resource  The cached resource
+     *
+     * @return  Deep copy of the resource
+     */
+    @SuppressWarnings("unchecked")
+    private T copy(T resource) {
+        if (resource == null) {
+            return null;
+        }
+
+        try (TokenBuffer buffer = new TokenBuffer(COPY_MAPPER, false)) {
+            COPY_MAPPER.writeValue(buffer, resource);
+            return (T) COPY_MAPPER.readValue(buffer.asParser(), resource.getClass());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to copy " + resource.getKind() + " " + resource.getMetadata().getName(), e);
+        }
+    }
+
+    /**
+     * Records a read served from the cache
+     */
+    public void recordHit() {
+        hits.increment();
+    }
+
+    /**
+     * Records a read which had to be sent to the Kubernetes API server
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Records a read served from the cache which turned out to be outdated
+     */
+    public void recordStale() {
+        stale.increment();
+    }
+
+    /**
+     * Records a reconciliation skipped because the content hash matched the last applied resource
+     */
+    public void recordHashHit() {
+        hashHits.increment();
+    }
+
+    /**
+     * Records a reconciliation which had to diff the resource because the content hash did not match
+     */
+    public void recordHashMiss() {
+        hashMisses.increment();
+    }
+
+    /**
+     * Stops the informer backing this cache
+     */
+    public void stop() {
+        informer.stop();
+    }
+}
@@ -6,10 +6,11 @@ package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
@@ -17,34 +18,30 @@ import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
 class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceDiff.class.getName());
 
+    // The ignorable paths are static patterns declared by the resource operators, so we compile each of them only once
+    private static final Map<Pattern, IgnorablePaths> COMPILED_IGNORABLE_PATHS = new ConcurrentHashMap<>();
+
     private final boolean isEmpty;
 
     public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
         JsonNode source = patchMapper().valueToTree(current == null ? "{}" : current);
         JsonNode target = patchMapper().valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-
-        int num = 0;
+        IgnorablePaths ignorablePaths = COMPILED_IGNORABLE_PATHS.computeIfAbsent(ignorableFields, IgnorablePaths::compile);
 
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (ignorableFields.matcher(pathValue).matches()) {
-                LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, d);
-                continue;
+        this.isEmpty = StructuralDiff.diff(source, target, ignorablePaths, (operation, pathValue, sourceValue, targetValue, ignorable) -> {
+            if (ignorable) {
+                LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {} {}", resourceKind, resourceName, operation, pathValue);
+                return true;
             }
 
             if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugCr(reconciliation, "{} {} differs: {}", resourceKind, resourceName, d);
+                LOGGER.debugCr(reconciliation, "{} {} differs: {} {}", resourceKind, resourceName, operation, pathValue);
                 LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
                 LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
             }
 
-            num++;
-            break;
-        }
-
-        this.isEmpty = num == 0;
+            return false;
+        });
     }
 
     @Override
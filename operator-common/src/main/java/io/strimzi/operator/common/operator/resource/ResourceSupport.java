@@ -214,6 +214,31 @@ public class ResourceSupport {
         }.resultPromise.future();
     }
 
+    /**
+     * Opens a watch which reports every event to the given listener. This is used to wake up the waits for the
+     * resource instead of polling it.
+     *
+     * @param watchable     The resource which should be watched
+     * @param onEvent       Called for every event
+     * @param onLost        Called when the watch is closed because of an error
+     * @param <T>           The type of the watched resource
+     *
+     * @return  The watch or null if the watch was not opened
+     */
+    <T> Watch watchEvents(Watchable<Watcher<T>> watchable, Runnable onEvent, Runnable onLost) {
+        return watchable.watch(new Watcher<T>() {
+            @Override
+            public void eventReceived(Action action, T resource) {
+                onEvent.run();
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                onLost.run();
+            }
+        });
+    }
+
     /**
      * Asynchronously deletes the given resource(s), returning a Future which completes on the context thread.
      * <strong>Note: The API server can return asynchronously, meaning the resource is still accessible from the API server
@@ -0,0 +1,307 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Short-circuiting structural diff of two JSON trees. It reports the same differences at the same paths as the JSON
+ * patch generated by {@code JsonDiff.asJson} - including the longest-common-subsequence based pairing of the array
+ * elements - but it does not build the patch. Each difference is passed to the visitor together with the information
+ * whether it is on one of the ignorable paths. The visitor decides whether the diff should continue, so the diff can
+ * stop at the first difference which cannot be ignored.
+ *
+ * Unlike {@code JsonDiff.asJson}, the differences are not folded into move operations. A value which was removed from
+ * one path and added to another path is reported as two differences. When the arrays have more than one longest common
+ * subsequence, the elements might be paired differently than by {@code JsonDiff.asJson}.
+ *
+ * The diff walks JSON trees and not the resource models. The callers still convert both resources into JSON trees
+ * before diffing them. What it saves is building the JSON patch and walking the rest of the trees once the result is
+ * known.
+ */
+public class StructuralDiff {
+    /**
+     * Type of the difference
+     */
+    public enum Operation {
+        /**
+         * The value exists only in the target
+         */
+        ADD,
+
+        /**
+         * The value exists only in the source
+         */
+        REMOVE,
+
+        /**
+         * The value exists in both source and target but is different
+         */
+        REPLACE
+    }
+
+    /**
+     * Visitor receiving the differences
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * Called for every difference found in the diff
+         *
+         * @param operation     Type of the difference
+         * @param path          JSON pointer to the difference
+         * @param source        The source value or null if it does not exist
+         * @param target        The target value or null if it does not exist
+         * @param ignorable     True if the path of the difference is one of the ignorable paths
+         *
+         * @return  True if the diff should continue. False if it should stop.
+         */
+        boolean visit(Operation operation, String path, JsonNode source, JsonNode target, boolean ignorable);
+    }
+
+    private final IgnorablePaths ignorablePaths;
+    private final Visitor visitor;
+    private final List<Object> path = new ArrayList<>();
+
+    private StructuralDiff(IgnorablePaths ignorablePaths, Visitor visitor) {
+        this.ignorablePaths = ignorablePaths;
+        this.visitor = visitor;
+    }
+
+    /**
+     * Diffs the source and target trees
+     *
+     * @param source            The source tree
+     * @param target            The target tree
+     * @param ignorablePaths    The ignorable paths
+     * @param visitor           Visitor which will receive the differences
+     *
+     * @return  True if the diff went through the whole trees. False if it was stopped by the visitor.
+     */
+    public static boolean diff(JsonNode source, JsonNode target, IgnorablePaths ignorablePaths, Visitor visitor) {
+        return new StructuralDiff(ignorablePaths, visitor).compare(source, target, ignorablePaths.start());
+    }
+
+    private boolean compare(JsonNode source, JsonNode target, List<IgnorablePaths.Node> state) {
+        if (source.isObject() && target.isObject()) {
+            return compareObjects(source, target, state);
+        } else if (source.isArray() && target.isArray()) {
+            return compareArrays(source, target, state);
+        } else if (!source.equals(target)) {
+            return report(Operation.REPLACE, source, target, state);
+        } else {
+            return true;
+        }
+    }
+
+    private boolean compareObjects(JsonNode source, JsonNode target, List<IgnorablePaths.Node> state) {
+        Iterator<Map.Entry<String, JsonNode>> sourceFields = source.fields();
+        while (sourceFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = sourceFields.next();
+            JsonNode targetValue = target.get(field.getKey());
+
+            if (!enter(field.getKey(), field.getValue(), targetValue, ignorablePaths.next(state, field.getKey()))) {
+                return false;
+            }
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+        while (targetFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = targetFields.next();
+
+            if (!source.has(field.getKey())
+                    && !enter(field.getKey(), null, field.getValue(), ignorablePaths.next(state, field.getKey()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean compareArrays(JsonNode source, JsonNode target, List<IgnorablePaths.Node> state) {
+        if (source.equals(target)) {
+            return true;
+        }
+
+        List<JsonNode> lcs = longestCommonSubsequence(elements(source), elements(target));
+        int sourceIndex = 0;
+        int targetIndex = 0;
+        int position = 0;
+
+        for (JsonNode common : lcs) {
+            while (true) {
+                JsonNode sourceElement = source.get(sourceIndex);
+                JsonNode targetElement = target.get(targetIndex);
+
+                if (common.equals(sourceElement) && common.equals(targetElement)) {
+                    sourceIndex++;
+                    targetIndex++;
+                    position++;
+                    break;
+                } else if (common.equals(sourceElement)) {
+                    if (!enter(position, null, targetElement, ignorablePaths.next(state, position))) {
+                        return false;
+                    }
+
+                    targetIndex++;
+                    position++;
+                } else if (common.equals(targetElement)) {
+                    if (!enter(position, sourceElement, null, ignorablePaths.next(state, position))) {
+                        return false;
+                    }
+
+                    sourceIndex++;
+                } else {
+                    if (!enter(position, sourceElement, targetElement, ignorablePaths.next(state, position))) {
+                        return false;
+                    }
+
+                    sourceIndex++;
+                    targetIndex++;
+                    position++;
+                }
+            }
+        }
+
+        while (sourceIndex < source.size() && targetIndex < target.size()) {
+            if (!enter(position, source.get(sourceIndex), target.get(targetIndex), ignorablePaths.next(state, position))) {
+                return false;
+            }
+
+            sourceIndex++;
+            targetIndex++;
+            position++;
+        }
+
+        while (targetIndex < target.size()) {
+            if (!enter(position, null, target.get(targetIndex), ignorablePaths.next(state, position))) {
+                return false;
+            }
+
+            targetIndex++;
+            position++;
+        }
+
+        while (sourceIndex < source.size()) {
+            if (!enter(position, source.get(sourceIndex), null, ignorablePaths.next(state, position))) {
+                return false;
+            }
+
+            sourceIndex++;
+        }
+
+        return true;
+    }
+
+    private static List<JsonNode> elements(JsonNode array) {
+        List<JsonNode> elements = new ArrayList<>(array.size());
+        array.elements().forEachRemaining(elements::add);
+        return elements;
+    }
+
+    /**
+     * Finds the longest common subsequence of two lists. The common prefix and suffix are matched directly, the rest
+     * using the dynamic programming over the lengths of the common subsequences of the suffixes of both lists.
+     *
+     * @param source    The source list
+     * @param target    The target list
+     *
+     * @return  The longest common subsequence
+     */
+    /* test */ static List<JsonNode> longestCommonSubsequence(List<JsonNode> source, List<JsonNode> target) {
+        int prefix = 0;
+        while (prefix < source.size() && prefix < target.size() && source.get(prefix).equals(target.get(prefix))) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        while (suffix < source.size() - prefix && suffix < target.size() - prefix
+                && source.get(source.size() - 1 - suffix).equals(target.get(target.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        int sourceEnd = source.size() - suffix;
+        int targetEnd = target.size() - suffix;
+        int rows = sourceEnd - prefix;
+        int columns = targetEnd - prefix;
+
+        // lengths[i][j] is the length of the longest common subsequence of the middle parts starting at i and j
+        int[][] lengths = new int[rows + 1][columns + 1];
+        for (int i = rows - 1; i >= 0; i--) {
+            for (int j = columns - 1; j >= 0; j--) {
+                if (source.get(prefix + i).equals(target.get(prefix + j))) {
+                    lengths[i][j] = lengths[i + 1][j + 1] + 1;
+                } else {
+                    lengths[i][j] = Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+                }
+            }
+        }
+
+        List<JsonNode> lcs = new ArrayList<>(prefix + lengths[0][0] + suffix);
+        lcs.addAll(source.subList(0, prefix));
+
+        int i = 0;
+        int j = 0;
+        while (i < rows && j < columns) {
+            if (source.get(prefix + i).equals(target.get(prefix + j))) {
+                lcs.add(source.get(prefix + i));
+                i++;
+                j++;
+            } else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        lcs.addAll(source.subList(sourceEnd, source.size()));
+        return lcs;
+    }
+
+    private boolean enter(Object segment, JsonNode source, JsonNode target, List<IgnorablePaths.Node> state) {
+        path.add(segment);
+
+        try {
+            if (source == null) {
+                return report(Operation.ADD, null, target, state);
+            } else if (target == null) {
+                return report(Operation.REMOVE, source, null, state);
+            } else {
+                return compare(source, target, state);
+            }
+        } finally {
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private boolean report(Operation operation, JsonNode source, JsonNode target, List<IgnorablePaths.Node> state) {
+        String pointer = pointer();
+        return visitor.visit(operation, pointer, source, target, ignorablePaths.isIgnorable(state, pointer));
+    }
+
+    private String pointer() {
+        if (path.isEmpty()) {
+            return "/";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (Object segment : path) {
+            sb.append('/');
+
+            if (segment instanceof String) {
+                sb.append(IgnorablePaths.escape((String) segment));
+            } else {
+                sb.append(segment);
+            }
+        }
+
+        return sb.toString();
+    }
+}
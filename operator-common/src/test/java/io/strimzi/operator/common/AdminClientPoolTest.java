@@ -0,0 +1,258 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AdminClientPoolTest {
+    private static final String BOOTSTRAP = "my-cluster-kafka-bootstrap:9091";
+    private static final long IDLE_TIMEOUT_MS = 60_000L;
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private final List<Admin> created = new ArrayList<>();
+    private MeterRegistry registry;
+    private AdminClientPool pool;
+
+    private final AdminClientProvider provider = (bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName) -> {
+        Admin admin = mock(Admin.class);
+        created.add(admin);
+        return admin;
+    };
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        pool = new AdminClientPool(provider, metricsProvider(registry), IDLE_TIMEOUT_MS, clock::get);
+    }
+
+    private static MetricsProvider metricsProvider(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private static Secret secret(String name, Map<String, String> data) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    private static Secret caCert(String cert) {
+        return secret("my-cluster-cluster-ca-cert", Map.of("ca.crt", cert));
+    }
+
+    private static Secret coKey(String cert) {
+        return secret("my-cluster-cluster-operator-certs", Map.of("cluster-operator.crt", cert, "cluster-operator.key", "key"));
+    }
+
+    private double metric(String name) {
+        return registry.get(AbstractOperator.METRICS_PREFIX + "admin.client.pool." + name).meter().measure().iterator().next().getValue();
+    }
+
+    @Test
+    public void testAdminClientIsReused() {
+        Admin first = pool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator");
+        first.describeCluster();
+        first.close();
+
+        Admin second = pool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator");
+        second.describeCluster();
+        second.close(Duration.ofSeconds(30));
+
+        assertThat(created.size(), is(1));
+        verify(created.get(0), times(2)).describeCluster();
+        verify(created.get(0), never()).close(any());
+        assertThat(pool.size(), is(1));
+
+        assertThat(metric("created"), is(1.0));
+        assertThat(metric("reused"), is(1.0));
+        assertThat(metric("clients"), is(1.0));
+        assertThat(metric("leased"), is(0.0));
+    }
+
+    @Test
+    public void testConcurrentUsersShareAdminClient() {
+        Admin first = pool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator");
+        Admin second = pool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator");
+
+        assertThat(created.size(), is(1));
+        assertThat(metric("leased"), is(2.0));
+
+        first.close();
+        // Closing the same lease again does not return the Admin client twice
+        first.close();
+        assertThat(metric("leased"), is(1.0));
+        assertThrows(IllegalStateException.class, first::describeCluster);
+
+        second.close();
+        assertThat(metric("leased"), is(0.0));
+        verify(created.get(0), never()).close(any());
+    }
+
+    @Test
+    public void testCreatingAdminClientDoesNotBlockOtherCallers() throws InterruptedException {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        AdminClientProvider slowProvider = (bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName) -> {
+            if (!BOOTSTRAP.equals(bootstrapHostnames)) {
+                creating.countDown();
+                try {
+                    proceed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            return provider.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName);
+        };
+        AdminClientPool slowPool = new AdminClientPool(slowProvider, metricsProvider(registry), IDLE_TIMEOUT_MS, clock::get);
+        slowPool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator").close();
+
+        Thread slow = new Thread(() -> slowPool.createAdminClient("my-cluster-kafka-0.my-cluster-kafka-brokers:9091", caCert("ca"), coKey("co"), "cluster-operator").close());
+        slow.start();
+        assertThat(creating.await(10, TimeUnit.SECONDS), is(true));
+
+        // The pooled Admin client is handed out while the other one is being created
+        slowPool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator").close();
+        assertThat(slowPool.size(), is(1));
+
+        proceed.countDown();
+        slow.join(10_000);
+        assertThat(slowPool.size(), is(2));
+        assertThat(created.size(), is(2));
+    }
+
+    @Test
+    public void testUnpooledAdminClientsAreNotRetained() {
+        pool.unpooled().createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator").close();
+
+        assertThat(created.size(), is(1));
+        verify(created.get(0)).close();
+        assertThat(pool.size(), is(0));
+    }
+
+    @Test
+    public void testDifferentBootstrapServersUseDifferentAdminClients() {
+        pool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator").close();
+        pool.createAdminClient("my-cluster-kafka-0.my-cluster-kafka-brokers:9091", caCert("ca"), coKey("co"), "cluster-operator").close();
+
+        assertThat(created.size(), is(2));
+        assertThat(pool.size(), is(2));
+    }
+
+    @Test
+    public void testAdminClientIsReplacedWhenCertificatesChange() {
+        pool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator").close();
+
+        // Renewed cluster CA
+        pool.createAdminClient(BOOTSTRAP, caCert("new-ca"), coKey("co"), "cluster-operator").close();
+        assertThat(created.size(), is(2));
+        verify(created.get(0)).close(any());
+
+        // Renewed cluster operator certificate
+        Admin inUse = pool.createAdminClient(BOOTSTRAP, caCert("new-ca"), coKey("new-co"), "cluster-operator");
+        assertThat(created.size(), is(3));
+        verify(created.get(1)).close(any());
+
+        // The Admin client which is in use is closed only after it is returned
+        pool.createAdminClient(BOOTSTRAP, caCert("newer-ca"), coKey("new-co"), "cluster-operator").close();
+        assertThat(created.size(), is(4));
+        verify(created.get(2), never()).close(any());
+        inUse.close();
+        verify(created.get(2)).close(any());
+
+        assertThat(pool.size(), is(1));
+        assertThat(metric("invalidated"), is(3.0));
+    }
+
+    @Test
+    public void testIdleAdminClientsAreEvicted() {
+        Admin inUse = pool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator");
+        pool.createAdminClient("my-cluster-kafka-0.my-cluster-kafka-brokers:9091", caCert("ca"), coKey("co"), "cluster-operator").close();
+
+        clock.addAndGet(IDLE_TIMEOUT_MS);
+        pool.evictIdle();
+
+        // Only the Admin client which is not used is evicted
+        assertThat(pool.size(), is(1));
+        verify(created.get(0), never()).close(any());
+        verify(created.get(1)).close(any());
+
+        inUse.close();
+        clock.addAndGet(IDLE_TIMEOUT_MS - 1);
+        pool.evictIdle();
+        assertThat(pool.size(), is(1));
+
+        clock.addAndGet(1);
+        pool.evictIdle();
+        assertThat(pool.size(), is(0));
+        verify(created.get(0)).close(any());
+
+        assertThat(metric("evicted"), is(2.0));
+        assertThat(metric("clients"), is(0.0));
+    }
+
+    @Test
+    public void testCloseAll() {
+        Admin inUse = pool.createAdminClient(BOOTSTRAP, caCert("ca"), coKey("co"), "cluster-operator");
+        pool.createAdminClient("my-cluster-kafka-0.my-cluster-kafka-brokers:9091", caCert("ca"), coKey("co"), "cluster-operator").close();
+
+        pool.closeAll();
+        assertThat(pool.size(), is(0));
+        verify(created.get(1)).close(any());
+        verify(created.get(0), never()).close(any());
+
+        inUse.close();
+        verify(created.get(0)).close(any());
+    }
+}
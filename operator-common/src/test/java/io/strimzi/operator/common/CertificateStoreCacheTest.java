@@ -0,0 +1,154 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.operator.common.operator.MockCertManager;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.X509TrustManager;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.KeyStore;
+import java.util.Base64;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CertificateStoreCacheTest {
+    private static Secret caCertSecret(String resourceVersion, String cert) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-ca-cert")
+                    .withNamespace("my-namespace")
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .addToData("ca.crt", cert)
+                .addToData("ca.p12", MockCertManager.clusterCaCertStore())
+                .build();
+    }
+
+    private static Secret coKeySecret(String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-operator-certs")
+                    .withNamespace("my-namespace")
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .addToData("cluster-operator.crt", MockCertManager.clusterCaCert())
+                .addToData("cluster-operator.p12", MockCertManager.clusterCaCertStore())
+                .addToData("cluster-operator.password", MockCertManager.certStorePassword())
+                .build();
+    }
+
+    @Test
+    public void testTrustStoreIsBuiltOncePerVersion() throws Exception {
+        CertificateStoreCache cache = new CertificateStoreCache();
+
+        CertificateStoreCache.Store store = cache.trustStore(caCertSecret("1", MockCertManager.clusterCaCert()));
+        assertThat(Collections.list(store.keyStore().aliases()), is(Collections.singletonList("ca.crt")));
+        assertThat(((X509TrustManager) store.trustManagers()[0]).getAcceptedIssuers().length, is(1));
+
+        File file = store.acquireFile();
+        store.releaseFile();
+        KeyStore fromFile = KeyStore.getInstance("PKCS12");
+        try (InputStream is = new FileInputStream(file)) {
+            fromFile.load(is, store.password().toCharArray());
+        }
+        assertThat(fromFile.getCertificate("ca.crt"), is(store.keyStore().getCertificate("ca.crt")));
+
+        CertificateStoreCache.Store sameVersion = cache.trustStore(caCertSecret("1", MockCertManager.clusterCaCert()));
+        assertThat(sameVersion, is(sameInstance(store)));
+        assertThat(sameVersion.acquireFile(), is(file));
+        sameVersion.releaseFile();
+
+        CertificateStoreCache.Store newVersion = cache.trustStore(caCertSecret("2", MockCertManager.clientsCaCert()));
+        assertThat(newVersion, is(not(sameInstance(store))));
+        assertThat(file.exists(), is(false));
+        assertThat(newVersion.keyStore().getCertificate("ca.crt"), is(not(store.keyStore().getCertificate("ca.crt"))));
+    }
+
+    @Test
+    public void testSecretsWithoutResourceVersionAreComparedByData() {
+        CertificateStoreCache cache = new CertificateStoreCache();
+
+        CertificateStoreCache.Store store = cache.trustStore(caCertSecret(null, MockCertManager.clusterCaCert()));
+        assertThat(cache.trustStore(caCertSecret(null, MockCertManager.clusterCaCert())), is(sameInstance(store)));
+        assertThat(cache.trustStore(caCertSecret(null, MockCertManager.clientsCaCert())), is(not(sameInstance(store))));
+    }
+
+    @Test
+    public void testKeyStoreIsReadFromTheSecret() throws Exception {
+        CertificateStoreCache cache = new CertificateStoreCache();
+
+        CertificateStoreCache.Store store = cache.keyStore(coKeySecret("1"), "cluster-operator");
+        assertThat(store.password(), is("123456"));
+        assertThat(Files.readAllBytes(store.acquireFile().toPath()), is(Base64.getDecoder().decode(MockCertManager.clusterCaCertStore())));
+        assertThat(store.keyStore().size(), is(1));
+        assertThat(cache.keyStore(coKeySecret("1"), "cluster-operator"), is(sameInstance(store)));
+
+        // Stores of different kinds from the same Secret do not replace each other
+        assertThat(cache.trustStore(coKeySecret("1")), is(not(sameInstance(store))));
+        assertThat(cache.keyStore(coKeySecret("1"), "cluster-operator"), is(sameInstance(store)));
+    }
+
+    @Test
+    public void testInvalidSecrets() {
+        CertificateStoreCache cache = new CertificateStoreCache();
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> cache.trustStore(caCertSecret("1", "bm90YWNlcnQ=")));
+        assertThat(e.getMessage(), is("Bad/corrupt certificate found in data.ca\\.crt of Secret my-cluster-cluster-ca-cert in namespace my-namespace"));
+
+        Secret withoutPassword = new SecretBuilder(coKeySecret("1"))
+                .withData(Collections.singletonMap("cluster-operator.p12", MockCertManager.clusterCaCertStore()))
+                .build();
+        e = assertThrows(RuntimeException.class, () -> cache.keyStore(withoutPassword, "cluster-operator"));
+        assertThat(e.getMessage(), is("The Secret my-namespace/my-cluster-cluster-operator-certs is missing the key cluster-operator.password"));
+
+        Secret withoutData = new SecretBuilder(coKeySecret("1")).withData(null).build();
+        e = assertThrows(RuntimeException.class, () -> cache.keyStore(withoutData, "cluster-operator"));
+        assertThat(e.getMessage(), is("Secret my-namespace/my-cluster-cluster-operator-certs does not exist"));
+    }
+
+    @Test
+    public void testRetiredFileIsDeletedWhenReleased() {
+        CertificateStoreCache cache = new CertificateStoreCache();
+
+        CertificateStoreCache.Store store = cache.trustStore(caCertSecret("1", MockCertManager.clusterCaCert()));
+        File file = store.acquireFile();
+
+        // The file is still used => it is not deleted or rewritten when the Secret changes
+        cache.trustStore(caCertSecret("2", MockCertManager.clientsCaCert()));
+        assertThat(file.exists(), is(true));
+        assertThat(store.acquireFile(), is(file));
+
+        store.releaseFile();
+        assertThat(file.exists(), is(true));
+        store.releaseFile();
+        assertThat(file.exists(), is(false));
+    }
+
+    @Test
+    public void testIdleStoresAreEvicted() throws InterruptedException {
+        CertificateStoreCache cache = new CertificateStoreCache(10L);
+
+        CertificateStoreCache.Store trustStore = cache.trustStore(caCertSecret("1", MockCertManager.clusterCaCert()));
+        File file = trustStore.acquireFile();
+        trustStore.releaseFile();
+        Thread.sleep(50L);
+
+        // Using another store evicts the idle truststore and deletes its file
+        cache.keyStore(coKeySecret("1"), "cluster-operator");
+        assertThat(file.exists(), is(false));
+        assertThat(cache.trustStore(caCertSecret("1", MockCertManager.clusterCaCert())), is(not(sameInstance(trustStore))));
+    }
+}
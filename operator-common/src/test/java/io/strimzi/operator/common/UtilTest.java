@@ -19,12 +19,19 @@ import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationOAuthB
 import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.strimzi.operator.common.Util.matchesSelector;
 import static io.strimzi.operator.common.Util.parseMap;
@@ -293,4 +300,101 @@ public class UtilTest {
             assertThat(v.cause().getMessage(), is("Secret top-secret-cs not found"));
         });
     }
+
+    @Test
+    public void testWaitForCompletesOnEvent() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            AtomicBoolean ready = new AtomicBoolean(false);
+            AtomicReference<Runnable> onEvent = new AtomicReference<>();
+            CountDownLatch subscribed = new CountDownLatch(1);
+            CountDownLatch closed = new CountDownLatch(1);
+
+            // The poll interval is much longer than the test timeout, so only the event can complete the wait
+            Future<Void> wait = Util.waitFor(Reconciliation.DUMMY_RECONCILIATION, vertx, "test resource", "ready",
+                    60_000L, 120_000L, ready::get, error -> false,
+                (event, lost) -> {
+                    onEvent.set(event);
+                    subscribed.countDown();
+                    return closed::countDown;
+                });
+
+            assertThat(subscribed.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(wait.isComplete(), is(false));
+
+            ready.set(true);
+            onEvent.get().run();
+
+            wait.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertThat(closed.await(10, TimeUnit.SECONDS), is(true));
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void testWaitForFallsBackToPollingWithoutEvents() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            AtomicInteger checks = new AtomicInteger(0);
+
+            // No events available
+            Util.waitFor(Reconciliation.DUMMY_RECONCILIATION, vertx, "test resource", "ready",
+                    10L, 10_000L, () -> checks.incrementAndGet() >= 3, error -> false, (event, lost) -> null)
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            // Failed subscription
+            checks.set(0);
+            Util.waitFor(Reconciliation.DUMMY_RECONCILIATION, vertx, "test resource", "ready",
+                    10L, 10_000L, () -> checks.incrementAndGet() >= 3, error -> false,
+                (event, lost) -> {
+                    throw new RuntimeException("Watch failed");
+                })
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            // Lost events
+            checks.set(0);
+            Util.waitFor(Reconciliation.DUMMY_RECONCILIATION, vertx, "test resource", "ready",
+                    100L, 10_000L, () -> checks.incrementAndGet() >= 3, error -> false,
+                (event, lost) -> {
+                    lost.run();
+                    return () -> { };
+                })
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void testWaitForCompletesOnTheContextOfTheCaller() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            Context context = vertx.getOrCreateContext();
+            AtomicBoolean ready = new AtomicBoolean(false);
+            AtomicReference<Context> completionContext = new AtomicReference<>();
+            CountDownLatch completed = new CountDownLatch(1);
+
+            context.runOnContext(v -> Util.waitFor(Reconciliation.DUMMY_RECONCILIATION, vertx, "test resource", "ready",
+                    60_000L, 120_000L, ready::get, error -> false,
+                (event, lost) -> {
+                    // The event is delivered from a thread which does not belong to Vert.x
+                    Thread informer = new Thread(() -> {
+                        ready.set(true);
+                        event.run();
+                    });
+                    informer.start();
+                    return () -> { };
+                })
+                    .onComplete(res -> {
+                        completionContext.set(Vertx.currentContext());
+                        completed.countDown();
+                    }));
+
+            assertThat(completed.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(completionContext.get(), is(context));
+        } finally {
+            vertx.close();
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ControllerTest {
+    @Test
+    public void testKeysAreReconciledExclusively() throws InterruptedException {
+        WorkQueue<String> queue = new WorkQueue<>("test");
+        Set<String> inProgress = ConcurrentHashMap.newKeySet();
+        AtomicBoolean overlap = new AtomicBoolean(false);
+        AtomicInteger reconciliations = new AtomicInteger(0);
+
+        Controller<String> controller = new Controller<>("test-controller", queue, key -> {
+            if (!inProgress.add(key)) {
+                overlap.set(true);
+            }
+
+            Thread.sleep(5);
+            reconciliations.incrementAndGet();
+            inProgress.remove(key);
+        }, () -> true, 4);
+
+        try {
+            controller.start();
+
+            for (int i = 0; i < 50; i++) {
+                queue.add("key-" + (i % 3));
+                Thread.sleep(1);
+            }
+
+            waitFor(() -> queue.size() == 0 && inProgress.isEmpty());
+            assertThat(overlap.get(), is(false));
+            assertThat(reconciliations.get() >= 3, is(true));
+        } finally {
+            controller.stop();
+        }
+    }
+
+    @Test
+    public void testFailedKeysAreRetried() throws InterruptedException {
+        WorkQueue<String> queue = new WorkQueue<>("test", 10L, 40L, null);
+        AtomicInteger failuresLeft = new AtomicInteger(2);
+        CountDownLatch reconciled = new CountDownLatch(3);
+
+        Controller<String> controller = new Controller<>("test-controller", queue, key -> {
+            reconciled.countDown();
+
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new RuntimeException("Reconciliation failed");
+            }
+        }, () -> true, 1);
+
+        try {
+            controller.start();
+            queue.add("failing");
+
+            assertThat(reconciled.await(10, TimeUnit.SECONDS), is(true));
+            waitFor(() -> queue.failures("failing") == 0);
+        } finally {
+            controller.stop();
+        }
+    }
+
+    @Test
+    public void testReconciliationsWaitForReadiness() throws InterruptedException {
+        WorkQueue<String> queue = new WorkQueue<>("test");
+        AtomicBoolean ready = new AtomicBoolean(false);
+        CountDownLatch reconciled = new CountDownLatch(1);
+
+        Controller<String> controller = new Controller<>("test-controller", queue, key -> reconciled.countDown(), ready::get, 1);
+
+        try {
+            controller.start();
+            queue.add("key");
+
+            assertThat(reconciled.await(300, TimeUnit.MILLISECONDS), is(false));
+
+            ready.set(true);
+            assertThat(reconciled.await(10, TimeUnit.SECONDS), is(true));
+        } finally {
+            controller.stop();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000L;
+
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the condition");
+            }
+
+            Thread.sleep(10);
+        }
+    }
+}
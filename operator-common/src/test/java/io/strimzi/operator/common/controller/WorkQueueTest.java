@@ -0,0 +1,162 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class WorkQueueTest {
+    @Test
+    public void testDeduplication() throws InterruptedException {
+        WorkQueue<String> queue = new WorkQueue<>("test");
+
+        try {
+            assertThat(queue.add("a"), is(true));
+            assertThat(queue.add("b"), is(true));
+            assertThat(queue.add("a"), is(false));
+            assertThat(queue.size(), is(2));
+
+            assertThat(queue.take(), is("a"));
+            assertThat(queue.take(), is("b"));
+            assertThat(queue.size(), is(0));
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void testKeysAreNotHandedOutWhileProcessed() throws InterruptedException {
+        WorkQueue<String> queue = new WorkQueue<>("test");
+
+        try {
+            queue.add("a");
+            assertThat(queue.take(), is("a"));
+
+            // Added again while being processed => waits for the processing to finish
+            assertThat(queue.add("a"), is(true));
+            assertThat(queue.add("a"), is(false));
+            queue.add("b");
+            assertThat(queue.take(), is("b"));
+            queue.done("b");
+
+            queue.done("a");
+            assertThat(queue.take(), is("a"));
+            queue.done("a");
+            assertThat(queue.size(), is(0));
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void testRateLimitedAdds() throws InterruptedException {
+        WorkQueue<String> queue = new WorkQueue<>("test", 10L, 40L, null);
+
+        try {
+            assertThat(queue.addRateLimited("a"), is(10L));
+            assertThat(queue.addRateLimited("a"), is(20L));
+            assertThat(queue.addRateLimited("a"), is(40L));
+            assertThat(queue.addRateLimited("a"), is(40L));
+            assertThat(queue.failures("a"), is(4));
+
+            // The delayed adds are deduplicated
+            Thread.sleep(200);
+            assertThat(queue.size(), is(1));
+            assertThat(queue.take(), is("a"));
+            queue.done("a");
+            assertThat(queue.size(), is(0));
+
+            queue.forget("a");
+            assertThat(queue.failures("a"), is(0));
+            assertThat(queue.addRateLimited("a"), is(10L));
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownWakesUpWaitingThreads() throws InterruptedException {
+        WorkQueue<String> queue = new WorkQueue<>("test");
+        CountDownLatch taken = new CountDownLatch(1);
+        AtomicBoolean gotNull = new AtomicBoolean(false);
+
+        Thread waiting = new Thread(() -> {
+            try {
+                gotNull.set(queue.take() == null);
+            } catch (InterruptedException e) {
+                // Ignore
+            }
+            taken.countDown();
+        });
+        waiting.start();
+
+        queue.shutdown();
+        assertThat(taken.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(gotNull.get(), is(true));
+        assertThat(queue.add("a"), is(false));
+        assertThat(queue.take(), is(nullValue()));
+    }
+
+    @Test
+    public void testMetrics() throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                AtomicInteger gauge = new AtomicInteger(0);
+                Gauge.builder(name, gauge::get).description(description).tags(tags).register(registry);
+                return gauge;
+            }
+        };
+        WorkQueue<String> queue = new WorkQueue<>("my-queue", 60_000L, 60_000L, metrics);
+
+        try {
+            queue.add("a");
+            queue.add("b");
+            assertThat(registry.get("strimzi.controller.queue.depth").tag("queue", "my-queue").gauge().value(), is(2.0));
+            assertThat(registry.get("strimzi.controller.queue.adds").tag("queue", "my-queue").counter().count(), is(2.0));
+
+            queue.take();
+            queue.done("a");
+            queue.addRateLimited("a");
+            assertThat(registry.get("strimzi.controller.queue.depth").tag("queue", "my-queue").gauge().value(), is(1.0));
+            assertThat(registry.get("strimzi.controller.queue.retries").tag("queue", "my-queue").counter().count(), is(1.0));
+            assertThat(registry.get("strimzi.controller.queue.latency").tag("queue", "my-queue").timer().count(), is(1L));
+            assertThat(registry.get("strimzi.controller.work.duration").tag("queue", "my-queue").timer().count(), is(1L));
+        } finally {
+            queue.shutdown();
+        }
+    }
+}
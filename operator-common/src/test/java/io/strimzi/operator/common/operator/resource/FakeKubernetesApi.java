@@ -0,0 +1,342 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.zjsonpatch.JsonPatch;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minimal in-memory Kubernetes API used to test and benchmark the requests sent by the resource operators. It is
+ * plugged into the HTTP client of a real Kubernetes client as an interceptor, so the requests never leave the JVM. It
+ * supports GET, POST, JSON patch and server-side apply of namespaced resources and counts the requests and the bytes
+ * sent in their bodies.
+ *
+ * The managed fields are tracked in a simplified way: POST and JSON patch requests make the field manager named after
+ * the user agent own all fields of the resource with the Update operation (unless the patch changes the managed fields
+ * itself). Server-side apply makes its field manager own the fields in the applied resource with the Apply operation
+ * and removes the fields which were owned by it before and are missing in the applied resource.
+ */
+public class FakeKubernetesApi implements Interceptor {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final Map<String, ObjectNode> resources = new ConcurrentHashMap<>();
+    private final List<Request> requests = new ArrayList<>();
+    private final List<String> bodies = new ArrayList<>();
+    private long requestBytes = 0;
+    private int resourceVersion = 0;
+
+    /**
+     * @return  Kubernetes client sending its requests to this fake API
+     */
+    public KubernetesClient client() {
+        Config config = new ConfigBuilder()
+                .withMasterUrl("https://kubernetes.fake:443")
+                .withNamespace("default")
+                .withUserAgent(Config.KUBERNETES_USER_AGENT)
+                .build();
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                // Sets the user agent in the same way as the HTTP clients created by the Kubernetes client
+                .addInterceptor(chain -> chain.proceed(chain.request().newBuilder().header("User-Agent", config.getUserAgent()).build()))
+                .addInterceptor(this)
+                .build();
+        return new DefaultKubernetesClient(httpClient, config);
+    }
+
+    /**
+     * @return  Requests received since the last reset
+     */
+    public synchronized List<Request> requests() {
+        return new ArrayList<>(requests);
+    }
+
+    /**
+     * @return  Bodies of the requests received since the last reset (empty strings for requests without body)
+     */
+    public synchronized List<String> bodies() {
+        return new ArrayList<>(bodies);
+    }
+
+    /**
+     * @return  Number of bytes sent in the request bodies since the last reset
+     */
+    public synchronized long requestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * Resets the request counters
+     */
+    public synchronized void reset() {
+        requests.clear();
+        bodies.clear();
+        requestBytes = 0;
+    }
+
+    @Override
+    public synchronized Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String body = "";
+
+        if (request.body() != null) {
+            Buffer buffer = new Buffer();
+            request.body().writeTo(buffer);
+            requestBytes += buffer.size();
+            body = buffer.readUtf8();
+        }
+
+        requests.add(request);
+        bodies.add(body);
+
+        String path = request.url().encodedPath();
+        ObjectNode current = resources.get(path);
+
+        switch (request.method()) {
+            case "GET":
+                return current != null ? respond(request, 200, current) : notFound(request);
+            case "POST": {
+                ObjectNode created = (ObjectNode) MAPPER.readTree(body);
+                String resourcePath = path + "/" + created.get("metadata").get("name").asText();
+
+                if (resources.containsKey(resourcePath)) {
+                    return respond(request, 409, status(409, "AlreadyExists"));
+                }
+
+                setManagedFields(created, fieldManager(request), "Update", fields(created));
+                stamp(created, null);
+                resources.put(resourcePath, created);
+                return respond(request, 201, created);
+            }
+            case "PATCH": {
+                String contentType = request.body().contentType().toString();
+                ObjectNode patched;
+
+                if (contentType.startsWith("application/apply-patch+yaml") && current != null) {
+                    patched = apply(current, (ObjectNode) MAPPER.readTree(body), request.url().queryParameter("fieldManager"));
+                } else if (contentType.startsWith("application/json-patch+json") && current != null) {
+                    ArrayNode patch = (ArrayNode) MAPPER.readTree(body);
+
+                    if (!passesTests(patch, current)) {
+                        return respond(request, 422, status(422, "Invalid"));
+                    }
+
+                    patched = (ObjectNode) JsonPatch.apply(patch, current);
+
+                    if (!changesManagedFields(patch)) {
+                        setManagedFields(patched, fieldManager(request), "Update", fields(patched));
+                    }
+                } else {
+                    return notFound(request);
+                }
+
+                stamp(patched, current);
+                resources.put(path, patched);
+                return respond(request, 200, patched);
+            }
+            default:
+                return respond(request, 405, status(405, "MethodNotAllowed"));
+        }
+    }
+
+    /**
+     * Applies the resource using server-side apply
+     */
+    private static ObjectNode apply(ObjectNode current, ObjectNode applied, String fieldManager) {
+        ObjectNode result = current.deepCopy();
+        ObjectNode appliedFields = fields(applied);
+        JsonNode ownedFields = managedFieldsEntry(current, fieldManager, "Apply").path("fieldsV1");
+
+        removeFields(result, ownedFields, appliedFields);
+        merge(result, applied);
+        setManagedFields(result, fieldManager, "Apply", appliedFields);
+
+        return result;
+    }
+
+    /**
+     * Removes the fields which are owned but not applied anymore
+     */
+    private static void removeFields(ObjectNode resource, JsonNode ownedFields, JsonNode appliedFields) {
+        ownedFields.fields().forEachRemaining(field -> {
+            String name = field.getKey().substring(2);
+            JsonNode applied = appliedFields.get(field.getKey());
+
+            if (applied == null) {
+                resource.remove(name);
+            } else if (resource.get(name) instanceof ObjectNode) {
+                removeFields((ObjectNode) resource.get(name), field.getValue(), applied);
+            }
+        });
+    }
+
+    /**
+     * Merges the applied object into the resource. Arrays and other values are replaced.
+     */
+    private static void merge(ObjectNode resource, ObjectNode applied) {
+        applied.fields().forEachRemaining(field -> {
+            if (field.getValue() instanceof ObjectNode && resource.get(field.getKey()) instanceof ObjectNode) {
+                merge((ObjectNode) resource.get(field.getKey()), (ObjectNode) field.getValue());
+            } else {
+                resource.set(field.getKey(), field.getValue());
+            }
+        });
+    }
+
+    /**
+     * Evaluates and removes the test operations of the JSON patch, which are not supported by the JSON patch library
+     */
+    private static boolean passesTests(ArrayNode patch, JsonNode resource) {
+        for (Iterator<JsonNode> operations = patch.elements(); operations.hasNext(); ) {
+            JsonNode operation = operations.next();
+
+            if ("test".equals(operation.path("op").asText())) {
+                if (!resource.at(operation.path("path").asText()).equals(operation.get("value"))) {
+                    return false;
+                }
+
+                operations.remove();
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean changesManagedFields(JsonNode patch) {
+        for (JsonNode operation : patch) {
+            if (operation.path("path").asText().startsWith("/metadata/managedFields")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return  The fields of the resource in the FieldsV1 format without the fields which are never managed
+     */
+    private static ObjectNode fields(JsonNode resource) {
+        ObjectNode fields = fieldsOf(resource);
+        fields.remove(List.of("f:apiVersion", "f:kind", "f:status"));
+
+        if (fields.get("f:metadata") instanceof ObjectNode) {
+            ((ObjectNode) fields.get("f:metadata")).remove(List.of("f:name", "f:namespace", "f:resourceVersion", "f:managedFields"));
+        }
+
+        return fields;
+    }
+
+    /**
+     * @return  The fields of the object in the FieldsV1 format. Arrays are handled as single fields.
+     */
+    private static ObjectNode fieldsOf(JsonNode object) {
+        ObjectNode fields = MAPPER.createObjectNode();
+
+        object.fields().forEachRemaining(field -> fields.set("f:" + field.getKey(),
+                field.getValue() instanceof ObjectNode ? fieldsOf(field.getValue()) : MAPPER.createObjectNode()));
+
+        return fields;
+    }
+
+    private static JsonNode managedFieldsEntry(JsonNode resource, String manager, String operation) {
+        for (JsonNode entry : resource.path("metadata").path("managedFields")) {
+            if (manager.equals(entry.path("manager").asText()) && operation.equals(entry.path("operation").asText())) {
+                return entry;
+            }
+        }
+
+        return MAPPER.missingNode();
+    }
+
+    /**
+     * Sets the managed fields entry of the field manager and operation
+     */
+    private static void setManagedFields(ObjectNode resource, String manager, String operation, ObjectNode fields) {
+        ObjectNode metadata = (ObjectNode) resource.get("metadata");
+        JsonNode entry = managedFieldsEntry(resource, manager, operation);
+
+        if (entry.isMissingNode()) {
+            entry = metadata.withArray("managedFields").addObject()
+                    .put("manager", manager)
+                    .put("operation", operation)
+                    .put("apiVersion", resource.path("apiVersion").asText())
+                    .put("fieldsType", "FieldsV1");
+        }
+
+        ((ObjectNode) entry).set("fieldsV1", fields);
+    }
+
+    /**
+     * @return  The field manager named after the user agent in the same way as the Kubernetes API server does it
+     */
+    private static String fieldManager(Request request) {
+        String userAgent = request.header("User-Agent");
+        return userAgent != null ? userAgent.split("/", 2)[0] : "unknown";
+    }
+
+    /**
+     * Sets the resource version of the stored resource. It is increased only when the resource changed.
+     */
+    private void stamp(ObjectNode resource, ObjectNode current) {
+        ObjectNode metadata = (ObjectNode) resource.get("metadata");
+        metadata.remove("resourceVersion");
+
+        if (current != null) {
+            ObjectNode withoutVersion = current.deepCopy();
+            ((ObjectNode) withoutVersion.get("metadata")).remove("resourceVersion");
+
+            if (withoutVersion.equals(resource)) {
+                metadata.set("resourceVersion", current.get("metadata").get("resourceVersion"));
+                return;
+            }
+        }
+
+        metadata.put("resourceVersion", String.valueOf(++resourceVersion));
+    }
+
+    private static JsonNode status(int code, String reason) {
+        return MAPPER.createObjectNode()
+                .put("apiVersion", "v1")
+                .put("kind", "Status")
+                .put("status", "Failure")
+                .put("reason", reason)
+                .put("code", code);
+    }
+
+    private static Response notFound(Request request) {
+        return respond(request, 404, status(404, "NotFound"));
+    }
+
+    private static Response respond(Request request, int code, JsonNode body) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .body(ResponseBody.create(JSON, body.toString()))
+                .build();
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class InformerCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private Cache<ConfigMap> indexer;
+    private SharedIndexInformer<ConfigMap> informer;
+    private MeterRegistry registry;
+    private MetricsProvider metrics;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setup() {
+        indexer = new Cache<>();
+        indexer.addIndexers(InformerCache.indexers());
+
+        informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(true);
+
+        registry = new SimpleMeterRegistry();
+        metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return new AtomicInteger(0);
+            }
+        };
+
+        indexer.put(configMap(NAMESPACE, "cm-1", Map.of("app", "kafka", "cluster", "a"), "uid-a"));
+        indexer.put(configMap(NAMESPACE, "cm-2", Map.of("app", "kafka", "cluster", "b"), "uid-b"));
+        indexer.put(configMap(NAMESPACE, "cm-3", Map.of("app", "zookeeper", "cluster", "a"), "uid-a"));
+        indexer.put(configMap("other-namespace", "cm-1", Map.of("app", "kafka", "cluster", "a"), "uid-c"));
+    }
+
+    private static ConfigMap configMap(String namespace, String name, Map<String, String> labels, String ownerUid) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                    .withLabels(labels)
+                    .addNewOwnerReference()
+                        .withUid(ownerUid)
+                    .endOwnerReference()
+                .endMetadata()
+                .withData(Map.of("key", "value"))
+                .build();
+    }
+
+    private static List<String> names(List<ConfigMap> configMaps) {
+        return configMaps.stream().map(cm -> cm.getMetadata().getNamespace() + "/" + cm.getMetadata().getName()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testGet() {
+        InformerCache<ConfigMap> cache = new InformerCache<>("ConfigMap", NAMESPACE, Map.of(), informer, metrics);
+
+        assertThat(cache.get(NAMESPACE, "cm-1"), is(notNullValue()));
+        assertThat(cache.get(NAMESPACE, "cm-1").getMetadata().getLabels().get("cluster"), is("a"));
+        assertThat(cache.get("other-namespace", "cm-1").getMetadata().getOwnerReferences().get(0).getUid(), is("uid-c"));
+        assertThat(cache.get(NAMESPACE, "cm-4"), is(nullValue()));
+    }
+
+    @Test
+    public void testGetReturnsCopies() {
+        InformerCache<ConfigMap> cache = new InformerCache<>("ConfigMap", NAMESPACE, Map.of(), informer, metrics);
+
+        ConfigMap cm = cache.get(NAMESPACE, "cm-1");
+        cm.getData().put("key", "changed");
+        cm.getMetadata().getLabels().put("cluster", "changed");
+
+        assertThat(cache.get(NAMESPACE, "cm-1").getData().get("key"), is("value"));
+        assertThat(cache.get(NAMESPACE, "cm-1").getMetadata().getLabels().get("cluster"), is("a"));
+    }
+
+    @Test
+    public void testList() {
+        InformerCache<ConfigMap> cache = new InformerCache<>("ConfigMap", AbstractResourceOperator.ANY_NAMESPACE, Map.of(), informer, metrics);
+
+        assertThat(names(cache.list(NAMESPACE, null)), containsInAnyOrder("my-namespace/cm-1", "my-namespace/cm-2", "my-namespace/cm-3"));
+        assertThat(names(cache.list(NAMESPACE, Map.of())), containsInAnyOrder("my-namespace/cm-1", "my-namespace/cm-2", "my-namespace/cm-3"));
+        assertThat(names(cache.list(NAMESPACE, Map.of("app", "kafka"))), containsInAnyOrder("my-namespace/cm-1", "my-namespace/cm-2"));
+        assertThat(names(cache.list(NAMESPACE, Map.of("app", "kafka", "cluster", "a"))), containsInAnyOrder("my-namespace/cm-1"));
+        assertThat(names(cache.list(NAMESPACE, Map.of("app", "bridge"))).size(), is(0));
+        assertThat(names(cache.list(AbstractResourceOperator.ANY_NAMESPACE, Map.of("cluster", "a"))), containsInAnyOrder("my-namespace/cm-1", "my-namespace/cm-3", "other-namespace/cm-1"));
+        assertThat(names(cache.list(AbstractResourceOperator.ANY_NAMESPACE, null)).size(), is(4));
+    }
+
+    @Test
+    public void testListByOwner() {
+        InformerCache<ConfigMap> cache = new InformerCache<>("ConfigMap", AbstractResourceOperator.ANY_NAMESPACE, Map.of(), informer, metrics);
+
+        assertThat(names(cache.listByOwner(NAMESPACE, "uid-a")), containsInAnyOrder("my-namespace/cm-1", "my-namespace/cm-3"));
+        assertThat(names(cache.listByOwner(NAMESPACE, "uid-c")).size(), is(0));
+        assertThat(names(cache.listByOwner("other-namespace", "uid-c")), containsInAnyOrder("other-namespace/cm-1"));
+    }
+
+    @Test
+    public void testCoverage() {
+        InformerCache<ConfigMap> complete = new InformerCache<>("ConfigMap", NAMESPACE, Map.of(), informer, metrics);
+        assertThat(complete.isComplete(), is(true));
+        assertThat(complete.coversNamespace(NAMESPACE), is(true));
+        assertThat(complete.coversNamespace("other-namespace"), is(false));
+        assertThat(complete.covers(null), is(true));
+        assertThat(complete.covers(Map.of("app", "kafka")), is(true));
+
+        InformerCache<ConfigMap> selected = new InformerCache<>("ConfigMap", AbstractResourceOperator.ANY_NAMESPACE, Map.of("app", "kafka"), informer, metrics);
+        assertThat(selected.isComplete(), is(false));
+        assertThat(selected.coversNamespace(NAMESPACE), is(true));
+        assertThat(selected.coversNamespace("other-namespace"), is(true));
+        assertThat(selected.covers(null), is(false));
+        assertThat(selected.covers(Map.of("app", "zookeeper")), is(false));
+        assertThat(selected.covers(Map.of("cluster", "a")), is(false));
+        assertThat(selected.covers(Map.of("app", "kafka")), is(true));
+        assertThat(selected.covers(Map.of("app", "kafka", "cluster", "a")), is(true));
+
+        InformerCache<ConfigMap> required = new InformerCache<>("ConfigMap", NAMESPACE, Map.of(), Set.of("cluster"), informer, metrics);
+        assertThat(required.isComplete(), is(false));
+        assertThat(required.covers(null), is(false));
+        assertThat(required.covers(Map.of("app", "kafka")), is(false));
+        assertThat(required.covers(Map.of("cluster", "a")), is(true));
+        assertThat(required.covers(Map.of("app", "kafka", "cluster", "b")), is(true));
+    }
+
+    @Test
+    public void testMetrics() {
+        InformerCache<ConfigMap> cache = new InformerCache<>("ConfigMap", NAMESPACE, Map.of(), informer, metrics);
+
+        cache.recordHit();
+        cache.recordHit();
+        cache.recordMiss();
+        cache.recordStale();
+        cache.recordHashHit();
+        cache.recordHashMiss();
+        cache.recordHashMiss();
+
+        assertThat(registry.get("strimzi.resource.cache.hits").tag("kind", "ConfigMap").tag("namespace", NAMESPACE).counter().count(), is(2.0));
+        assertThat(registry.get("strimzi.resource.cache.misses").tag("kind", "ConfigMap").tag("namespace", NAMESPACE).counter().count(), is(1.0));
+        assertThat(registry.get("strimzi.resource.cache.stale").tag("kind", "ConfigMap").tag("namespace", NAMESPACE).counter().count(), is(1.0));
+        assertThat(registry.get("strimzi.resource.hash.hits").tag("kind", "ConfigMap").tag("namespace", NAMESPACE).counter().count(), is(1.0));
+        assertThat(registry.get("strimzi.resource.hash.misses").tag("kind", "ConfigMap").tag("namespace", NAMESPACE).counter().count(), is(2.0));
+    }
+
+    @Test
+    public void testContentHash() {
+        ConfigMap cm1 = new ConfigMapBuilder(configMap(NAMESPACE, "cm-4", Map.of("app", "kafka"), "uid-a"))
+                .withData(new LinkedHashMap<>(Map.of("a", "1")))
+                .build();
+        cm1.getData().put("b", "2");
+
+        ConfigMap cm2 = new ConfigMapBuilder(configMap(NAMESPACE, "cm-4", Map.of("app", "kafka"), "uid-a"))
+                .withData(new LinkedHashMap<>(Map.of("b", "2")))
+                .build();
+        cm2.getData().put("a", "1");
+
+        String hash = AbstractResourceOperator.stampContentHash(cm1);
+        assertThat(cm1.getMetadata().getAnnotations().get(Annotations.ANNO_STRIMZI_IO_CONTENT_HASH), is(hash));
+        // The order of the map entries does not matter
+        assertThat(AbstractResourceOperator.stampContentHash(cm2), is(hash));
+        // Stamping an already stamped resource gives the same hash
+        assertThat(AbstractResourceOperator.stampContentHash(cm1), is(hash));
+
+        cm2.getData().put("a", "3");
+        assertThat(AbstractResourceOperator.stampContentHash(cm2), is(not(hash)));
+    }
+
+    @Test
+    public void testCopyWithContentHashDoesNotModifyTheDesiredResource() {
+        ConfigMap desired = new ConfigMapBuilder(configMap(NAMESPACE, "cm-4", Map.of("app", "kafka"), "uid-a"))
+                .withData(Map.of("a", "1"))
+                .build();
+        ConfigMap expected = new ConfigMapBuilder(desired).build();
+
+        ConfigMap copy = AbstractResourceOperator.copyWithContentHash(desired);
+        assertThat(desired, is(expected));
+        assertThat(copy.getData(), is(desired.getData()));
+        assertThat(copy.getMetadata().getAnnotations().get(Annotations.ANNO_STRIMZI_IO_CONTENT_HASH), is(AbstractResourceOperator.stampContentHash(expected)));
+    }
+
+    @Test
+    public void testIsUpToDate() {
+        ConfigMap cm = configMap(NAMESPACE, "cm-4", Map.of("app", "kafka"), "uid-a");
+        String hash = AbstractResourceOperator.stampContentHash(cm);
+        cm.getMetadata().setResourceVersion("1");
+
+        InformerCache<ConfigMap> cache = new InformerCache<>("ConfigMap", NAMESPACE, Map.of(), informer, metrics);
+
+        // Not in the cache
+        assertThat(cache.isUpToDate(NAMESPACE, "cm-4", hash), is(false));
+
+        // In the cache, but not applied by the operator
+        indexer.put(cm);
+        assertThat(cache.isUpToDate(NAMESPACE, "cm-4", hash), is(false));
+
+        cache.recordApplied(NAMESPACE, "cm-4", cm);
+        assertThat(cache.isUpToDate(NAMESPACE, "cm-4", hash), is(true));
+        assertThat(cache.isUpToDate(NAMESPACE, "cm-4", "other-hash"), is(false));
+
+        // Changed by someone else
+        ConfigMap changed = new ConfigMapBuilder(cm).editMetadata().withResourceVersion("2").endMetadata().addToData("key", "changed").build();
+        indexer.put(changed);
+        assertThat(cache.isUpToDate(NAMESPACE, "cm-4", hash), is(false));
+
+        cache.recordApplied(NAMESPACE, "cm-4", changed);
+        assertThat(cache.isUpToDate(NAMESPACE, "cm-4", hash), is(true));
+
+        cache.forgetApplied(NAMESPACE, "cm-4");
+        assertThat(cache.isUpToDate(NAMESPACE, "cm-4", hash), is(false));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testListeners() throws Exception {
+        ArgumentCaptor<ResourceEventHandler<ConfigMap>> handler = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        InformerCache<ConfigMap> cache = new InformerCache<>("ConfigMap", NAMESPACE, Map.of(), informer, metrics);
+        verify(informer).addEventHandler(handler.capture());
+
+        assertThat(cache.contains(NAMESPACE, "cm-1"), is(true));
+        assertThat(cache.contains(NAMESPACE, "cm-4"), is(false));
+
+        AtomicInteger events = new AtomicInteger(0);
+        AutoCloseable listener = cache.addListener(NAMESPACE, "cm-4", events::incrementAndGet);
+
+        ConfigMap cm = configMap(NAMESPACE, "cm-4", Map.of("app", "kafka"), "uid-a");
+        handler.getValue().onAdd(cm);
+        handler.getValue().onUpdate(cm, cm);
+        assertThat(events.get(), is(2));
+
+        // Events of other resources are not delivered
+        handler.getValue().onAdd(configMap("other-namespace", "cm-4", Map.of("app", "kafka"), "uid-a"));
+        handler.getValue().onAdd(configMap(NAMESPACE, "cm-1", Map.of("app", "kafka"), "uid-a"));
+        assertThat(events.get(), is(2));
+
+        listener.close();
+        handler.getValue().onDelete(cm, false);
+        assertThat(events.get(), is(2));
+    }
+}
@@ -4,15 +4,31 @@
  */
 package io.strimzi.operator.common.operator.resource;
 
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.SecretList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, Secret, SecretList, Resource<Secret>> {
@@ -56,4 +72,65 @@ public class SecretOperatorTest extends AbstractResourceOperatorTest<KubernetesC
     protected AbstractResourceOperator<KubernetesClient, Secret, SecretList, Resource<Secret>> createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
         return new SecretOperator(vertx, mockClient);
     }
+
+    @Test
+    public void testServerSideApply(VertxTestContext context) {
+        FakeKubernetesApi api = new FakeKubernetesApi();
+        SecretOperator op = new SecretOperator(vertx, api.client());
+        op.setServerSideApply(true);
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, resource())
+                .compose(created -> {
+                    context.verify(() -> {
+                        // New resources are still created with a create request
+                        assertThat(created, instanceOf(ReconcileResult.Created.class));
+                        assertThat(api.requests().stream().map(Request::method).collect(Collectors.toList()), is(List.of("GET", "POST")));
+                    });
+
+                    api.reset();
+                    return op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, modifiedResource());
+                })
+                .compose(patched -> {
+                    context.verify(() -> {
+                        // The field FOO set by the create request is removed only because its ownership was migrated
+                        assertThat(patched, instanceOf(ReconcileResult.Patched.class));
+                        assertThat(patched.resource().getData(), is(singletonMap("FOO2", "BAR2")));
+                        assertThat(patched.resource().getMetadata().getManagedFields().stream().map(ManagedFieldsEntry::getManager).collect(Collectors.toList()),
+                                is(List.of(AbstractResourceOperator.FIELD_MANAGER)));
+
+                        List<Request> requests = api.requests();
+                        assertThat(requests.stream().map(Request::method).collect(Collectors.toList()), is(List.of("GET", "PATCH", "PATCH")));
+
+                        Request migration = requests.get(1);
+                        assertThat(migration.body().contentType().toString(), startsWith("application/json-patch+json"));
+                        assertThat(api.bodies().get(1), containsString("\"op\":\"test\",\"path\":\"/metadata/resourceVersion\""));
+                        assertThat(api.bodies().get(1), containsString("\"op\":\"replace\",\"path\":\"/metadata/managedFields\""));
+
+                        Request apply = requests.get(2);
+                        assertThat(apply.body().contentType().toString(), is("application/apply-patch+yaml"));
+                        assertThat(apply.url().queryParameter("fieldManager"), is(AbstractResourceOperator.FIELD_MANAGER));
+                        assertThat(apply.url().queryParameter("force"), is("true"));
+                        assertThat(api.bodies().get(2).contains("resourceVersion"), is(false));
+                        assertThat(api.bodies().get(2).contains("managedFields"), is(false));
+                    });
+
+                    api.reset();
+                    return op.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, modifiedResource());
+                })
+                .onComplete(context.succeeding(noop -> context.verify(() -> {
+                    // The API server did not change the resource => no-op without any further migration
+                    assertThat(noop, instanceOf(ReconcileResult.Noop.class));
+                    assertThat(api.requests().stream().map(Request::method).collect(Collectors.toList()), is(List.of("GET", "PATCH")));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testServerSideApplyNeedsHttpClient() {
+        SecretOperator op = new SecretOperator(vertx, mock(KubernetesClient.class));
+
+        assertThrows(IllegalStateException.class, () -> op.setServerSideApply(true));
+        assertThat(op.isServerSideApply(), is(false));
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the client-side diff and patch with server-side apply. Each invocation reconciles a ConfigMap with a Kafka
+ * broker configuration in which one value changed. The requests are served by {@link FakeKubernetesApi}, so the
+ * benchmark measures the client side only. Apart from the time, it counts the API requests and the bytes sent in the
+ * request bodies. The counters are totals for each iteration, so divide them by the number of reconciliations to get
+ * the values per reconciliation.
+ *
+ * The benchmark is not run as part of the tests. Run it using the {@link #main(String[])} method from the test
+ * classpath (for example from the IDE) after compiling the test classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerSideApplyBenchmark {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cluster-kafka-config";
+
+    @Param({"patch", "apply"})
+    public String mode;
+
+    private Vertx vertx;
+    private FakeKubernetesApi api;
+    private ConfigMapOperator operator;
+    private int revision = 0;
+
+    /**
+     * Request counters reported by JMH next to the benchmark results
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Requests {
+        public long requests;
+        public long requestBytes;
+        public long reconciliations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+            requestBytes = 0;
+            reconciliations = 0;
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        vertx = Vertx.vertx();
+        api = new FakeKubernetesApi();
+        operator = new ConfigMapOperator(vertx, api.client());
+        operator.setServerSideApply("apply".equals(mode));
+
+        operator.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, configMap(revision)).toCompletionStage().toCompletableFuture().get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    private static ConfigMap configMap(int revision) {
+        StringBuilder config = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            config.append("broker.config.option.").append(i).append("=value-").append(i).append('\n');
+        }
+        config.append("broker.config.revision=").append(revision).append('\n');
+
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                    .withLabels(Map.of("app.kubernetes.io/name", "kafka", "app.kubernetes.io/instance", "my-cluster", "strimzi.io/cluster", "my-cluster"))
+                .endMetadata()
+                .withData(Map.of("server.config", config.toString(), "log4j.properties", "log4j.rootLogger=INFO, CONSOLE\n"))
+                .build();
+    }
+
+    @Benchmark
+    public ReconcileResult<ConfigMap> reconcile(Requests counters) throws Exception {
+        api.reset();
+
+        ReconcileResult<ConfigMap> result = operator.reconcile(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, NAME, configMap(++revision))
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get();
+
+        counters.requests += api.requests().size();
+        counters.requestBytes += api.requestBytes();
+        counters.reconciliations++;
+
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ServerSideApplyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.zjsonpatch.JsonDiff;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+public class StructuralDiffTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
+            "^(/metadata/managedFields"
+                    + "|/metadata/annotations/strimzi.io~1generation"
+                    + "|/spec/containers/[0-9]+/resources"
+                    + "|/spec/containers/[0-9]+/env/[0-9]+/valueFrom/fieldRef/apiVersion"
+                    + "|/spec/volumes/[0-9]+/secret/defaultMode"
+                    + "|/status)$");
+
+    private static JsonNode json(String json) throws JsonProcessingException {
+        return MAPPER.readTree(json.replace('\'', '"'));
+    }
+
+    private static List<String> legacyPaths(JsonNode source, JsonNode target, Pattern ignorable) {
+        List<String> paths = new ArrayList<>();
+
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            String path = d.get("path").asText();
+
+            if (!ignorable.matcher(path).matches()) {
+                paths.add(path);
+            }
+        }
+
+        return paths;
+    }
+
+    private static List<String> paths(JsonNode source, JsonNode target, Pattern ignorable) {
+        List<String> paths = new ArrayList<>();
+
+        StructuralDiff.diff(source, target, IgnorablePaths.compile(ignorable), (operation, path, sourceValue, targetValue, isIgnorable) -> {
+            if (!isIgnorable) {
+                paths.add(path);
+            }
+
+            return true;
+        });
+
+        return paths;
+    }
+
+    private static void assertSameAsJsonDiff(String source, String target) throws JsonProcessingException {
+        JsonNode sourceJson = json(source);
+        JsonNode targetJson = json(target);
+        List<String> paths = paths(sourceJson, targetJson, IGNORABLE_PATHS);
+        List<String> legacyPaths = legacyPaths(sourceJson, targetJson, IGNORABLE_PATHS);
+
+        assertThat(paths.isEmpty(), is(legacyPaths.isEmpty()));
+
+        // JsonDiff folds removed and added values into move operations, so the paths can be compared only without them
+        boolean hasMoves = StreamSupport.stream(JsonDiff.asJson(sourceJson, targetJson).spliterator(), false)
+                .anyMatch(d -> "move".equals(d.get("op").asText()));
+        if (!hasMoves) {
+            assertThat(paths, is(legacyPaths));
+        }
+    }
+
+    @Test
+    public void testEqualTrees() throws JsonProcessingException {
+        assertSameAsJsonDiff("{'metadata': {'name': 'foo'}, 'spec': {'containers': [{'name': 'a'}]}}",
+                "{'metadata': {'name': 'foo'}, 'spec': {'containers': [{'name': 'a'}]}}");
+    }
+
+    @Test
+    public void testObjectDifferences() throws JsonProcessingException {
+        assertSameAsJsonDiff("{'metadata': {'name': 'foo', 'labels': {'a': 'b', 'c': 'd'}}, 'status': {'replicas': 3}}",
+                "{'metadata': {'name': 'foo', 'labels': {'a': 'x', 'e': 'f'}}}");
+        assertSameAsJsonDiff("{'spec': {'replicas': 3}}", "{'spec': {'replicas': '3'}}");
+        assertSameAsJsonDiff("{'spec': {'replicas': 3}}", "{'spec': [3]}");
+        assertSameAsJsonDiff("{'spec': {'replicas': null}}", "{'spec': {}}");
+    }
+
+    @Test
+    public void testIgnorablePaths() throws JsonProcessingException {
+        assertSameAsJsonDiff("{'metadata': {'managedFields': [{'manager': 'kubectl'}], 'annotations': {'strimzi.io/generation': '1'}}}",
+                "{'metadata': {'annotations': {'strimzi.io/generation': '2'}}}");
+        // Only the exact paths are ignorable, not their children
+        assertSameAsJsonDiff("{'status': {'replicas': 3}}", "{'status': {'replicas': 4}}");
+        assertSameAsJsonDiff("{'spec': {'containers': [{'name': 'a', 'resources': {'limits': {'cpu': '1'}}}]}}",
+                "{'spec': {'containers': [{'name': 'a'}]}}");
+        assertSameAsJsonDiff("{'spec': {'containers': [{'name': 'a', 'resources': {'limits': {'cpu': '1'}}}]}}",
+                "{'spec': {'containers': [{'name': 'a', 'resources': {'limits': {'cpu': '2'}}}]}}");
+        assertSameAsJsonDiff("{'spec': {'volumes': [{'name': 'a', 'secret': {'defaultMode': 420, 'secretName': 'a'}}]}}",
+                "{'spec': {'volumes': [{'name': 'a', 'secret': {'secretName': 'a'}}]}}");
+    }
+
+    @Test
+    public void testArrayDifferences() throws JsonProcessingException {
+        String env = "{'spec': {'containers': [{'name': 'a', 'env': [%s]}]}}";
+        String x = "{'name': 'X', 'value': 'x'}";
+        String y = "{'name': 'Y', 'valueFrom': {'fieldRef': {'apiVersion': 'v1', 'fieldPath': 'spec.nodeName'}}}";
+        String yWithoutApiVersion = "{'name': 'Y', 'valueFrom': {'fieldRef': {'fieldPath': 'spec.nodeName'}}}";
+        String z = "{'name': 'Z', 'value': 'z'}";
+
+        assertSameAsJsonDiff(String.format(env, x + "," + y), String.format(env, x + "," + yWithoutApiVersion));
+        assertSameAsJsonDiff(String.format(env, x + "," + y + "," + z), String.format(env, yWithoutApiVersion + "," + z));
+        assertSameAsJsonDiff(String.format(env, y + "," + z), String.format(env, x + "," + yWithoutApiVersion + "," + z));
+        assertSameAsJsonDiff(String.format(env, x + "," + z), String.format(env, z + "," + x));
+        assertSameAsJsonDiff(String.format(env, x + "," + y + "," + z), String.format(env, z + "," + x + "," + yWithoutApiVersion));
+        assertSameAsJsonDiff(String.format(env, x), String.format(env, ""));
+        assertSameAsJsonDiff(String.format(env, ""), String.format(env, x + "," + z));
+        assertSameAsJsonDiff("{'spec': {'ports': [1, 2, 3, 4]}}", "{'spec': {'ports': [2, 5, 4, 1]}}");
+    }
+
+    @Test
+    public void testLongestCommonSubsequence() throws JsonProcessingException {
+        assertThat(lcs("[1, 2, 3, 4]", "[2, 5, 4, 1]"), is(json("[2, 4]")));
+        assertThat(lcs("[1, 2, 3, 4, 5]", "[1, 3, 5]"), is(json("[1, 3, 5]")));
+        assertThat(lcs("[1, 2, 3]", "[1, 2, 3]"), is(json("[1, 2, 3]")));
+        assertThat(lcs("[1, 2, 3]", "[]"), is(json("[]")));
+        assertThat(lcs("[{'a': 1}, {'b': 2}, {'c': 3}]", "[{'b': 2}, {'d': 4}, {'c': 3}]"), is(json("[{'b': 2}, {'c': 3}]")));
+    }
+
+    private static JsonNode lcs(String source, String target) throws JsonProcessingException {
+        List<JsonNode> sourceElements = new ArrayList<>();
+        json(source).elements().forEachRemaining(sourceElements::add);
+        List<JsonNode> targetElements = new ArrayList<>();
+        json(target).elements().forEachRemaining(targetElements::add);
+
+        return MAPPER.valueToTree(StructuralDiff.longestCommonSubsequence(sourceElements, targetElements));
+    }
+
+    @Test
+    public void testStopsAtFirstDifference() throws JsonProcessingException {
+        List<String> visited = new ArrayList<>();
+
+        boolean complete = StructuralDiff.diff(json("{'metadata': {'managedFields': [], 'name': 'a', 'namespace': 'b'}}"),
+                json("{'metadata': {'name': 'c', 'namespace': 'd'}}"),
+                IgnorablePaths.compile(IGNORABLE_PATHS),
+                (operation, path, source, target, ignorable) -> {
+                    visited.add(path);
+                    return ignorable;
+                });
+
+        assertThat(complete, is(false));
+        assertThat(visited, contains("/metadata/managedFields", "/metadata/name"));
+    }
+
+    @Test
+    public void testOperations() throws JsonProcessingException {
+        List<String> operations = new ArrayList<>();
+
+        StructuralDiff.diff(json("{'a': 1, 'b': 2}"), json("{'b': 3, 'c': 4}"), IgnorablePaths.compile(IGNORABLE_PATHS),
+                (operation, path, source, target, ignorable) -> {
+                    operations.add(operation + " " + path);
+                    return true;
+                });
+
+        assertThat(operations, contains("REMOVE /a", "REPLACE /b", "ADD /c"));
+    }
+
+    @Test
+    public void testIgnorablePathsTrie() {
+        IgnorablePaths paths = IgnorablePaths.compile(IGNORABLE_PATHS);
+        assertThat(paths.isCompiled(), is(true));
+
+        for (String path : List.of("/metadata/managedFields", "/metadata/annotations/strimzi.io~1generation", "/status",
+                "/spec/containers/0/resources", "/spec/containers/12/resources", "/spec/containers/1/env/3/valueFrom/fieldRef/apiVersion",
+                "/metadata/annotations/strimziXio~1generation", "/spec/containers/a/resources", "/spec/containers/0",
+                "/spec/containers/0/resources/limits", "/status/replicas", "/metadata", "/")) {
+            assertThat(path, isIgnorable(paths, path), is(IGNORABLE_PATHS.matcher(path).matches()));
+        }
+    }
+
+    @Test
+    public void testIgnorablePathsFallback() {
+        Pattern pattern = Pattern.compile("^/spec/(containers|initContainers)/[0-9]+/resources$");
+        IgnorablePaths paths = IgnorablePaths.compile(pattern);
+
+        assertThat(paths.isCompiled(), is(false));
+        assertThat(isIgnorable(paths, "/spec/initContainers/0/resources"), is(true));
+        assertThat(isIgnorable(paths, "/spec/volumes/0/resources"), is(false));
+    }
+
+    private static boolean isIgnorable(IgnorablePaths paths, String path) {
+        List<IgnorablePaths.Node> state = paths.start();
+
+        if (!"/".equals(path)) {
+            for (String segment : path.substring(1).split("/")) {
+                state = paths.next(state, segment.replace("~1", "/").replace("~0", "~"));
+            }
+        }
+
+        return paths.isIgnorable(state, path);
+    }
+}
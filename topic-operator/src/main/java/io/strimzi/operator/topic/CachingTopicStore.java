@@ -0,0 +1,245 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TopicStore which keeps the recently read topics in memory in front of another TopicStore. The operator is the only
+ * writer of its topic store, so the cached topics stay valid until the operator itself changes them.
+ *
+ * The cache holds at most the configured number of topics and evicts the least recently used ones. The topics which do
+ * not exist in the store are cached as well. Every write invalidates the cached topic. The results of the reads and
+ * of the warm up which were in progress while the topic was being written are not cached, because they might return
+ * the topic from before the write.
+ */
+class CachingTopicStore implements TopicStore {
+    private static final Logger LOGGER = LogManager.getLogger(CachingTopicStore.class);
+
+    private static final String METRICS_PREFIX = TopicOperator.METRICS_PREFIX + "topic.store.cache.";
+
+    /**
+     * Marks the topics which do not exist in the store
+     */
+    private static final Topic ABSENT = new Topic.Builder("absent", 0).build();
+
+    private final TopicStore delegate;
+    private final int maxSize;
+
+    // Guarded by this
+    private final LinkedHashMap<TopicName, Topic> cache;
+    private final Map<TopicName, Integer> pendingWrites = new HashMap<>();
+    private final Map<TopicName, List<PendingRead>> pendingReads = new HashMap<>();
+    private Set<TopicName> writtenDuringWarmUp;
+
+    private Counter hits;
+    private Counter misses;
+    private AtomicInteger size;
+
+    /**
+     * Constructor
+     *
+     * @param delegate  The TopicStore used for the topics which are not cached and for all writes
+     * @param maxSize   The maximum number of cached topics
+     * @param metrics   The metrics provider or null when the metrics should not be collected
+     */
+    CachingTopicStore(TopicStore delegate, int maxSize, MetricsProvider metrics) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TopicName, Topic> eldest) {
+                return size() > CachingTopicStore.this.maxSize;
+            }
+        };
+
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
+
+            hits = metrics.counter(METRICS_PREFIX + "hits",
+                    "Number of topic store reads served from the cache",
+                    metricTags);
+            misses = metrics.counter(METRICS_PREFIX + "misses",
+                    "Number of topic store reads which were not served from the cache",
+                    metricTags);
+            size = metrics.gauge(METRICS_PREFIX + "size",
+                    "Number of topics in the topic store cache",
+                    metricTags);
+        }
+    }
+
+    /**
+     * Fills the cache with all topics from the underlying store. The warm up is skipped when the underlying store
+     * cannot list its topics.
+     *
+     * @return  A future which completes when the cache is filled
+     */
+    Future<Void> warmUp() {
+        synchronized (this) {
+            writtenDuringWarmUp = new HashSet<>();
+        }
+
+        return delegate.readAll().map(topics -> {
+            int warmed = 0;
+
+            synchronized (this) {
+                for (Map.Entry<TopicName, Topic> entry : topics.entrySet()) {
+                    if (warmed == maxSize) {
+                        break;
+                    }
+
+                    TopicName name = entry.getKey();
+                    if (!writtenDuringWarmUp.contains(name) && !pendingWrites.containsKey(name) && !cache.containsKey(name)) {
+                        cache.put(name, entry.getValue());
+                        warmed++;
+                    }
+                }
+
+                writtenDuringWarmUp = null;
+                updateSize();
+            }
+
+            LOGGER.info("Warmed up the topic store cache with {} of {} topics", warmed, topics.size());
+            return (Void) null;
+        }).recover(error -> {
+            synchronized (this) {
+                writtenDuringWarmUp = null;
+            }
+
+            LOGGER.info("Topic store cache was not warmed up: {}", error.getMessage());
+            return Future.succeededFuture();
+        });
+    }
+
+    @Override
+    public Future<Topic> read(TopicName name) {
+        PendingRead read;
+
+        synchronized (this) {
+            Topic cached = cache.get(name);
+            if (cached != null) {
+                if (hits != null) {
+                    hits.increment();
+                }
+                return Future.succeededFuture(cached == ABSENT ? null : cached);
+            }
+
+            if (misses != null) {
+                misses.increment();
+            }
+
+            read = new PendingRead();
+            pendingReads.computeIfAbsent(name, ignored -> new ArrayList<>(1)).add(read);
+        }
+
+        return delegate.read(name).onComplete(ar -> {
+            synchronized (this) {
+                List<PendingRead> reads = pendingReads.get(name);
+                reads.remove(read);
+                if (reads.isEmpty()) {
+                    pendingReads.remove(name);
+                }
+
+                if (ar.succeeded() && !read.invalidated && !pendingWrites.containsKey(name)) {
+                    cache.put(name, ar.result() == null ? ABSENT : ar.result());
+                    updateSize();
+                }
+            }
+        });
+    }
+
+    @Override
+    public Future<Map<TopicName, Topic>> readAll() {
+        return delegate.readAll();
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        TopicName name = topic.getTopicName();
+        startWrite(name);
+        return delegate.create(topic).onComplete(ignored -> completeWrite(name));
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        TopicName name = topic.getTopicName();
+        startWrite(name);
+        return delegate.update(topic).onComplete(ignored -> completeWrite(name));
+    }
+
+    @Override
+    public Future<Void> delete(TopicName name) {
+        startWrite(name);
+        return delegate.delete(name).onComplete(ignored -> completeWrite(name));
+    }
+
+    /**
+     * Invalidates the topic before it is written. It is not cached until the write completes.
+     */
+    private synchronized void startWrite(TopicName name) {
+        pendingWrites.merge(name, 1, Integer::sum);
+        invalidate(name);
+    }
+
+    /**
+     * Invalidates the topic again after it was written, because the reads started during the write might have
+     * returned the topic from before the write. Whether the write succeeded or not, the next read goes to the
+     * underlying store.
+     */
+    private synchronized void completeWrite(TopicName name) {
+        pendingWrites.computeIfPresent(name, (ignored, writes) -> writes == 1 ? null : writes - 1);
+        invalidate(name);
+    }
+
+    private void invalidate(TopicName name) {
+        cache.remove(name);
+        updateSize();
+
+        List<PendingRead> reads = pendingReads.get(name);
+        if (reads != null) {
+            reads.forEach(read -> read.invalidated = true);
+        }
+
+        if (writtenDuringWarmUp != null) {
+            writtenDuringWarmUp.add(name);
+        }
+    }
+
+    private void updateSize() {
+        if (size != null) {
+            size.set(cache.size());
+        }
+    }
+
+    /**
+     * @return  Number of cached topics
+     */
+    /*test*/ synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * Read from the underlying store which is in progress
+     */
+    private static class PendingRead {
+        // Guarded by the store
+        private boolean invalidated = false;
+    }
+}
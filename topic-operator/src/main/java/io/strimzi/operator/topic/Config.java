@@ -47,6 +47,18 @@ public class Config {
         }
     };
 
+    /** A Java Integer which is not negative */
+    private static final Type<? extends Integer> NON_NEGATIVE_INTEGER = new Type<Integer>() {
+        @Override
+        Integer parse(String s) {
+            int value = Integer.parseInt(s);
+            if (value < 0) {
+                throw new IllegalArgumentException("The value must not be negative");
+            }
+            return value;
+        }
+    };
+
     /** A Java Boolean */
     private static final Type<? extends Boolean> BOOLEAN = new Type<Boolean>() {
         @Override
@@ -105,10 +117,13 @@ public class Config {
     public static final String TC_ZK_CONNECT = "STRIMZI_ZOOKEEPER_CONNECT";
     public static final String TC_ZK_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     public static final String TC_ZK_CONNECTION_TIMEOUT_MS = "TC_ZK_CONNECTION_TIMEOUT_MS";
+    public static final String TC_ZK_CONFIG_CHANGE_NOTIFICATIONS = "STRIMZI_ZOOKEEPER_CONFIG_CHANGE_NOTIFICATIONS";
     public static final String TC_PERIODIC_INTERVAL_MS = "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS";
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_TOPIC_METADATA_BATCH_SIZE = "STRIMZI_TOPIC_METADATA_BATCH_SIZE";
+    public static final String TC_RECONCILIATION_PARALLELISM = "STRIMZI_RECONCILIATION_PARALLELISM";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
@@ -129,8 +144,13 @@ public class Config {
     public static final String TC_STORE_NAME = "STRIMZI_STORE_NAME";
     public static final String TC_APPLICATION_ID = "STRIMZI_APPLICATION_ID";
     public static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
+    public static final String TC_STORE_BINARY_FORMAT = "STRIMZI_STORE_BINARY_FORMAT";
+    public static final String TC_STORE_BATCH_LINGER_MS = "STRIMZI_STORE_BATCH_LINGER_MS";
+    public static final String TC_STORE_CACHE_SIZE = "STRIMZI_STORE_CACHE_SIZE";
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
+    public static final String TC_USE_INFORMER = "STRIMZI_USE_INFORMER";
+    public static final String TC_INFORMER_RESYNC_INTERVAL_MS = "STRIMZI_INFORMER_RESYNC_INTERVAL_MS";
 
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
@@ -155,6 +175,9 @@ public class Config {
     /** The zookeeper connection timeout. */
     public static final Value<Long> ZOOKEEPER_CONNECTION_TIMEOUT_MS = new Value<>(TC_ZK_CONNECTION_TIMEOUT_MS, DURATION, "18000");
 
+    /** If the topic config changes are followed using the Kafka config change notifications instead of watching the config of each topic in ZooKeeper */
+    public static final Value<Boolean> ZOOKEEPER_CONFIG_CHANGE_NOTIFICATIONS = new Value<>(TC_ZK_CONFIG_CHANGE_NOTIFICATIONS, BOOLEAN, "false");
+
     /** The period between full reconciliations. */
     public static final Value<Long> FULL_RECONCILIATION_INTERVAL_MS = new Value<>(TC_PERIODIC_INTERVAL_MS, DURATION, "120000");
 
@@ -170,6 +193,12 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The maximum number of topics described in a single request when getting the metadata of all topics during the periodic reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_BATCH_SIZE = new Value<>(TC_TOPIC_METADATA_BATCH_SIZE, POSITIVE_INTEGER, "500");
+
+    /** The maximum number of topics reconciled at the same time */
+    public static final Value<Integer> RECONCILIATION_PARALLELISM = new Value<>(TC_RECONCILIATION_PARALLELISM, POSITIVE_INTEGER, "50");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -206,10 +235,21 @@ public class Config {
     public static final Value<String> APPLICATION_ID = new Value<>(TC_APPLICATION_ID, STRING, "__strimzi-topic-operator-kstreams");
     /** The stale timeout for the Kafka Streams based TopicStore */
     public static final Value<Long> STALE_RESULT_TIMEOUT_MS = new Value<>(TC_STALE_RESULT_TIMEOUT_MS, DURATION, "5000");
+    /** If the Kafka Streams based TopicStore writes the compact binary format instead of JSON */
+    public static final Value<Boolean> STORE_BINARY_FORMAT = new Value<>(TC_STORE_BINARY_FORMAT, BOOLEAN, "false");
+    /** The time for which the Kafka Streams based TopicStore collects the commands to send them together */
+    public static final Value<Long> STORE_BATCH_LINGER_MS = new Value<>(TC_STORE_BATCH_LINGER_MS, DURATION, "5");
+    /** The maximum number of topics cached in memory in front of the TopicStore or 0 when the cache is disabled */
+    public static final Value<Integer> STORE_CACHE_SIZE = new Value<>(TC_STORE_CACHE_SIZE, NON_NEGATIVE_INTEGER, "10000");
 
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /** Do we watch the KafkaTopics with an informer and read them from its cache */
+    public static final Value<Boolean> USE_INFORMER = new Value<>(TC_USE_INFORMER, BOOLEAN, "false");
+    /** The interval in which the informer passes all KafkaTopics to the operator again or 0 when it does not */
+    public static final Value<Long> INFORMER_RESYNC_INTERVAL_MS = new Value<>(TC_INFORMER_RESYNC_INTERVAL_MS, DURATION, "300000");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -219,10 +259,13 @@ public class Config {
         addConfigValue(configValues, ZOOKEEPER_CONNECT);
         addConfigValue(configValues, ZOOKEEPER_SESSION_TIMEOUT_MS);
         addConfigValue(configValues, ZOOKEEPER_CONNECTION_TIMEOUT_MS);
+        addConfigValue(configValues, ZOOKEEPER_CONFIG_CHANGE_NOTIFICATIONS);
         addConfigValue(configValues, FULL_RECONCILIATION_INTERVAL_MS);
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_SIZE);
+        addConfigValue(configValues, RECONCILIATION_PARALLELISM);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, SECURITY_PROTOCOL);
@@ -239,7 +282,12 @@ public class Config {
         addConfigValue(configValues, STORE_NAME);
         addConfigValue(configValues, APPLICATION_ID);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
+        addConfigValue(configValues, STORE_BINARY_FORMAT);
+        addConfigValue(configValues, STORE_BATCH_LINGER_MS);
+        addConfigValue(configValues, STORE_CACHE_SIZE);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, USE_INFORMER);
+        addConfigValue(configValues, INFORMER_RESYNC_INTERVAL_MS);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
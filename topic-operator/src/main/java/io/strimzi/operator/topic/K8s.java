@@ -64,6 +64,17 @@ public interface K8s {
      */
     Future<KafkaTopic> getFromName(ResourceName resourceName);
 
+    /**
+     * Get the resource for the given Kafka topic. The resource might be named differently than the topic
+     * when it sets the topic name in its spec. By default, it gets the resource named after the topic.
+     *
+     * @param topicName The name of the Kafka topic.
+     * @return A future which completes with the topic or with null if no resource was found.
+     */
+    default Future<KafkaTopic> getFromTopicName(TopicName topicName) {
+        return getFromName(topicName.asKubeName());
+    }
+
     /**
      * Create an event.
      *
@@ -10,23 +10,35 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.InformerCache;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 public class K8sImpl implements K8s {
 
     private final static Logger LOGGER = LogManager.getLogger(K8sImpl.class);
 
+    /**
+     * Name of the informer index with the names of the Kafka topics of the KafkaTopic resources
+     */
+    static final String TOPIC_NAME_INDEX = "topicName";
+
     private final Labels labels;
     private final String namespace;
 
@@ -35,6 +47,9 @@ public class K8sImpl implements K8s {
 
     private final Vertx vertx;
 
+    // The informer cache used for the reads or null when the reads are sent to the Kubernetes API server
+    private volatile InformerCache<KafkaTopic> cache;
+
     public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace) {
         this.vertx = vertx;
         this.client = client;
@@ -112,16 +127,127 @@ public class K8sImpl implements K8s {
         return client.resources(KafkaTopic.class, KafkaTopicList.class);
     }
 
+    /**
+     * Creates and starts an informer for the KafkaTopics matching the labels. The informer handles the expired watches
+     * by itself by resuming the watch or re-listing the resources. Once it is synced, the KafkaTopics are read from its
+     * cache instead of the Kubernetes API server. The informer replaces the previously started informer.
+     *
+     * @param handler               Handler for the KafkaTopic events
+     * @param resyncIntervalMs      Interval in which the informer passes all cached KafkaTopics to the handler again
+     *                              or 0 to disable the resync
+     * @param metrics               Metrics provider used for the cache metrics
+     *
+     * @return  The started informer
+     */
+    SharedIndexInformer<KafkaTopic> inform(ResourceEventHandler<KafkaTopic> handler, long resyncIntervalMs, MetricsProvider metrics) {
+        SharedIndexInformer<KafkaTopic> informer = operation().inNamespace(namespace)
+                .withLabels(labels.labels())
+                .withIndexers(indexers())
+                .runnableInformer(resyncIntervalMs);
+        informer.addEventHandler(handler);
+        informer.run();
+
+        useCache(new InformerCache<>(KafkaTopic.RESOURCE_KIND, namespace, labels.labels(), informer, metrics));
+        return informer;
+    }
+
+    /**
+     * @return  The indexers used by the informer
+     */
+    /*test*/ static Map<String, Function<KafkaTopic, List<String>>> indexers() {
+        Map<String, Function<KafkaTopic, List<String>>> indexers = new HashMap<>(InformerCache.indexers());
+        indexers.put(TOPIC_NAME_INDEX, K8sImpl::topicNameIndexKeys);
+        return indexers;
+    }
+
+    private static List<String> topicNameIndexKeys(KafkaTopic kafkaTopic) {
+        if (kafkaTopic.getSpec() == null) {
+            return List.of();
+        } else {
+            return List.of(new TopicName(kafkaTopic).toString());
+        }
+    }
+
+    /**
+     * Sets the informer cache which should be used for the reads and stops the previously used informer
+     *
+     * @param cache     The informer cache
+     */
+    /*test*/ void useCache(InformerCache<KafkaTopic> cache) {
+        InformerCache<KafkaTopic> previous = this.cache;
+        this.cache = cache;
+
+        if (previous != null) {
+            previous.stop();
+        }
+    }
+
+    /**
+     * Stops the informer used for the reads. The KafkaTopics are read from the Kubernetes API server afterwards.
+     */
+    void stopInformer() {
+        useCache(null);
+    }
+
+    /**
+     * @return  The informer cache which can be used for the reads or null if there is no synced cache
+     */
+    private InformerCache<KafkaTopic> syncedCache() {
+        InformerCache<KafkaTopic> cache = this.cache;
+
+        if (cache != null && !cache.isSynced()) {
+            cache.recordMiss();
+            return null;
+        }
+
+        return cache;
+    }
+
     @Override
     public Future<List<KafkaTopic>> listResources() {
+        InformerCache<KafkaTopic> cache = syncedCache();
+        if (cache != null) {
+            cache.recordHit();
+            return Future.succeededFuture(cache.list(namespace, labels.labels()));
+        }
+
         return crdOperator.listAsync(namespace, io.strimzi.operator.common.model.Labels.fromMap(labels.labels()));
     }
 
     @Override
     public Future<KafkaTopic> getFromName(ResourceName resourceName) {
+        InformerCache<KafkaTopic> cache = syncedCache();
+        if (cache != null) {
+            KafkaTopic cached = cache.get(namespace, resourceName.toString());
+
+            // KafkaTopics which do not match the labels are not in the cache, but the operator can still read them
+            if (cached != null || cache.isComplete()) {
+                cache.recordHit();
+                return Future.succeededFuture(cached);
+            } else {
+                cache.recordMiss();
+            }
+        }
+
         return crdOperator.getAsync(namespace, resourceName.toString());
     }
 
+    @Override
+    public Future<KafkaTopic> getFromTopicName(TopicName topicName) {
+        InformerCache<KafkaTopic> cache = syncedCache();
+        if (cache != null) {
+            List<KafkaTopic> cached = cache.listByIndex(TOPIC_NAME_INDEX, topicName.toString());
+
+            // When more KafkaTopics use the same topic, the one named after the topic is used as without the cache
+            if (cached.size() == 1) {
+                cache.recordHit();
+                return Future.succeededFuture(cached.get(0));
+            }
+        }
+
+        return getFromName(topicName.asKubeName());
+    }
+
     /**
      * Create the given k8s event
      */
@@ -7,6 +7,7 @@ package io.strimzi.operator.topic;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Annotations;
@@ -17,7 +18,10 @@ import io.vertx.core.Handler;
 import java.util.Map;
 import java.util.Objects;
 
-class K8sTopicWatcher implements Watcher<KafkaTopic> {
+/**
+ * Handles the KafkaTopic events received either through a watch or through an informer
+ */
+class K8sTopicWatcher implements Watcher<KafkaTopic>, ResourceEventHandler<KafkaTopic> {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(K8sTopicWatcher.class);
     private final Future<Void> initReconcileFuture;
@@ -80,6 +84,23 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
         }
     }
 
+    @Override
+    public void onAdd(KafkaTopic kafkaTopic) {
+        eventReceived(Action.ADDED, kafkaTopic);
+    }
+
+    @Override
+    public void onUpdate(KafkaTopic oldKafkaTopic, KafkaTopic newKafkaTopic) {
+        // The informer passes the unchanged KafkaTopics as updates on resync and when it re-lists them after the watch
+        // expired. They are reconciled only when their status shows that their current generation was not reconciled.
+        eventReceived(Action.MODIFIED, newKafkaTopic);
+    }
+
+    @Override
+    public void onDelete(KafkaTopic kafkaTopic, boolean deletedFinalStateUnknown) {
+        eventReceived(Action.DELETED, kafkaTopic);
+    }
+
     public boolean shouldReconcile(KafkaTopic kafkaTopic, ObjectMeta metadata, boolean pauseAnnotationChanged) {
         return kafkaTopic.getStatus() == null // Not status => new KafkaTopic
                 // KT has changed
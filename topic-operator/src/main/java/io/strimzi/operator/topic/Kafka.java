@@ -7,6 +7,8 @@ package io.strimzi.operator.topic;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -88,6 +90,20 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of the given topics in Kafka using a few batched requests,
+     * completing the returned Future with the metadata of the topics which could be described.
+     * Topics which do not exist or whose metadata could not be fetched are not included in the result,
+     * so the callers should use {@link #topicMetadata(Reconciliation, TopicName)} for them.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation.
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the metadata of the topics.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
@@ -4,9 +4,14 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 import io.strimzi.operator.common.Reconciliation;
@@ -42,9 +47,16 @@ public class KafkaImpl implements Kafka {
 
     protected final Vertx vertx;
 
+    private final int metadataBatchSize;
+
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, Integer.parseInt(io.strimzi.operator.topic.Config.TOPIC_METADATA_BATCH_SIZE.defaultValue));
+    }
+
+    public KafkaImpl(Admin adminClient, Vertx vertx, int metadataBatchSize) {
         this.adminClient = adminClient;
         this.vertx = vertx;
+        this.metadataBatchSize = metadataBatchSize;
     }
 
     /**
@@ -121,6 +133,64 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop
+     * with the metadata of the given topics obtained from the Kafka AdminClient API.
+     * The topics are described in batches of at most {@code metadataBatchSize} topics,
+     * using one describeTopics and one describeConfigs request per batch.
+     * The batches are described one after another to not overload the brokers.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames) {
+        LOGGER.debugCr(reconciliation, "Getting metadata for {} topics in batches of {}", topicNames.size(), metadataBatchSize);
+        Map<TopicName, TopicMetadata> result = new ConcurrentHashMap<>(topicNames.size());
+        List<TopicName> names = new ArrayList<>(topicNames);
+        Future<Void> batches = Future.succeededFuture();
+        for (int from = 0; from < names.size(); from += metadataBatchSize) {
+            List<TopicName> batch = names.subList(from, Math.min(from + metadataBatchSize, names.size()));
+            batches = batches.compose(ignored -> topicMetadataBatch(reconciliation, batch, result));
+        }
+        return batches.map(ignored -> result);
+    }
+
+    /**
+     * Describes the topics and their configs in one batch and adds the metadata of the topics which were described
+     * successfully to the {@code result}. The topics which failed (for example because they were deleted in the meantime)
+     * are left out.
+     */
+    @SuppressWarnings("rawtypes")
+    private Future<Void> topicMetadataBatch(Reconciliation reconciliation, List<TopicName> batch, Map<TopicName, TopicMetadata> result) {
+        try {
+            Set<String> names = new HashSet<>(batch.size());
+            Set<ConfigResource> resources = new HashSet<>(batch.size());
+            for (TopicName topicName : batch) {
+                names.add(topicName.toString());
+                resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()));
+            }
+
+            Map<String, KafkaFuture<TopicDescription>> descriptions = adminClient.describeTopics(names).values();
+            Map<ConfigResource, KafkaFuture<Config>> configs = adminClient.describeConfigs(resources).values();
+
+            List<Future> futures = new ArrayList<>(batch.size());
+            for (TopicName topicName : batch) {
+                ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
+                futures.add(CompositeFuture.all(mapFuture(descriptions.get(topicName.toString())), mapFuture(configs.get(resource)))
+                        .<Void>map(compositeFuture -> {
+                            result.put(topicName, new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
+                            return null;
+                        })
+                        .recover(error -> {
+                            LOGGER.debugCr(reconciliation, "Could not get metadata for topic {} in batch: {}", topicName, error.getMessage());
+                            return Future.succeededFuture();
+                        }));
+            }
+
+            return CompositeFuture.all(futures).mapEmpty();
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
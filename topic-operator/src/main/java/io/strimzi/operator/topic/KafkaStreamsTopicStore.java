@@ -5,22 +5,49 @@
 package io.strimzi.operator.topic;
 
 import io.apicurio.registry.utils.kafka.ProducerActions;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.streams.state.KeyValueIterator;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
 /**
  * TopicStore based on Kafka Streams and
  * Apicurio Registry's gRPC based Kafka Streams ReadOnlyKeyValueStore
+ *
+ * The commands are not sent one by one. They are collected for up to the batch linger time and sent together, so the
+ * producer can put them into the same produce requests, and the results of the individual commands complete as they
+ * arrive from the Streams topology. This way many reconciliations writing to the store at the same time do not wait
+ * for each other's round trip.
  */
-public class KafkaStreamsTopicStore implements TopicStore {
+public class KafkaStreamsTopicStore implements TopicStore, AutoCloseable {
     private static final Logger LOGGER = LogManager.getLogger(KafkaStreamsTopicStore.class);
 
+    /**
+     * The maximum number of commands in a batch. A batch is sent without waiting for the linger time when it is full.
+     */
+    /*test*/ static final int MAX_BATCH_SIZE = 500;
+
     private final ReadOnlyKeyValueStore<String, Topic> topicStore;
 
     private final String storeTopic;
@@ -28,15 +55,65 @@ public class KafkaStreamsTopicStore implements TopicStore {
 
     private final BiFunction<String, String, CompletionStage<Integer>> resultService;
 
+    private final long batchLingerMs;
+    private final ScheduledExecutorService executor;
+
+    // Guarded by this
+    private List<TopicCommand> batch = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private Timer writeTimer;
+    private DistributionSummary batchSizeSummary;
+
     public KafkaStreamsTopicStore(
             ReadOnlyKeyValueStore<String, Topic> topicStore,
             String storeTopic,
             ProducerActions<String, TopicCommand> producer,
             BiFunction<String, String, CompletionStage<Integer>> resultService) {
+        this(topicStore, storeTopic, producer, resultService, 0, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param topicStore        The store with the topics
+     * @param storeTopic        The topic to which the commands are sent
+     * @param producer          The producer used to send the commands
+     * @param resultService     The service providing the results of the commands
+     * @param batchLingerMs     The time for which the commands are collected before they are sent. When zero, every
+     *                          command is sent immediately.
+     * @param metrics           The metrics provider or null when the metrics should not be collected
+     */
+    public KafkaStreamsTopicStore(
+            ReadOnlyKeyValueStore<String, Topic> topicStore,
+            String storeTopic,
+            ProducerActions<String, TopicCommand> producer,
+            BiFunction<String, String, CompletionStage<Integer>> resultService,
+            long batchLingerMs,
+            MetricsProvider metrics) {
         this.topicStore = topicStore;
         this.storeTopic = storeTopic;
         this.producer = producer;
         this.resultService = resultService;
+        this.batchLingerMs = batchLingerMs;
+        this.executor = batchLingerMs > 0 ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "topic-store-batch");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
+
+            writeTimer = metrics.timer(TopicOperator.METRICS_PREFIX + "topic.store.write.duration",
+                    "The time the commands written to the topic store take until their result is known",
+                    metricTags);
+            batchSizeSummary = DistributionSummary.builder(TopicOperator.METRICS_PREFIX + "topic.store.batch.size")
+                    .description("Number of commands sent to the topic store together")
+                    .tags(metricTags)
+                    .sla(1, 10, 50, 100, MAX_BATCH_SIZE)
+                    .register(metrics.meterRegistry());
+        }
     }
 
     public static Throwable toThrowable(Integer index) {
@@ -78,21 +155,119 @@ public class KafkaStreamsTopicStore implements TopicStore {
         }
     }
 
+    @Override
+    public Future<Map<TopicName, Topic>> readAll() {
+        Context context = Vertx.currentContext();
+
+        if (context != null) {
+            // Iterating the whole store can take a while, so it is not done on the event loop
+            return context.executeBlocking(promise -> promise.complete(readAllTopics()), false);
+        } else {
+            try {
+                return Future.succeededFuture(readAllTopics());
+            } catch (Throwable t) {
+                return Future.failedFuture(t);
+            }
+        }
+    }
+
+    private Map<TopicName, Topic> readAllTopics() {
+        try (KeyValueIterator<String, Topic> iterator = topicStore.all()) {
+            Map<TopicName, Topic> topics = new HashMap<>();
+            iterator.forEachRemaining(kv -> topics.put(new TopicName(kv.key), kv.value));
+            return topics;
+        }
+    }
+
+    /**
+     * Writes the commands to the store. The commands are sent together with the other commands written within the
+     * batch linger time.
+     *
+     * @param commands  The commands
+     *
+     * @return  The futures with the results of the commands in the same order as the commands
+     */
+    public List<Future<Void>> write(List<TopicCommand> commands) {
+        List<Future<Void>> results = new ArrayList<>(commands.size());
+
+        for (TopicCommand cmd : commands) {
+            LOGGER.debug("Handling topic command [{}]: {}", cmd.getType(), cmd.getKey());
+            long start = System.nanoTime();
+            CompletionStage<Throwable> result = resultService.apply(cmd.getKey(), cmd.getUuid())
+                    .thenApply(KafkaStreamsTopicStore::toThrowable);
+            if (writeTimer != null) {
+                result.whenComplete((t, e) -> writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+            }
+            results.add(Future.fromCompletionStage(result).compose(
+                t -> t != null ? Future.failedFuture(t) : Future.succeededFuture()
+            ));
+        }
+
+        List<TopicCommand> toSend = null;
+        synchronized (this) {
+            batch.addAll(commands);
+
+            if (executor == null || batch.size() >= MAX_BATCH_SIZE) {
+                toSend = takeBatch();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = executor.schedule(this::flush, batchLingerMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (toSend != null) {
+            send(toSend);
+        }
+
+        return results;
+    }
+
+    private List<TopicCommand> takeBatch() {
+        List<TopicCommand> toSend = batch;
+        batch = new ArrayList<>();
+
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+
+        return toSend;
+    }
+
+    /**
+     * Sends the commands collected so far
+     */
+    private void flush() {
+        List<TopicCommand> toSend;
+        synchronized (this) {
+            toSend = takeBatch();
+        }
+
+        send(toSend);
+    }
+
+    private void send(List<TopicCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        if (batchSizeSummary != null) {
+            batchSizeSummary.record(commands.size());
+        }
+
+        // The records are sent one after another without waiting, so the producer batches them
+        for (TopicCommand cmd : commands) {
+            // Kafka Streams can re-balance in-between registering for the result and sending the command ...
+            producer.apply(new ProducerRecord<>(storeTopic, cmd.getKey(), cmd))
+                    .whenComplete((r, t) -> {
+                        if (t != null) {
+                            LOGGER.error("Error sending topic command", t);
+                        }
+                    });
+        }
+    }
+
     private Future<Void> handleTopicCommand(TopicCommand cmd) {
-        LOGGER.debug("Handling topic command [{}]: {}", cmd.getType(), cmd.getKey());
-        String key = cmd.getKey();
-        CompletionStage<Throwable> result = resultService.apply(key, cmd.getUuid())
-                .thenApply(KafkaStreamsTopicStore::toThrowable);
-        // Kafka Streams can re-balance in-between these two calls ...
-        producer.apply(new ProducerRecord<>(storeTopic, key, cmd))
-                .whenComplete((r, t) -> {
-                    if (t != null) {
-                        LOGGER.error("Error sending topic command", t);
-                    }
-                });
-        return Future.fromCompletionStage(result).compose(
-            t -> t != null ? Future.failedFuture(t) : Future.succeededFuture()
-        );
+        return write(Collections.singletonList(cmd)).get(0);
     }
 
     @Override
@@ -112,4 +287,16 @@ public class KafkaStreamsTopicStore implements TopicStore {
         TopicCommand cmd = TopicCommand.delete(topic);
         return handleTopicCommand(cmd);
     }
+
+    /**
+     * Sends the commands which were not sent yet and stops the batching
+     */
+    @Override
+    public void close() {
+        flush();
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
 }
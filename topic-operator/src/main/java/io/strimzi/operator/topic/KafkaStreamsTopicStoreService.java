@@ -9,6 +9,7 @@ import io.apicurio.registry.utils.kafka.ProducerActions;
 import io.apicurio.registry.utils.streams.diservice.AsyncBiFunctionService;
 import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
 import io.apicurio.registry.utils.streams.ext.LoggingStateRestoreListener;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.KafkaFuture;
@@ -43,6 +44,20 @@ public class KafkaStreamsTopicStoreService {
     /* test */ KafkaStreams streams;
     /* test */ TopicStore store;
 
+    private final MetricsProvider metrics;
+
+    public KafkaStreamsTopicStoreService() {
+        this(null);
+    }
+
+    /**
+     * @param metrics   Metrics provider used for the metrics of the topic store or null when the metrics should not be
+     *                  collected
+     */
+    public KafkaStreamsTopicStoreService(MetricsProvider metrics) {
+        this.metrics = metrics;
+    }
+
     public CompletionStage<TopicStore> start(Config config, Properties kafkaProperties) {
         String storeTopic = config.get(Config.STORE_TOPIC);
         String storeName = config.get(Config.STORE_NAME);
@@ -82,15 +97,19 @@ public class KafkaStreamsTopicStoreService {
         ProducerActions<String, TopicCommand> producer = new AsyncProducer<>(
                 kafkaProperties,
             Serdes.String().serializer(),
-            new TopicCommandSerde()
+            new TopicCommandSerde(config.get(Config.STORE_BINARY_FORMAT))
         );
         closeables.add(producer);
 
         StoreAndServiceFactory factory = new LocalStoreAndServiceFactory();
         StoreAndServiceFactory.StoreContext sc = factory.create(config, kafkaProperties, streams, serviceImpl, closeables);
 
-        this.store = new KafkaStreamsTopicStore(sc.getStore(), storeTopic, producer, sc.getService());
-        return this.store;
+        KafkaStreamsTopicStore store = new KafkaStreamsTopicStore(sc.getStore(), storeTopic, producer, sc.getService(),
+                config.get(Config.STORE_BATCH_LINGER_MS), metrics);
+        closeables.add(store);
+
+        this.store = store;
+        return store;
     }
 
     private CompletableFuture<AsyncBiFunctionService.WithSerdes<String, String, Integer>> createKafkaStreams(Config config, Properties kafkaProperties, String storeTopic, String storeName) {
@@ -120,7 +139,7 @@ public class KafkaStreamsTopicStoreService {
             streamsProperties.put(StreamsConfig.REPLICATION_FACTOR_CONFIG, "-1");
         }
 
-        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher).get();
+        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher, config.get(Config.STORE_BINARY_FORMAT)).get();
 
         streams = new KafkaStreams(topology, streamsProperties);
         streams.setStateListener(listener);
@@ -0,0 +1,212 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Queue of the work done by the topic operator for the individual topics.
+ *
+ * The work for the same topic is executed one after another in the order in which it was queued. The work for
+ * different topics is executed in parallel, but at most {@code maxParallelism} of them are executed at the same time.
+ * The other topics wait in the queue in the order in which they became ready to execute. When work for a topic is
+ * queued while the last work waiting in the queue for the same topic is equivalent (has the same coalescing key),
+ * it is not queued again and it completes together with the work which is already waiting. Such work reads the
+ * current state of the topic only when it is executed, so executing it once is enough.
+ *
+ * The work is executed on the Vert.x context on which the queue was created.
+ */
+class ReconciliationQueue {
+    private static final String METRICS_PREFIX = TopicOperator.METRICS_PREFIX + "reconciliations.";
+
+    private final Context context;
+    private final int maxParallelism;
+
+    // Guarded by this
+    private final Map<TopicName, Deque<Work>> pending = new HashMap<>();
+    private final Set<TopicName> running = new HashSet<>();
+    private final Deque<TopicName> ready = new ArrayDeque<>();
+    private int queued = 0;
+
+    private final AtomicInteger queueDepth;
+    private final Timer queueWaitTimer;
+    private final Counter coalescedCounter;
+    private final Counter lockedCounter;
+
+    /**
+     * Constructs the queue
+     *
+     * @param vertx             Vert.x instance
+     * @param maxParallelism    Maximal number of topics for which the work is executed at the same time
+     * @param metrics           Metrics provider used to export the metrics of the queue
+     * @param metricTags        Tags used for the metrics
+     */
+    ReconciliationQueue(Vertx vertx, int maxParallelism, MetricsProvider metrics, Tags metricTags) {
+        this.context = vertx.getOrCreateContext();
+        this.maxParallelism = maxParallelism;
+
+        this.queueDepth = metrics.gauge(METRICS_PREFIX + "queue.depth",
+                "Number of reconciliations of individual topics waiting in the queue",
+                metricTags);
+        this.queueWaitTimer = metrics.timer(METRICS_PREFIX + "queue.wait.duration",
+                "The time the reconciliations of individual topics wait in the queue before they are started",
+                metricTags);
+        this.coalescedCounter = metrics.counter(METRICS_PREFIX + "coalesced",
+                "Number of reconciliations of individual topics which were not queued because an equivalent reconciliation was already waiting in the queue",
+                metricTags);
+        // Reconciliations of topics wait in the queue instead of being skipped as in the other operators, so this
+        // counts the reconciliations which had to wait for another reconciliation of the same topic
+        this.lockedCounter = metrics.counter(METRICS_PREFIX + "locked",
+                "Number of reconciliations of individual topics which waited because another reconciliation for the same topic was still running or queued",
+                metricTags);
+    }
+
+    /**
+     * Queues the work for the given topic.
+     *
+     * @param topicName         Name of the topic
+     * @param coalescingKey     Key identifying equivalent work for the same topic or null if the work cannot be coalesced
+     * @param work              Supplier which starts the work and returns the future which completes when the work is done
+     *
+     * @return  Future which completes with the result of the work
+     */
+    Future<Void> enqueue(TopicName topicName, String coalescingKey, Supplier<Future<Void>> work) {
+        Work newWork;
+        List<Work> toStart;
+
+        synchronized (this) {
+            Deque<Work> topicQueue = pending.computeIfAbsent(topicName, ignored -> new ArrayDeque<>());
+
+            if (!topicQueue.isEmpty() || running.contains(topicName)) {
+                lockedCounter.increment();
+            }
+
+            Work last = topicQueue.peekLast();
+            if (coalescingKey != null && last != null && coalescingKey.equals(last.coalescingKey)) {
+                coalescedCounter.increment();
+                return last.promise.future();
+            }
+
+            newWork = new Work(topicName, coalescingKey, work);
+            topicQueue.add(newWork);
+            queued++;
+
+            if (topicQueue.size() == 1 && !running.contains(topicName)) {
+                ready.add(topicName);
+            }
+
+            toStart = schedule();
+        }
+
+        start(toStart);
+        return newWork.promise.future();
+    }
+
+    /**
+     * @return  True if there is no work waiting in the queue or being executed. False otherwise.
+     */
+    synchronized boolean isEmpty() {
+        return pending.isEmpty() && running.isEmpty();
+    }
+
+    /**
+     * Takes the work which can be started from the queue
+     */
+    private List<Work> schedule() {
+        List<Work> toStart = new ArrayList<>();
+
+        while (running.size() < maxParallelism && !ready.isEmpty()) {
+            TopicName topicName = ready.poll();
+            Deque<Work> topicQueue = pending.get(topicName);
+            Work work = topicQueue.poll();
+
+            if (topicQueue.isEmpty()) {
+                pending.remove(topicName);
+            }
+
+            running.add(topicName);
+            queued--;
+            toStart.add(work);
+        }
+
+        queueDepth.set(queued);
+        return toStart;
+    }
+
+    private void start(List<Work> toStart) {
+        for (Work work : toStart) {
+            queueWaitTimer.record(System.nanoTime() - work.queuedAt, TimeUnit.NANOSECONDS);
+
+            context.runOnContext(ignored -> {
+                Future<Void> result;
+                try {
+                    result = work.work.get();
+                } catch (Throwable t) {
+                    result = Future.failedFuture(t);
+                }
+
+                result.onComplete(ar -> {
+                    completed(work.topicName);
+                    work.promise.handle(ar);
+                });
+            });
+        }
+    }
+
+    /**
+     * Marks the work for the given topic as done and starts the work which can be started now
+     */
+    private void completed(TopicName topicName) {
+        List<Work> toStart;
+
+        synchronized (this) {
+            running.remove(topicName);
+
+            if (pending.containsKey(topicName)) {
+                ready.add(topicName);
+            }
+
+            toStart = schedule();
+        }
+
+        start(toStart);
+    }
+
+    /**
+     * Work queued for a topic
+     */
+    private static class Work {
+        private final TopicName topicName;
+        private final String coalescingKey;
+        private final Supplier<Future<Void>> work;
+        private final Promise<Void> promise = Promise.promise();
+        private final long queuedAt = System.nanoTime();
+
+        Work(TopicName topicName, String coalescingKey, Supplier<Future<Void>> work) {
+            this.topicName = topicName;
+            this.coalescingKey = coalescingKey;
+            this.work = work;
+        }
+    }
+}
@@ -7,9 +7,11 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.ConcurrentUtil;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.topic.zk.Zk;
@@ -56,11 +58,14 @@ public class Session extends AbstractVerticle {
     private KafkaStreamsTopicStoreService service; // if used
     /*test*/ TopicOperator topicOperator;
     /*test*/ Watch topicWatch;
+    /*test*/ SharedIndexInformer<KafkaTopic> topicInformer;
     /*test*/ ZkTopicsWatcher topicsWatcher;
     /*test*/ TopicConfigsWatcher topicConfigsWatcher;
     /*test*/ ZkTopicWatcher topicWatcher;
+    /*test*/ ZkConfigChangesWatcher configChangesWatcher;
     /*test*/ PrometheusMeterRegistry metricsRegistry;
     K8sTopicWatcher watcher;
+    private MetricsProvider metrics;
     /** The id of the periodic reconciliation timer. This is null during a periodic reconciliation. */
     private volatile Long timerId;
     private volatile boolean stopped = false;
@@ -93,7 +98,12 @@ public class Session extends AbstractVerticle {
             long deadline = System.currentTimeMillis() + timeout;
             LOGGER.info("Stopping");
             LOGGER.debug("Stopping kube watch");
-            topicWatch.close();
+            if (topicWatch != null) {
+                topicWatch.close();
+            }
+            if (topicInformer != null) {
+                k8s.stopInformer();
+            }
             LOGGER.debug("Stopping zk watches");
             topicsWatcher.stop();
 
@@ -159,7 +169,7 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(adminClientProperties());
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        this.kafka = new KafkaImpl(adminClient, vertx, config.get(Config.TOPIC_METADATA_BATCH_SIZE));
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
@@ -182,6 +192,7 @@ public class Session extends AbstractVerticle {
                 this.zk = zkResult.result();
                 LOGGER.debug("Using ZooKeeper {}", zk);
 
+                this.metrics = new MicrometerMetricsProvider();
                 String topicsPath = config.get(Config.TOPICS_PATH);
                 TopicStore topicStore;
                 if (config.get(Config.USE_ZOOKEEPER_TOPIC_STORE)) {
@@ -190,9 +201,9 @@ public class Session extends AbstractVerticle {
                     boolean exists = zk.getPathExists(topicsPath);
                     CompletionStage<KafkaStreamsTopicStoreService> cs;
                     if (exists) {
-                        cs = Zk2KafkaStreams.upgrade(zk, config, adminClientProperties(), false);
+                        cs = Zk2KafkaStreams.upgrade(zk, config, adminClientProperties(), false, metrics);
                     } else {
-                        KafkaStreamsTopicStoreService ksc = new KafkaStreamsTopicStoreService();
+                        KafkaStreamsTopicStoreService ksc = new KafkaStreamsTopicStoreService(metrics);
                         cs = ksc.start(config, adminClientProperties()).thenCompose(s -> CompletableFuture.completedFuture(ksc));
                     }
                     topicStore = ConcurrentUtil.result(
@@ -211,16 +222,29 @@ public class Session extends AbstractVerticle {
                     }
                 }
 
+                int cacheSize = config.get(Config.STORE_CACHE_SIZE);
+                if (cacheSize > 0) {
+                    CachingTopicStore cachingTopicStore = new CachingTopicStore(topicStore, cacheSize, metrics);
+                    cachingTopicStore.warmUp();
+                    topicStore = cachingTopicStore;
+                }
+
                 LOGGER.debug("Using TopicStore {}", topicStore);
 
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
+                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, metrics);
                 LOGGER.debug("Using Operator {}", topicOperator);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
-                LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
                 this.topicWatcher = new ZkTopicWatcher(topicOperator);
                 LOGGER.debug("Using TopicWatcher {}", topicWatcher);
-                this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+                if (config.get(Config.ZOOKEEPER_CONFIG_CHANGE_NOTIFICATIONS)) {
+                    this.configChangesWatcher = new ZkConfigChangesWatcher(topicOperator);
+                    LOGGER.debug("Using ZkConfigChangesWatcher {}", configChangesWatcher);
+                    this.topicsWatcher = new ZkTopicsWatcher(topicOperator, configChangesWatcher, topicWatcher);
+                } else {
+                    this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                    LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
+                    this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+                }
                 LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
                 topicsWatcher.start(zk);
 
@@ -350,8 +374,13 @@ public class Session extends AbstractVerticle {
         try {
             LOGGER.debug("Watching KafkaTopics matching {}", config.get(Config.LABELS).labels());
 
-            Session.this.topicWatch = kubeClient.resources(KafkaTopic.class, KafkaTopicList.class)
-                    .inNamespace(config.get(Config.NAMESPACE)).withLabels(config.get(Config.LABELS).labels()).watch(watcher);
+            if (config.get(Config.USE_INFORMER)) {
+                // The informer recovers from the expired watches by itself, so it is started only once
+                Session.this.topicInformer = k8s.inform(watcher, config.get(Config.INFORMER_RESYNC_INTERVAL_MS), metrics);
+            } else {
+                Session.this.topicWatch = kubeClient.resources(KafkaTopic.class, KafkaTopicList.class)
+                        .inNamespace(config.get(Config.NAMESPACE)).withLabels(config.get(Config.LABELS).labels()).watch(watcher);
+            }
             LOGGER.debug("Watching setup");
             promise.complete();
         } catch (Throwable t) {
@@ -7,6 +7,9 @@ package io.strimzi.operator.topic;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.Future;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Implementation of {@link TopicStore} that stores the topic state in ZooKeeper.,
  * its synchronous version.
@@ -32,6 +35,16 @@ class TempZkTopicStore implements TopicStore {
         return Future.succeededFuture(topic);
     }
 
+    @Override
+    public Future<Map<TopicName, Topic>> readAll() {
+        Map<TopicName, Topic> topics = new HashMap<>();
+        for (String name : zk.getChildren(topicsPath)) {
+            TopicName topicName = new TopicName(name);
+            topics.put(topicName, TopicSerialization.fromJson(zk.getData(getTopicPath(topicName))));
+        }
+        return Future.succeededFuture(topics);
+    }
+
     @Override
     public Future<Void> create(Topic topic) {
         return Future.failedFuture("Not supported!");
@@ -0,0 +1,320 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.apache.kafka.common.config.TopicConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary serialization of {@link Topic} and {@link TopicCommand} used by the Kafka Streams based topic store
+ * as an alternative to the JSON serialization from {@link TopicSerialization}.
+ *
+ * Every record starts with the {@link #MAGIC} byte followed by the format version. The JSON records never start with
+ * the magic byte, so the readers can tell both formats apart and the records written in JSON by the previous versions
+ * can still be read. The integers are written as variable length integers (the signed ones zig-zag encoded), the
+ * strings as their length followed by their UTF-8 bytes. The well-known topic config keys are written as their index in
+ * {@link #CONFIG_KEYS}, so the config of the topics takes only a few bytes and the keys of the read topics are shared
+ * instances.
+ */
+class TopicBinarySerialization {
+    /**
+     * The first byte of the binary records
+     */
+    static final byte MAGIC = 0;
+
+    /**
+     * The version of the binary format written by this class
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * The well-known topic config keys. The index of the key is a part of the format, so the new keys can only be added
+     * at the end of the list.
+     */
+    private static final List<String> CONFIG_KEYS = List.of(
+            TopicConfig.CLEANUP_POLICY_CONFIG,
+            TopicConfig.COMPRESSION_TYPE_CONFIG,
+            TopicConfig.DELETE_RETENTION_MS_CONFIG,
+            TopicConfig.FILE_DELETE_DELAY_MS_CONFIG,
+            TopicConfig.FLUSH_MESSAGES_INTERVAL_CONFIG,
+            TopicConfig.FLUSH_MS_CONFIG,
+            "follower.replication.throttled.replicas",
+            TopicConfig.INDEX_INTERVAL_BYTES_CONFIG,
+            "leader.replication.throttled.replicas",
+            TopicConfig.MAX_COMPACTION_LAG_MS_CONFIG,
+            TopicConfig.MAX_MESSAGE_BYTES_CONFIG,
+            TopicConfig.MESSAGE_DOWNCONVERSION_ENABLE_CONFIG,
+            "message.format.version",
+            TopicConfig.MESSAGE_TIMESTAMP_DIFFERENCE_MAX_MS_CONFIG,
+            TopicConfig.MESSAGE_TIMESTAMP_TYPE_CONFIG,
+            TopicConfig.MIN_CLEANABLE_DIRTY_RATIO_CONFIG,
+            TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG,
+            TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG,
+            TopicConfig.PREALLOCATE_CONFIG,
+            TopicConfig.RETENTION_BYTES_CONFIG,
+            TopicConfig.RETENTION_MS_CONFIG,
+            TopicConfig.SEGMENT_BYTES_CONFIG,
+            TopicConfig.SEGMENT_INDEX_BYTES_CONFIG,
+            TopicConfig.SEGMENT_JITTER_MS_CONFIG,
+            TopicConfig.SEGMENT_MS_CONFIG,
+            TopicConfig.UNCLEAN_LEADER_ELECTION_ENABLE_CONFIG
+    );
+
+    private static final Map<String, Integer> CONFIG_KEY_INDEXES = new HashMap<>(CONFIG_KEYS.size());
+
+    static {
+        for (int i = 0; i < CONFIG_KEYS.size(); i++) {
+            CONFIG_KEY_INDEXES.put(CONFIG_KEYS.get(i), i);
+        }
+    }
+
+    private TopicBinarySerialization() { }
+
+    /**
+     * @param data  Serialized record
+     *
+     * @return  True if the record uses the binary format. False if it uses the JSON format.
+     */
+    static boolean isBinary(byte[] data) {
+        return data.length > 0 && data[0] == MAGIC;
+    }
+
+    /**
+     * Serializes the topic
+     *
+     * @param topic     The topic
+     *
+     * @return  The topic in the binary format
+     */
+    static byte[] toBinary(Topic topic) {
+        Writer writer = new Writer();
+        writer.header();
+        writeTopic(writer, topic);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Deserializes the topic
+     *
+     * @param data  The topic in the binary format
+     *
+     * @return  The topic
+     */
+    static Topic fromBinary(byte[] data) {
+        Reader reader = new Reader(data);
+        reader.header();
+        return readTopic(reader);
+    }
+
+    /**
+     * Serializes the topic command
+     *
+     * @param command   The topic command
+     *
+     * @return  The topic command in the binary format
+     */
+    static byte[] commandToBinary(TopicCommand command) {
+        Writer writer = new Writer();
+        writer.header();
+        writer.writeString(command.getUuid());
+        writer.writeVarint(command.getVersion());
+        writer.writeVarint(command.getType().getId());
+
+        if (command.getType() == TopicCommand.Type.CREATE || command.getType() == TopicCommand.Type.UPDATE) {
+            writeTopic(writer, command.getTopic());
+        } else {
+            writer.writeString(command.getKey());
+        }
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Deserializes the topic command
+     *
+     * @param data  The topic command in the binary format
+     *
+     * @return  The topic command
+     */
+    static TopicCommand commandFromBinary(byte[] data) {
+        Reader reader = new Reader(data);
+        reader.header();
+        String uuid = reader.readString();
+        int version = reader.readVarint();
+        TopicCommand.Type type = TopicCommand.Type.fromId(reader.readVarint());
+
+        if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+            return new TopicCommand(uuid, type, readTopic(reader), null, version);
+        } else {
+            return new TopicCommand(uuid, type, null, new TopicName(reader.readString()), version);
+        }
+    }
+
+    private static void writeTopic(Writer writer, Topic topic) {
+        writer.writeString(topic.getTopicName().toString());
+        writer.writeString(topic.getOrAsKubeName().toString());
+        writer.writeSignedVarint(topic.getNumPartitions());
+        writer.writeSignedVarint(topic.getNumReplicas());
+
+        Map<String, String> config = topic.getConfig();
+        writer.writeVarint(config.size());
+        for (Map.Entry<String, String> entry : config.entrySet()) {
+            Integer index = CONFIG_KEY_INDEXES.get(entry.getKey());
+            if (index != null) {
+                // Zero is used for the keys which are not well-known
+                writer.writeVarint(index + 1);
+            } else {
+                writer.writeVarint(0);
+                writer.writeString(entry.getKey());
+            }
+            writer.writeString(entry.getValue());
+        }
+    }
+
+    private static Topic readTopic(Reader reader) {
+        Topic.Builder builder = new Topic.Builder()
+                .withTopicName(reader.readString())
+                .withMapName(reader.readString())
+                .withNumPartitions(reader.readSignedVarint())
+                .withNumReplicas((short) reader.readSignedVarint());
+
+        int configs = reader.readVarint();
+        for (int i = 0; i < configs; i++) {
+            int index = reader.readVarint();
+            String key;
+            if (index == 0) {
+                key = reader.readString();
+            } else if (index <= CONFIG_KEYS.size()) {
+                key = CONFIG_KEYS.get(index - 1);
+            } else {
+                throw new IllegalArgumentException("Unknown config key index " + index);
+            }
+            builder.withConfigEntry(key, reader.readString());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Writes the binary format into a growing byte array
+     */
+    private static class Writer {
+        private byte[] buffer = new byte[128];
+        private int position = 0;
+
+        void header() {
+            writeByte(MAGIC);
+            writeByte(VERSION);
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        void writeVarint(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeSignedVarint(int value) {
+            writeVarint((value << 1) ^ (value >> 31));
+        }
+
+        /**
+         * Writes the length of the string increased by one followed by its UTF-8 bytes. Zero length is used for null.
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarint(bytes.length + 1);
+                ensureCapacity(bytes.length);
+                System.arraycopy(bytes, 0, buffer, position, bytes.length);
+                position += bytes.length;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * Reads the binary format from a byte array
+     */
+    private static class Reader {
+        private final byte[] buffer;
+        private int position = 0;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        void header() {
+            if (readByte() != MAGIC) {
+                throw new IllegalArgumentException("Not a binary record");
+            }
+
+            byte version = readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported binary record version " + version);
+            }
+        }
+
+        byte readByte() {
+            if (position >= buffer.length) {
+                throw new IllegalArgumentException("Unexpected end of binary record");
+            }
+            return buffer[position++];
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Invalid variable length integer in binary record");
+        }
+
+        int readSignedVarint() {
+            int value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            int length = readVarint() - 1;
+            if (length < 0) {
+                return null;
+            } else if (length > buffer.length - position) {
+                throw new IllegalArgumentException("Unexpected end of binary record");
+            }
+
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
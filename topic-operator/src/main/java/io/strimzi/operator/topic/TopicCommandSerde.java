@@ -11,7 +11,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde. It reads both the JSON and the binary format and writes the format it was configured with.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -21,8 +21,26 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
     private static final String KEY = "key";
     private static final String VERSION = "version";
 
+    private final boolean binaryFormat;
+
+    public TopicCommandSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binaryFormat  If the commands should be written in the binary format from {@link TopicBinarySerialization}
+     *                      instead of JSON
+     */
+    public TopicCommandSerde(boolean binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
+
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
+        if (binaryFormat) {
+            return TopicBinarySerialization.commandToBinary(data);
+        }
+
         return TopicSerialization.toBytes((mapper, root) -> {
             root.put(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
@@ -39,6 +57,10 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
     @Override
     public TopicCommand deserialize(String t, byte[] data) {
+        if (TopicBinarySerialization.isBinary(data)) {
+            return TopicBinarySerialization.commandFromBinary(data);
+        }
+
         return TopicSerialization.fromJson(data, (mapper, bytes) -> {
             try {
                 JsonNode root = mapper.readTree(bytes);
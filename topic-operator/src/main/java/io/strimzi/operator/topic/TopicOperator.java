@@ -45,9 +45,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
@@ -68,17 +68,25 @@ class TopicOperator {
     private final String namespace;
     private final TopicStore topicStore;
     private final Config config;
-    private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final ReconciliationQueue queue;
+    /**
+     * The metadata of the topics fetched in bulk at the start of the periodic reconciliation.
+     * Each entry is used at most once and it is removed when any other reconciliation of the topic completes,
+     * because the metadata might not be up to date anymore.
+     */
+    private final ConcurrentHashMap<TopicName, TopicMetadata> topicMetadataSnapshot = new ConcurrentHashMap<>();
+    /** The topics reconciled while the bulk fetch of the topic metadata is in progress or null when no fetch is in progress */
+    private volatile Set<TopicName> reconciledDuringSnapshot;
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
     private Counter reconciliationsCounter;
     private Counter failedReconciliationsCounter;
     private Counter successfulReconciliationsCounter;
-    private Counter lockedReconciliationsCounter;
     private AtomicInteger topicCounter;
     protected AtomicInteger pausedTopicCounter;
     protected Timer reconciliationsTimer;
+    protected Timer topicMetadataSnapshotTimer;
 
     enum EventType {
         INFO("Info"),
@@ -396,6 +404,9 @@ class TopicOperator {
         this.metrics = metrics;
 
         initMetrics();
+        // The mock topic operator used in the tests has no Vert.x instance and no configuration, so it has no queue.
+        // It does not execute any reconciliations and never has any work in flight.
+        this.queue = vertx != null ? new ReconciliationQueue(vertx, config.get(Config.RECONCILIATION_PARALLELISM), metrics, Tags.of(Tag.of("kind", "KafkaTopic"))) : null;
     }
 
     public void initMetrics() {
@@ -430,8 +441,8 @@ class TopicOperator {
                     "Number of topics the operator sees but does not reconcile due to paused reconciliations",
                     metricTags);
 
-            lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
-                    "Number of reconciliations skipped because another reconciliation for the same topic was still running",
+            topicMetadataSnapshotTimer = metrics.timer(METRICS_PREFIX + "reconciliations.topic.metadata.duration",
+                    "The time getting the metadata of all topics from Kafka at the start of the periodic reconciliation takes",
                     metricTags);
         }
     }
@@ -448,99 +459,86 @@ class TopicOperator {
      * Run the given {@code action} on the context thread,
      * immediately if there are currently no other actions with the given {@code key},
      * or when the other actions with the given {@code key} have completed.
+     * At most {@link Config#RECONCILIATION_PARALLELISM} actions for different keys run at the same time,
+     * the other actions wait in the queue.
      * When the given {@code action} is complete it must complete its argument future,
      * which will complete the returned future
      */
     public Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
-        String lockName = key.toString();
-        int timeoutMs = 30 * 1_000;
-        Promise<Void> result = Promise.promise();
-        BiFunction<TopicName, Integer, Integer> decrement = (topicName, waiters) -> {
-            if (waiters != null) {
-                if (waiters == 1) {
-                    LOGGER.debugCr(logContext.toReconciliation(), "Removing last waiter {}", action);
-                    return null;
+        if (queue == null) {
+            return Future.failedFuture(new IllegalStateException("Action " + action + " on topic " + key + " cannot be queued without a Vert.x instance"));
+        }
+
+        LOGGER.debugCr(logContext.toReconciliation(), "Queuing action {} on topic {}", action, key);
+        AtomicBoolean executed = new AtomicBoolean(false);
+        return queue.enqueue(key, action.coalescingKey(), () -> {
+            executed.set(true);
+            return execute(logContext, key, action);
+        }).onComplete(ar -> {
+            if (!executed.get()) {
+                // The action was not executed because an equivalent action was already waiting in the queue
+                LOGGER.debugCr(logContext.toReconciliation(), "Action {} on topic {} was coalesced with an action waiting in the queue", action, key);
+                if (ar.succeeded()) {
+                    action.succeeded();
                 } else {
-                    LOGGER.debugCr(logContext.toReconciliation(), "Removing waiter {}, {} waiters left", action, waiters - 1);
-                    return waiters - 1;
+                    action.failed();
                 }
-            } else {
-                LOGGER.errorCr(logContext.toReconciliation(), "Assertion failure. topic {}, action {}", lockName, action);
-                return null;
-            }
-        };
-        LOGGER.debugCr(logContext.toReconciliation(), "Queuing action {} on topic {}", action, lockName);
-        inflight.compute(key, (topicName, waiters) -> {
-            if (waiters == null) {
-                LOGGER.debugCr(logContext.toReconciliation(), "Adding first waiter {}", action);
-                return 1;
-            } else {
-                LOGGER.debugCr(logContext.toReconciliation(), "Adding waiter {}: {}", action, waiters + 1);
-                return waiters + 1;
             }
         });
-        vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
-            if (lockResult.succeeded()) {
-                LOGGER.debugCr(logContext.toReconciliation(), "Lock acquired");
-                LOGGER.debugCr(logContext.toReconciliation(), "Executing action {} on topic {}", action, lockName);
-                action.execute().onComplete(actionResult -> {
-                    LOGGER.debugCr(logContext.toReconciliation(), "Executing handler for action {} on topic {}", action, lockName);
-                    action.result = actionResult;
-                    String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
-                    Optional<Meter> metric = metrics.meterRegistry().getMeters()
-                            .stream()
-                            .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
-                                    meter.getId().getTags().contains(Tag.of("kind", "KafkaTopic")) &&
-                                    meter.getId().getTags().contains(Tag.of("name",  action.topic == null ? key.asKubeName().toString() : action.topic.getMetadata().getName())) &&
-                                    meter.getId().getTags().contains(Tag.of("resource-namespace", namespace))
-                            ).findFirst();
-                    if (metric.isPresent()) {
-                        // remove metric so it can be re-added with new tags
-                        metrics.meterRegistry().remove(metric.get().getId());
-                        LOGGER.debugCr(logContext.toReconciliation(), "Removed metric {}.resource.state{{}}", METRICS_PREFIX, keytag);
-                    }
+    }
 
-                    if (action.topic != null) {
-                        boolean succeeded = actionResult.succeeded();
-                        Tags metricTags;
-                        metricTags = Tags.of(
-                                Tag.of("kind", action.topic.getKind()),
-                                Tag.of("name", action.topic.getMetadata().getName()),
-                                Tag.of("resource-namespace", namespace),
-                                Tag.of("reason", succeeded ? "none" : actionResult.cause().getMessage() == null ? "unknown error" : actionResult.cause().getMessage()));
-
-                        metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags).set(actionResult.succeeded() ? 1 : 0);
-                        LOGGER.debugCr(logContext.toReconciliation(), "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, succeeded ? 1 : 0);
-                    }
-                    // Update status with lock held so that event is ignored via statusUpdateGeneration
-                    action.updateStatus(logContext).onComplete(statusResult -> {
-                        if (statusResult.failed()) {
-                            LOGGER.errorCr(logContext.toReconciliation(), "Error updating KafkaTopic.status for action {}", action,
-                                    statusResult.cause());
-                        }
-                        try {
-                            if (actionResult.failed() && statusResult.failed()) {
-                                actionResult.cause().addSuppressed(statusResult.cause());
-                            }
-                            result.handle(actionResult.failed() ? actionResult : statusResult);
-                        } catch (Throwable t) {
-                            result.fail(t);
-                        } finally {
-                            lockResult.result().release();
-                            LOGGER.debugCr(logContext.toReconciliation(), "Lock released");
-                            inflight.compute(key, decrement);
-                        }
-                    });
-                });
-            } else {
-                lockedReconciliationsCounter.increment();
-                LOGGER.warnCr(logContext.toReconciliation(), "Lock not acquired within {}ms: action {} will not be run", timeoutMs, action);
+    /**
+     * Executes the action and updates the status of the topic. This is called by the queue once there are no other
+     * actions running for the same topic.
+     */
+    private Future<Void> execute(LogContext logContext, TopicName key, Reconciliation action) {
+        Promise<Void> result = Promise.promise();
+        LOGGER.debugCr(logContext.toReconciliation(), "Executing action {} on topic {}", action, key);
+        action.execute().onComplete(actionResult -> {
+            LOGGER.debugCr(logContext.toReconciliation(), "Executing handler for action {} on topic {}", action, key);
+            action.result = actionResult;
+            invalidateTopicMetadataSnapshot(key);
+            String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
+            Optional<Meter> metric = metrics.meterRegistry().getMeters()
+                    .stream()
+                    .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
+                            meter.getId().getTags().contains(Tag.of("kind", "KafkaTopic")) &&
+                            meter.getId().getTags().contains(Tag.of("name",  action.topic == null ? key.asKubeName().toString() : action.topic.getMetadata().getName())) &&
+                            meter.getId().getTags().contains(Tag.of("resource-namespace", namespace))
+                    ).findFirst();
+            if (metric.isPresent()) {
+                // remove metric so it can be re-added with new tags
+                metrics.meterRegistry().remove(metric.get().getId());
+                LOGGER.debugCr(logContext.toReconciliation(), "Removed metric {}.resource.state{{}}", METRICS_PREFIX, keytag);
+            }
+
+            if (action.topic != null) {
+                boolean succeeded = actionResult.succeeded();
+                Tags metricTags;
+                metricTags = Tags.of(
+                        Tag.of("kind", action.topic.getKind()),
+                        Tag.of("name", action.topic.getMetadata().getName()),
+                        Tag.of("resource-namespace", namespace),
+                        Tag.of("reason", succeeded ? "none" : actionResult.cause().getMessage() == null ? "unknown error" : actionResult.cause().getMessage()));
+
+                metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags).set(actionResult.succeeded() ? 1 : 0);
+                LOGGER.debugCr(logContext.toReconciliation(), "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, succeeded ? 1 : 0);
+            }
+            // Update status before the next action for the topic runs so that event is ignored via statusUpdateGeneration
+            action.updateStatus(logContext).onComplete(statusResult -> {
+                if (statusResult.failed()) {
+                    LOGGER.errorCr(logContext.toReconciliation(), "Error updating KafkaTopic.status for action {}", action,
+                            statusResult.cause());
+                }
                 try {
-                    result.handle(Future.failedFuture("Failed to acquire lock for topic " + lockName + " after " + timeoutMs + "ms. Not executing action " + action));
-                } finally {
-                    inflight.compute(key, decrement);
+                    if (actionResult.failed() && statusResult.failed()) {
+                        actionResult.cause().addSuppressed(statusResult.cause());
+                    }
+                    result.handle(actionResult.failed() ? actionResult : statusResult);
+                } catch (Throwable t) {
+                    result.fail(t);
                 }
-            }
+            });
         });
         return result.future();
     }
@@ -863,7 +861,7 @@ class TopicOperator {
      */
     Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName) {
         return executeWithTopicLockHeld(logContext, topicName,
-                new Reconciliation(logContext, "onTopicConfigChanged", true) {
+                new Reconciliation(logContext, "onTopicConfigChanged", true, true) {
                     @Override
                     public Future<Void> execute() {
                         return kafka.topicMetadata(logContext.toReconciliation(), topicName)
@@ -879,7 +877,7 @@ class TopicOperator {
      * Called when ZK watch notifies of a change to the topic's partitions
      */
     Future<Void> onTopicPartitionsChanged(LogContext logContext, TopicName topicName) {
-        Reconciliation action = new Reconciliation(logContext, "onTopicPartitionsChanged", true) {
+        Reconciliation action = new Reconciliation(logContext, "onTopicPartitionsChanged", true, true) {
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
@@ -936,8 +934,8 @@ class TopicOperator {
         // Look up the private topic to discover the name of kube KafkaTopic
         return topicStore.read(topicName)
             .compose(storeTopic -> {
-                ResourceName resourceName = storeTopic != null ? storeTopic.getResourceName() : topicName.asKubeName();
-                return k8s.getFromName(resourceName).compose(topic -> {
+                Future<KafkaTopic> resourceFuture = storeTopic != null ? k8s.getFromName(storeTopic.getResourceName()) : k8s.getFromTopicName(topicName);
+                return resourceFuture.compose(topic -> {
                     reconciliation.observedTopicFuture(kafkaTopic != null ? topic : null);
                     Topic k8sTopic = TopicSerialization.fromTopicResource(topic);
                     return reconcile(reconciliation, logContext.withKubeTopic(topic), topic, k8sTopic, kafkaTopic, storeTopic);
@@ -995,13 +993,26 @@ class TopicOperator {
         private final LogContext logContext;
         private final String name;
         private final boolean watchedForMetrics;
+        private final boolean coalescable;
         public AsyncResult<Void> result;
         public volatile KafkaTopic topic;
         Timer.Sample reconciliationTimerSample;
 
         public Reconciliation(LogContext logContext, String name, boolean watchedForMetrics) {
+            this(logContext, name, watchedForMetrics, false);
+        }
+
+        /**
+         * @param logContext The log context.
+         * @param name The name of the reconciliation.
+         * @param watchedForMetrics Whether the reconciliation is counted in the reconciliation metrics.
+         * @param coalescable Whether the reconciliation reads the current state of the topic when it is executed,
+         *                    so that it can be coalesced with an equivalent reconciliation which is waiting in the queue.
+         */
+        public Reconciliation(LogContext logContext, String name, boolean watchedForMetrics, boolean coalescable) {
             this.logContext = logContext;
             this.watchedForMetrics = watchedForMetrics;
+            this.coalescable = coalescable;
             this.name = name;
             if (isEventWatched()) {
                 LOGGER.debugCr(logContext.toReconciliation(), "Metric {} triggered", this.name);
@@ -1030,6 +1041,13 @@ class TopicOperator {
             return watchedForMetrics;
         }
 
+        /**
+         * @return The key identifying equivalent reconciliations of the same topic or null if this reconciliation cannot be coalesced.
+         */
+        String coalescingKey() {
+            return coalescable ? name : null;
+        }
+
         @Override
         public String toString() {
             return name;
@@ -1098,7 +1116,7 @@ class TopicOperator {
     /** Called when a resource is isModify in k8s */
     Future<Void> onResourceEvent(LogContext logContext, KafkaTopic modifiedTopic, Watcher.Action action) {
         return executeWithTopicLockHeld(logContext, new TopicName(modifiedTopic),
-                new Reconciliation(logContext, "onResourceEvent", false) {
+                new Reconciliation(logContext, "onResourceEvent", false, action == Watcher.Action.MODIFIED) {
                     @Override
                     public Future<Void> execute() {
                         return k8s.getFromName(new ResourceName(modifiedTopic))
@@ -1272,8 +1290,7 @@ class TopicOperator {
     }
 
     public boolean isWorkInflight() {
-        LOGGER.debugOp("Outstanding: {}", inflight);
-        return inflight.size() > 0;
+        return queue != null && !queue.isEmpty();
     }
 
     /**
@@ -1314,9 +1331,12 @@ class TopicOperator {
         LOGGER.infoOp("Starting {} reconciliation", reconciliationType);
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
+        )).compose(topicNamesFromKafka -> {
+            List<TopicName> topicNames = topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList());
+            return snapshotTopicMetadata(reconciliationType, topicNames).map(topicNames);
+        }).compose(topicNamesFromKafka ->
                 // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
+                reconcileFromKafka(reconciliationType, topicNamesFromKafka)
         ).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
@@ -1383,7 +1403,64 @@ class TopicOperator {
                 }
                 return CompositeFuture.join(futs2);
             });
-        });
+        }).onComplete(ignored -> topicMetadataSnapshot.clear());
+    }
+
+    /**
+     * Gets the metadata of all the given topics from Kafka in a few batched requests, so that the reconciliation of
+     * the individual topics does not need to describe each topic separately. Failing to get the metadata is not fatal,
+     * the topics which are not in the snapshot are described one by one during their reconciliation.
+     */
+    private Future<Void> snapshotTopicMetadata(String reconciliationType, List<TopicName> topicNames) {
+        topicMetadataSnapshot.clear();
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        Set<TopicName> reconciled = ConcurrentHashMap.newKeySet();
+        reconciledDuringSnapshot = reconciled;
+        Timer.Sample sample = Timer.start(metrics.meterRegistry());
+        return kafka.topicMetadata(LogContext.periodic(reconciliationType + "topic metadata", namespace, "*").toReconciliation(), topicNames)
+                .map(snapshot -> {
+                    // Topics reconciled in the meantime might have been changed after they were described
+                    snapshot.keySet().removeAll(reconciled);
+                    topicMetadataSnapshot.putAll(snapshot);
+                    LOGGER.debugOp("Got metadata of {} out of {} topics from Kafka", snapshot.size(), topicNames.size());
+                    return (Void) null;
+                })
+                .recover(error -> {
+                    LOGGER.warnOp("Failed to get metadata of all topics during {} reconciliation, the topics will be described one by one", reconciliationType, error);
+                    return Future.succeededFuture();
+                })
+                .onComplete(ignored -> {
+                    reconciledDuringSnapshot = null;
+                    sample.stop(topicMetadataSnapshotTimer);
+                });
+    }
+
+    /**
+     * Marks the metadata of the given topic in the snapshot as not up to date anymore
+     */
+    private void invalidateTopicMetadataSnapshot(TopicName topicName) {
+        topicMetadataSnapshot.remove(topicName);
+        Set<TopicName> reconciled = reconciledDuringSnapshot;
+        if (reconciled != null) {
+            reconciled.add(topicName);
+        }
+    }
+
+    /**
+     * Gets the metadata of the given topic from the snapshot taken at the start of the periodic reconciliation
+     * or from Kafka when the topic is not in the snapshot
+     */
+    private Future<TopicMetadata> topicMetadata(LogContext logContext, TopicName topicName) {
+        TopicMetadata metadata = topicMetadataSnapshot.remove(topicName);
+        if (metadata != null) {
+            LOGGER.debugCr(logContext.toReconciliation(), "Using metadata of topic {} from the snapshot", topicName);
+            return Future.succeededFuture(metadata);
+        } else {
+            return kafka.topicMetadata(logContext.toReconciliation(), topicName);
+        }
     }
 
 
@@ -1479,7 +1556,7 @@ class TopicOperator {
                                 EventType.WARNING, eventResult -> { }));
                     }
                 })
-                .compose(i -> kafka.topicMetadata(logContext.toReconciliation(), topicName))
+                .compose(i -> topicMetadata(logContext, topicName))
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -1525,7 +1602,7 @@ class TopicOperator {
                             observedTopicFuture(kt);
                             return kt;
                         }),
-                        getFromKafka(logContext.toReconciliation(), topicName),
+                        topicMetadata(logContext, topicName).map(TopicSerialization::fromTopicMetadata),
                         getFromTopicStore(topicName))
                     .compose(compositeResult -> {
                         KafkaTopic ktr = compositeResult.resultAt(0);
@@ -7,16 +7,30 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde. It reads both the JSON and the binary format and writes the format it was configured with.
  */
 public class TopicSerde extends SelfSerde<Topic> {
+    private final boolean binaryFormat;
+
+    public TopicSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binaryFormat  If the topics should be written in the binary format from {@link TopicBinarySerialization}
+     *                      instead of JSON
+     */
+    public TopicSerde(boolean binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
+
     @Override
     public byte[] serialize(String topic, Topic data) {
-        return TopicSerialization.toJson(data);
+        return binaryFormat ? TopicBinarySerialization.toBinary(data) : TopicSerialization.toJson(data);
     }
 
     @Override
     public Topic deserialize(String topic, byte[] data) {
-        return TopicSerialization.fromJson(data);
+        return TopicBinarySerialization.isBinary(data) ? TopicBinarySerialization.fromBinary(data) : TopicSerialization.fromJson(data);
     }
 }
@@ -6,6 +6,8 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Map;
+
 /**
  * Represents a persistent data store where the operator can store its copy of the
  * topic state that won't be modified by either K8S or Kafka.
@@ -40,6 +42,15 @@ interface TopicStore {
      */
     Future<Topic> read(TopicName name);
 
+    /**
+     * Asynchronously get all topics in the store
+     * completing the returned future when done.
+     * This is used to warm up caches.
+     *
+     * @return A future which completes with all topics in the store.
+     */
+    Future<Map<TopicName, Topic>> readAll();
+
     /**
      * Asynchronously persist the given topic in the store
      * completing the returned future when done.
@@ -31,17 +31,20 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
     private final String topicStoreName;
     private final Properties kafkaProperties;
     private final ForeachAction<? super String, ? super Integer> dispatcher;
+    private final boolean binaryFormat;
 
     public TopicStoreTopologyProvider(
             String storeTopic,
             String topicStoreName,
             Properties kafkaProperties,
-            ForeachAction<? super String, ? super Integer> dispatcher
+            ForeachAction<? super String, ? super Integer> dispatcher,
+            boolean binaryFormat
     ) {
         this.storeTopic = storeTopic;
         this.topicStoreName = topicStoreName;
         this.kafkaProperties = kafkaProperties;
         this.dispatcher = dispatcher;
+        this.binaryFormat = binaryFormat;
     }
 
     @Override
@@ -58,7 +61,7 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
         // Key is Kafka topic name -- which is also used for KeyValue store key
         KStream<String, TopicCommand> topicRequest = builder.stream(
                 storeTopic,
-                Consumed.with(Serdes.String(), new TopicCommandSerde())
+                Consumed.with(Serdes.String(), new TopicCommandSerde(binaryFormat))
         );
 
         // Data structure holds all topic information
@@ -66,7 +69,7 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
                 Stores
                         .keyValueStoreBuilder(
                                 Stores.inMemoryKeyValueStore(topicStoreName),
-                                Serdes.String(), new TopicSerde()
+                                Serdes.String(), new TopicSerde(binaryFormat)
                         )
                         .withCachingEnabled()
                         .withLoggingEnabled(configuration);
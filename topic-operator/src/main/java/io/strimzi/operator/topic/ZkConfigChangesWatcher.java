@@ -0,0 +1,219 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * ZooKeeper watcher for the sequential config change notification znodes which Kafka creates in
+ * {@code /config/changes} whenever it changes the configuration of an entity, calling
+ * {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)} for the topics named in the new notifications.
+ *
+ * It uses a single children watch instead of one data watch per topic as {@link TopicConfigsWatcher} does.
+ * The watcher remembers the sequence number of the last notification it processed, so only the notifications
+ * created after it are read when the children change.
+ */
+class ZkConfigChangesWatcher {
+
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(ZkConfigChangesWatcher.class);
+
+    static final String CHANGES_ZNODE = "/config/changes";
+    private static final String NOTIFICATION_PREFIX = "config_change_";
+    private static final String TOPIC_ENTITY_TYPE = "topics";
+
+    private final TopicOperator topicOperator;
+
+    // The sequence number of the last processed notification, guarded by this
+    private long cursor = -1;
+    private boolean initialized = false;
+
+    private volatile int state = 0;
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator    Operator instance to notify
+     */
+    ZkConfigChangesWatcher(TopicOperator topicOperator) {
+        this.topicOperator = topicOperator;
+    }
+
+    void stop() {
+        this.state = 2;
+    }
+
+    boolean started() {
+        return this.state == 1;
+    }
+
+    void start(Zk zk) {
+        zk.watchChildren(CHANGES_ZNODE, new ChildrenWatchHandler(zk)).<Void>compose(zk2 -> {
+            zk.children(CHANGES_ZNODE, childResult -> {
+                if (childResult.failed()) {
+                    LOGGER.errorOp("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+                    return;
+                }
+
+                synchronized (this) {
+                    // The notifications which existed before the watcher was started were already handled by the
+                    // initial reconciliation. When the watcher is restarted, it continues where it stopped.
+                    if (!initialized) {
+                        cursor = notifications(childResult.result()).keySet().stream().mapToLong(Long::longValue).max().orElse(-1);
+                        initialized = true;
+                    }
+                    LOGGER.debugOp("Watching znode {} for notifications after {}", CHANGES_ZNODE, cursor);
+                }
+                this.state = 1;
+            });
+            return Future.succeededFuture();
+        });
+    }
+
+    /**
+     * Parses the sequence numbers of the notification znodes
+     *
+     * @param children  Children of the notifications znode
+     *
+     * @return  Map of the sequence numbers to the names of the notification znodes sorted by the sequence number
+     */
+    private static TreeMap<Long, String> notifications(List<String> children) {
+        TreeMap<Long, String> notifications = new TreeMap<>();
+
+        for (String child : children) {
+            if (child.startsWith(NOTIFICATION_PREFIX)) {
+                try {
+                    notifications.put(Long.parseLong(child.substring(NOTIFICATION_PREFIX.length())), child);
+                } catch (NumberFormatException e) {
+                    LOGGER.debugOp("Ignoring unexpected znode {} in {}", child, CHANGES_ZNODE);
+                }
+            }
+        }
+
+        return notifications;
+    }
+
+    /**
+     * Gets the name of the topic from the data of the notification znode. Kafka uses the version 2 of the
+     * notifications with the {@code entity_path} field. The older version 1 uses the {@code entity_type} and
+     * {@code entity_name} fields.
+     *
+     * @param data  Data of the notification znode
+     *
+     * @return  Name of the topic or null if the notification is not about a topic
+     */
+    /*test*/ static String topicName(byte[] data) {
+        JsonObject notification = new JsonObject(Buffer.buffer(data));
+
+        String entityPath = notification.getString("entity_path");
+        if (entityPath != null) {
+            String[] parts = entityPath.split("/");
+            return parts.length == 2 && TOPIC_ENTITY_TYPE.equals(parts[0]) ? parts[1] : null;
+        } else if (TOPIC_ENTITY_TYPE.equals(notification.getString("entity_type"))) {
+            return notification.getString("entity_name");
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Handler which runs on ZkClient's single event handling thread.
+     */
+    private class ChildrenWatchHandler implements Handler<AsyncResult<List<String>>> {
+
+        private final Zk zk;
+        private int watchCount = 0;
+
+        public ChildrenWatchHandler(Zk zk) {
+            this.zk = zk;
+        }
+
+        @Override
+        public void handle(AsyncResult<List<String>> childResult) {
+            if (state == 2) {
+                zk.unwatchChildren(CHANGES_ZNODE);
+                return;
+            }
+            if (childResult.failed()) {
+                LOGGER.errorOp("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+                return;
+            }
+            ++watchCount;
+
+            List<String> newNotifications;
+            synchronized (ZkConfigChangesWatcher.this) {
+                if (!initialized) {
+                    return;
+                }
+
+                TreeMap<Long, String> notifications = notifications(childResult.result());
+                newNotifications = new ArrayList<>(notifications.tailMap(cursor, false).values());
+                if (!newNotifications.isEmpty()) {
+                    cursor = notifications.lastKey();
+                }
+            }
+
+            if (newNotifications.isEmpty()) {
+                return;
+            }
+
+            LOGGER.debugOp("{}: new notifications in znode {}: {}", watchCount, CHANGES_ZNODE, newNotifications);
+
+            // The notifications are read one after another and each changed topic is reconciled only once
+            Set<String> topics = new LinkedHashSet<>();
+            Future<Void> read = Future.succeededFuture();
+            for (String notification : newNotifications) {
+                read = read.compose(ignored -> readNotification(notification, topics));
+            }
+
+            read.onComplete(ignored -> {
+                for (String topicName : topics) {
+                    LogContext logContext = LogContext.zkWatch(CHANGES_ZNODE, watchCount + ":=" + topicName, topicOperator.getNamespace(), topicName);
+                    LOGGER.infoCr(logContext.toReconciliation(), "Topic config change");
+                    topicOperator.onTopicConfigChanged(logContext, new TopicName(topicName)).onComplete(ar -> {
+                        LOGGER.infoCr(logContext.toReconciliation(), "Reconciliation result due to topic config change on topic {}: {}", topicName, ar);
+                    });
+                }
+            });
+        }
+
+        private Future<Void> readNotification(String notification, Set<String> topics) {
+            Promise<Void> promise = Promise.promise();
+            String path = CHANGES_ZNODE + "/" + notification;
+
+            zk.getData(path, dataResult -> {
+                if (dataResult.failed()) {
+                    // Kafka deletes the old notifications, so the notification might be gone already
+                    LOGGER.debugOp("Error getting data of znode {}", path, dataResult.cause());
+                } else {
+                    try {
+                        String topicName = topicName(dataResult.result());
+                        if (topicName != null) {
+                            topics.add(topicName);
+                        }
+                    } catch (RuntimeException e) {
+                        LOGGER.warnOp("Ignoring invalid notification in znode {}", path, e);
+                    }
+                }
+
+                promise.complete();
+            });
+
+            return promise.future();
+        }
+    }
+}
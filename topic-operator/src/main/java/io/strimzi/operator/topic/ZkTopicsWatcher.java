@@ -28,6 +28,7 @@ class ZkTopicsWatcher {
     private final TopicOperator topicOperator;
     private final TopicConfigsWatcher tcw;
     private final ZkTopicWatcher tw;
+    private final ZkConfigChangesWatcher ccw;
 
     private List<String> children;
 
@@ -44,11 +45,32 @@ class ZkTopicsWatcher {
         this.topicOperator = topicOperator;
         this.tcw = tcw;
         this.tw = tw;
+        this.ccw = null;
+    }
+
+    /**
+     * Constructor used when the topic config changes are followed using the config change notifications instead of
+     * watching the config of each topic. Kafka does not create notifications for the partition changes, so the
+     * partitions of each topic are still watched.
+     *
+     * @param topicOperator    Operator instance
+     * @param ccw   watcher for the config change notifications
+     * @param tw    watcher for the topics partitions changes
+     */
+    ZkTopicsWatcher(TopicOperator topicOperator, ZkConfigChangesWatcher ccw, ZkTopicWatcher tw) {
+        this.topicOperator = topicOperator;
+        this.tcw = null;
+        this.tw = tw;
+        this.ccw = ccw;
     }
 
     void stop() {
-        this.tcw.stop();
-        this.tw.stop();
+        if (tcw != null) {
+            tcw.stop();
+        } else {
+            ccw.stop();
+        }
+        tw.stop();
         this.state = 2;
     }
 
@@ -60,7 +82,11 @@ class ZkTopicsWatcher {
         synchronized (this) {
             children = null;
         }
-        tcw.start(zk);
+        if (tcw != null) {
+            tcw.start(zk);
+        } else {
+            ccw.start(zk);
+        }
         tw.start(zk);
         zk.watchChildren(TOPICS_ZNODE, new ChildrenWatchHandler(zk)).<Void>compose(zk2 -> {
             zk.children(TOPICS_ZNODE, childResult -> {
@@ -75,8 +101,7 @@ class ZkTopicsWatcher {
                 }
                 // Start watching existing children for config and partition changes
                 for (String child : result) {
-                    tcw.addChild(child);
-                    tw.addChild(child);
+                    addChild(child);
                 }
                 this.state = 1;
             });
@@ -84,6 +109,20 @@ class ZkTopicsWatcher {
         });
     }
 
+    private void addChild(String child) {
+        if (tcw != null) {
+            tcw.addChild(child);
+        }
+        tw.addChild(child);
+    }
+
+    private void removeChild(String child) {
+        if (tcw != null) {
+            tcw.removeChild(child);
+        }
+        tw.removeChild(child);
+    }
+
     /**
      * Handler which runs on ZkClient's single event handling thread.
      */
@@ -126,8 +165,7 @@ class ZkTopicsWatcher {
             LOGGER.infoOp("Topics deleted from ZK for watch {}: {}", watchCount, deleted);
             if (!deleted.isEmpty()) {
                 for (String topicName : deleted) {
-                    tcw.removeChild(topicName);
-                    tw.removeChild(topicName);
+                    removeChild(topicName);
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":-" + topicName, topicOperator.getNamespace(), topicName);
                     topicOperator.onTopicDeleted(logContext, new TopicName(topicName)).onComplete(ar -> {
                         if (ar.succeeded()) {
@@ -142,8 +180,7 @@ class ZkTopicsWatcher {
             LOGGER.infoOp("Topics created in ZK for watch {}: {}", watchCount, created);
             if (!created.isEmpty()) {
                 for (String topicName : created) {
-                    tcw.addChild(topicName);
-                    tw.addChild(topicName);
+                    addChild(topicName);
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":+" + topicName, topicOperator.getNamespace(), topicName);
                     topicOperator.onTopicCreated(logContext, new TopicName(topicName)).onComplete(ar -> {
                         if (ar.succeeded()) {
@@ -0,0 +1,312 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CachingTopicStoreTest {
+    private MeterRegistry registry;
+    private MetricsProvider metrics;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private static Topic topic(int i, int partitions) {
+        return new Topic.Builder("topic-" + i, partitions).build();
+    }
+
+    private double meter(String name) {
+        String fullName = TopicOperator.METRICS_PREFIX + "topic.store.cache." + name;
+        return name.equals("size") ? registry.get(fullName).gauge().value() : registry.get(fullName).counter().count();
+    }
+
+    private static <T> T result(Future<T> future) {
+        assertThat(future.succeeded(), is(true));
+        return future.result();
+    }
+
+    @Test
+    public void testReadsAreCached() {
+        DelegateStore delegate = new DelegateStore();
+        delegate.topics.put(new TopicName("topic-0"), topic(0, 1));
+        CachingTopicStore store = new CachingTopicStore(delegate, 10, metrics);
+
+        assertThat(result(store.read(new TopicName("topic-0"))), is(topic(0, 1)));
+        assertThat(result(store.read(new TopicName("topic-0"))), is(topic(0, 1)));
+        // The missing topics are cached as well
+        assertThat(result(store.read(new TopicName("topic-1"))), is(nullValue()));
+        assertThat(result(store.read(new TopicName("topic-1"))), is(nullValue()));
+
+        assertThat(delegate.reads.get(), is(2));
+        assertThat(meter("hits"), is(2.0));
+        assertThat(meter("misses"), is(2.0));
+        assertThat(meter("size"), is(2.0));
+    }
+
+    @Test
+    public void testWritesInvalidateTheCache() {
+        DelegateStore delegate = new DelegateStore();
+        CachingTopicStore store = new CachingTopicStore(delegate, 10, metrics);
+        TopicName name = new TopicName("topic-0");
+
+        assertThat(result(store.read(name)), is(nullValue()));
+        result(store.create(topic(0, 1)));
+        assertThat(result(store.read(name)), is(topic(0, 1)));
+        result(store.update(topic(0, 2)));
+        assertThat(result(store.read(name)), is(topic(0, 2)));
+        result(store.delete(name));
+        assertThat(result(store.read(name)), is(nullValue()));
+
+        assertThat(delegate.reads.get(), is(4));
+    }
+
+    @Test
+    public void testReadDuringWriteIsNotCached() {
+        DelegateStore delegate = new DelegateStore();
+        delegate.topics.put(new TopicName("topic-0"), topic(0, 1));
+        CachingTopicStore store = new CachingTopicStore(delegate, 10, metrics);
+        TopicName name = new TopicName("topic-0");
+
+        // The read returns the topic from before the write, but completes only after the write started
+        delegate.paused = true;
+        Future<Topic> read = store.read(name);
+        delegate.paused = false;
+        Future<Void> update = store.update(topic(0, 2));
+        delegate.resume();
+
+        assertThat(result(read), is(topic(0, 1)));
+        result(update);
+        assertThat(result(store.read(name)), is(topic(0, 2)));
+        assertThat(delegate.reads.get(), is(2));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTopicsAreEvicted() {
+        DelegateStore delegate = new DelegateStore();
+        for (int i = 0; i < 3; i++) {
+            delegate.topics.put(new TopicName("topic-" + i), topic(i, 1));
+        }
+        CachingTopicStore store = new CachingTopicStore(delegate, 2, metrics);
+
+        store.read(new TopicName("topic-0"));
+        store.read(new TopicName("topic-1"));
+        store.read(new TopicName("topic-0"));
+        store.read(new TopicName("topic-2"));
+        assertThat(store.size(), is(2));
+        assertThat(delegate.reads.get(), is(3));
+
+        // topic-1 was evicted
+        store.read(new TopicName("topic-0"));
+        store.read(new TopicName("topic-1"));
+        assertThat(delegate.reads.get(), is(4));
+    }
+
+    @Test
+    public void testWarmUp() {
+        DelegateStore delegate = new DelegateStore();
+        for (int i = 0; i < 3; i++) {
+            delegate.topics.put(new TopicName("topic-" + i), topic(i, 1));
+        }
+        CachingTopicStore store = new CachingTopicStore(delegate, 10, metrics);
+
+        // The topic written while the warm up is in progress is not cached
+        delegate.paused = true;
+        Future<Void> warmUp = store.warmUp();
+        delegate.paused = false;
+        result(store.update(topic(1, 2)));
+        delegate.resume();
+        result(warmUp);
+
+        assertThat(store.size(), is(2));
+        assertThat(result(store.read(new TopicName("topic-0"))), is(topic(0, 1)));
+        assertThat(result(store.read(new TopicName("topic-1"))), is(topic(1, 2)));
+        assertThat(delegate.reads.get(), is(1));
+    }
+
+    @Test
+    public void testWarmUpIsSkippedWhenNotSupported() {
+        MockTopicStore delegate = new MockTopicStore();
+        CachingTopicStore store = new CachingTopicStore(delegate, 10, null);
+
+        result(store.warmUp());
+        assertThat(store.size(), is(0));
+    }
+
+    @Test
+    public void testCacheIsConsistentWithConcurrentWrites() throws InterruptedException {
+        int keys = 5;
+        DelegateStore delegate = new DelegateStore();
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+        delegate.executor = executor;
+        CachingTopicStore store = new CachingTopicStore(delegate, keys, metrics);
+
+        List<Future<?>> futures = new CopyOnWriteArrayList<>();
+        Random random = new Random(42);
+        futures.add(store.warmUp());
+
+        for (int i = 0; i < 2000; i++) {
+            int key = random.nextInt(keys);
+            TopicName name = new TopicName("topic-" + key);
+            switch (random.nextInt(4)) {
+                case 0:
+                    futures.add(store.create(topic(key, i + 1)));
+                    break;
+                case 1:
+                    futures.add(store.update(topic(key, i + 1)));
+                    break;
+                case 2:
+                    futures.add(store.delete(name));
+                    break;
+                default:
+                    futures.add(store.read(name));
+            }
+
+            if (random.nextInt(20) == 0) {
+                Thread.sleep(1);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (futures.stream().anyMatch(f -> !f.isComplete()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), is(true));
+
+        delegate.executor = null;
+        for (int key = 0; key < keys; key++) {
+            TopicName name = new TopicName("topic-" + key);
+            assertThat(result(store.read(name)), is(delegate.topics.get(name)));
+        }
+    }
+
+    /**
+     * TopicStore which can pause the operations or run them after random delays. The operations take effect at a
+     * different time than when they complete, so the caching store has to cope with the reads which return stale
+     * topics.
+     */
+    static class DelegateStore implements TopicStore {
+        final Map<TopicName, Topic> topics = new ConcurrentHashMap<>();
+        final AtomicInteger reads = new AtomicInteger();
+        private final List<Runnable> pausedOperations = new ArrayList<>();
+        private final Random random = new Random(7);
+        volatile boolean paused = false;
+        volatile ScheduledExecutorService executor;
+
+        void resume() {
+            pausedOperations.forEach(Runnable::run);
+            pausedOperations.clear();
+        }
+
+        private <T> Future<T> run(Supplier<T> effect) {
+            Promise<T> promise = Promise.promise();
+            ScheduledExecutorService executor = this.executor;
+
+            if (paused) {
+                T result = effect.get();
+                pausedOperations.add(() -> promise.complete(result));
+            } else if (executor != null) {
+                long effectDelay;
+                long completionDelay;
+                synchronized (random) {
+                    effectDelay = random.nextInt(500);
+                    completionDelay = random.nextInt(500);
+                }
+                executor.schedule(() -> {
+                    T result = effect.get();
+                    executor.schedule(() -> promise.complete(result), completionDelay, TimeUnit.MICROSECONDS);
+                }, effectDelay, TimeUnit.MICROSECONDS);
+            } else {
+                promise.complete(effect.get());
+            }
+
+            return promise.future();
+        }
+
+        @Override
+        public Future<Topic> read(TopicName name) {
+            reads.incrementAndGet();
+            return run(() -> topics.get(name));
+        }
+
+        @Override
+        public Future<Map<TopicName, Topic>> readAll() {
+            return run(() -> new HashMap<>(topics));
+        }
+
+        @Override
+        public Future<Void> create(Topic topic) {
+            return run(() -> {
+                topics.putIfAbsent(topic.getTopicName(), topic);
+                return null;
+            });
+        }
+
+        @Override
+        public Future<Void> update(Topic topic) {
+            return run(() -> {
+                topics.replace(topic.getTopicName(), topic);
+                return null;
+            });
+        }
+
+        @Override
+        public Future<Void> delete(TopicName name) {
+            return run(() -> {
+                topics.remove(name);
+                return null;
+            });
+        }
+    }
+}
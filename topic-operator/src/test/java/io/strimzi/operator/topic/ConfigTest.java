@@ -87,6 +87,83 @@ public class ConfigTest {
         assertThat(c.get(Config.TOPIC_METADATA_MAX_ATTEMPTS).intValue(), is(3));
     }
 
+    @Test
+    public void testTopicMetadataBatchSize() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.TOPIC_METADATA_BATCH_SIZE), is(500));
+
+        map.put(Config.TC_TOPIC_METADATA_BATCH_SIZE, "100");
+        assertThat(new Config(map).get(Config.TOPIC_METADATA_BATCH_SIZE), is(100));
+
+        map.put(Config.TC_TOPIC_METADATA_BATCH_SIZE, "0");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testReconciliationParallelism() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.RECONCILIATION_PARALLELISM), is(50));
+
+        map.put(Config.TC_RECONCILIATION_PARALLELISM, "10");
+        assertThat(new Config(map).get(Config.RECONCILIATION_PARALLELISM), is(10));
+
+        map.put(Config.TC_RECONCILIATION_PARALLELISM, "-1");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testZookeeperConfigChangeNotifications() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.ZOOKEEPER_CONFIG_CHANGE_NOTIFICATIONS), is(false));
+
+        map.put(Config.TC_ZK_CONFIG_CHANGE_NOTIFICATIONS, "true");
+        assertThat(new Config(map).get(Config.ZOOKEEPER_CONFIG_CHANGE_NOTIFICATIONS), is(true));
+    }
+
+    @Test
+    public void testStoreBinaryFormat() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.STORE_BINARY_FORMAT), is(false));
+
+        map.put(Config.TC_STORE_BINARY_FORMAT, "true");
+        assertThat(new Config(map).get(Config.STORE_BINARY_FORMAT), is(true));
+    }
+
+    @Test
+    public void testStoreBatchLinger() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.STORE_BATCH_LINGER_MS), is(5L));
+
+        map.put(Config.TC_STORE_BATCH_LINGER_MS, "0");
+        assertThat(new Config(map).get(Config.STORE_BATCH_LINGER_MS), is(0L));
+    }
+
+    @Test
+    public void testStoreCacheSize() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.STORE_CACHE_SIZE), is(10000));
+
+        map.put(Config.TC_STORE_CACHE_SIZE, "0");
+        assertThat(new Config(map).get(Config.STORE_CACHE_SIZE), is(0));
+
+        map.put(Config.TC_STORE_CACHE_SIZE, "-1");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testInformer() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        Config config = new Config(map);
+        assertThat(config.get(Config.USE_INFORMER), is(false));
+        assertThat(config.get(Config.INFORMER_RESYNC_INTERVAL_MS), is(300_000L));
+
+        map.put(Config.TC_USE_INFORMER, "true");
+        map.put(Config.TC_INFORMER_RESYNC_INTERVAL_MS, "0");
+        config = new Config(map);
+        assertThat(config.get(Config.USE_INFORMER), is(true));
+        assertThat(config.get(Config.INFORMER_RESYNC_INTERVAL_MS), is(0L));
+    }
+
     @Test
     public void testDefaultConfig() {
         Map<String, String> map = new HashMap<>(MANDATORY);
@@ -8,9 +8,18 @@ import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.operator.resource.InformerCache;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -22,11 +31,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -73,4 +87,82 @@ public class K8sImplTest {
             async.flag();
         })));
     }
+
+    private static KafkaTopic kafkaTopic(String name, String topicName) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("default")
+                    .withName(name)
+                    .withLabels(Map.of("foo", "bar"))
+                .endMetadata()
+                .withNewSpec()
+                    .withTopicName(topicName)
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testReadsFromInformerCache(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        when(mockClient.resources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+
+        Cache<KafkaTopic> indexer = new Cache<>();
+        indexer.addIndexers(K8sImpl.indexers());
+        indexer.put(kafkaTopic("my-topic", null));
+        indexer.put(kafkaTopic("other-name", "other-topic"));
+
+        SharedIndexInformer<KafkaTopic> informer = mock(SharedIndexInformer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(true);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return new AtomicInteger(0);
+            }
+        };
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+        k8s.useCache(new InformerCache<>(KafkaTopic.RESOURCE_KIND, "default", Map.of("foo", "bar"), informer, metrics));
+
+        k8s.listResources()
+            .compose(kafkaTopics -> {
+                context.verify(() -> assertThat(kafkaTopics.size(), is(2)));
+                return k8s.getFromName(new ResourceName("my-topic"));
+            })
+            .compose(kafkaTopic -> {
+                context.verify(() -> assertThat(kafkaTopic, is(kafkaTopic("my-topic", null))));
+                return k8s.getFromTopicName(new TopicName("other-topic"));
+            })
+            .onComplete(context.succeeding(kafkaTopic -> context.verify(() -> {
+                // The KafkaTopic is found by the topic name in its spec
+                assertThat(kafkaTopic.getMetadata().getName(), is("other-name"));
+                assertThat(kafkaTopic.getStatus(), is(nullValue()));
+                verify(mockResources, never()).list();
+                verify(mockResources, never()).withName(any());
+                async.flag();
+            })));
+    }
 }
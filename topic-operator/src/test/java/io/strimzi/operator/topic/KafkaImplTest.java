@@ -4,8 +4,10 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
@@ -33,12 +35,17 @@ import org.mockito.ArgumentMatcher;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -246,6 +253,32 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testTopicMetadataInBatches(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        mockDescribeTopics(admin, Map.of(
+                "a", Either.ofLeft(mock(TopicDescription.class)),
+                "b", Either.ofRight(new UnknownTopicOrPartitionException())));
+        mockDescribeConfigs(admin, Map.of(
+                new ConfigResource(ConfigResource.Type.TOPIC, "a"), Either.ofLeft(mock(Config.class)),
+                new ConfigResource(ConfigResource.Type.TOPIC, "b"), Either.ofRight(new UnknownTopicOrPartitionException())));
+        mockDescribeTopics(admin, Map.of("c", Either.ofLeft(mock(TopicDescription.class))));
+        mockDescribeConfigs(admin, Map.of(new ConfigResource(ConfigResource.Type.TOPIC, "c"), Either.ofLeft(mock(Config.class))));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 2);
+        impl.topicMetadata(Reconciliation.DUMMY_RECONCILIATION, List.of(new TopicName("a"), new TopicName("b"), new TopicName("c")))
+                .onComplete(testContext.succeeding(topicMetadata -> testContext.verify(() -> {
+                    // The topic which does not exist anymore is left out
+                    assertThat(topicMetadata.keySet(), is(Set.of(new TopicName("a"), new TopicName("c"))));
+                    assertNotNull(topicMetadata.get(new TopicName("a")).getDescription());
+                    assertNotNull(topicMetadata.get(new TopicName("c")).getConfig());
+
+                    verify(admin, times(2)).describeTopics(anyCollection());
+                    verify(admin, times(2)).describeConfigs(anyCollection());
+                    testContext.completeNow();
+                })));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
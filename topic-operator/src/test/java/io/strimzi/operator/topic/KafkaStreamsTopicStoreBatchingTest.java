@@ -0,0 +1,179 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.apicurio.registry.utils.kafka.ProducerActions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaStreamsTopicStoreBatchingTest {
+    private final List<ProducerRecord<String, TopicCommand>> sent = new CopyOnWriteArrayList<>();
+    private final Map<String, CompletableFuture<Integer>> results = new ConcurrentHashMap<>();
+    private MeterRegistry registry;
+    private MetricsProvider metrics;
+
+    private final ProducerActions<String, TopicCommand> producer = new ProducerActions<>() {
+        @Override
+        public CompletableFuture<RecordMetadata> apply(ProducerRecord<String, TopicCommand> record) {
+            sent.add(record);
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private KafkaStreamsTopicStore store(long batchLingerMs) {
+        return new KafkaStreamsTopicStore(null, "store-topic", producer, (key, uuid) -> {
+            CompletableFuture<Integer> result = new CompletableFuture<>();
+            results.put(uuid, result);
+            return result;
+        }, batchLingerMs, metrics);
+    }
+
+    private static Topic topic(int i) {
+        return new Topic.Builder("topic-" + i, 1).build();
+    }
+
+    private DistributionSummary batchSize() {
+        return registry.get(TopicOperator.METRICS_PREFIX + "topic.store.batch.size").summary();
+    }
+
+    private static void waitFor(Future<Void> future) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!future.isComplete() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testCommandsAreSentTogether() throws InterruptedException {
+        KafkaStreamsTopicStore store = store(TimeUnit.HOURS.toMillis(1));
+
+        Future<Void> created = store.create(topic(0));
+        Future<Void> deleted = store.delete(new TopicName("topic-1"));
+        assertThat(sent.size(), is(0));
+
+        // Filling the batch sends it without waiting for the linger time
+        List<TopicCommand> commands = new ArrayList<>();
+        for (int i = 2; i < KafkaStreamsTopicStore.MAX_BATCH_SIZE; i++) {
+            commands.add(TopicCommand.update(topic(i)));
+        }
+        List<Future<Void>> updated = store.write(commands);
+
+        assertThat(sent.size(), is(KafkaStreamsTopicStore.MAX_BATCH_SIZE));
+        assertThat(sent.get(0).value().getType(), is(TopicCommand.Type.CREATE));
+        assertThat(sent.get(1).key(), is("topic-1"));
+        assertThat(sent.get(2).value(), is(commands.get(0)));
+        assertThat(batchSize().count(), is(1L));
+        assertThat(batchSize().totalAmount(), is((double) KafkaStreamsTopicStore.MAX_BATCH_SIZE));
+
+        // The results complete individually
+        assertThat(created.isComplete(), is(false));
+        results.get(sent.get(0).value().getUuid()).complete(null);
+        results.get(sent.get(1).value().getUuid()).complete(KafkaStreamsTopicStore.toIndex(TopicStore.NoSuchEntityExistsException.class));
+        waitFor(created);
+        waitFor(deleted);
+
+        assertThat(created.succeeded(), is(true));
+        assertThat(deleted.cause(), is(instanceOf(TopicStore.NoSuchEntityExistsException.class)));
+        assertThat(updated.get(0).isComplete(), is(false));
+        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "topic.store.write.duration").timer().count(), is(2L));
+
+        store.close();
+    }
+
+    @Test
+    public void testBatchIsSentAfterLingerTime() throws InterruptedException {
+        KafkaStreamsTopicStore store = store(10);
+
+        store.create(topic(0));
+        store.create(topic(1));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (sent.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(sent.size(), is(2));
+        assertThat(batchSize().count(), is(1L));
+
+        store.close();
+    }
+
+    @Test
+    public void testCommandsAreSentImmediatelyWithoutLinger() {
+        KafkaStreamsTopicStore store = store(0);
+
+        store.create(topic(0));
+        assertThat(sent.size(), is(1));
+        store.create(topic(1));
+        assertThat(sent.size(), is(2));
+        assertThat(batchSize().count(), is(2L));
+
+        store.close();
+    }
+
+    @Test
+    public void testCloseSendsPendingCommands() {
+        KafkaStreamsTopicStore store = store(TimeUnit.HOURS.toMillis(1));
+
+        store.create(topic(0));
+        assertThat(sent.size(), is(0));
+
+        store.close();
+        assertThat(sent.size(), is(1));
+    }
+}
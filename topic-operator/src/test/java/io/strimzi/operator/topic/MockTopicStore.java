@@ -33,6 +33,11 @@ public class MockTopicStore implements TopicStore {
         }
     }
 
+    @Override
+    public Future<Map<TopicName, Topic>> readAll() {
+        return Future.succeededFuture(new HashMap<>(topics));
+    }
+
     @Override
     public Future<Void> create(Topic topic) {
         Future<Void> response = createTopicResponse.apply(topic.getTopicName());
@@ -22,6 +22,7 @@ class MockZk implements Zk {
     public AsyncResult<Void> setDataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".setDataResult");
     public AsyncResult<List<String>> childrenResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".childrenResult");
     public AsyncResult<byte[]> dataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".dataResult");
+    public Map<String, AsyncResult<byte[]>> dataResults = new HashMap<>();
     private Handler<AsyncResult<List<String>>> childrenHandler;
     private Map<String, Handler<AsyncResult<byte[]>>> dataHandlers = new HashMap<>();
 
@@ -76,7 +77,7 @@ class MockZk implements Zk {
 
     @Override
     public Zk getData(String path, Handler<AsyncResult<byte[]>> handler) {
-        handler.handle(dataResult);
+        handler.handle(dataResults.getOrDefault(path, dataResult));
         return this;
     }
 
@@ -0,0 +1,188 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationQueueTest {
+    private static Vertx vertx;
+
+    private MetricsProvider metrics;
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private final List<Promise<Void>> running = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private Supplier<Future<Void>> work(String name) {
+        return () -> {
+            started.add(name);
+            Promise<Void> promise = Promise.promise();
+            running.add(promise);
+            return promise.future();
+        };
+    }
+
+    private ReconciliationQueue queue(int maxParallelism) {
+        return new ReconciliationQueue(vertx, maxParallelism, metrics, Tags.of(Tag.of("kind", "KafkaTopic")));
+    }
+
+    private double queueDepth() {
+        return metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.queue.depth").gauge().value();
+    }
+
+    @Test
+    public void testWorkForSameTopicIsSerialized(VertxTestContext context) {
+        ReconciliationQueue queue = queue(10);
+        TopicName topic = new TopicName("my-topic");
+
+        Future<Void> first = queue.enqueue(topic, null, work("first"));
+        Future<Void> second = queue.enqueue(topic, null, work("second"));
+
+        vertx.setTimer(100, ignored -> {
+            context.verify(() -> {
+                assertThat(started, is(List.of("first")));
+                assertThat(queueDepth(), is(1.0));
+            });
+
+            running.get(0).fail("failure");
+            first.onComplete(context.failing(e -> vertx.setTimer(100, ignored2 -> {
+                // The failure of the first work does not prevent the second one from running
+                context.verify(() -> assertThat(started, is(List.of("first", "second"))));
+                running.get(1).complete();
+                second.onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(queue.isEmpty(), is(true));
+                    context.completeNow();
+                })));
+            })));
+        });
+    }
+
+    @Test
+    public void testParallelismIsLimited(VertxTestContext context) {
+        ReconciliationQueue queue = queue(2);
+        List<Future> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(queue.enqueue(new TopicName("topic-" + i), null, work("topic-" + i)));
+        }
+
+        vertx.setTimer(100, ignored -> {
+            context.verify(() -> {
+                assertThat(started, is(List.of("topic-0", "topic-1")));
+                assertThat(queueDepth(), is(3.0));
+            });
+
+            running.get(0).complete();
+            futures.get(0).onComplete(context.succeeding(v -> vertx.setTimer(100, ignored2 -> {
+                context.verify(() -> {
+                    assertThat(started, is(List.of("topic-0", "topic-1", "topic-2")));
+                    assertThat(queueDepth(), is(2.0));
+                    assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.queue.wait.duration").timer().count(), is(3L));
+                });
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void testEquivalentWorkIsCoalesced(VertxTestContext context) {
+        ReconciliationQueue queue = queue(10);
+        TopicName topic = new TopicName("my-topic");
+
+        queue.enqueue(topic, "event", work("running"));
+        // The first work is already running, so the next one has to be queued
+        Future<Void> queued = queue.enqueue(topic, "event", work("queued"));
+        Future<Void> coalesced = queue.enqueue(topic, "event", work("coalesced"));
+        Future<Void> other = queue.enqueue(topic, "other", work("other"));
+        Future<Void> notCoalesced = queue.enqueue(topic, "event", work("not-coalesced"));
+
+        context.verify(() -> {
+            assertThat(coalesced, is(sameInstance(queued)));
+            assertThat(notCoalesced, is(not(sameInstance(queued))));
+            assertThat(queueDepth(), is(3.0));
+            assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.coalesced").counter().count(), is(1.0));
+            assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.locked").counter().count(), is(4.0));
+        });
+
+        vertx.setTimer(100, ignored -> {
+            running.get(0).complete();
+            vertx.setTimer(100, ignored2 -> {
+                running.get(1).complete();
+                coalesced.onComplete(context.succeeding(v -> vertx.setTimer(100, ignored3 -> {
+                    context.verify(() -> assertThat(started, is(List.of("running", "queued", "other"))));
+                    running.get(2).complete();
+                    other.compose(v2 -> {
+                        vertx.setTimer(100, ignored4 -> running.get(3).complete());
+                        return notCoalesced;
+                    }).onComplete(context.succeeding(v2 -> context.verify(() -> {
+                        assertThat(started, is(List.of("running", "queued", "other", "not-coalesced")));
+                        context.completeNow();
+                    })));
+                })));
+            });
+        });
+    }
+}
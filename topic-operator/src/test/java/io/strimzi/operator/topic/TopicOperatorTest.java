@@ -1224,6 +1224,39 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopicsUsesTopicMetadataSnapshot(VertxTestContext context) {
+        Topic kubeTopic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "baz"), null).build();
+        Topic kafkaTopic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "bar"), null).build();
+        Topic privateTopic = kafkaTopic;
+
+        mockKafka.setCreateTopicResponse(topicName.toString(), null)
+                .createTopic(Reconciliation.DUMMY_RECONCILIATION, kafkaTopic);
+        mockKafka.setTopicsListResponse(Future.succeededFuture(singleton(topicName.toString())));
+        // The topic is not described on its own, only as part of the snapshot
+        mockKafka.setTopicsMetadataResponse(topicNames -> Future.succeededFuture(Map.of(topicName, Utils.getTopicMetadata(kafkaTopic))));
+        mockKafka.setUpdateTopicResponse(topicName -> Future.succeededFuture());
+
+        mockTopicStore.setCreateTopicResponse(topicName, null)
+                .create(privateTopic);
+        mockTopicStore.setUpdateTopicResponse(topicName, null);
+
+        mockK8s.setCreateResponse(resourceName, null);
+        mockK8s.createResource(TopicSerialization.toTopicResource(kubeTopic, labels));
+        mockK8s.setModifyResponse(resourceName, null);
+
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(ignored -> context.verify(() -> {
+            assertThat(mockKafka.getTopicState(topicName).getConfig().get("cleanup.policy"), is("baz"));
+
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.failed").tag("kind", "KafkaTopic").counter().count(), is(0.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.topic.metadata.duration").tag("kind", "KafkaTopic").timer().count(), is(1L));
+
+            context.completeNow();
+        })));
+    }
+
     @Test
     public void testReconcileAllTopics_listMapsFails(VertxTestContext context) {
         RuntimeException error = new RuntimeException("some failure");
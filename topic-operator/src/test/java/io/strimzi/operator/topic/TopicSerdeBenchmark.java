@@ -0,0 +1,104 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization and deserialization of a topic and of a topic command with a typical config in the JSON
+ * and in the binary format used by the Kafka Streams based topic store.
+ *
+ * The benchmark is not run as part of the tests. Run it using the {@link #main(String[])} method from the test
+ * classpath (for example from the IDE) after compiling the test classes. Use the {@code -prof gc} option to see the
+ * allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopicSerdeBenchmark {
+    @Param({"json", "binary"})
+    public String format;
+
+    private TopicSerde topicSerde;
+    private TopicCommandSerde commandSerde;
+    private Topic topic;
+    private TopicCommand command;
+    private byte[] serializedTopic;
+    private byte[] serializedCommand;
+
+    @Setup
+    public void setup() {
+        boolean binary = "binary".equals(format);
+        topicSerde = new TopicSerde(binary);
+        commandSerde = new TopicCommandSerde(binary);
+
+        topic = topic(0);
+        command = TopicCommand.update(topic);
+        serializedTopic = topicSerde.serialize("store", topic);
+        serializedCommand = commandSerde.serialize("store", command);
+    }
+
+    /**
+     * Creates a topic with a typical config
+     *
+     * @param i     Index of the topic used in its name
+     *
+     * @return  The topic
+     */
+    static Topic topic(int i) {
+        return new Topic.Builder()
+                .withTopicName("my-application.events-" + i)
+                .withNumPartitions(12)
+                .withNumReplicas((short) 3)
+                .withConfigEntry("cleanup.policy", "delete")
+                .withConfigEntry("retention.ms", "604800000")
+                .withConfigEntry("segment.bytes", "1073741824")
+                .withConfigEntry("min.insync.replicas", "2")
+                .withConfigEntry("max.message.bytes", "1048588")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeTopic() {
+        return topicSerde.serialize("store", topic);
+    }
+
+    @Benchmark
+    public Topic deserializeTopic() {
+        return topicSerde.deserialize("store", serializedTopic);
+    }
+
+    @Benchmark
+    public byte[] serializeCommand() {
+        return commandSerde.serialize("store", command);
+    }
+
+    @Benchmark
+    public TopicCommand deserializeCommand() {
+        return commandSerde.deserialize("store", serializedCommand);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TopicSerdeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
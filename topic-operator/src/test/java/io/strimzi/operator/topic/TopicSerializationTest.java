@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +64,68 @@ public class TopicSerializationTest {
         Assertions.assertEquals(TopicCommand.CURRENT_VERSION, data.getVersion());
     }
 
+    @Test
+    public void testTopicCommandSerdeBinaryFormat() {
+        TopicCommandSerde jsonSerde = new TopicCommandSerde();
+        TopicCommandSerde binarySerde = new TopicCommandSerde(true);
+
+        Topic topic = new Topic.Builder()
+                .withTopicName("foobar")
+                .withMapName("foo-bar")
+                .withNumReplicas((short) -1)
+                .withNumPartitions(300)
+                .withConfigEntry("cleanup.policy", "compact")
+                .withConfigEntry("retention.ms", "-1")
+                .withConfigEntry("my.unknown.config", "žluťoučký")
+                .build();
+
+        TopicCommand command = TopicCommand.update(topic);
+        byte[] binary = binarySerde.serialize("dummy", command);
+        byte[] json = jsonSerde.serialize("dummy", command);
+        assertThat(binary.length < json.length, is(true));
+
+        // Both serdes read both formats
+        for (TopicCommandSerde serde : List.of(jsonSerde, binarySerde)) {
+            for (byte[] bytes : List.of(binary, json)) {
+                TopicCommand data = serde.deserialize("dummy", bytes);
+                Assertions.assertEquals(TopicCommand.Type.UPDATE, data.getType());
+                Assertions.assertEquals(command.getUuid(), data.getUuid());
+                Assertions.assertEquals(topic, data.getTopic());
+                Assertions.assertEquals(topic.getResourceName(), data.getTopic().getResourceName());
+                Assertions.assertEquals(TopicCommand.CURRENT_VERSION, data.getVersion());
+            }
+        }
+
+        TopicName tn = new TopicName("deleteme");
+        TopicCommand data = binarySerde.deserialize("dummy", binarySerde.serialize("dummy", TopicCommand.delete(tn)));
+        Assertions.assertEquals(TopicCommand.Type.DELETE, data.getType());
+        Assertions.assertEquals(tn, data.getName());
+    }
+
+    @Test
+    public void testTopicSerdeBinaryFormat() {
+        TopicSerde jsonSerde = new TopicSerde();
+        TopicSerde binarySerde = new TopicSerde(true);
+
+        Topic topic = new Topic.Builder()
+                .withTopicName("foobar")
+                .withNumReplicas((short) 3)
+                .withNumPartitions(2)
+                .withConfigEntry("min.insync.replicas", "2")
+                .build();
+
+        byte[] binary = binarySerde.serialize("dummy", topic);
+        assertThat(TopicBinarySerialization.isBinary(binary), is(true));
+        assertThat(TopicBinarySerialization.isBinary(jsonSerde.serialize("dummy", topic)), is(false));
+
+        Assertions.assertEquals(topic, jsonSerde.deserialize("dummy", binary));
+        Assertions.assertEquals(topic, binarySerde.deserialize("dummy", jsonSerde.serialize("dummy", topic)));
+
+        // Truncated record
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> binarySerde.deserialize("dummy", Arrays.copyOf(binary, binary.length - 1)));
+    }
+
     @Test
     public void testResourceSerializationRoundTrip() {
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the replay of the store topic with one create command per topic which is done by the Kafka Streams based
+ * topic store when the operator starts. For every record the command is deserialized and the topic is serialized
+ * into the state store, as done by the topology from {@link TopicStoreTopologyProvider}. It also reports the size of
+ * the replayed records.
+ *
+ * The benchmark is not run as part of the tests. Run it using the {@link #main(String[])} method from the test
+ * classpath (for example from the IDE) after compiling the test classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TopicStoreReplayBenchmark {
+    private static final Logger LOGGER = LogManager.getLogger(TopicStoreReplayBenchmark.class);
+
+    @Param({"50000"})
+    public int topics;
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private TopicSerde topicSerde;
+    private TopicCommandSerde commandSerde;
+    private List<byte[]> records;
+
+    @Setup
+    public void setup() {
+        boolean binary = "binary".equals(format);
+        topicSerde = new TopicSerde(binary);
+        commandSerde = new TopicCommandSerde(binary);
+
+        records = new ArrayList<>(topics);
+        long bytes = 0;
+        for (int i = 0; i < topics; i++) {
+            byte[] record = commandSerde.serialize("store", TopicCommand.create(TopicSerdeBenchmark.topic(i)));
+            records.add(record);
+            bytes += record.length;
+        }
+
+        LOGGER.info("Store topic with {} topics in {} format: {} bytes", topics, format, bytes);
+    }
+
+    @Benchmark
+    public Map<String, byte[]> replay() {
+        Map<String, byte[]> store = new HashMap<>(topics * 2);
+
+        for (byte[] record : records) {
+            TopicCommand command = commandSerde.deserialize("store", record);
+            store.put(command.getKey(), topicSerde.serialize("store", command.getTopic()));
+        }
+
+        return store;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TopicStoreReplayBenchmark.class.getSimpleName()).build()).run();
+    }
+}
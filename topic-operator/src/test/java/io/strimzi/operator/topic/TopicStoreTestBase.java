@@ -5,6 +5,7 @@
 package io.strimzi.operator.topic;
 
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -98,4 +99,24 @@ public abstract class TopicStoreTestBase {
             })));
     }
 
+    @Test
+    public void testReadAll(Vertx vertx, VertxTestContext context) {
+        Assumptions.assumeTrue(canRunTest());
+
+        Checkpoint async = context.checkpoint();
+
+        String topicName = "my_topic_" + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+        Topic topic = new Topic.Builder(topicName, 2,
+                (short) 3, Collections.singletonMap("foo", "bar")).build();
+
+        // Read the topics on a Vert.x context as the topic operator does
+        vertx.runOnContext(ignored -> store.create(topic)
+            .compose(v -> store.readAll())
+            .onComplete(context.succeeding(topics -> context.verify(() -> {
+                assertThat(topics.get(new TopicName(topicName)).getNumPartitions(), is(topic.getNumPartitions()));
+                assertThat(topics.get(new TopicName(topicName)).getConfig(), is(topic.getConfig()));
+            })))
+            .compose(v -> store.delete(topic.getTopicName()))
+            .onComplete(context.succeeding(v -> async.flag())));
+    }
 }
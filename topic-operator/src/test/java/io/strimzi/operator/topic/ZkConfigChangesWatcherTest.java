@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.MockTopicOperator.MockOperatorEvent.Type;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ZkConfigChangesWatcherTest {
+
+    private MockTopicOperator operator;
+    private MockZk mockZk;
+
+    @BeforeEach
+    public void setup() {
+        operator = new MockTopicOperator();
+        operator.topicModifiedResult = Future.succeededFuture();
+        mockZk = new MockZk();
+    }
+
+    private void notification(String name, String json) {
+        mockZk.dataResults.put(ZkConfigChangesWatcher.CHANGES_ZNODE + "/" + name, Future.succeededFuture(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MockTopicOperator.MockOperatorEvent configChanged(String topicName) {
+        return new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName(topicName));
+    }
+
+    @Test
+    public void testOnlyNewNotificationsAreDispatched() {
+        mockZk.childrenResult = Future.succeededFuture(asList("config_change_0000000001", "config_change_0000000002"));
+        notification("config_change_0000000001", "{\"version\":2,\"entity_path\":\"topics/old\"}");
+        notification("config_change_0000000002", "{\"version\":2,\"entity_path\":\"topics/old\"}");
+        notification("config_change_0000000003", "{\"version\":2,\"entity_path\":\"topics/foo\"}");
+        notification("config_change_0000000004", "{\"version\":2,\"entity_path\":\"brokers/0\"}");
+        notification("config_change_0000000005", "{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"bar\"}");
+        notification("config_change_0000000006", "{\"version\":2,\"entity_path\":\"topics/foo\"}");
+
+        ZkConfigChangesWatcher watcher = new ZkConfigChangesWatcher(operator);
+        watcher.start(mockZk);
+        assertThat(watcher.started(), is(true));
+
+        // Kafka purged the first notification and created new ones
+        mockZk.triggerChildren(Future.succeededFuture(asList("config_change_0000000002", "config_change_0000000003",
+                "config_change_0000000004", "config_change_0000000005", "config_change_0000000006")));
+        assertThat(operator.getMockOperatorEvents(), is(asList(configChanged("foo"), configChanged("bar"))));
+
+        // Nothing new
+        operator.clearEvents();
+        mockZk.triggerChildren(Future.succeededFuture(asList("config_change_0000000005", "config_change_0000000006")));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        // A notification which was already purged when it was read is skipped
+        notification("config_change_0000000008", "{\"version\":2,\"entity_path\":\"topics/baz\"}");
+        mockZk.triggerChildren(Future.succeededFuture(asList("config_change_0000000006", "config_change_0000000007", "config_change_0000000008")));
+        assertThat(operator.getMockOperatorEvents(), is(asList(configChanged("baz"))));
+    }
+
+    @Test
+    public void testNotificationsAreIgnoredAfterStop() {
+        mockZk.childrenResult = Future.succeededFuture(emptyList());
+        notification("config_change_0000000000", "{\"version\":2,\"entity_path\":\"topics/foo\"}");
+
+        ZkConfigChangesWatcher watcher = new ZkConfigChangesWatcher(operator);
+        watcher.start(mockZk);
+        watcher.stop();
+
+        mockZk.triggerChildren(Future.succeededFuture(asList("config_change_0000000000")));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+    }
+
+    @Test
+    public void testTopicName() {
+        assertThat(ZkConfigChangesWatcher.topicName("{\"version\":2,\"entity_path\":\"topics/my-topic\"}".getBytes(StandardCharsets.UTF_8)), is("my-topic"));
+        assertThat(ZkConfigChangesWatcher.topicName("{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"my-topic\"}".getBytes(StandardCharsets.UTF_8)), is("my-topic"));
+        assertThat(ZkConfigChangesWatcher.topicName("{\"version\":2,\"entity_path\":\"users/my-user/clients/my-client\"}".getBytes(StandardCharsets.UTF_8)), is(nullValue()));
+        assertThat(ZkConfigChangesWatcher.topicName("{\"version\":1,\"entity_type\":\"clients\",\"entity_name\":\"my-client\"}".getBytes(StandardCharsets.UTF_8)), is(nullValue()));
+    }
+}
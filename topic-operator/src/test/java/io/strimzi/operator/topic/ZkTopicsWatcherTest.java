@@ -66,6 +66,24 @@ public class ZkTopicsWatcherTest {
                 is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_PARTITIONS, new TopicName("baz")))));
     }
 
+    @Test
+    public void testPartitionChangeWithConfigChangeNotifications() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+        mockZk.dataResult = Future.succeededFuture(new byte[0]);
+
+        ZkTopicWatcher topicWatcher = new ZkTopicWatcher(operator);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, new ZkConfigChangesWatcher(operator), topicWatcher);
+        topicsWatcher.start(mockZk);
+        mockZk.triggerChildren(Future.succeededFuture(asList("foo", "bar", "baz")));
+        assertThat(topicWatcher.watching("baz"), is(true));
+
+        operator.clearEvents();
+        mockZk.triggerData("/brokers/topics/baz", Future.succeededFuture(new byte[0]));
+        assertThat(operator.getMockOperatorEvents(),
+                is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_PARTITIONS, new TopicName("baz")))));
+    }
+
     @Test
     public void testTopicDelete() {
         operator.topicDeletedResult = Future.succeededFuture();
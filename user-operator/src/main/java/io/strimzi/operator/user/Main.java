@@ -11,12 +11,13 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.operator.ClientsCaHolder;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 import io.strimzi.operator.user.operator.QuotasOperator;
 import io.strimzi.operator.user.operator.ScramCredentialsOperator;
@@ -74,17 +75,29 @@ public class Main {
         String dnsCacheTtl = System.getenv("STRIMZI_DNS_CACHE_TTL") == null ? "30" : System.getenv("STRIMZI_DNS_CACHE_TTL");
         Security.setProperty("networkaddress.cache.ttl", dnsCacheTtl);
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = CertManager.create(System.getenv(CertManager.CERT_MANAGER_ENV));
         SecretOperator secretOperations = new SecretOperator(vertx, client);
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperations = new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, KafkaUser.RESOURCE_KIND);
         return createAdminClient(adminClientProvider, config, secretOperations)
                 .compose(adminClient -> {
-                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient);
-                    ScramCredentialsOperator scramCredentialsOperator = new ScramCredentialsOperator(vertx, adminClient);
-                    QuotasOperator quotasOperator = new QuotasOperator(vertx, adminClient);
+                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient, config.getBatchMaxBlockTimeMs(), config.getBatchMaxBlockSize());
+                    ScramCredentialsOperator scramCredentialsOperator = new ScramCredentialsOperator(vertx, adminClient, config.getBatchMaxBlockTimeMs(), config.getBatchMaxBlockSize());
+                    QuotasOperator quotasOperator = new QuotasOperator(vertx, adminClient, config.getBatchMaxBlockTimeMs(), config.getBatchMaxBlockSize());
+
+                    ClientsCaHolder clientsCaHolder = new ClientsCaHolder(secretOperations, config.getCaNamespace(),
+                            config.getCaCertSecretName(), config.getCaKeySecretName());
+                    // Starting the watches blocks => it is done on a worker thread without waiting for it
+                    vertx.<Void>executeBlocking(watchPromise -> {
+                        clientsCaHolder.watch();
+                        watchPromise.complete();
+                    }, res -> {
+                        if (res.failed()) {
+                            LOGGER.warn("Failed to watch the Clients CA Secrets. They will be read for every reconciliation.", res.cause());
+                        }
+                    });
 
                     KafkaUserOperator kafkaUserOperations = new KafkaUserOperator(vertx, certManager, crdOperations,
-                            secretOperations, scramCredentialsOperator, quotasOperator, aclOperations, config);
+                            secretOperations, scramCredentialsOperator, quotasOperator, aclOperations, config, clientsCaHolder);
 
                     Promise<String> promise = Promise.promise();
                     UserOperator operator = new UserOperator(config.getNamespace(),
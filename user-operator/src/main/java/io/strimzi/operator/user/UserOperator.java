@@ -81,6 +81,7 @@ public class UserOperator extends AbstractVerticle {
             watch.close();
         }
 
+        kafkaUserOperator.stop();
         client.close();
         stop.complete();
     }
@@ -29,11 +29,16 @@ public class UserOperatorConfig {
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
     public static final String STRIMZI_ACLS_ADMIN_API_SUPPORTED = "STRIMZI_ACLS_ADMIN_API_SUPPORTED";
     public static final String STRIMZI_SCRAM_SHA_PASSWORD_LENGTH = "STRIMZI_SCRAM_SHA_PASSWORD_LENGTH";
+    public static final String STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS = "STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS";
+    public static final String STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE = "STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_SECRET_PREFIX = "";
     public static final int DEFAULT_SCRAM_SHA_PASSWORD_LENGTH = 12;
+    // Batching of the Admin API requests is disabled by default
+    public static final long DEFAULT_BATCH_MAXIMUM_BLOCK_TIME_MS = 0;
+    public static final int DEFAULT_BATCH_MAXIMUM_BLOCK_SIZE = 1000;
     // Defaults to true for backwards compatibility in standalone UO deployments
     public static final boolean DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED = true;
 
@@ -51,6 +56,8 @@ public class UserOperatorConfig {
     private final int clientsCaRenewalDays;
     private final boolean aclsAdminApiSupported;
     private final int scramPasswordLength;
+    private final long batchMaxBlockTimeMs;
+    private final int batchMaxBlockSize;
 
     /**
      * Constructor
@@ -69,6 +76,9 @@ public class UserOperatorConfig {
      * @param clientsCaValidityDays Number of days for which the certificate should be valid
      * @param clientsCaRenewalDays How long before the certificate expiration should the user certificate be renewed
      * @param scramPasswordLength Length used for the Scram-Sha Password
+     * @param batchMaxBlockTimeMs Maximal time for which the Admin API requests of different users are collected to be
+     *                            sent together or 0 when they are sent one by one
+     * @param batchMaxBlockSize Maximal number of items sent together in one Admin API request
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"})
     public UserOperatorConfig(String namespace,
@@ -84,7 +94,9 @@ public class UserOperatorConfig {
                               boolean aclsAdminApiSupported,
                               int clientsCaValidityDays,
                               int clientsCaRenewalDays,
-                              int scramPasswordLength) {
+                              int scramPasswordLength,
+                              long batchMaxBlockTimeMs,
+                              int batchMaxBlockSize) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -99,6 +111,8 @@ public class UserOperatorConfig {
         this.clientsCaValidityDays = clientsCaValidityDays;
         this.clientsCaRenewalDays = clientsCaRenewalDays;
         this.scramPasswordLength = scramPasswordLength;
+        this.batchMaxBlockTimeMs = batchMaxBlockTimeMs;
+        this.batchMaxBlockSize = batchMaxBlockSize;
     }
 
     /**
@@ -169,9 +183,21 @@ public class UserOperatorConfig {
 
         int clientsCaRenewalDays = getIntProperty(map, UserOperatorConfig.STRIMZI_CLIENTS_CA_RENEWAL, CertificateAuthority.DEFAULT_CERTS_RENEWAL_DAYS);
 
+        long batchMaxBlockTimeMs = DEFAULT_BATCH_MAXIMUM_BLOCK_TIME_MS;
+        String batchMaxBlockTimeMsEnvVar = map.get(UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS);
+        if (batchMaxBlockTimeMsEnvVar != null) {
+            batchMaxBlockTimeMs = Long.parseLong(batchMaxBlockTimeMsEnvVar);
+        }
+
+        int batchMaxBlockSize = getIntProperty(map, UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE, DEFAULT_BATCH_MAXIMUM_BLOCK_SIZE);
+        if (batchMaxBlockSize <= 0) {
+            throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE + " has to be a positive number");
+        }
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, labels,
                 caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix,
-                aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays, scramPasswordLength);
+                aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays, scramPasswordLength,
+                batchMaxBlockTimeMs, batchMaxBlockSize);
     }
 
     /**
@@ -308,6 +334,21 @@ public class UserOperatorConfig {
         return aclsAdminApiSupported;
     }
 
+    /**
+     * @return  Maximal time for which the Admin API requests of different users are collected to be sent together or 0
+     *          when they are sent one by one
+     */
+    public long getBatchMaxBlockTimeMs() {
+        return batchMaxBlockTimeMs;
+    }
+
+    /**
+     * @return  Maximal number of items sent together in one Admin API request
+     */
+    public int getBatchMaxBlockSize() {
+        return batchMaxBlockSize;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -324,6 +365,8 @@ public class UserOperatorConfig {
                 ",clientsCaValidityDays=" + clientsCaValidityDays +
                 ",clientsCaRenewalDays=" + clientsCaRenewalDays +
                 ",scramPasswordLength=" + scramPasswordLength +
+                ",batchMaxBlockTimeMs=" + batchMaxBlockTimeMs +
+                ",batchMaxBlockSize=" + batchMaxBlockSize +
                 ")";
     }
 }
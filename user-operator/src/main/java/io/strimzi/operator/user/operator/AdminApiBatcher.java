@@ -0,0 +1,190 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.KafkaFuture;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Collects the items (for example ACL bindings) which should be sent to Kafka by the reconciliations of many different
+ * users and sends them together in a single Admin API request. The items are collected until the maximum block time
+ * elapses or until the maximum block size is reached. The future returned for each reconciliation completes once
+ * the results of all its items are known, independently of the other reconciliations in the same block.
+ *
+ * @param <T>   Type of the items sent through the Admin API
+ * @param <K>   Type of the keys under which the Admin API returns the results of the items
+ */
+class AdminApiBatcher<T, K> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AdminApiBatcher.class.getName());
+
+    private final Vertx vertx;
+    private final String operation;
+    private final long maxBlockTimeMs;
+    private final int maxBlockSize;
+    private final Function<T, K> key;
+    private final Function<Collection<T>, Map<K, ? extends KafkaFuture<?>>> sender;
+
+    // Guarded by this
+    private Block block = new Block();
+    private Long timerId = null;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance
+     * @param operation         Name of the batched operation used in the log messages
+     * @param maxBlockTimeMs    Maximal time for which the items are collected before they are sent or 0 to send them
+     *                          right away
+     * @param maxBlockSize      Maximal number of items sent in one request
+     * @param key               Function returning the key of the result of given item
+     * @param sender            Function sending the items through the Admin API and returning their results
+     */
+    AdminApiBatcher(Vertx vertx, String operation, long maxBlockTimeMs, int maxBlockSize, Function<T, K> key, Function<Collection<T>, Map<K, ? extends KafkaFuture<?>>> sender) {
+        this.vertx = vertx;
+        this.operation = operation;
+        this.maxBlockTimeMs = maxBlockTimeMs;
+        this.maxBlockSize = maxBlockSize;
+        this.key = key;
+        this.sender = sender;
+    }
+
+    /**
+     * Adds the items to the current block.
+     *
+     * @param reconciliation    The reconciliation
+     * @param items             Items which should be sent
+     *
+     * @return  Future which completes when all items were sent and succeeds when all of them succeeded
+     */
+    Future<Void> enqueue(Reconciliation reconciliation, Collection<T> items) {
+        if (items.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        Request request = new Request(reconciliation);
+        List<Block> blocks = new ArrayList<>(2);
+
+        synchronized (this) {
+            // The Admin API does not allow the same key twice in one request
+            if (items.stream().anyMatch(item -> block.items.containsKey(key.apply(item)))) {
+                blocks.add(takeBlock());
+            }
+
+            for (T item : items) {
+                K itemKey = key.apply(item);
+                block.items.put(itemKey, item);
+                request.keys.add(itemKey);
+            }
+            block.requests.add(request);
+
+            if (maxBlockTimeMs <= 0 || block.items.size() >= maxBlockSize) {
+                blocks.add(takeBlock());
+            } else if (timerId == null) {
+                timerId = vertx.setTimer(maxBlockTimeMs, ignored -> flush());
+            }
+        }
+
+        blocks.forEach(this::send);
+        return request.promise.future();
+    }
+
+    /**
+     * Sends the current block
+     */
+    private void flush() {
+        Block toSend;
+
+        synchronized (this) {
+            timerId = null;
+            toSend = takeBlock();
+        }
+
+        send(toSend);
+    }
+
+    /**
+     * Replaces the current block with an empty one. Has to be called while holding the lock.
+     *
+     * @return  The current block
+     */
+    private Block takeBlock() {
+        if (timerId != null) {
+            vertx.cancelTimer(timerId);
+            timerId = null;
+        }
+
+        Block current = block;
+        block = new Block();
+        return current;
+    }
+
+    private void send(Block toSend) {
+        if (toSend.requests.isEmpty()) {
+            return;
+        }
+
+        LOGGER.debugOp("Sending {} with {} items from {} reconciliations", operation, toSend.items.size(), toSend.requests.size());
+
+        Map<K, ? extends KafkaFuture<?>> results;
+        try {
+            results = sender.apply(toSend.items.values());
+        } catch (Throwable t) {
+            toSend.requests.forEach(request -> request.promise.fail(t));
+            return;
+        }
+
+        for (Request request : toSend.requests) {
+            List<Future> futures = new ArrayList<>(request.keys.size());
+
+            for (K itemKey : request.keys) {
+                KafkaFuture<?> result = results.get(itemKey);
+
+                if (result != null) {
+                    futures.add(Util.kafkaFutureToVertxFuture(request.reconciliation, vertx, result));
+                } else {
+                    futures.add(Future.failedFuture(new IllegalStateException("No result of " + operation + " for " + itemKey)));
+                }
+            }
+
+            CompositeFuture.all(futures)
+                    .<Void>mapEmpty()
+                    .onComplete(request.promise);
+        }
+    }
+
+    /**
+     * Items collected from one or more reconciliations which are sent together
+     */
+    private class Block {
+        private final Map<K, T> items = new LinkedHashMap<>();
+        private final List<Request> requests = new ArrayList<>();
+    }
+
+    /**
+     * Items enqueued by one reconciliation
+     */
+    private class Request {
+        private final Reconciliation reconciliation;
+        private final List<K> keys = new ArrayList<>();
+        private final Promise<Void> promise = Promise.promise();
+
+        Request(Reconciliation reconciliation) {
+            this.reconciliation = reconciliation;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps the Secrets with the Clients CA certificate and key in memory, so that they do not need to be read from the
+ * Kubernetes API server for every reconciled user.
+ *
+ * The Secrets are cached only while they are watched and the watches are synced. Every change of the watched Secrets
+ * invalidates the cached CA, so the next reconciliation reads the Secrets again. Without the watches, the Secrets are
+ * read for every reconciliation as before.
+ */
+public class ClientsCaHolder {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ClientsCaHolder.class.getName());
+
+    private final SecretOperator secretOperations;
+    private final String namespace;
+    private final String caCertSecretName;
+    private final String caKeySecretName;
+
+    private final List<SharedIndexInformer<Secret>> informers = new ArrayList<>(2);
+
+    // Guarded by this
+    private boolean stopped = false;
+    private long version = 0;
+    private Future<ClientsCaSecrets> cached;
+
+    /**
+     * Constructor
+     *
+     * @param secretOperations  Secret operator used to read the CA Secrets
+     * @param namespace         Namespace of the CA Secrets
+     * @param caCertSecretName  Name of the Secret with the CA certificate
+     * @param caKeySecretName   Name of the Secret with the CA key
+     */
+    public ClientsCaHolder(SecretOperator secretOperations, String namespace, String caCertSecretName, String caKeySecretName) {
+        this.secretOperations = secretOperations;
+        this.namespace = namespace;
+        this.caCertSecretName = caCertSecretName;
+        this.caKeySecretName = caKeySecretName;
+    }
+
+    /**
+     * Starts watching the CA Secrets. Until the watches are synced, the Secrets are not cached. This method blocks until
+     * the watches are started, so it should not be called on the event loop. When it fails, no Secrets are watched and
+     * they are read for every reconciliation. It does nothing when the holder was already stopped.
+     */
+    public synchronized void watch() {
+        if (!stopped && informers.isEmpty()) {
+            LOGGER.infoOp("Watching the Clients CA Secrets {} and {} in namespace {}", caCertSecretName, caKeySecretName, namespace);
+
+            ResourceEventHandler<Secret> handler = new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(Secret secret) {
+                    invalidate(secret);
+                }
+
+                @Override
+                public void onUpdate(Secret oldSecret, Secret newSecret) {
+                    if (!Objects.equals(oldSecret.getMetadata().getResourceVersion(), newSecret.getMetadata().getResourceVersion())) {
+                        invalidate(newSecret);
+                    }
+                }
+
+                @Override
+                public void onDelete(Secret secret, boolean deletedFinalStateUnknown) {
+                    invalidate(secret);
+                }
+            };
+
+            try {
+                informers.add(secretOperations.client().inNamespace(namespace).withName(caCertSecretName).inform(handler, 0));
+                informers.add(secretOperations.client().inNamespace(namespace).withName(caKeySecretName).inform(handler, 0));
+            } catch (RuntimeException e) {
+                // Watching only one of the Secrets would make the other one cached without being watched
+                stopInformers();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Stops watching the CA Secrets and drops the cached CA. The Secrets are not watched anymore even when
+     * {@link #watch()} is called afterwards.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        stopInformers();
+    }
+
+    private void stopInformers() {
+        informers.forEach(SharedIndexInformer::stop);
+        informers.clear();
+        version++;
+        cached = null;
+    }
+
+    /**
+     * Returns the current Clients CA. It is served from the memory when the CA Secrets are watched and did not change
+     * since they were read last time.
+     *
+     * @return  Future with the current Clients CA
+     */
+    public Future<ClientsCaSecrets> get() {
+        long loadedVersion;
+
+        synchronized (this) {
+            if (cached != null) {
+                return cached;
+            }
+
+            loadedVersion = version;
+        }
+
+        Future<Secret> caCertFuture = secretOperations.getAsync(namespace, caCertSecretName);
+        Future<Secret> caKeyFuture = secretOperations.getAsync(namespace, caKeySecretName);
+
+        Future<ClientsCaSecrets> loading = CompositeFuture.join(caCertFuture, caKeyFuture)
+                .map(caSecrets -> new ClientsCaSecrets(loadedVersion, caSecrets.resultAt(0), caSecrets.resultAt(1)));
+
+        synchronized (this) {
+            // The Secrets read before a change was seen must not be cached, the informer sees the change eventually
+            if (cached == null && version == loadedVersion && isWatched()) {
+                cached = loading;
+            }
+        }
+
+        loading.onFailure(error -> {
+            synchronized (this) {
+                if (cached == loading) {
+                    cached = null;
+                }
+            }
+        });
+
+        return loading;
+    }
+
+    private synchronized void invalidate(Secret secret) {
+        LOGGER.debugOp("Clients CA Secret {} changed", secret.getMetadata().getName());
+        version++;
+        cached = null;
+    }
+
+    private boolean isWatched() {
+        return !informers.isEmpty() && informers.stream().allMatch(SharedIndexInformer::hasSynced);
+    }
+
+    /**
+     * Version of the Clients CA Secrets
+     */
+    public static class ClientsCaSecrets {
+        private final long version;
+        private final Secret caCertSecret;
+        private final Secret caKeySecret;
+
+        /**
+         * Constructor
+         *
+         * @param version       Version of the Secrets
+         * @param caCertSecret  Secret with the CA certificate or null if it does not exist
+         * @param caKeySecret   Secret with the CA key or null if it does not exist
+         */
+        ClientsCaSecrets(long version, Secret caCertSecret, Secret caKeySecret) {
+            this.version = version;
+            this.caCertSecret = caCertSecret;
+            this.caKeySecret = caKeySecret;
+        }
+
+        /**
+         * @return  Version of the Secrets. It changes whenever the Secrets are read again after they changed.
+         */
+        public long version() {
+            return version;
+        }
+
+        /**
+         * @return  Secret with the CA certificate or null if it does not exist
+         */
+        public Secret caCertSecret() {
+            return caCertSecret;
+        }
+
+        /**
+         * @return  Secret with the CA key or null if it does not exist
+         */
+        public Secret caKeySecret() {
+            return caKeySecret;
+        }
+    }
+}
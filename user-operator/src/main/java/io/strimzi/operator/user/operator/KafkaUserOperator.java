@@ -50,6 +50,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     private final QuotasOperator quotasOperator;
     private final UserOperatorConfig config;
     private final PasswordGenerator passwordGenerator;
+    private final ClientsCaHolder clientsCaHolder;
 
     /**
      * Creates the instance of KafkaUserOperator
@@ -71,6 +72,32 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                              QuotasOperator quotasOperator,
                              SimpleAclOperator aclOperations,
                              UserOperatorConfig config) {
+        this(vertx, certManager, crdOperator, secretOperations, scramCredentialsOperator, quotasOperator, aclOperations, config,
+                new ClientsCaHolder(secretOperations, config.getCaNamespace(), config.getCaCertSecretName(), config.getCaKeySecretName()));
+    }
+
+    /**
+     * Creates the instance of KafkaUserOperator
+     *
+     * @param vertx The Vertx instance.
+     * @param certManager For managing certificates.
+     * @param crdOperator For operating on Custom Resources.
+     * @param secretOperations For operating on Secrets.
+     * @param scramCredentialsOperator For operating on SCRAM SHA credentials.
+     * @param quotasOperator For operating on Kafka User quotas.
+     * @param aclOperations For operating on ACLs.
+     * @param config User operator configuration
+     * @param clientsCaHolder For getting the Clients CA Secrets.
+     */
+    public KafkaUserOperator(Vertx vertx,
+                             CertManager certManager,
+                             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperator,
+                             SecretOperator secretOperations,
+                             ScramCredentialsOperator scramCredentialsOperator,
+                             QuotasOperator quotasOperator,
+                             SimpleAclOperator aclOperations,
+                             UserOperatorConfig config,
+                             ClientsCaHolder clientsCaHolder) {
         super(vertx, "KafkaUser", crdOperator, new MicrometerMetricsProvider(), config.getLabels());
         this.certManager = certManager;
         this.secretOperations = secretOperations;
@@ -79,6 +106,14 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         this.aclOperations = aclOperations;
         this.config = config;
         this.passwordGenerator = new PasswordGenerator(this.config.getScramPasswordLength());
+        this.clientsCaHolder = clientsCaHolder;
+    }
+
+    /**
+     * Stops watching the Clients CA Secrets. This should be called when the operator is stopped.
+     */
+    public void stop() {
+        clientsCaHolder.stop();
     }
 
     @Override
@@ -204,20 +239,14 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
      * @return                  Future describing the result
      */
     private Future<Void> maybeGenerateTlsCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret)   {
-        Future<Secret> caCertFuture = secretOperations.getAsync(config.getCaNamespace(), config.getCaCertSecretName());
-        Future<Secret> caKeyFuture = secretOperations.getAsync(config.getCaNamespace(), config.getCaKeySecretName());
-
-        return CompositeFuture.join(caCertFuture, caKeyFuture)
-                .compose(caSecrets -> {
-                    Secret clientsCaCertSecret = caSecrets.resultAt(0);
-                    Secret clientsCaKeySecret = caSecrets.resultAt(1);
-
+        return clientsCaHolder.get()
+                .compose(clientsCa -> {
                     user.maybeGenerateCertificates(
                             reconciliation,
                             certManager,
                             passwordGenerator,
-                            clientsCaCertSecret,
-                            clientsCaKeySecret,
+                            clientsCa.caCertSecret(),
+                            clientsCa.caKeySecret(),
                             userSecret,
                             config.getClientsCaValidityDays(),
                             config.getClientsCaRenewalDays()
@@ -31,6 +31,8 @@ import java.util.Set;
 public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Set<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(QuotasOperator.class.getName());
 
+    private final AdminApiBatcher<ClientQuotaAlteration, ClientQuotaEntity> alterBatcher;
+
     /**
      * Constructor
      *
@@ -38,7 +40,27 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
      * @param adminClient Kafka Admin client instance
      */
     public QuotasOperator(Vertx vertx, Admin adminClient) {
+        this(vertx, adminClient, 0, 0);
+    }
+
+    /**
+     * Constructor. When the maximum block time is set, the quota alterations of many users are collected and sent
+     * together.
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param maxBlockTimeMs Maximal time for which the quota alterations are collected or 0 to send them one by one
+     * @param maxBlockSize Maximal number of quota alterations sent in one request
+     */
+    public QuotasOperator(Vertx vertx, Admin adminClient, long maxBlockTimeMs, int maxBlockSize) {
         super(vertx, adminClient);
+
+        if (maxBlockTimeMs > 0) {
+            this.alterBatcher = new AdminApiBatcher<>(vertx, "quota alteration", maxBlockTimeMs, maxBlockSize,
+                ClientQuotaAlteration::entity, alterations -> adminClient.alterClientQuotas(alterations).values());
+        } else {
+            this.alterBatcher = null;
+        }
     }
 
     /**
@@ -112,6 +134,12 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
 
         ClientQuotaEntity cqe = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
         ClientQuotaAlteration cqa = new ClientQuotaAlteration(cqe, alterations);
+
+        if (alterBatcher != null) {
+            return alterBatcher.enqueue(reconciliation, Collections.singleton(cqa))
+                    .map(ReconcileResult.patched(desired));
+        }
+
         return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterClientQuotas(Collections.singleton(cqa)).all())
                 .map(ReconcileResult.patched(desired));
     }
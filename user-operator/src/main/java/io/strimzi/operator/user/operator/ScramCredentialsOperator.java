@@ -16,14 +16,20 @@ import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
 import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
 import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, List<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ScramCredentialsOperator.class.getName());
@@ -33,6 +39,15 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
     // This salt uses the same algorithm as Kafka
     private final static byte[] SALT =  (new BigInteger(130, new SecureRandom())).toString(36).getBytes(StandardCharsets.UTF_8);
 
+    private final AdminApiBatcher<UserScramCredentialAlteration, String> alterBatcher;
+
+    /**
+     * Hashes of the passwords of the SCRAM credentials which were upserted by this operator. They are used to skip the
+     * upserts of the credentials which did not change. The users whose credentials do not exist anymore are removed
+     * from it when listing all users at the beginning of each periodic reconciliation.
+     */
+    private final Map<String, String> upsertedPasswordHashes = new ConcurrentHashMap<>();
+
     /**
      * Constructor
      *
@@ -40,46 +55,107 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
      * @param adminClient Kafka Admin client instance
      */
     public ScramCredentialsOperator(Vertx vertx, Admin adminClient) {
+        this(vertx, adminClient, 0, 0);
+    }
+
+    /**
+     * Constructor. When the maximum block time is set, the SCRAM credentials alterations of many users are collected
+     * and sent together.
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param maxBlockTimeMs Maximal time for which the alterations are collected or 0 to send them one by one
+     * @param maxBlockSize Maximal number of alterations sent in one request
+     */
+    public ScramCredentialsOperator(Vertx vertx, Admin adminClient, long maxBlockTimeMs, int maxBlockSize) {
         super(vertx, adminClient);
+
+        if (maxBlockTimeMs > 0) {
+            this.alterBatcher = new AdminApiBatcher<>(vertx, "SCRAM credentials alteration", maxBlockTimeMs, maxBlockSize,
+                UserScramCredentialAlteration::user, alterations -> adminClient.alterUserScramCredentials(new ArrayList<>(alterations)).values());
+        } else {
+            this.alterBatcher = null;
+        }
     }
 
     @Override
     public Future<ReconcileResult<String>> reconcile(Reconciliation reconciliation, String username, String desired) {
         if (desired != null)    {
+            String passwordHash = passwordHash(desired);
+
+            if (passwordHash.equals(upsertedPasswordHashes.get(username))) {
+                LOGGER.debugCr(reconciliation, "SCRAM credentials for user {} are up to date", username);
+                return Future.succeededFuture(ReconcileResult.noop(desired));
+            }
+
             UserScramCredentialUpsertion upsertion = new UserScramCredentialUpsertion(username, new ScramCredentialInfo(SCRAM_MECHANISM, ITERATIONS), desired.getBytes(StandardCharsets.UTF_8), SALT);
             LOGGER.debugCr(reconciliation, "Upserting SCRAM credentials for user {}", username);
-            AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(upsertion));
+            upsertedPasswordHashes.remove(username);
 
-            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, result.all()).map(ReconcileResult.patched(desired));
+            return alter(reconciliation, upsertion)
+                    .onSuccess(ignore -> upsertedPasswordHashes.put(username, passwordHash))
+                    .map(ReconcileResult.patched(desired));
         } else {
             Promise<ReconcileResult<String>> deletePromise = Promise.promise();
 
             UserScramCredentialDeletion deletion = new UserScramCredentialDeletion(username, SCRAM_MECHANISM);
             LOGGER.debugCr(reconciliation, "Deleting SCRAM credentials for user {}", username);
-            AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(deletion));
-
-            result.all().whenComplete((ignore, error) -> {
-                vertx.runOnContext(ignore2 -> {
-                    if (error != null) {
-                        if (error instanceof ResourceNotFoundException) {
-                            // Resource was not found => return success
-                            LOGGER.debugCr(reconciliation, "Previously deleted SCRAM credentials for user {}", username);
-                            deletePromise.complete(ReconcileResult.noop(null));
-                        } else {
-                            LOGGER.warnCr(reconciliation, "Failed to delete SCRAM credentials for user {}", username);
-                            deletePromise.fail(error);
-                        }
+            upsertedPasswordHashes.remove(username);
+
+            alter(reconciliation, deletion).onComplete(result -> {
+                if (result.failed()) {
+                    if (result.cause() instanceof ResourceNotFoundException) {
+                        // Resource was not found => return success
+                        LOGGER.debugCr(reconciliation, "Previously deleted SCRAM credentials for user {}", username);
+                        deletePromise.complete(ReconcileResult.noop(null));
                     } else {
-                        LOGGER.debugCr(reconciliation, "Deleted SCRAM credentials for user {}", username);
-                        deletePromise.complete(ReconcileResult.deleted());
+                        LOGGER.warnCr(reconciliation, "Failed to delete SCRAM credentials for user {}", username);
+                        deletePromise.fail(result.cause());
                     }
-                });
+                } else {
+                    LOGGER.debugCr(reconciliation, "Deleted SCRAM credentials for user {}", username);
+                    deletePromise.complete(ReconcileResult.deleted());
+                }
             });
 
             return deletePromise.future();
         }
     }
 
+    /**
+     * Sends the SCRAM credentials alteration either directly or through the batcher
+     *
+     * @param reconciliation    The reconciliation
+     * @param alteration        The alteration
+     *
+     * @return  Future which completes when the alteration is done
+     */
+    private Future<Void> alter(Reconciliation reconciliation, UserScramCredentialAlteration alteration) {
+        if (alterBatcher != null) {
+            return alterBatcher.enqueue(reconciliation, List.of(alteration));
+        } else {
+            AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(alteration));
+            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, result.all());
+        }
+    }
+
+    /**
+     * Hashes the password together with the salt, so that the password itself does not need to be kept in the memory
+     *
+     * @param password  The password
+     *
+     * @return  Hex encoded SHA-256 hash of the salt and the password
+     */
+    private static String passwordHash(String password) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(SALT);
+            return String.format("%064x", new BigInteger(1, sha256.digest(password.getBytes(StandardCharsets.UTF_8))));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create SHA-256 MessageDigest instance", e);
+        }
+    }
+
     /**
      * @return List with all usernames which have some scram credentials set
      */
@@ -88,6 +164,7 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
         LOGGER.debugOp("Listing all users with SCRAM credentials");
 
         DescribeUserScramCredentialsResult creds = adminClient.describeUserScramCredentials();
-        return Util.kafkaFutureToVertxFuture(vertx, creds.users());
+        return Util.kafkaFutureToVertxFuture(vertx, creds.users())
+                .onSuccess(users -> upsertedPasswordHashes.keySet().retainAll(users));
     }
 }
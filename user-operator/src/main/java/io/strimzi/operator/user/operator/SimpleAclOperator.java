@@ -27,9 +27,12 @@ import org.apache.kafka.common.utils.SecurityUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SimpleAclOperator is responsible for managing the authorization rules in Apache Kafka / Apache Zookeeper.
@@ -39,6 +42,21 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
+    private final AdminApiBatcher<AclBinding, AclBinding> createBatcher;
+    private final AdminApiBatcher<AclBindingFilter, AclBindingFilter> deleteBatcher;
+
+    /**
+     * ACL rules of all users indexed by their principal as described by the last {@link #getAllUsers()} call and
+     * updated with the changes done by this operator since then. It is used only in the bulk mode and it is null until
+     * the first {@link #getAllUsers()} call completes.
+     */
+    private volatile Map<String, Set<SimpleAclRule>> aclIndex;
+
+    /**
+     * Principals for which the ACL rules in the index are not known because the operator failed to change them
+     */
+    private final Set<String> unknownPrincipals = ConcurrentHashMap.newKeySet();
+
     /**
      * Constructor
      *
@@ -46,7 +64,38 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      * @param adminClient Kafka Admin client instance
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient) {
+        this(vertx, adminClient, 0, 0);
+    }
+
+    /**
+     * Constructor. When the maximum block time is set, the operator works in the bulk mode. It gets the ACL rules of
+     * all users at once at the beginning of each periodic reconciliation and keeps them indexed by the principal. The
+     * ACL rules which should be created or deleted are collected from many users and sent together.
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param maxBlockTimeMs Maximal time for which the ACL changes are collected or 0 to disable the bulk mode
+     * @param maxBlockSize Maximal number of ACL rules created or deleted in one request
+     */
+    public SimpleAclOperator(Vertx vertx, Admin adminClient, long maxBlockTimeMs, int maxBlockSize) {
         super(vertx, adminClient);
+
+        if (maxBlockTimeMs > 0) {
+            this.createBatcher = new AdminApiBatcher<>(vertx, "ACL creation", maxBlockTimeMs, maxBlockSize,
+                aclBinding -> aclBinding, aclBindings -> adminClient.createAcls(aclBindings).values());
+            this.deleteBatcher = new AdminApiBatcher<>(vertx, "ACL deletion", maxBlockTimeMs, maxBlockSize,
+                aclBindingFilter -> aclBindingFilter, aclBindingFilters -> adminClient.deleteAcls(aclBindingFilters).values());
+        } else {
+            this.createBatcher = null;
+            this.deleteBatcher = null;
+        }
+    }
+
+    /**
+     * @return  True if the operator works in the bulk mode
+     */
+    private boolean isBulk() {
+        return createBatcher != null;
     }
 
     /**
@@ -93,6 +142,12 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
         Collection<AclBinding> aclBindings = getAclBindings(username, desired);
+
+        if (isBulk()) {
+            return updateIndex(username, createBatcher.enqueue(reconciliation, aclBindings), desired, Set.of())
+                    .map(ReconcileResult.created(desired));
+        }
+
         return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.createAcls(aclBindings).all())
                 .map(ReconcileResult.created(desired));
     }
@@ -173,10 +228,48 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     private Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(Reconciliation reconciliation, String username, Set<SimpleAclRule> current) {
         Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
+
+        if (isBulk()) {
+            return updateIndex(username, deleteBatcher.enqueue(reconciliation, aclBindingFilters), Set.of(), current)
+                    .map(ReconcileResult.deleted());
+        }
+
         return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.deleteAcls(aclBindingFilters).all())
                 .map(ReconcileResult.deleted());
     }
 
+    /**
+     * Updates the ACL rules of the user in the index once the change completes. When the change fails, the rules of
+     * the user are not known anymore and are described again by the next reconciliation.
+     *
+     * @param username  Name of the user
+     * @param change    Future of the change
+     * @param added     ACL rules added by the change
+     * @param removed   ACL rules removed by the change
+     *
+     * @return  Future of the change
+     */
+    private Future<Void> updateIndex(String username, Future<Void> change, Set<SimpleAclRule> added, Set<SimpleAclRule> removed) {
+        String principal = new KafkaPrincipal("User", username).toString();
+
+        return change.onComplete(result -> {
+            Map<String, Set<SimpleAclRule>> index = aclIndex;
+
+            if (index != null) {
+                if (result.succeeded()) {
+                    index.compute(principal, (ignored, rules) -> {
+                        Set<SimpleAclRule> updated = rules == null ? new HashSet<>(added) : new HashSet<>(rules);
+                        updated.addAll(added);
+                        updated.removeAll(removed);
+                        return updated.isEmpty() ? null : Set.copyOf(updated);
+                    });
+                } else {
+                    unknownPrincipals.add(principal);
+                }
+            }
+        });
+    }
+
     /**
      * Returns Set of ACLs applying to single user.
      *
@@ -189,6 +282,13 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
         LOGGER.debugCr(reconciliation, "Searching for ACL rules of user {}", username);
 
         KafkaPrincipal principal = new KafkaPrincipal("User", username);
+
+        Map<String, Set<SimpleAclRule>> index = aclIndex;
+        if (index != null && !unknownPrincipals.contains(principal.toString())) {
+            LOGGER.debugCr(reconciliation, "Using indexed ACL rules for user {}", username);
+            return Future.succeededFuture(new HashSet<>(index.getOrDefault(principal.toString(), Set.of())));
+        }
+
         AclBindingFilter aclBindingFilter = new AclBindingFilter(ResourcePatternFilter.ANY,
                 new AccessControlEntryFilter(principal.toString(), null, AclOperation.ANY, AclPermissionType.ANY));
 
@@ -202,11 +302,23 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
                         result.add(SimpleAclRule.fromAclBinding(aclBinding));
                     }
 
+                    if (index != null && index == aclIndex) {
+                        if (result.isEmpty()) {
+                            index.remove(principal.toString());
+                        } else {
+                            index.put(principal.toString(), Set.copyOf(result));
+                        }
+                        unknownPrincipals.remove(principal.toString());
+                    }
+
                     return Future.succeededFuture(result);
                 });
     }
 
     /**
+     * Returns the names of all users with some ACLs. In the bulk mode, it also indexes the ACL rules of all users, so
+     * that the reconciliations of the individual users do not need to describe them again.
+     *
      * @return Set with all usernames which have some ACLs set
      */
     @Override
@@ -216,6 +328,10 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
         DescribeAclsResult result = adminClient.describeAcls(AclBindingFilter.ANY);
         return Util.kafkaFutureToVertxFuture(vertx, result.values())
                 .compose(aclBindings -> {
+                    if (isBulk()) {
+                        index(aclBindings);
+                    }
+
                     Set<String> users = new HashSet<>();
                     Set<String> ignored = new HashSet<>(IGNORED_USERS.size());
 
@@ -245,4 +361,34 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
                     return Future.succeededFuture(users);
                 });
     }
+
+    /**
+     * Replaces the ACL index with the ACL rules of all users
+     *
+     * @param aclBindings   All ACL bindings
+     */
+    private void index(Collection<AclBinding> aclBindings) {
+        Map<String, Set<SimpleAclRule>> rulesByPrincipal = new HashMap<>();
+        Set<String> unsupported = new HashSet<>();
+
+        for (AclBinding aclBinding : aclBindings) {
+            String principal = aclBinding.entry().principal();
+
+            try {
+                rulesByPrincipal.computeIfAbsent(principal, ignored -> new HashSet<>())
+                        .add(SimpleAclRule.fromAclBinding(aclBinding));
+            } catch (IllegalArgumentException e) {
+                // The reconciliation of this user will describe its ACLs and fail the same way as without the index
+                unsupported.add(principal);
+            }
+        }
+
+        Map<String, Set<SimpleAclRule>> index = new ConcurrentHashMap<>(rulesByPrincipal.size());
+        rulesByPrincipal.forEach((principal, rules) -> index.put(principal, Set.copyOf(rules)));
+
+        unknownPrincipals.clear();
+        unknownPrincipals.addAll(unsupported);
+        aclIndex = index;
+        LOGGER.debugOp("Indexed {} ACL rules of {} principals", aclBindings.size(), index.size());
+    }
 }
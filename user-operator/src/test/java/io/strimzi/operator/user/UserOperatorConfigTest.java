@@ -89,6 +89,34 @@ public class UserOperatorConfigTest {
         assertThat(config.getScramPasswordLength(), is(UserOperatorConfig.DEFAULT_SCRAM_SHA_PASSWORD_LENGTH));
     }
 
+    @Test
+    public void testFromMapBatchEnvVarsMissingSetsDefault()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getBatchMaxBlockTimeMs(), is(UserOperatorConfig.DEFAULT_BATCH_MAXIMUM_BLOCK_TIME_MS));
+        assertThat(config.getBatchMaxBlockSize(), is(UserOperatorConfig.DEFAULT_BATCH_MAXIMUM_BLOCK_SIZE));
+    }
+
+    @Test
+    public void testFromMapBatchEnvVars()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS, "100");
+        envVars.put(UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE, "50");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getBatchMaxBlockTimeMs(), is(100L));
+        assertThat(config.getBatchMaxBlockSize(), is(50));
+    }
+
+    @Test
+    public void testFromMapInvalidBatchBlockSizeThrows()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
     @Test
     public void testFromMapStrimziLabelsEnvVarMissingSetsEmptyLabels()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
@@ -0,0 +1,182 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.SecretList;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.ResourceUtils;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClientsCaHolderTest {
+    private static Secret caCertSecret(String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(ResourceUtils.CA_CERT_NAME)
+                    .withNamespace(ResourceUtils.NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .addToData("ca.crt", MockCertManager.clientsCaCert())
+                .build();
+    }
+
+    private static Secret caKeySecret() {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(ResourceUtils.CA_KEY_NAME)
+                    .withNamespace(ResourceUtils.NAMESPACE)
+                    .withResourceVersion("1")
+                .endMetadata()
+                .addToData("ca.key", MockCertManager.clientsCaKey())
+                .build();
+    }
+
+    private static SecretOperator mockSecretOperator() {
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        when(mockSecretOps.getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME)).thenReturn(Future.succeededFuture(caCertSecret("1")));
+        when(mockSecretOps.getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME)).thenReturn(Future.succeededFuture(caKeySecret()));
+        return mockSecretOps;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<ResourceEventHandler<Secret>> mockInformers(SecretOperator mockSecretOps) {
+        MixedOperation<Secret, SecretList, Resource<Secret>> mockClient = mock(MixedOperation.class);
+        NonNamespaceOperation<Secret, SecretList, Resource<Secret>> mockNamespaced = mock(NonNamespaceOperation.class);
+        Resource<Secret> mockResource = mock(Resource.class);
+        SharedIndexInformer<Secret> mockInformer = mock(SharedIndexInformer.class);
+        ArgumentCaptor<ResourceEventHandler<Secret>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+
+        when(mockSecretOps.client()).thenReturn(mockClient);
+        when(mockClient.inNamespace(anyString())).thenReturn(mockNamespaced);
+        when(mockNamespaced.withName(anyString())).thenReturn(mockResource);
+        when(mockResource.inform(handlerCaptor.capture(), anyLong())).thenReturn(mockInformer);
+        when(mockInformer.hasSynced()).thenReturn(true);
+
+        return handlerCaptor;
+    }
+
+    private static ClientsCaHolder.ClientsCaSecrets result(Future<ClientsCaHolder.ClientsCaSecrets> future) {
+        assertThat(future.succeeded(), is(true));
+        return future.result();
+    }
+
+    @Test
+    public void testCaIsReadEveryTimeWhenNotWatched() {
+        SecretOperator mockSecretOps = mockSecretOperator();
+        ClientsCaHolder holder = new ClientsCaHolder(mockSecretOps, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+
+        result(holder.get());
+        result(holder.get());
+
+        verify(mockSecretOps, times(2)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+        verify(mockSecretOps, times(2)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME);
+    }
+
+    @Test
+    public void testCaIsCachedUntilTheSecretsChange() {
+        SecretOperator mockSecretOps = mockSecretOperator();
+        ArgumentCaptor<ResourceEventHandler<Secret>> handlerCaptor = mockInformers(mockSecretOps);
+        ClientsCaHolder holder = new ClientsCaHolder(mockSecretOps, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+        holder.watch();
+
+        ClientsCaHolder.ClientsCaSecrets first = result(holder.get());
+        assertThat(first.caCertSecret(), is(caCertSecret("1")));
+        assertThat(first.caKeySecret(), is(caKeySecret()));
+        assertThat(result(holder.get()), is(first));
+        verify(mockSecretOps, times(1)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+
+        // Resync without any change does not invalidate the cache
+        handlerCaptor.getValue().onUpdate(caCertSecret("1"), caCertSecret("1"));
+        assertThat(result(holder.get()), is(first));
+
+        handlerCaptor.getValue().onUpdate(caCertSecret("1"), caCertSecret("2"));
+        ClientsCaHolder.ClientsCaSecrets second = result(holder.get());
+        assertThat(second.version() > first.version(), is(true));
+        verify(mockSecretOps, times(2)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+        verify(mockSecretOps, times(2)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME);
+    }
+
+    @Test
+    public void testFailedReadIsNotCached() {
+        SecretOperator mockSecretOps = mockSecretOperator();
+        mockInformers(mockSecretOps);
+        when(mockSecretOps.getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME))
+                .thenReturn(Future.failedFuture(new RuntimeException("failed")), Future.succeededFuture(caKeySecret()));
+        ClientsCaHolder holder = new ClientsCaHolder(mockSecretOps, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+        holder.watch();
+
+        assertThat(holder.get().failed(), is(true));
+        assertThat(result(holder.get()).caKeySecret(), is(caKeySecret()));
+        verify(mockSecretOps, times(2)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_KEY_NAME);
+    }
+
+    @Test
+    public void testMissingSecrets() {
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        when(mockSecretOps.getAsync(any(), any())).thenReturn(Future.succeededFuture(null));
+        ClientsCaHolder holder = new ClientsCaHolder(mockSecretOps, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+
+        ClientsCaHolder.ClientsCaSecrets ca = result(holder.get());
+        assertThat(ca.caCertSecret(), is(nullValue()));
+        assertThat(ca.caKeySecret(), is(nullValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFailedWatchFallsBackToReads() {
+        SecretOperator mockSecretOps = mockSecretOperator();
+        mockInformers(mockSecretOps);
+        Resource<Secret> mockKeyResource = mock(Resource.class);
+        when(mockKeyResource.inform(any(), anyLong())).thenThrow(new RuntimeException("watch failed"));
+        when(mockSecretOps.client().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.CA_KEY_NAME)).thenReturn(mockKeyResource);
+        ClientsCaHolder holder = new ClientsCaHolder(mockSecretOps, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+
+        assertThrows(RuntimeException.class, holder::watch);
+
+        // The CA certificate Secret alone must not be cached
+        result(holder.get());
+        result(holder.get());
+        verify(mockSecretOps, times(2)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+    }
+
+    @Test
+    public void testStopStopsTheWatches() {
+        SecretOperator mockSecretOps = mockSecretOperator();
+        mockInformers(mockSecretOps);
+        ClientsCaHolder holder = new ClientsCaHolder(mockSecretOps, ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME, ResourceUtils.CA_KEY_NAME);
+        holder.watch();
+        SharedIndexInformer<Secret> informer = mockSecretOps.client().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.CA_CERT_NAME).inform(null, 0);
+
+        holder.stop();
+        verify(informer, times(2)).stop();
+
+        // Watching after the holder was stopped does not start the watches again
+        holder.watch();
+        result(holder.get());
+        result(holder.get());
+        verify(mockSecretOps, times(2)).getAsync(ResourceUtils.NAMESPACE, ResourceUtils.CA_CERT_NAME);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.common.KafkaFuture;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ScramCredentialsOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private ArgumentCaptor<List<UserScramCredentialAlteration>> mockAlterUserScramCredentials(Admin mockAdminClient) {
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        when(mockAdminClient.alterUserScramCredentials(alterationsCaptor.capture())).thenAnswer(invocation -> {
+            List<UserScramCredentialAlteration> alterations = invocation.getArgument(0);
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            alterations.forEach(alteration -> values.put(alteration.user(), KafkaFuture.completedFuture(null)));
+
+            AlterUserScramCredentialsResult result = mock(AlterUserScramCredentialsResult.class);
+            when(result.values()).thenReturn(values);
+            when(result.all()).thenReturn(KafkaFuture.allOf(values.values().toArray(new KafkaFuture[0])));
+            return result;
+        });
+
+        return alterationsCaptor;
+    }
+
+    @Test
+    public void testUnchangedCredentialsAreNotUpserted(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        mockAlterUserScramCredentials(mockAdminClient);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        Checkpoint async = context.checkpoint();
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "password")
+                .compose(rr -> {
+                    context.verify(() -> assertThat(rr, instanceOf(ReconcileResult.Patched.class)));
+                    return scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "password");
+                })
+                .compose(rr -> {
+                    context.verify(() -> assertThat(rr, instanceOf(ReconcileResult.Noop.class)));
+                    return scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "new-password");
+                })
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                    verify(mockAdminClient, times(2)).alterUserScramCredentials(any());
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testCredentialsDeletedOutsideOfTheOperatorAreUpsertedAgain(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        mockAlterUserScramCredentials(mockAdminClient);
+        DescribeUserScramCredentialsResult describeResult = mock(DescribeUserScramCredentialsResult.class);
+        when(describeResult.users()).thenReturn(KafkaFuture.completedFuture(List.of()));
+        when(mockAdminClient.describeUserScramCredentials()).thenReturn(describeResult);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        Checkpoint async = context.checkpoint();
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "password")
+                .compose(rr -> scramOp.getAllUsers())
+                .compose(users -> scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "my-user", "password"))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                    verify(mockAdminClient, times(2)).alterUserScramCredentials(any());
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testCredentialsOfManyUsersAreBatched(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = mockAlterUserScramCredentials(mockAdminClient);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient, 100, 1000);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(
+                scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "user-1", "password"),
+                scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "user-2", "password"),
+                scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "user-3", null))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(any());
+                    assertThat(alterationsCaptor.getValue().stream().map(UserScramCredentialAlteration::user).collect(Collectors.toList()),
+                            containsInAnyOrder("user-1", "user-2", "user-3"));
+                    async.flag();
+                })));
+    }
+}
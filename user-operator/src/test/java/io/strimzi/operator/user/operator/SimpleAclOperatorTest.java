@@ -11,6 +11,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -38,8 +39,11 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -53,6 +57,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -233,6 +239,54 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testBulkModeBatchesAclChangesOfManyUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient, 100, 1000);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        KafkaPrincipal bar = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=bar");
+        AclBinding fooReadAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding fooWriteAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.WRITE, AclPermissionType.ALLOW));
+        AclBinding barReadAclBinding = new AclBinding(resource, new AccessControlEntry(bar.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+        SimpleAclRule writeRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.WRITE);
+
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, List.of(fooReadAclBinding)));
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        CreateAclsResult createResult = mock(CreateAclsResult.class);
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenReturn(createResult);
+        when(createResult.values()).thenAnswer(invocation -> {
+            Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>();
+            aclBindingsCaptor.getValue().forEach(aclBinding -> values.put(aclBinding, KafkaFuture.completedFuture(null)));
+            return values;
+        });
+
+        Checkpoint async = context.checkpoint();
+        aclOp.getAllUsers()
+                .compose(users -> CompositeFuture.all(
+                        aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=foo", Set.of(readRule, writeRule)),
+                        aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=bar", Set.of(readRule))))
+                .compose(ignored -> aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=foo", Set.of(readRule, writeRule)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The ACLs were described only once, the ACLs of both users were created in a single request and the
+                    // last reconciliation used the index updated with the created ACLs
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+                    verify(mockAdminClient, times(1)).createAcls(any());
+                    assertThat(aclBindingsCaptor.getValue(), hasSize(2));
+                    assertThat(aclBindingsCaptor.getValue(), hasItems(fooWriteAclBinding, barReadAclBinding));
+
+                    async.flag();
+                })));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings) {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
         KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);